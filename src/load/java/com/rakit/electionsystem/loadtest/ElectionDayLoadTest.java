@@ -0,0 +1,108 @@
+package com.rakit.electionsystem.loadtest;
+
+import com.rakit.electionsystem.ElectionSystemApplication;
+import com.rakit.electionsystem.service.ElectionService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Election-day load simulation.
+ * Boots the application on a random port against a seeded in-memory H2 database, drives it with
+ * concurrent voter sessions following a configurable request mix, and reports throughput,
+ * exact p50/p95/p99/p999 latencies and errors per endpoint.
+ *
+ * Run with: ./mvnw -Pload-test test-compile exec:exec@load-test -Dload.args="clients=500 duration=2m"
+ */
+public final class ElectionDayLoadTest {
+
+    private ElectionDayLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        try (ConfigurableApplicationContext context = startApplication(config)) {
+            LoadTestData data = new LoadTestData(context.getBean(JdbcTemplate.class));
+            System.out.printf("Seeding %d voters and %d elections...%n", config.seedVoters(), config.seedElections());
+            List<String> voters = data.seedVoters(config.seedVoters());
+            List<LoadTestData.SeededElection> elections = data.seedElections(config.seedElections(), config.seedOptions());
+            // Seeding bypasses the services, so the window index built at startup has not seen the elections
+            context.getBean(ElectionService.class).rebuildWindowIndex();
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LatencyRecorder merged = run(config, baseUrl, elections, voters);
+
+            double measuredSeconds = config.duration().toNanos() / 1e9;
+            LoadTestReport report = new LoadTestReport(config, merged, measuredSeconds);
+            report.print(System.out);
+            report.writeJson(config.reportPath());
+            System.out.println("Report written to " + config.reportPath().toAbsolutePath());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config) {
+        return new SpringApplicationBuilder(ElectionSystemApplication.class)
+                .logStartupInfo(false)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-test;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--jwt.secret=load-test-secret-key-for-load-tests-only-minimum-256-bits",
+                        "--rate-limit.enabled=" + config.rateLimitEnabled(),
+                        "--elections.scheduler.enabled=false",
+                        "--server.tomcat.threads.max=" + Math.max(200, config.clients()),
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.rakit.electionsystem=WARN"
+                );
+    }
+
+    private static LatencyRecorder run(LoadTestConfig config, String baseUrl,
+                                       List<LoadTestData.SeededElection> elections,
+                                       List<String> voters) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        long measureFrom = System.nanoTime() + config.warmup().toNanos();
+        long deadline = measureFrom + config.duration().toNanos();
+        AtomicInteger nextVoter = new AtomicInteger();
+
+        List<VoterClient> clients = new ArrayList<>(config.clients());
+        for (int i = 0; i < config.clients(); i++) {
+            clients.add(new VoterClient(i, config, httpClient, baseUrl, elections, voters, nextVoter, measureFrom, deadline));
+        }
+
+        System.out.printf("Running %d clients for %ds after %ds warmup...%n",
+                config.clients(), config.duration().toSeconds(), config.warmup().toSeconds());
+        ExecutorService executor = newClientExecutor();
+        clients.forEach(executor::execute);
+        executor.shutdown();
+        if (!executor.awaitTermination(config.warmup().plus(config.duration()).toSeconds() + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        LatencyRecorder merged = new LatencyRecorder();
+        clients.forEach(client -> merged.merge(client.recorder()));
+        return merged;
+    }
+
+    /**
+     * One virtual thread per simulated client, since clients spend nearly all their time blocked on I/O.
+     */
+    private static ExecutorService newClientExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,28 @@
+package com.rakit.electionsystem.loadtest;
+
+/**
+ * Operations driven by the load test, with their default share of the request mix.
+ */
+public enum Endpoint {
+    REGISTER("register", 5),
+    LOGIN("login", 10),
+    LIST_ELECTIONS("list-elections", 30),
+    CAST_VOTE("cast-vote", 40),
+    POLL_RESULTS("poll-results", 15);
+
+    private final String key;
+    private final int defaultWeight;
+
+    Endpoint(String key, int defaultWeight) {
+        this.key = key;
+        this.defaultWeight = defaultWeight;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public int defaultWeight() {
+        return defaultWeight;
+    }
+}
@@ -0,0 +1,100 @@
+package com.rakit.electionsystem.loadtest;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Records raw latencies and errors per endpoint.
+ * Each client owns one recorder, so recording needs no synchronization;
+ * recorders are merged once the run is over and percentiles are computed exactly.
+ */
+public final class LatencyRecorder {
+
+    private final EnumMap<Endpoint, Samples> samples = new EnumMap<>(Endpoint.class);
+    private final EnumMap<Endpoint, Map<String, Long>> errors = new EnumMap<>(Endpoint.class);
+
+    public LatencyRecorder() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            samples.put(endpoint, new Samples());
+            errors.put(endpoint, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param endpoint the endpoint
+     * @param latencyNanos request latency
+     * @param error error category such as an HTTP status, or null on success
+     */
+    public void record(Endpoint endpoint, long latencyNanos, String error) {
+        samples.get(endpoint).add(latencyNanos);
+        if (error != null) {
+            errors.get(endpoint).merge(error, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Adds all samples and errors of another recorder to this one.
+     *
+     * @param other the recorder to merge
+     */
+    public void merge(LatencyRecorder other) {
+        for (Endpoint endpoint : Endpoint.values()) {
+            samples.get(endpoint).addAll(other.samples.get(endpoint));
+            other.errors.get(endpoint).forEach((error, count) -> errors.get(endpoint).merge(error, count, Long::sum));
+        }
+    }
+
+    /**
+     * Gets the latencies of an endpoint sorted ascending.
+     *
+     * @param endpoint the endpoint
+     * @return sorted latencies in nanoseconds
+     */
+    public long[] sortedLatencies(Endpoint endpoint) {
+        long[] sorted = samples.get(endpoint).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Gets error counts of an endpoint by category.
+     *
+     * @param endpoint the endpoint
+     * @return error counts
+     */
+    public Map<String, Long> errors(Endpoint endpoint) {
+        return errors.get(endpoint);
+    }
+
+    /**
+     * Growable primitive array, avoiding a boxed Long per sample.
+     */
+    private static final class Samples {
+
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Samples other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(values.length * 2, size + other.size));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
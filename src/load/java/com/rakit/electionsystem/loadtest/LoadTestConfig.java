@@ -0,0 +1,159 @@
+package com.rakit.electionsystem.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Settings of a load test run, parsed from {@code key=value} arguments.
+ * Every key has a default, so the harness runs without arguments.
+ */
+public final class LoadTestConfig {
+
+    private final Map<String, String> values;
+    private final EnumMap<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    private final int totalWeight;
+
+    private LoadTestConfig(Map<String, String> values) {
+        this.values = values;
+        int total = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            int weight = intValue("mix." + endpoint.key(), endpoint.defaultWeight());
+            mix.put(endpoint, weight);
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one endpoint needs a positive mix weight");
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Parses {@code key=value} arguments, e.g. {@code clients=500 duration=2m mix.cast-vote=60}.
+     *
+     * @param args command line arguments
+     * @return the configuration
+     */
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            values.put(arg.substring(0, separator).trim(), arg.substring(separator + 1).trim());
+        }
+        return new LoadTestConfig(values);
+    }
+
+    public int clients() {
+        return intValue("clients", 200);
+    }
+
+    public Duration warmup() {
+        return durationValue("warmup", Duration.ofSeconds(10));
+    }
+
+    public Duration duration() {
+        return durationValue("duration", Duration.ofSeconds(60));
+    }
+
+    public int seedVoters() {
+        return intValue("seed.voters", 100_000);
+    }
+
+    public int seedElections() {
+        return intValue("seed.elections", 5);
+    }
+
+    public int seedOptions() {
+        return intValue("seed.options", 10);
+    }
+
+    public boolean rateLimitEnabled() {
+        return Boolean.parseBoolean(values.getOrDefault("rate-limit", "false"));
+    }
+
+    public Path reportPath() {
+        return Path.of(values.getOrDefault("report", "target/load-test-report.json"));
+    }
+
+    public long seed() {
+        return Long.parseLong(values.getOrDefault("seed", "42"));
+    }
+
+    /**
+     * Gets the configured weight of an endpoint in the request mix.
+     *
+     * @param endpoint the endpoint
+     * @return relative weight
+     */
+    public int weight(Endpoint endpoint) {
+        return mix.get(endpoint);
+    }
+
+    /**
+     * Picks the next endpoint according to the mix weights.
+     *
+     * @param random the client's random source
+     * @return the chosen endpoint
+     */
+    public Endpoint nextEndpoint(SplittableRandom random) {
+        int pick = random.nextInt(totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Mix weights changed during the run");
+    }
+
+    private int intValue(String key, int defaultValue) {
+        String value = values.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value.replace("_", ""));
+    }
+
+    private Duration durationValue(String key, Duration defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        String normalized = value.toLowerCase();
+        if (normalized.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(normalized.substring(0, normalized.length() - 2)));
+        }
+        if (normalized.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(normalized.substring(0, normalized.length() - 1)));
+        }
+        if (normalized.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(normalized.substring(0, normalized.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(normalized));
+    }
+
+    /**
+     * Returns the effective settings for the report.
+     *
+     * @return settings by key
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("clients", clients());
+        description.put("warmupSeconds", warmup().toSeconds());
+        description.put("durationSeconds", duration().toSeconds());
+        description.put("seedVoters", seedVoters());
+        description.put("seedElections", seedElections());
+        description.put("seedOptions", seedOptions());
+        description.put("rateLimitEnabled", rateLimitEnabled());
+        description.put("seed", seed());
+        for (Endpoint endpoint : Endpoint.values()) {
+            description.put("mix." + endpoint.key(), weight(endpoint));
+        }
+        return description;
+    }
+}
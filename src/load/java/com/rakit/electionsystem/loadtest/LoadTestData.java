@@ -0,0 +1,100 @@
+package com.rakit.electionsystem.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Seeds the database for a load test run with plain JDBC batches.
+ * In-memory views built from the database at startup, such as the election window index,
+ * must be rebuilt by the caller afterwards.
+ */
+final class LoadTestData {
+
+    /**
+     * BCrypt hash of {@link #PASSWORD}, the same one used by the initial data.
+     */
+    static final String PASSWORD_HASH = "$2a$10$sXm32gMaILQ1Puoz0riJ2OxZteuTUKsOR7qoqGqA.m5Bh4xVqZew2";
+    static final String PASSWORD = "password123";
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadTestData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Inserts voters with sequential emails.
+     *
+     * @param count number of voters
+     * @return emails in insertion order
+     */
+    List<String> seedVoters(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> emails = new ArrayList<>(count);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            String email = "load-voter-" + i + "@loadtest.pl";
+            emails.add(email);
+            batch.add(new Object[]{email, PASSWORD_HASH, "Load", "Voter" + i, "ROLE_VOTER", true, now, now});
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO voter (email, password, first_name, last_name, role, active, "
+                        + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * Creates active elections open for the whole run.
+     *
+     * @param count number of elections
+     * @param optionCount options per election
+     * @return the elections
+     */
+    List<SeededElection> seedElections(int count, int optionCount) {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeededElection> elections = new ArrayList<>(count);
+        for (int e = 0; e < count; e++) {
+            Number id = new SimpleJdbcInsert(jdbcTemplate)
+                    .withTableName("election")
+                    .usingGeneratedKeyColumns("id")
+                    .executeAndReturnKey(Map.of(
+                            "name", "Load test election " + e,
+                            "description", "Seeded for the load test",
+                            "start_date", Timestamp.valueOf(now.minusHours(1)),
+                            "end_date", Timestamp.valueOf(now.plusDays(1)),
+                            "status", "ACTIVE",
+                            "created_at", Timestamp.valueOf(now),
+                            "updated_at", Timestamp.valueOf(now)
+                    ));
+            List<Object[]> options = new ArrayList<>(optionCount);
+            for (int o = 0; o < optionCount; o++) {
+                options.add(new Object[]{id, "Option " + o, o, Timestamp.valueOf(now)});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO election_option (election_id, option_title, display_order, created_at) "
+                    + "VALUES (?, ?, ?, ?)", options);
+            List<Long> optionIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM election_option WHERE election_id = ? ORDER BY id", Long.class, id);
+            elections.add(new SeededElection(id.longValue(), optionIds));
+        }
+        return elections;
+    }
+
+    /**
+     * A seeded election.
+     *
+     * @param id election ID
+     * @param optionIds option IDs
+     */
+    record SeededElection(long id, List<Long> optionIds) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.rakit.electionsystem.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Summarizes a finished run: throughput, exact latency percentiles and error breakdown per endpoint.
+ * Written as JSON for comparison across runs and as a table for the console.
+ */
+public final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50.0, 95.0, 99.0, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p95", "p99", "p999"};
+
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder;
+    private final double measuredSeconds;
+
+    public LoadTestReport(LoadTestConfig config, LatencyRecorder recorder, double measuredSeconds) {
+        this.config = config;
+        this.recorder = recorder;
+        this.measuredSeconds = measuredSeconds;
+    }
+
+    /**
+     * Writes the report as JSON.
+     *
+     * @param path target file
+     * @throws IOException if the file cannot be written
+     */
+    public void writeJson(Path path) throws IOException {
+        StringBuilder json = new StringBuilder(4096);
+        json.append("{\n  \"config\": {");
+        appendObject(json, config.describe());
+        json.append("},\n");
+
+        long totalRequests = 0;
+        long totalErrors = 0;
+        StringBuilder endpoints = new StringBuilder();
+        for (Endpoint endpoint : Endpoint.values()) {
+            long[] latencies = recorder.sortedLatencies(endpoint);
+            long errors = errorCount(endpoint);
+            totalRequests += latencies.length;
+            totalErrors += errors;
+
+            if (!endpoints.isEmpty()) {
+                endpoints.append(",\n");
+            }
+            endpoints.append("    \"").append(endpoint.key()).append("\": {")
+                    .append("\"requests\": ").append(latencies.length)
+                    .append(", \"errors\": ").append(errors)
+                    .append(", \"throughputPerSecond\": ").append(format(latencies.length / measuredSeconds))
+                    .append(", \"latencyMs\": {");
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                endpoints.append('"').append(PERCENTILE_NAMES[i]).append("\": ")
+                        .append(format(millis(percentile(latencies, PERCENTILES[i])))).append(", ");
+            }
+            endpoints.append("\"mean\": ").append(format(millis(mean(latencies))))
+                    .append(", \"max\": ").append(format(millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1])))
+                    .append("}, \"errorBreakdown\": {");
+            appendObject(endpoints, recorder.errors(endpoint));
+            endpoints.append("}}");
+        }
+
+        json.append("  \"measuredSeconds\": ").append(format(measuredSeconds)).append(",\n")
+                .append("  \"totalRequests\": ").append(totalRequests).append(",\n")
+                .append("  \"totalErrors\": ").append(totalErrors).append(",\n")
+                .append("  \"throughputPerSecond\": ").append(format(totalRequests / measuredSeconds)).append(",\n")
+                .append("  \"endpoints\": {\n").append(endpoints).append("\n  }\n}\n");
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(path, json);
+    }
+
+    /**
+     * Prints a human-readable summary.
+     *
+     * @param out target stream
+     */
+    public void print(PrintStream out) {
+        out.printf(Locale.ROOT, "%-16s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "p999 ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            long[] latencies = recorder.sortedLatencies(endpoint);
+            out.printf(Locale.ROOT, "%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.key(), latencies.length, errorCount(endpoint), latencies.length / measuredSeconds,
+                    millis(percentile(latencies, 50.0)), millis(percentile(latencies, 95.0)),
+                    millis(percentile(latencies, 99.0)), millis(percentile(latencies, 99.9)));
+            recorder.errors(endpoint).forEach((error, count) -> out.printf(Locale.ROOT, "    %-12s %d%n", error, count));
+        }
+    }
+
+    private long errorCount(Endpoint endpoint) {
+        return recorder.errors(endpoint).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Nearest-rank percentile of sorted samples.
+     */
+    static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private static double mean(long[] values) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    private static double millis(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static void appendObject(StringBuilder json, Map<String, ?> values) {
+        boolean first = true;
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            if (!first) {
+                json.append(", ");
+            }
+            first = false;
+            json.append('"').append(entry.getKey()).append("\": ");
+            Object value = entry.getValue();
+            if (value instanceof Number || value instanceof Boolean) {
+                json.append(value);
+            } else {
+                json.append('"').append(value).append('"');
+            }
+        }
+    }
+}
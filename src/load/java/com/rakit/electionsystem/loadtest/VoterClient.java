@@ -0,0 +1,191 @@
+package com.rakit.electionsystem.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One simulated voter session, following the same flow as the voting integration tests:
+ * log in (or register), browse elections, cast one vote per election and poll results.
+ * When a session has voted everywhere it logs in as the next seeded voter.
+ */
+final class VoterClient implements Runnable {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final int clientId;
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final List<LoadTestData.SeededElection> elections;
+    private final List<String> seededVoters;
+    private final AtomicInteger nextVoter;
+    private final long measureFromNanos;
+    private final long deadlineNanos;
+    private final SplittableRandom random;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Set<Long> votedIn = new HashSet<>();
+
+    private String token;
+    private int registrations;
+
+    VoterClient(int clientId, LoadTestConfig config, HttpClient httpClient, String baseUrl,
+                List<LoadTestData.SeededElection> elections, List<String> seededVoters, AtomicInteger nextVoter,
+                long measureFromNanos, long deadlineNanos) {
+        this.clientId = clientId;
+        this.config = config;
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.elections = elections;
+        this.seededVoters = seededVoters;
+        this.nextVoter = nextVoter;
+        this.measureFromNanos = measureFromNanos;
+        this.deadlineNanos = deadlineNanos;
+        this.random = new SplittableRandom(config.seed() * 31 + clientId);
+    }
+
+    LatencyRecorder recorder() {
+        return recorder;
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+            Endpoint endpoint = config.nextEndpoint(random);
+            switch (endpoint) {
+                case REGISTER -> register();
+                case LOGIN -> login();
+                case LIST_ELECTIONS -> listElections();
+                case CAST_VOTE -> castVote();
+                case POLL_RESULTS -> pollResults();
+            }
+        }
+    }
+
+    private void register() {
+        String email = "load-client-" + clientId + "-" + registrations++ + "@loadtest.pl";
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestData.PASSWORD
+                + "\",\"firstName\":\"Load\",\"lastName\":\"Client\"}";
+        String response = send(Endpoint.REGISTER, post("/api/auth/register", body), 201);
+        adoptToken(response);
+    }
+
+    private void login() {
+        String email = seededVoters.get(Math.floorMod(nextVoter.getAndIncrement(), seededVoters.size()));
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestData.PASSWORD + "\"}";
+        String response = send(Endpoint.LOGIN, post("/api/auth/login", body), 200);
+        adoptToken(response);
+    }
+
+    private void listElections() {
+        send(Endpoint.LIST_ELECTIONS, get("/api/elections?state=ACTIVE"), 200);
+    }
+
+    private void castVote() {
+        ensureLoggedIn();
+        LoadTestData.SeededElection election = pickElectionNotVotedIn();
+        if (election == null) {
+            login();
+            election = pickElectionNotVotedIn();
+            if (election == null) {
+                return;
+            }
+        }
+        Long optionId = election.optionIds().get(random.nextInt(election.optionIds().size()));
+        String body = "{\"electionId\":" + election.id() + ",\"optionId\":" + optionId + "}";
+        if (send(Endpoint.CAST_VOTE, post("/api/votes/cast", body), 200) != null) {
+            votedIn.add(election.id());
+        }
+    }
+
+    private void pollResults() {
+        ensureLoggedIn();
+        LoadTestData.SeededElection election = elections.get(random.nextInt(elections.size()));
+        send(Endpoint.POLL_RESULTS, get("/api/results/elections/" + election.id()), 200);
+    }
+
+    private void ensureLoggedIn() {
+        if (token == null) {
+            login();
+        }
+    }
+
+    private LoadTestData.SeededElection pickElectionNotVotedIn() {
+        int start = random.nextInt(elections.size());
+        for (int i = 0; i < elections.size(); i++) {
+            LoadTestData.SeededElection election = elections.get((start + i) % elections.size());
+            if (!votedIn.contains(election.id())) {
+                return election;
+            }
+        }
+        return null;
+    }
+
+    private void adoptToken(String response) {
+        if (response == null) {
+            return;
+        }
+        Matcher matcher = TOKEN.matcher(response);
+        if (matcher.find()) {
+            token = matcher.group(1);
+            votedIn.clear();
+        }
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        return request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return request(path).GET();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    /**
+     * Sends a request and records its latency once the warmup is over.
+     *
+     * @return the response body on the expected status, otherwise null
+     */
+    private String send(Endpoint endpoint, HttpRequest.Builder request, int expectedStatus) {
+        long start = System.nanoTime();
+        String error;
+        String body = null;
+        try {
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() == expectedStatus) {
+                error = null;
+                body = response.body();
+            } else {
+                error = String.valueOf(response.statusCode());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception ex) {
+            error = ex.getClass().getSimpleName();
+        }
+        if (start >= measureFromNanos) {
+            recorder.record(endpoint, System.nanoTime() - start, error);
+        }
+        return body;
+    }
+}
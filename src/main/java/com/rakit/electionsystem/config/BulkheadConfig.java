@@ -0,0 +1,57 @@
+package com.rakit.electionsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration for the connection pool partitions behind the request bulkheads.
+ */
+@Configuration
+@Slf4j
+public class BulkheadConfig {
+
+    /**
+     * Replaces the auto-configured Hikari pool with a {@link PartitionedDataSource}.
+     * Runs before other DataSource post-processors, so limits they apply cover every partition.
+     */
+    @Bean
+    public static BeanPostProcessor partitionedDataSourcePostProcessor(Environment environment) {
+        return new PartitioningPostProcessor(environment);
+    }
+
+    private static final class PartitioningPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private PartitioningPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+            BulkheadProperties properties = Binder.get(environment)
+                    .bind("bulkhead", BulkheadProperties.class)
+                    .orElseGet(BulkheadProperties::new);
+            if (!properties.isEnabled()) {
+                return bean;
+            }
+            PartitionedDataSource partitioned = new PartitionedDataSource(hikari, properties);
+            log.info("Partitioned DataSource '{}' into pools {}", beanName, partitioned.getPartitions().keySet());
+            return partitioned;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
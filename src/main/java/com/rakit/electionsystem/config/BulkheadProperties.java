@@ -0,0 +1,98 @@
+package com.rakit.electionsystem.config;
+
+import com.rakit.electionsystem.security.TrafficClass;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for request bulkheads.
+ * Every traffic class has its own concurrency limit, wait queue and connection pool partition.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * Whether requests are admitted through the bulkheads at all.
+     */
+    private boolean enabled = true;
+
+    private Compartment voting = new Compartment(20, 200, Duration.ofSeconds(2), 0, 10, Duration.ofSeconds(1));
+
+    private Compartment auth = new Compartment(16, 100, Duration.ofSeconds(2), 1, 4, Duration.ofSeconds(2));
+
+    private Compartment publicRead = new Compartment(16, 100, Duration.ofSeconds(1), 2, 4, Duration.ofSeconds(2));
+
+    private Compartment admin = new Compartment(4, 10, Duration.ofSeconds(1), 3, 2, Duration.ofSeconds(5));
+
+    /**
+     * Gets the settings of a traffic class.
+     *
+     * @param trafficClass the traffic class
+     * @return its compartment
+     */
+    public Compartment get(TrafficClass trafficClass) {
+        return switch (trafficClass) {
+            case VOTING -> voting;
+            case AUTH -> auth;
+            case PUBLIC_READ -> publicRead;
+            case ADMIN -> admin;
+        };
+    }
+
+    /**
+     * Limits of a single traffic class.
+     */
+    @Getter
+    @Setter
+    public static class Compartment {
+
+        /**
+         * Requests handled at the same time.
+         */
+        private int maxConcurrent;
+
+        /**
+         * Requests allowed to wait for a free slot; further requests are rejected at once.
+         */
+        private int maxQueue;
+
+        /**
+         * How long a queued request waits before it is rejected.
+         */
+        private Duration queueTimeout;
+
+        /**
+         * Lower values are more important. While a more important class has queued requests,
+         * this class is shed instead of admitted.
+         */
+        private int priority;
+
+        /**
+         * Size of the connection pool partition; 0 shares the default pool.
+         */
+        private int connections;
+
+        /**
+         * Value of the Retry-After header on rejection.
+         */
+        private Duration retryAfter;
+
+        public Compartment() {
+        }
+
+        public Compartment(int maxConcurrent, int maxQueue, Duration queueTimeout, int priority,
+                           int connections, Duration retryAfter) {
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueue = maxQueue;
+            this.queueTimeout = queueTimeout;
+            this.priority = priority;
+            this.connections = connections;
+            this.retryAfter = retryAfter;
+        }
+    }
+}
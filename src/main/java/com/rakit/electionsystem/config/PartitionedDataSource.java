@@ -0,0 +1,112 @@
+package com.rakit.electionsystem.config;
+
+import com.rakit.electionsystem.security.TrafficClass;
+import com.rakit.electionsystem.security.TrafficClassHolder;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataSource that gives each traffic class its own Hikari pool.
+ * Connections are taken from the partition of the request on the current thread; background
+ * work and classes without a partition use the default pool. A slow admin query therefore
+ * holds an admin connection, never one reserved for voting.
+ */
+public class PartitionedDataSource extends AbstractRoutingDataSource implements MeterBinder, AutoCloseable {
+
+    private final HikariDataSource defaultPool;
+    private final Map<TrafficClass, HikariDataSource> partitions = new EnumMap<>(TrafficClass.class);
+    private final Map<String, BoundedDataSource> limiters = new LinkedHashMap<>();
+
+    /**
+     * Creates partitions by copying the default pool's settings.
+     *
+     * @param defaultPool the auto-configured pool
+     * @param properties partition sizes per traffic class
+     */
+    public PartitionedDataSource(HikariDataSource defaultPool, BulkheadProperties properties) {
+        this.defaultPool = defaultPool;
+        String poolName = defaultPool.getPoolName() != null ? defaultPool.getPoolName() : "HikariPool";
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            int connections = properties.get(trafficClass).getConnections();
+            if (connections <= 0) {
+                continue;
+            }
+            HikariConfig config = new HikariConfig();
+            defaultPool.copyStateTo(config);
+            config.setPoolName(poolName + "-" + trafficClass.name().toLowerCase());
+            config.setMaximumPoolSize(connections);
+            // An unset minimumIdle is -1, which Hikari reads as "same as the maximum pool size"
+            int minimumIdle = config.getMinimumIdle();
+            config.setMinimumIdle(minimumIdle < 0 ? connections : Math.min(minimumIdle, connections));
+            partitions.put(trafficClass, new HikariDataSource(config));
+        }
+
+        setDefaultTargetDataSource(defaultPool);
+        setTargetDataSources(new HashMap<>(partitions));
+        setLenientFallback(true);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Puts a {@link BoundedDataSource} sized to each pool in front of it. Callers queued for one
+     * partition then never hold permits another partition needs.
+     *
+     * @param acquireTimeout how long a caller waits for a permit of its pool
+     */
+    public void limitConcurrency(Duration acquireTimeout) {
+        Map<Object, Object> targets = new HashMap<>();
+        partitions.forEach((trafficClass, pool) ->
+                targets.put(trafficClass, limit(trafficClass.name().toLowerCase(), pool, acquireTimeout)));
+        setDefaultTargetDataSource(limit("default", defaultPool, acquireTimeout));
+        setTargetDataSources(targets);
+        afterPropertiesSet();
+    }
+
+    private BoundedDataSource limit(String name, HikariDataSource pool, Duration acquireTimeout) {
+        BoundedDataSource limiter = new BoundedDataSource(pool, pool.getMaximumPoolSize(), acquireTimeout);
+        limiters.put(name, limiter);
+        return limiter;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        limiters.forEach((name, limiter) -> limiter.bindTo(registry, Tags.of("pool", name)));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TrafficClassHolder.get();
+    }
+
+    /**
+     * @return connections across the default pool and all partitions
+     */
+    public int getTotalPoolSize() {
+        return defaultPool.getMaximumPoolSize()
+                + partitions.values().stream().mapToInt(HikariDataSource::getMaximumPoolSize).sum();
+    }
+
+    /**
+     * @return the partition pools by traffic class
+     */
+    public Map<TrafficClass, DataSource> getPartitions() {
+        return Map.copyOf(partitions);
+    }
+
+    @Override
+    public void close() {
+        partitions.values().forEach(HikariDataSource::close);
+        defaultPool.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.rakit.electionsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for request rate limiting.
+ * Each policy describes a token bucket applied to the requests matching its method and path.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Whether rate limiting is applied at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the number of buckets kept in memory.
+     * Once reached, new clients are spread over a fixed set of overflow buckets per policy
+     * until the scheduled eviction frees room.
+     */
+    private int maxBuckets = 100_000;
+
+    /**
+     * Buckets that have been full for longer than this are evicted.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Whether the first address of the X-Forwarded-For header identifies the client.
+     * Enable only behind a trusted reverse proxy.
+     */
+    private boolean trustForwardedFor = false;
+
+    private List<Policy> policies = new ArrayList<>();
+
+    /**
+     * A single rate limit policy.
+     */
+    @Getter
+    @Setter
+    public static class Policy {
+
+        private String name;
+
+        /**
+         * HTTP method to match, or null to match any method.
+         */
+        private String method;
+
+        /**
+         * Ant-style path pattern to match.
+         */
+        private String path;
+
+        private KeyType key = KeyType.IP;
+
+        /**
+         * Maximum burst size.
+         */
+        private long capacity = 10;
+
+        /**
+         * Time in which an empty bucket refills to full capacity.
+         */
+        private Duration period = Duration.ofMinutes(1);
+    }
+
+    /**
+     * What a bucket is keyed by.
+     */
+    public enum KeyType {
+        /**
+         * Client IP address.
+         */
+        IP,
+        /**
+         * JWT subject, falling back to the client IP for requests without a valid token.
+         */
+        SUBJECT
+    }
+}
@@ -0,0 +1,138 @@
+package com.rakit.electionsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * DataSource that sends read-only transactions to a replica and everything else to the primary.
+ * Connections are fetched lazily, so the read-only flag that the transaction manager sets at
+ * transaction begin is known before a physical connection is chosen.
+ *
+ * Reads fall back to the primary when the request has already written (if pinning after writes
+ * is enabled) or when the replica lags behind by more than the allowed staleness.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements MeterBinder, AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final HikariDataSource replica;
+    private final boolean pinAfterWrite;
+    private final long maxStalenessNanos;
+    private volatile long lastSyncNanos;
+
+    /**
+     * Creates the routing data source.
+     *
+     * @param primary the primary data source
+     * @param replica the replica pool
+     * @param properties replica settings
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, HikariDataSource replica, ReplicaProperties properties) {
+        this.primary = primary;
+        this.replica = replica;
+        this.pinAfterWrite = properties.isPinAfterWrite();
+        this.maxStalenessNanos = properties.getMaxStaleness().toNanos();
+        // Treat the replica as stale until the first sync completes
+        this.lastSyncNanos = System.nanoTime() - maxStalenessNanos - 1;
+
+        setTargetDataSource(new DelegatingDataSource(primary) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                ReplicaConsistency.markWrite();
+                return super.getConnection();
+            }
+        });
+        setReadOnlyDataSource(readRouter());
+        setDefaultAutoCommit(true);
+        setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    }
+
+    /**
+     * Records that the replica has caught up with the primary as of the given time.
+     *
+     * @param syncStartNanos System.nanoTime() taken when the sync started
+     */
+    public void markSynced(long syncStartNanos) {
+        lastSyncNanos = syncStartNanos;
+    }
+
+    /**
+     * @return how far the replica may be behind the primary
+     */
+    public Duration getLag() {
+        return Duration.ofNanos(System.nanoTime() - lastSyncNanos);
+    }
+
+    /**
+     * @return the primary, bypassing routing
+     */
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    /**
+     * @return the replica, bypassing routing
+     */
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    /**
+     * @return connections across the primary pools and the replica pool
+     */
+    public int getTotalPoolSize() {
+        int primaryPoolSize = 0;
+        if (primary instanceof PartitionedDataSource partitioned) {
+            primaryPoolSize = partitioned.getTotalPoolSize();
+        } else if (primary instanceof HikariDataSource hikari) {
+            primaryPoolSize = hikari.getMaximumPoolSize();
+        }
+        return primaryPoolSize + replica.getMaximumPoolSize();
+    }
+
+    /**
+     * Registers the primary's metrics, if it has any.
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (primary instanceof MeterBinder binder) {
+            binder.bindTo(registry);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        replica.close();
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private DataSource readRouter() {
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                if (pinAfterWrite && ReplicaConsistency.hasWritten()) {
+                    return PRIMARY;
+                }
+                return System.nanoTime() - lastSyncNanos > maxStalenessNanos ? PRIMARY : REPLICA;
+            }
+        };
+        router.setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        return router;
+    }
+}
@@ -0,0 +1,85 @@
+package com.rakit.electionsystem.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Configuration for read/write routing to a read replica.
+ * Locally the replica is a second H2 database kept in sync by {@link ReplicaSyncJob}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@Slf4j
+public class ReplicaConfig {
+
+    /**
+     * Wraps the primary DataSource (after partitioning) in a {@link ReadWriteRoutingDataSource}.
+     */
+    @Bean
+    public static BeanPostProcessor readWriteRoutingPostProcessor(Environment environment) {
+        return new RoutingPostProcessor(environment);
+    }
+
+    /**
+     * Keeps the replica in sync with the primary.
+     */
+    @Bean
+    public ReplicaSyncJob replicaSyncJob(DataSource dataSource, ReplicaProperties properties,
+                                         MeterRegistry meterRegistry) throws Exception {
+        ReadWriteRoutingDataSource routing;
+        try {
+            routing = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Replica is enabled but the DataSource is not routed", ex);
+        }
+        ReplicaSyncJob job = new ReplicaSyncJob(routing, properties, meterRegistry);
+        job.initialize();
+        return job;
+    }
+
+    private static final class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Environment environment;
+
+        private RoutingPostProcessor(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource) && !(bean instanceof PartitionedDataSource)) {
+                return bean;
+            }
+            ReplicaProperties properties = Binder.get(environment)
+                    .bind("datasource.replica", ReplicaProperties.class)
+                    .orElseGet(ReplicaProperties::new);
+
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("election-replica");
+            config.setJdbcUrl(properties.getUrl());
+            config.setUsername(properties.getUsername());
+            config.setPassword(properties.getPassword());
+            config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            log.info("Routing read-only transactions of '{}' to replica {}", beanName, properties.getUrl());
+            return new ReadWriteRoutingDataSource((DataSource) bean, new HikariDataSource(config), properties);
+        }
+
+        @Override
+        public int getOrder() {
+            // After connection pool partitioning, before the concurrency limiter
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.rakit.electionsystem.config;
+
+/**
+ * Tracks, per request, whether the request has already written to the primary.
+ * Reads that follow a write in the same request are pinned to the primary, so a client
+ * always sees its own writes even if the replica has not caught up yet.
+ */
+public final class ReplicaConsistency {
+
+    private static final ThreadLocal<boolean[]> WROTE = new ThreadLocal<>();
+
+    private ReplicaConsistency() {
+    }
+
+    /**
+     * Opens the request scope on the current thread.
+     */
+    public static void begin() {
+        WROTE.set(new boolean[1]);
+    }
+
+    /**
+     * Closes the request scope on the current thread.
+     */
+    public static void end() {
+        WROTE.remove();
+    }
+
+    /**
+     * Records that the current request wrote to the primary. Ignored outside a request scope.
+     */
+    public static void markWrite() {
+        boolean[] wrote = WROTE.get();
+        if (wrote != null) {
+            wrote[0] = true;
+        }
+    }
+
+    /**
+     * @return true if the current request has written to the primary
+     */
+    public static boolean hasWritten() {
+        boolean[] wrote = WROTE.get();
+        return wrote != null && wrote[0];
+    }
+}
@@ -0,0 +1,52 @@
+package com.rakit.electionsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read replica.
+ * Read-only transactions are routed to the replica; everything else goes to the primary.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+    /**
+     * Whether read-only transactions are routed to the replica.
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    /**
+     * Whether reads stay on the primary for the rest of a request once it has written.
+     */
+    private boolean pinAfterWrite = true;
+
+    /**
+     * Reads go to the primary while the replica lags behind by more than this.
+     */
+    private Duration maxStaleness = Duration.ofSeconds(5);
+
+    /**
+     * Whether the replica schema is created with the Liquibase changelog at startup.
+     */
+    private boolean migrate = true;
+
+    /**
+     * Every this many sync cycles, the replica is fully reconciled with the primary
+     * (missing rows copied, deleted rows removed). Deleted rows stay readable on the
+     * replica until then.
+     */
+    private int fullSyncEvery = 60;
+}
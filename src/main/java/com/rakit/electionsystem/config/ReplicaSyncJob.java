@@ -0,0 +1,269 @@
+package com.rakit.electionsystem.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import liquibase.integration.spring.SpringLiquibase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Replicates the primary H2 database into the replica that stands in for a real read replica.
+ * Each cycle copies new rows by id and, for tables with an updated_at column, changed rows
+ * by timestamp, both with a small overlap so rows committed out of order are not missed.
+ * Every few cycles the tables are fully reconciled by walking both sides in id order.
+ *
+ * Deletes on the primary, such as the vote purge when an election is archived, only reach the
+ * replica at that full reconcile, so for up to {@code full-sync-every} cycles the replica can
+ * still serve deleted rows even though its lag reads as current. Tables keyed by anything other
+ * than id (shard_assignment) are not replicated; their readers go to the primary.
+ */
+@Slf4j
+public class ReplicaSyncJob {
+
+    /**
+     * Replicated tables, parents before children.
+     */
+    static final List<Table> TABLES = List.of(
+            new Table("election", true),
+            new Table("election_option", false),
+            new Table("voter", true),
+            new Table("eligible_voter", false),
+            new Table("election_roll", true),
+            new Table("vote", false),
+            new Table("voting_record", false)
+    );
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long ID_OVERLAP = 1_000;
+    private static final int TIMESTAMP_OVERLAP_SECONDS = 30;
+
+    private final ReadWriteRoutingDataSource routing;
+    private final ReplicaProperties properties;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Counter copied;
+    private final Counter deleted;
+    private int cycle;
+
+    public ReplicaSyncJob(ReadWriteRoutingDataSource routing, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.routing = routing;
+        this.properties = properties;
+        this.copied = Counter.builder("election.replica.rows")
+                .tag("operation", "copy")
+                .register(meterRegistry);
+        this.deleted = Counter.builder("election.replica.rows")
+                .tag("operation", "delete")
+                .register(meterRegistry);
+        Gauge.builder("election.replica.lag", routing, r -> r.getLag().toMillis() / 1000.0)
+                .description("Time since the replica last caught up with the primary, in seconds")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates the replica schema if needed and brings the replica fully up to date.
+     *
+     * @throws Exception if the migration fails
+     */
+    public void initialize() throws Exception {
+        if (properties.isMigrate()) {
+            SpringLiquibase liquibase = new SpringLiquibase();
+            liquibase.setDataSource(routing.getReplica());
+            liquibase.setChangeLog("classpath:db/changelog/changelog-master.xml");
+            liquibase.setResourceLoader(new DefaultResourceLoader());
+            liquibase.afterPropertiesSet();
+        }
+        sync(true);
+    }
+
+    /**
+     * Runs one sync cycle.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.sync-interval:1000}")
+    public void sync() {
+        sync(properties.getFullSyncEvery() > 0 && ++cycle % properties.getFullSyncEvery() == 0);
+    }
+
+    /**
+     * Runs one sync cycle and marks the replica as caught up as of the start of the cycle.
+     *
+     * @param reconcile whether to fully reconcile the tables
+     */
+    public void sync(boolean reconcile) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try (Connection source = routing.getPrimary().getConnection();
+             Connection target = routing.getReplica().getConnection()) {
+            target.setAutoCommit(false);
+            for (Table table : TABLES) {
+                copyNewRows(source, target, table);
+                if (table.hasUpdatedAt()) {
+                    copyUpdatedRows(source, target, table);
+                }
+            }
+            if (reconcile) {
+                for (int i = TABLES.size() - 1; i >= 0; i--) {
+                    reconcile(source, target, TABLES.get(i));
+                }
+            }
+            routing.markSynced(start);
+        } catch (SQLException ex) {
+            log.error("Replica sync failed", ex);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void copyNewRows(Connection source, Connection target, Table table) throws SQLException {
+        long maxId = queryLong(target, "SELECT COALESCE(MAX(id), 0) FROM " + table.name());
+        try (PreparedStatement select = source.prepareStatement(
+                "SELECT * FROM " + table.name() + " WHERE id > ? ORDER BY id")) {
+            select.setLong(1, Math.max(0, maxId - ID_OVERLAP));
+            copy(select, target, table);
+        }
+    }
+
+    private void copyUpdatedRows(Connection source, Connection target, Table table) throws SQLException {
+        try (Statement watermark = target.createStatement();
+             ResultSet rs = watermark.executeQuery("SELECT MAX(updated_at) FROM " + table.name())) {
+            rs.next();
+            Timestamp since = rs.getTimestamp(1);
+            if (since == null) {
+                return;
+            }
+            try (PreparedStatement select = source.prepareStatement(
+                    "SELECT * FROM " + table.name() + " WHERE updated_at >= ?")) {
+                select.setTimestamp(1, new Timestamp(since.getTime() - TIMESTAMP_OVERLAP_SECONDS * 1000L));
+                copy(select, target, table);
+            }
+        }
+    }
+
+    private void copy(PreparedStatement select, Connection target, Table table) throws SQLException {
+        select.setFetchSize(BATCH_SIZE);
+        try (ResultSet rows = select.executeQuery()) {
+            ResultSetMetaData meta = rows.getMetaData();
+            int columns = meta.getColumnCount();
+            List<String> names = new ArrayList<>(columns);
+            for (int c = 1; c <= columns; c++) {
+                names.add(meta.getColumnName(c));
+            }
+            String merge = "MERGE INTO " + table.name() + " (" + String.join(", ", names) + ") KEY (id) VALUES ("
+                    + "?, ".repeat(columns - 1) + "?)";
+
+            try (PreparedStatement insert = target.prepareStatement(merge)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int c = 1; c <= columns; c++) {
+                        insert.setObject(c, rows.getObject(c));
+                    }
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        flush(insert, target, pending);
+                        pending = 0;
+                    }
+                }
+                flush(insert, target, pending);
+            }
+        }
+    }
+
+    private void flush(PreparedStatement insert, Connection target, int pending) throws SQLException {
+        if (pending > 0) {
+            insert.executeBatch();
+            target.commit();
+            copied.increment(pending);
+        }
+    }
+
+    /**
+     * Walks the ids of both sides in order, copying rows missing from the replica and
+     * deleting rows that no longer exist on the primary.
+     */
+    private void reconcile(Connection source, Connection target, Table table) throws SQLException {
+        List<Long> missing = new ArrayList<>();
+        List<Long> extra = new ArrayList<>();
+        String ids = "SELECT id FROM " + table.name() + " ORDER BY id";
+        try (Statement sourceStatement = source.createStatement();
+             Statement targetStatement = target.createStatement()) {
+            sourceStatement.setFetchSize(BATCH_SIZE);
+            targetStatement.setFetchSize(BATCH_SIZE);
+            try (ResultSet primaryIds = sourceStatement.executeQuery(ids);
+                 ResultSet replicaIds = targetStatement.executeQuery(ids)) {
+                boolean hasPrimary = primaryIds.next();
+                boolean hasReplica = replicaIds.next();
+                while (hasPrimary || hasReplica) {
+                    long p = hasPrimary ? primaryIds.getLong(1) : Long.MAX_VALUE;
+                    long r = hasReplica ? replicaIds.getLong(1) : Long.MAX_VALUE;
+                    if (p == r) {
+                        hasPrimary = primaryIds.next();
+                        hasReplica = replicaIds.next();
+                    } else if (p < r) {
+                        missing.add(p);
+                        hasPrimary = primaryIds.next();
+                    } else {
+                        extra.add(r);
+                        hasReplica = replicaIds.next();
+                    }
+                }
+            }
+        }
+
+        for (int from = 0; from < missing.size(); from += BATCH_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(missing.size(), from + BATCH_SIZE));
+            try (PreparedStatement select = source.prepareStatement(
+                    "SELECT * FROM " + table.name() + " WHERE id IN (" + "?, ".repeat(chunk.size() - 1) + "?)")) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    select.setLong(i + 1, chunk.get(i));
+                }
+                copy(select, target, table);
+            }
+        }
+        if (!extra.isEmpty()) {
+            try (PreparedStatement delete = target.prepareStatement("DELETE FROM " + table.name() + " WHERE id = ?")) {
+                for (Long id : extra) {
+                    delete.setLong(1, id);
+                    delete.addBatch();
+                }
+                delete.executeBatch();
+                target.commit();
+                deleted.increment(extra.size());
+            }
+        }
+        if (!missing.isEmpty() || !extra.isEmpty()) {
+            log.info("Reconciled replica table {}: {} rows copied, {} rows deleted", table.name(), missing.size(), extra.size());
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * A replicated table.
+     *
+     * @param name table name
+     * @param hasUpdatedAt whether rows are updated in place and carry an updated_at column
+     */
+    record Table(String name, boolean hasUpdatedAt) {
+    }
+}
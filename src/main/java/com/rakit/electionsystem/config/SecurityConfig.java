@@ -1,6 +1,10 @@
 package com.rakit.electionsystem.config;
 
+import com.rakit.electionsystem.security.BulkheadFilter;
 import com.rakit.electionsystem.security.JwtAuthenticationFilter;
+import com.rakit.electionsystem.security.RateLimitFilter;
+import com.rakit.electionsystem.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -32,8 +36,11 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final BulkheadFilter bulkheadFilter;
     private final UserDetailsService userDetailsService;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Configures the security filter chain.
@@ -48,7 +55,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/elections", "/api/elections/**").permitAll()
                         .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        // Only health is public; metrics and info describe the deployment
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .requestMatchers("/error").permitAll()
                         // Swagger/OpenAPI endpoints
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
@@ -59,6 +68,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         // Voter endpoints
                         .requestMatchers(HttpMethod.POST, "/api/votes/cast").hasRole("VOTER")
+                        .requestMatchers(HttpMethod.GET, "/api/votes/me/**").hasRole("VOTER")
                         // Authenticated endpoints
                         .anyRequest().authenticated()
                 )
@@ -66,7 +76,11 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Rate limits are enforced before any token or user lookup
+                .addFilterBefore(rateLimitFilter, JwtAuthenticationFilter.class)
+                // Bulkheads admit what passed the rate limits, still ahead of the user lookup
+                .addFilterBefore(bulkheadFilter, JwtAuthenticationFilter.class);
 
         // Allow H2 console frames
         http.headers(headers -> headers
@@ -95,10 +109,10 @@ public class SecurityConfig {
     }
 
     /**
-     * Provides the password encoder bean.
+     * Provides the password encoder bean, timed so hashing cost is visible in metrics.
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
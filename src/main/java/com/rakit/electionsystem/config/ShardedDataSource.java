@@ -0,0 +1,87 @@
+package com.rakit.electionsystem.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The vote shard databases, each with its own pool, JdbcTemplate and transaction template.
+ * Shards are addressed by number; which election lives on which shard is decided by the
+ * shard directory in the service layer.
+ */
+public class ShardedDataSource implements AutoCloseable {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private final List<JdbcTemplate> jdbcTemplates = new ArrayList<>();
+    private final List<TransactionTemplate> transactionTemplates = new ArrayList<>();
+
+    /**
+     * Opens a pool per configured shard URL.
+     *
+     * @param properties sharding settings
+     */
+    public ShardedDataSource(ShardingProperties properties) {
+        if (properties.getUrls().isEmpty()) {
+            throw new IllegalArgumentException("Sharded vote storage needs at least one shard URL");
+        }
+        for (int shard = 0; shard < properties.getUrls().size(); shard++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("election-shard-" + shard);
+            config.setJdbcUrl(properties.getUrls().get(shard));
+            config.setUsername(properties.getUsername());
+            config.setPassword(properties.getPassword());
+            config.setMaximumPoolSize(properties.getMaximumPoolSize());
+            HikariDataSource pool = new HikariDataSource(config);
+            pools.add(pool);
+            jdbcTemplates.add(new JdbcTemplate(pool));
+            transactionTemplates.add(new TransactionTemplate(new DataSourceTransactionManager(pool)));
+        }
+    }
+
+    /**
+     * Creates or updates the shard schema on every shard.
+     *
+     * @throws Exception if a migration fails
+     */
+    public void migrate() throws Exception {
+        for (HikariDataSource pool : pools) {
+            SpringLiquibase liquibase = new SpringLiquibase();
+            liquibase.setDataSource(pool);
+            liquibase.setChangeLog("classpath:db/changelog/shard/shard-changelog.xml");
+            liquibase.setResourceLoader(new DefaultResourceLoader());
+            liquibase.afterPropertiesSet();
+        }
+    }
+
+    /**
+     * @return number of shards
+     */
+    public int size() {
+        return pools.size();
+    }
+
+    public DataSource dataSource(int shard) {
+        return pools.get(shard);
+    }
+
+    public JdbcTemplate jdbcTemplate(int shard) {
+        return jdbcTemplates.get(shard);
+    }
+
+    public TransactionTemplate transactionTemplate(int shard) {
+        return transactionTemplates.get(shard);
+    }
+
+    @Override
+    public void close() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
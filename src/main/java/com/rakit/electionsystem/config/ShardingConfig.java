@@ -0,0 +1,25 @@
+package com.rakit.electionsystem.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for sharded vote storage ({@code votes.sharding.enabled=true}).
+ */
+@Configuration
+@ConditionalOnProperty(name = "votes.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    /**
+     * Opens the shard pools and migrates their schema.
+     */
+    @Bean(destroyMethod = "close")
+    public ShardedDataSource shardedDataSource(ShardingProperties properties) throws Exception {
+        ShardedDataSource shards = new ShardedDataSource(properties);
+        if (properties.isMigrate()) {
+            shards.migrate();
+        }
+        return shards;
+    }
+}
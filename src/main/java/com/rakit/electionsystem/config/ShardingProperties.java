@@ -0,0 +1,43 @@
+package com.rakit.electionsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for sharded vote storage.
+ * When enabled, votes and voting records live in one of the shard databases,
+ * chosen per election; everything else stays in the main database.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "votes.sharding")
+public class ShardingProperties {
+
+    /**
+     * Whether votes are stored in shards instead of the main database.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JDBC URLs of the shard databases; the position in the list is the shard number.
+     */
+    private List<String> urls = new ArrayList<>();
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Connection pool size of each shard.
+     */
+    private int maximumPoolSize = 5;
+
+    /**
+     * Whether the shard schema is created with the shard changelog at startup.
+     */
+    private boolean migrate = true;
+}
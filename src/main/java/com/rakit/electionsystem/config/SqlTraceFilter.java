@@ -0,0 +1,95 @@
+package com.rakit.electionsystem.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Picks the requests whose SQL statements and bind values are logged, when SQL logging is
+ * otherwise off: a random {@code sql-trace.sample-rate} share of requests, plus any request
+ * sending the configured {@code sql-trace.header-token} in the {@value #HEADER} header.
+ * A traced request carries {@value #MDC_KEY} in its MDC, which {@link SqlTraceTurboFilter}
+ * turns into SQL log lines.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "sql-trace.enabled", havingValue = "true")
+public class SqlTraceFilter extends OncePerRequestFilter {
+
+    /**
+     * Request header asking for the request's SQL to be logged.
+     */
+    public static final String HEADER = "X-Sql-Trace";
+
+    /**
+     * MDC key present while a traced request is handled.
+     */
+    public static final String MDC_KEY = "sqlTrace";
+
+    private final double sampleRate;
+    private final byte[] headerToken;
+    private final Counter sampled;
+    private final Counter requested;
+
+    public SqlTraceFilter(
+            @Value("${sql-trace.sample-rate:0.001}") double sampleRate,
+            @Value("${sql-trace.header-token:}") String headerToken,
+            MeterRegistry meterRegistry
+    ) {
+        this.sampleRate = sampleRate;
+        this.headerToken = StringUtils.hasText(headerToken) ? headerToken.getBytes(StandardCharsets.UTF_8) : null;
+        this.sampled = meterRegistry.counter("election.sql-trace.requests", "reason", "sampled");
+        this.requested = meterRegistry.counter("election.sql-trace.requests", "reason", "header");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!isTraced(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MDC.put(MDC_KEY, "1");
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private boolean isTraced(HttpServletRequest request) {
+        if (headerToken != null) {
+            String header = request.getHeader(HEADER);
+            // Compared in constant time, so the token cannot be guessed a character at a time
+            if (header != null && MessageDigest.isEqual(headerToken, header.getBytes(StandardCharsets.UTF_8))) {
+                requested.increment();
+                return true;
+            }
+        }
+        if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            sampled.increment();
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,30 @@
+package com.rakit.electionsystem.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Logback turbo filter that lets Hibernate's SQL and bind-value log lines through for requests
+ * picked by {@link SqlTraceFilter}, even though those loggers are set above DEBUG. Hibernate
+ * asks whether the loggers are enabled on every statement, so tracing follows the MDC per
+ * request. Every other logger is left to its configured level.
+ */
+public class SqlTraceTurboFilter extends TurboFilter {
+
+    private static final String SQL_LOGGER = "org.hibernate.SQL";
+    private static final String BIND_LOGGER = "org.hibernate.orm.jdbc.bind";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // Checked on every log call in the application, so the logger name is compared first
+        String name = logger.getName();
+        if (!name.equals(SQL_LOGGER) && !name.equals(BIND_LOGGER)) {
+            return FilterReply.NEUTRAL;
+        }
+        return MDC.get(SqlTraceFilter.MDC_KEY) != null ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
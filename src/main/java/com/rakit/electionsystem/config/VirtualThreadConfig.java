@@ -0,0 +1,60 @@
+package com.rakit.electionsystem.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration for the virtual-thread execution mode ({@code spring.threads.virtual.enabled=true}).
+ * Request handling, scheduling and async work then run on virtual threads, which are cheap enough
+ * to give every voter its own; the connection pool becomes the real limit, so the DataSource is
+ * wrapped in a {@link BoundedDataSource} sized to the pool. A {@link PartitionedDataSource} gets one
+ * limiter per partition instead, so no partition can take permits from another.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    /**
+     * Wraps the DataSource in a concurrency limiter.
+     * The limit defaults to the Hikari pool size (the primary and the replica together), so waiting happens on the semaphore and not in the pool.
+     * Partitioned pools are limited per partition and keep their own sizes.
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource
+                        || !environment.getProperty("db.concurrency-limit.enabled", Boolean.class, true)) {
+                    return bean;
+                }
+                Duration acquireTimeout = environment.getProperty("db.concurrency-limit.acquire-timeout",
+                        Duration.class, Duration.ofSeconds(30));
+                DataSource primary = dataSource instanceof ReadWriteRoutingDataSource routing ? routing.getPrimary() : dataSource;
+                if (primary instanceof PartitionedDataSource partitioned) {
+                    // One limiter over all partitions would let waiters in small partitions starve voting
+                    partitioned.limitConcurrency(acquireTimeout);
+                    log.info("Limiting each partition of DataSource '{}' to its pool size", beanName);
+                    return bean;
+                }
+                int poolSize;
+                if (dataSource instanceof ReadWriteRoutingDataSource routing) {
+                    poolSize = routing.getTotalPoolSize();
+                } else {
+                    poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                }
+                int maxConcurrency = environment.getProperty("db.concurrency-limit.max-concurrency", Integer.class, poolSize);
+                log.info("Limiting DataSource '{}' to {} concurrent connections", beanName, maxConcurrency);
+                return new BoundedDataSource(dataSource, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+}
@@ -1,7 +1,9 @@
 package com.rakit.electionsystem.controller;
 
+import com.rakit.electionsystem.dto.CacheStatisticsResponse;
 import com.rakit.electionsystem.dto.VoterResponse;
 import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.service.CacheStatisticsService;
 import com.rakit.electionsystem.service.VoterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -31,6 +33,7 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     private final VoterService voterService;
+    private final CacheStatisticsService cacheStatisticsService;
 
     /**
      * Gets all voters in the system.
@@ -86,13 +89,24 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Gets second-level cache statistics.
+     *
+     * @return overall and per-region cache statistics
+     */
+    @Operation(summary = "Get cache statistics (Admin only)", description = "Returns second-level cache hit, miss and put counts per region")
+    @GetMapping("/cache/statistics")
+    public ResponseEntity<CacheStatisticsResponse> getCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getCacheStatistics());
+    }
+
     /**
      * Maps a Voter entity to a VoterResponse DTO.
      *
      * @param voter the voter entity
      * @return voter response DTO
      */
-    private VoterResponse mapToVoterResponse(Voter voter) {
+    VoterResponse mapToVoterResponse(Voter voter) {
         return new VoterResponse(
                 voter.getId(),
                 voter.getEmail(),
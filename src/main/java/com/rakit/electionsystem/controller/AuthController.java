@@ -51,9 +51,8 @@ public class AuthController {
     })
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
-        log.info("POST /api/auth/register - Registering new user: {}", request.getEmail());
+        log.debug("POST /api/auth/register - Registering new user: {}", request.getEmail());
         AuthResponse response = authenticationService.register(request);
-        log.info("User registered successfully: {}", request.getEmail());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -73,9 +72,8 @@ public class AuthController {
     })
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        log.info("POST /api/auth/login - Login attempt for user: {}", request.getEmail());
+        log.debug("POST /api/auth/login - Login attempt for user: {}", request.getEmail());
         AuthResponse response = authenticationService.login(request);
-        log.info("User logged in successfully: {}", request.getEmail());
         return ResponseEntity.ok(response);
     }
 }
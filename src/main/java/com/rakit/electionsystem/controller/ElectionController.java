@@ -3,9 +3,15 @@ package com.rakit.electionsystem.controller;
 import com.rakit.electionsystem.dto.ElectionOptionRequest;
 import com.rakit.electionsystem.dto.ElectionRequest;
 import com.rakit.electionsystem.dto.ElectionResponse;
+import com.rakit.electionsystem.dto.EligibilityResponse;
+import com.rakit.electionsystem.dto.EligibleVoterRequest;
 import com.rakit.electionsystem.dto.ErrorResponse;
+import com.rakit.electionsystem.dto.RollRequest;
+import com.rakit.electionsystem.exception.InvalidRequestException;
 import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.ElectionWindowState;
 import com.rakit.electionsystem.service.ElectionService;
+import com.rakit.electionsystem.service.EligibilityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -22,12 +28,15 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Controller for election management endpoints.
@@ -40,6 +49,7 @@ import java.util.List;
 public class ElectionController {
 
     private final ElectionService electionService;
+    private final EligibilityService eligibilityService;
 
     /**
      * Creates a new election.
@@ -83,25 +93,53 @@ public class ElectionController {
     }
 
     /**
-     * Gets all elections.
+     * Gets all elections, optionally filtered by the state of their voting window.
      * Public endpoint - no authentication required.
+     * Filtered queries are answered from the in-memory window index without hitting the database.
      *
-     * @return list of all elections
+     * @param state optional window state (active, upcoming, ended)
+     * @param withinHours horizon for upcoming elections, in hours
+     * @return list of elections
      */
     @Operation(
         summary = "Get all elections",
-        description = "Returns a list of all elections with their options. Public endpoint."
+        description = "Returns a list of all elections with their options. Use state=active|upcoming|ended to filter " +
+                      "by voting window; upcoming elections are those starting within 'withinHours'. Public endpoint."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Elections retrieved successfully",
             content = @Content(schema = @Schema(implementation = ElectionResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid state value",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         )
     })
     @GetMapping
-    public ResponseEntity<List<ElectionResponse>> getAllElections() {
-        List<ElectionResponse> elections = electionService.getAllElections();
+    public ResponseEntity<List<ElectionResponse>> getAllElections(
+            @Parameter(description = "Voting window state: active, upcoming or ended")
+            @RequestParam(required = false) String state,
+            @Parameter(description = "Horizon in hours for upcoming elections")
+            @RequestParam(defaultValue = "24") long withinHours) {
+        if (state == null) {
+            return ResponseEntity.ok(electionService.getAllElections());
+        }
+
+        ElectionWindowState windowState;
+        try {
+            windowState = ElectionWindowState.valueOf(state.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException("Invalid state: " + state + ". Expected one of: active, upcoming, ended");
+        }
+        if (withinHours < 0) {
+            throw new InvalidRequestException("withinHours must not be negative");
+        }
+
+        List<ElectionResponse> elections = electionService.getElectionsByWindowState(windowState,
+                Duration.ofHours(Math.min(withinHours, ElectionService.MAX_HORIZON.toHours())));
         return ResponseEntity.ok(elections);
     }
 
@@ -195,7 +233,7 @@ public class ElectionController {
      */
     @Operation(
         summary = "Add voting option to election (Admin only)",
-        description = "Adds a new voting option to an existing election. Voters can choose from these options when casting their vote. Requires admin role.",
+        description = "Adds a new voting option to an existing election. Voters can choose from these options when casting their vote. Only allowed while the election is a DRAFT. Requires admin role.",
         security = @SecurityRequirement(name = "JWT Bearer Token")
     )
     @ApiResponses(value = {
@@ -206,7 +244,7 @@ public class ElectionController {
         ),
         @ApiResponse(
             responseCode = "400",
-            description = "Invalid request data",
+            description = "Invalid request data or election is not a draft",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))
         ),
         @ApiResponse(
@@ -237,4 +275,103 @@ public class ElectionController {
         ElectionResponse updatedElection = electionService.addOptionToElection(electionId, optionRequest);
         return ResponseEntity.ok(updatedElection);
     }
+
+    /**
+     * Replaces the eligibility list of a draft election.
+     * Admin only - requires ROLE_ADMIN authority.
+     *
+     * @param electionId election ID
+     * @param entries voters and their weights
+     * @return summary of the new list
+     */
+    @Operation(
+        summary = "Replace election eligibility list (Admin only)",
+        description = "Sets which voters may vote in a weighted election and the weight of each voter's ballot, " +
+                      "e.g. their share count. Weights default to 1. Only allowed while the election is a DRAFT. Requires admin role.",
+        security = @SecurityRequirement(name = "JWT Bearer Token")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Eligibility list replaced",
+            content = @Content(schema = @Schema(implementation = EligibilityResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid entries or election not in DRAFT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - authentication required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden - admin role required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Election or voter not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PutMapping("/{electionId}/eligibility")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EligibilityResponse> replaceEligibility(
+            @Parameter(description = "Election ID", required = true) @PathVariable Long electionId,
+            @RequestBody List<EligibleVoterRequest> entries) {
+        return ResponseEntity.ok(eligibilityService.replaceEligibility(electionId, entries));
+    }
+
+    /**
+     * Replaces the eligibility roll of a draft election.
+     * Admin only - requires ROLE_ADMIN authority.
+     *
+     * @param electionId election ID
+     * @param rollRequest voter IDs, a rule and/or elections whose rolls to copy
+     * @return summary of the new roll
+     */
+    @Operation(
+        summary = "Replace election roll (Admin only)",
+        description = "Sets which voters may vote in an election: explicit voter IDs, a rule (ACTIVE_VOTERS, or ADULTS " +
+                      "by PESEL age on the start date) and/or the merged rolls of other elections. When several sources " +
+                      "are given the roll holds the voters they share. Only allowed while the election is a DRAFT. Requires admin role.",
+        security = @SecurityRequirement(name = "JWT Bearer Token")
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Roll replaced",
+            content = @Content(schema = @Schema(implementation = EligibilityResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No source given, a source election has no roll, or election not in DRAFT",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - authentication required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "403",
+            description = "Forbidden - admin role required",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Election not found",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+        )
+    })
+    @PutMapping("/{electionId}/roll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<EligibilityResponse> replaceRoll(
+            @Parameter(description = "Election ID", required = true) @PathVariable Long electionId,
+            @RequestBody RollRequest rollRequest) {
+        return ResponseEntity.ok(eligibilityService.replaceRoll(electionId, rollRequest));
+    }
 }
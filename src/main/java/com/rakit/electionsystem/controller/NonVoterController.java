@@ -0,0 +1,84 @@
+package com.rakit.electionsystem.controller;
+
+import com.rakit.electionsystem.dto.ErrorResponse;
+import com.rakit.electionsystem.dto.NonVotersResponse;
+import com.rakit.electionsystem.service.NonVoterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Controller for get-out-the-vote listings: eligible voters of an active election who have not
+ * voted yet. All endpoints require ROLE_ADMIN authority.
+ */
+@RestController
+@RequestMapping("/api/admin/elections")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Admin", description = "Administrative endpoints (Admin only)")
+@SecurityRequirement(name = "JWT Bearer Token")
+public class NonVoterController {
+
+    private final NonVoterService nonVoterService;
+
+    /**
+     * Gets one keyset page of an election's non-voters.
+     *
+     * @param electionId the election ID
+     * @param after only voters with a higher ID are listed
+     * @param limit page size
+     * @return non-voters in ID order and the key of the next page
+     */
+    @Operation(summary = "List non-voters (Admin only)",
+               description = "Returns eligible voters of an active election who have not voted yet, in voter ID order. "
+                       + "Pass nextAfter as 'after' to get the next page.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Non-voters retrieved successfully",
+                     content = @Content(schema = @Schema(implementation = NonVotersResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Election is not active or limit is out of range",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Election not found",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{electionId}/non-voters")
+    public ResponseEntity<NonVotersResponse> getNonVoters(
+            @PathVariable Long electionId,
+            @Parameter(description = "Voter ID to continue after") @RequestParam(required = false) Long after,
+            @Parameter(description = "Page size, at most 1000") @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(nonVoterService.findNonVoters(electionId, after, limit));
+    }
+
+    /**
+     * Exports every non-voter of an election as CSV.
+     *
+     * @param electionId the election ID
+     * @return streamed CSV with one row per non-voter
+     */
+    @Operation(summary = "Export non-voters (Admin only)",
+               description = "Streams every eligible voter of an active election who has not voted yet as CSV.")
+    @GetMapping(value = "/{electionId}/non-voters/export", produces = "text/csv")
+    public ResponseEntity<StreamingResponseBody> exportNonVoters(@PathVariable Long electionId) {
+        nonVoterService.requireActive(electionId);
+        StreamingResponseBody body = out -> nonVoterService.exportNonVoters(electionId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"election-" + electionId + "-non-voters.csv\"")
+                .body(body);
+    }
+}
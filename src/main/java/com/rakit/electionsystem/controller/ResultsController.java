@@ -3,8 +3,16 @@ package com.rakit.electionsystem.controller;
 import com.rakit.electionsystem.dto.ElectionResultsResponse;
 import com.rakit.electionsystem.dto.ElectionStatisticsResponse;
 import com.rakit.electionsystem.dto.ErrorResponse;
+import com.rakit.electionsystem.dto.RankedResultsResponse;
+import com.rakit.electionsystem.dto.TurnoutDemographicsResponse;
+import com.rakit.electionsystem.dto.TurnoutResponse;
+import com.rakit.electionsystem.service.ElectionArchiveService;
+import com.rakit.electionsystem.service.ResultsQueryCoalescer;
 import com.rakit.electionsystem.service.ResultsService;
+import com.rakit.electionsystem.service.TurnoutDemographics;
+import com.rakit.electionsystem.service.TurnoutTracker;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,12 +20,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
 
 /**
  * Controller for election results and statistics endpoints.
@@ -31,6 +45,10 @@ import org.springframework.web.bind.annotation.RestController;
 public class ResultsController {
 
     private final ResultsService resultsService;
+    private final ResultsQueryCoalescer resultsQueryCoalescer;
+    private final ElectionArchiveService electionArchiveService;
+    private final TurnoutTracker turnoutTracker;
+    private final TurnoutDemographics turnoutDemographics;
 
     /**
      * Gets the complete results for a specific election.
@@ -52,7 +70,7 @@ public class ResultsController {
     @GetMapping("/elections/{electionId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ElectionResultsResponse> getElectionResults(@PathVariable Long electionId) {
-        ElectionResultsResponse results = resultsService.getElectionResults(electionId);
+        ElectionResultsResponse results = resultsQueryCoalescer.getElectionResults(electionId);
         return ResponseEntity.ok(results);
     }
 
@@ -78,10 +96,86 @@ public class ResultsController {
     @GetMapping("/elections/{electionId}/statistics")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ElectionStatisticsResponse> getElectionStatistics(@PathVariable Long electionId) {
-        ElectionStatisticsResponse statistics = resultsService.getElectionStatistics(electionId);
+        ElectionStatisticsResponse statistics = resultsQueryCoalescer.getElectionStatistics(electionId);
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * Gets the turnout curve of an election: voters per time bucket since voting opened.
+     * Restricted to admin users only.
+     *
+     * @param electionId the election ID
+     * @param bucket optional bucket width, e.g. 15m; widened for long elections
+     * @return voters per bucket and running totals
+     */
+    @Operation(summary = "Get election turnout over time (Admin only)",
+               description = "Returns voters per time bucket from in-memory per-minute counters. Admin access required.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Turnout retrieved successfully",
+                     content = @Content(schema = @Schema(implementation = TurnoutResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - admin role required",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Election not found",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/elections/{electionId}/turnout")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TurnoutResponse> getElectionTurnout(
+            @PathVariable Long electionId,
+            @Parameter(description = "Bucket width, e.g. 15m or 1h") @RequestParam(required = false) Duration bucket) {
+        return ResponseEntity.ok(turnoutTracker.getTurnout(electionId, bucket));
+    }
+
+    /**
+     * Gets the turnout of an election by age band and sex, decoded from voters' PESELs.
+     * Restricted to admin users only.
+     *
+     * @param electionId the election ID
+     * @return voters per age band and sex, with small cells suppressed
+     */
+    @Operation(summary = "Get election turnout by age and sex (Admin only)",
+               description = "Returns anonymous turnout counters per age band and sex. Cells below the minimum size are suppressed. Admin access required.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Demographics retrieved successfully",
+                     content = @Content(schema = @Schema(implementation = TurnoutDemographicsResponse.class))),
+        @ApiResponse(responseCode = "401", description = "Unauthorized",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "403", description = "Forbidden - admin role required",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Election not found",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/elections/{electionId}/demographics")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TurnoutDemographicsResponse> getElectionDemographics(@PathVariable Long electionId) {
+        return ResponseEntity.ok(turnoutDemographics.getDemographics(electionId));
+    }
+
+    /**
+     * Gets the round-by-round instant-runoff results of a ranked election.
+     * Accessible by authenticated users.
+     *
+     * @param electionId the election ID
+     * @return tallies of every round and the winner
+     */
+    @Operation(summary = "Get instant-runoff rounds",
+               description = "Counts a ranked election by instant runoff and returns the tallies of every round. Requires authentication.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rounds computed successfully",
+                     content = @Content(schema = @Schema(implementation = RankedResultsResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Election does not use ranked ballots",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Election not found",
+                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/elections/{electionId}/rounds")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RankedResultsResponse> getRankedResults(@PathVariable Long electionId) {
+        return ResponseEntity.ok(resultsQueryCoalescer.getRankedResults(electionId));
+    }
+
     /**
      * Gets the vote count for a specific election option.
      * Accessible by authenticated users.
@@ -95,4 +189,24 @@ public class ResultsController {
         Long voteCount = resultsService.getOptionVoteCount(optionId);
         return ResponseEntity.ok(voteCount);
     }
+
+    /**
+     * Exports every anonymous ballot of a closed election as CSV, for audits.
+     * Restricted to admin users only.
+     *
+     * @param electionId the election ID
+     * @return streamed CSV with one row per ballot
+     */
+    @Operation(summary = "Export ballots (Admin only)",
+               description = "Streams every anonymous ballot of a closed election as CSV. Works for archived elections too.")
+    @GetMapping(value = "/elections/{electionId}/ballots", produces = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportBallots(@PathVariable Long electionId) {
+        electionArchiveService.requireExportable(electionId);
+        StreamingResponseBody body = out -> electionArchiveService.exportBallots(electionId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"election-" + electionId + "-ballots.csv\"")
+                .body(body);
+    }
 }
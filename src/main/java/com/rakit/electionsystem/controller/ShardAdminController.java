@@ -0,0 +1,58 @@
+package com.rakit.electionsystem.controller;
+
+import com.rakit.electionsystem.dto.ShardMoveResponse;
+import com.rakit.electionsystem.dto.ShardOverviewResponse;
+import com.rakit.electionsystem.service.ShardedVoteStorage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller for vote shard administration.
+ * Only available when vote sharding is enabled. All endpoints require ROLE_ADMIN authority.
+ */
+@RestController
+@RequestMapping("/api/admin/shards")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@ConditionalOnProperty(name = "votes.sharding.enabled", havingValue = "true")
+@Tag(name = "Admin", description = "Administrative endpoints (Admin only)")
+@SecurityRequirement(name = "JWT Bearer Token")
+public class ShardAdminController {
+
+    private final ShardedVoteStorage shardedVoteStorage;
+
+    /**
+     * Gets system-wide vote totals, gathered from all shards in parallel.
+     *
+     * @return totals per shard and per election
+     */
+    @Operation(summary = "Get vote shard overview (Admin only)", description = "Returns vote totals per shard and per election")
+    @GetMapping
+    public ResponseEntity<ShardOverviewResponse> getOverview() {
+        return ResponseEntity.ok(shardedVoteStorage.getOverview());
+    }
+
+    /**
+     * Moves an election's votes to another shard.
+     *
+     * @param electionId the election ID
+     * @param shard the destination shard
+     * @return number of rows moved
+     */
+    @Operation(summary = "Move an election to another shard (Admin only)", description = "Rebalances a draft or closed election")
+    @PostMapping("/elections/{electionId}/move")
+    public ResponseEntity<ShardMoveResponse> moveElection(@PathVariable Long electionId, @RequestParam int shard) {
+        return ResponseEntity.ok(shardedVoteStorage.moveElection(electionId, shard));
+    }
+}
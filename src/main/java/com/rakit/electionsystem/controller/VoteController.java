@@ -1,17 +1,23 @@
 package com.rakit.electionsystem.controller;
 
 import com.rakit.electionsystem.dto.VoteRequest;
+import com.rakit.electionsystem.dto.VoterElectionsResponse;
+import com.rakit.electionsystem.service.VoteAdmissionController;
 import com.rakit.electionsystem.service.VoteService;
+import com.rakit.electionsystem.service.VotingHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -22,12 +28,25 @@ import org.springframework.web.bind.annotation.RestController;
 public class VoteController {
 
     private final VoteService voteService;
+    private final VoteAdmissionController voteAdmissionController;
+    private final VotingHistoryService votingHistoryService;
 
     @Operation(summary = "Cast a vote",
                description = "Casts an anonymous vote in an election. Creates separate Vote and VotingRecord to maintain anonymity.")
     @PostMapping("/cast")
     public ResponseEntity<String> castVote(@RequestBody VoteRequest voteRequest, @AuthenticationPrincipal UserDetails currentUser) {
-        voteService.castVote(voteRequest, currentUser);
+        // Admission wraps the transactional call, so commit latency feeds the adaptive limit
+        voteAdmissionController.execute(() -> voteService.castVote(voteRequest, currentUser));
         return ResponseEntity.ok("Vote cast successfully.");
     }
+
+    @Operation(summary = "List my elections",
+               description = "Returns a page of elections past draft with whether the current voter is eligible and has voted, and when.")
+    @GetMapping("/me/elections")
+    public ResponseEntity<VoterElectionsResponse> getMyElections(
+            @AuthenticationPrincipal UserDetails currentUser,
+            @Parameter(description = "Zero-based page number") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Page size, at most 100") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(votingHistoryService.getMyElections(currentUser, page, size));
+    }
 }
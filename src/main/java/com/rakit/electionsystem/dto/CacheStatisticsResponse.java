@@ -0,0 +1,23 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for second-level cache statistics, overall and per region.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatisticsResponse {
+    private Long hitCount;
+    private Long missCount;
+    private Long putCount;
+    private Double hitRatio;
+    private Long naturalIdHitCount;
+    private Long naturalIdMissCount;
+    private List<CacheRegionStatisticsResponse> regions;
+}
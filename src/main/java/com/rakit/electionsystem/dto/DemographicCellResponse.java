@@ -0,0 +1,20 @@
+package com.rakit.electionsystem.dto;
+
+import com.rakit.electionsystem.model.AgeBand;
+import com.rakit.electionsystem.model.Sex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the turnout of one age band and sex. Suppressed cells carry no count.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DemographicCellResponse {
+    private AgeBand ageBand;
+    private Sex sex;
+    private Long voters;
+    private boolean suppressed;
+}
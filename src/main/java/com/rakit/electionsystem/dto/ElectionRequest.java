@@ -1,5 +1,6 @@
 package com.rakit.electionsystem.dto;
 
+import com.rakit.electionsystem.model.BallotType;
 import lombok.Data;
 import java.time.LocalDateTime;
 
@@ -9,4 +10,7 @@ public class ElectionRequest {
     private String description;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
+    private BallotType ballotType;
+    private Integer maxSelections;
+    private Boolean weighted;
 }
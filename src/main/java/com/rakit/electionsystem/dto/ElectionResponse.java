@@ -1,5 +1,6 @@
 package com.rakit.electionsystem.dto;
 
+import com.rakit.electionsystem.model.BallotType;
 import com.rakit.electionsystem.model.ElectionStatus;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -19,4 +20,7 @@ public class ElectionResponse {
     private LocalDateTime endDate;
     private ElectionStatus status;
     private List<ElectionOptionResponse> options;
+    private BallotType ballotType;
+    private Integer maxSelections;
+    private boolean weighted;
 }
@@ -5,10 +5,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigInteger;
 import java.util.List;
 
 /**
  * DTO for complete election results including all options and their vote counts.
+ * Weighted elections also report the total weight cast; it is null for unweighted elections.
  */
 @Data
 @NoArgsConstructor
@@ -20,4 +22,10 @@ public class ElectionResultsResponse {
     private ElectionStatus status;
     private Long totalVotes;
     private List<OptionResultResponse> optionResults;
+    private BigInteger totalWeight;
+
+    public ElectionResultsResponse(Long electionId, String name, String description, ElectionStatus status,
+                                   Long totalVotes, List<OptionResultResponse> optionResults) {
+        this(electionId, name, description, status, totalVotes, optionResults, null);
+    }
 }
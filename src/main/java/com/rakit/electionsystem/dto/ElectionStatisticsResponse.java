@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 
 /**
  * DTO for election statistics including participation metrics.
+ * For elections with an eligibility roll, the participation rate is turnout: participants as a
+ * percentage of eligible voters. Elections without a roll report null eligible voters.
  */
 @Data
 @NoArgsConstructor
@@ -23,4 +25,5 @@ public class ElectionStatisticsResponse {
     private Double participationRate;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
+    private Long eligibleVoters;
 }
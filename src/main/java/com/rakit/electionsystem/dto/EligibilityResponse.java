@@ -0,0 +1,19 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+
+/**
+ * DTO summarising the eligibility list of an election.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilityResponse {
+    private Long electionId;
+    private Long eligibleVoters;
+    private BigInteger totalWeight;
+}
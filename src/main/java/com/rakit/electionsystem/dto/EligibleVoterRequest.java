@@ -0,0 +1,15 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.Data;
+
+/**
+ * DTO for one entry of an election's eligibility list.
+ */
+@Data
+public class EligibleVoterRequest {
+    private Long voterId;
+    /**
+     * How much the voter's ballot counts, e.g. a share count; 1 when absent.
+     */
+    private Long weight;
+}
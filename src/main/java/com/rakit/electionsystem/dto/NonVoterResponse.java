@@ -0,0 +1,18 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for an eligible voter who has not voted yet, with the details needed to remind them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NonVoterResponse {
+    private Long id;
+    private String email;
+    private String firstName;
+    private String lastName;
+}
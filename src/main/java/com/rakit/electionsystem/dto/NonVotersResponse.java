@@ -0,0 +1,20 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one keyset page of an election's non-voters, in voter ID order.
+ * Pass {@code nextAfter} as {@code after} to get the next page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NonVotersResponse {
+    private Long electionId;
+    private List<NonVoterResponse> voters;
+    private Long nextAfter;
+}
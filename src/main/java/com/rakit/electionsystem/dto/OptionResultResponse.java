@@ -4,8 +4,12 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigInteger;
+
 /**
  * DTO for individual option results within an election.
+ * In weighted elections the vote count is the headcount and the summed weight is reported
+ * alongside it; otherwise the weighted vote total is null.
  */
 @Data
 @NoArgsConstructor
@@ -15,4 +19,9 @@ public class OptionResultResponse {
     private String optionTitle;
     private String description;
     private Long voteCount;
+    private BigInteger weightedVotes;
+
+    public OptionResultResponse(Long optionId, String optionTitle, String description, Long voteCount) {
+        this(optionId, optionTitle, description, voteCount, null);
+    }
 }
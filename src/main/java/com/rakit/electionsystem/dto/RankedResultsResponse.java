@@ -0,0 +1,24 @@
+package com.rakit.electionsystem.dto;
+
+import com.rakit.electionsystem.model.ElectionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the round-by-round instant-runoff results of a ranked election.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedResultsResponse {
+    private Long electionId;
+    private String name;
+    private ElectionStatus status;
+    private Long totalBallots;
+    private Long winnerOptionId;
+    private String winnerTitle;
+    private List<RankedRoundResponse> rounds;
+}
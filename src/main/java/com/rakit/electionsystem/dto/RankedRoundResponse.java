@@ -0,0 +1,20 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one round of an instant-runoff count.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RankedRoundResponse {
+    private Integer round;
+    private List<OptionResultResponse> tallies;
+    private Long exhaustedBallots;
+    private Long eliminatedOptionId;
+}
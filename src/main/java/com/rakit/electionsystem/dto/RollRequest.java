@@ -0,0 +1,30 @@
+package com.rakit.electionsystem.dto;
+
+import com.rakit.electionsystem.model.RollRule;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO describing the eligibility roll of an election. At least one source must be given;
+ * when several are, the roll holds the voters they have in common.
+ */
+@Data
+public class RollRequest {
+    /**
+     * Explicit voter IDs.
+     */
+    private List<Long> voterIds;
+    /**
+     * Voters selected by rule.
+     */
+    private RollRule rule;
+    /**
+     * Minimum age for {@link RollRule#ADULTS}; 18 when absent.
+     */
+    private Integer minimumAge;
+    /**
+     * Elections whose rolls are merged, e.g. to reuse the roll of an earlier election.
+     */
+    private List<Long> copyFromElectionIds;
+}
@@ -0,0 +1,19 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the outcome of moving an election to another shard.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardMoveResponse {
+    private Long electionId;
+    private Integer fromShard;
+    private Integer toShard;
+    private Long votesMoved;
+    private Long votingRecordsMoved;
+}
@@ -0,0 +1,21 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for system-wide vote totals gathered from all shards.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardOverviewResponse {
+    private Long totalVotes;
+    private Long totalVotingRecords;
+    private Map<Long, Long> votesByElection;
+    private List<ShardStatusResponse> shards;
+}
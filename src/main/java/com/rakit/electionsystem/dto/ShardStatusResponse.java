@@ -0,0 +1,18 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the contents of one vote shard.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardStatusResponse {
+    private Integer shard;
+    private Long elections;
+    private Long votes;
+    private Long votingRecords;
+}
@@ -0,0 +1,20 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the turnout of an election broken down by age band and sex.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnoutDemographicsResponse {
+    private Long electionId;
+    private Long totalVoters;
+    private Integer minimumCellSize;
+    private List<DemographicCellResponse> cells;
+}
@@ -0,0 +1,19 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one bucket of an election's turnout curve.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnoutPointResponse {
+    private LocalDateTime start;
+    private Long voters;
+    private Long cumulativeVoters;
+}
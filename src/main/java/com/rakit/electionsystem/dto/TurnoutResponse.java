@@ -0,0 +1,22 @@
+package com.rakit.electionsystem.dto;
+
+import com.rakit.electionsystem.model.ElectionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for the turnout curve of an election: voters per time bucket, oldest first.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TurnoutResponse {
+    private Long electionId;
+    private ElectionStatus status;
+    private Long bucketMinutes;
+    private Long totalVoters;
+    private List<TurnoutPointResponse> points;
+}
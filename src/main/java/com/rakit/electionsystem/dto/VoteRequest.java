@@ -2,8 +2,20 @@ package com.rakit.electionsystem.dto;
 
 import lombok.Data;
 
+import java.util.List;
+
 @Data
 public class VoteRequest {
     private Long electionId;
     private Long optionId;
+    /**
+     * Options in order of preference, for ranked elections. When absent, {@code optionId} is
+     * taken as a single-preference ranking.
+     */
+    private List<Long> rankedOptionIds;
+    /**
+     * Selected options, for approval elections. When absent, {@code optionId} is taken as the
+     * only selection.
+     */
+    private List<Long> selectedOptionIds;
 }
@@ -0,0 +1,27 @@
+package com.rakit.electionsystem.dto;
+
+import com.rakit.electionsystem.model.BallotType;
+import com.rakit.electionsystem.model.ElectionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for an election as seen by one voter: whether they may vote in it and whether they did.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoterElectionResponse {
+    private Long id;
+    private String name;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private ElectionStatus status;
+    private BallotType ballotType;
+    private boolean eligible;
+    private boolean hasVoted;
+    private LocalDateTime votedAt;
+}
@@ -0,0 +1,21 @@
+package com.rakit.electionsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for one page of the current voter's elections.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VoterElectionsResponse {
+    private List<VoterElectionResponse> elections;
+    private Integer page;
+    private Integer size;
+    private Long totalElements;
+    private Integer totalPages;
+}
@@ -0,0 +1,20 @@
+package com.rakit.electionsystem.event;
+
+import com.rakit.electionsystem.model.ElectionStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Application event published after elections changed status, either through an admin
+ * request or automatically when a voting window opened or closed.
+ * Listeners run after the status change has been committed.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ElectionStatusChangedEvent {
+
+    private final List<Long> electionIds;
+    private final ElectionStatus status;
+}
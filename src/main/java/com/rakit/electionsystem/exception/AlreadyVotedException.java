@@ -3,7 +3,7 @@ package com.rakit.electionsystem.exception;
 /**
  * Exception thrown when a voter attempts to vote in an election they've already voted in.
  */
-public class AlreadyVotedException extends RuntimeException {
+public class AlreadyVotedException extends BusinessException {
 
     public AlreadyVotedException(String message) {
         super(message);
@@ -0,0 +1,16 @@
+package com.rakit.electionsystem.exception;
+
+/**
+ * Base class for expected business rejections, such as a duplicate vote or an unknown election.
+ * <p>
+ * These are thrown on ordinary request paths, often in bursts when clients retry, and are
+ * always answered with a 4xx or 503 response rather than investigated. They therefore skip
+ * stack trace capture and suppression tracking: constructing one costs no more than the
+ * message it carries.
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
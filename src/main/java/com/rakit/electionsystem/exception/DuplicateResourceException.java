@@ -3,7 +3,7 @@ package com.rakit.electionsystem.exception;
 /**
  * Exception thrown when attempting to create a resource that already exists.
  */
-public class DuplicateResourceException extends RuntimeException {
+public class DuplicateResourceException extends BusinessException {
 
     public DuplicateResourceException(String message) {
         super(message);
@@ -3,7 +3,7 @@ package com.rakit.electionsystem.exception;
 /**
  * Exception thrown when attempting to vote in an election that is not active.
  */
-public class ElectionNotActiveException extends RuntimeException {
+public class ElectionNotActiveException extends BusinessException {
 
     public ElectionNotActiveException(String message) {
         super(message);
@@ -0,0 +1,82 @@
+package com.rakit.electionsystem.exception;
+
+import com.rakit.electionsystem.dto.ErrorResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-built error response for one kind of rejection: the status, its reason phrase and the
+ * log label are resolved once, so rendering only fills in the message, path and timestamp.
+ * Logging goes through a {@link LogSampler}, so a flood of identical rejections writes a few
+ * lines per second at most.
+ */
+@Slf4j
+final class ErrorTemplate {
+
+    private static final String URI_PREFIX = "uri=";
+
+    private final HttpStatus status;
+    private final String error;
+    private final String label;
+    private final LogSampler sampler;
+
+    ErrorTemplate(HttpStatus status, String label, Duration logInterval) {
+        this.status = status;
+        this.error = status.getReasonPhrase();
+        this.label = label;
+        this.sampler = new LogSampler(logInterval);
+    }
+
+    /**
+     * Logs the rejection, if sampled, and renders its response.
+     *
+     * @param message the message returned to the client
+     * @param request the current request
+     * @return the error response
+     */
+    ResponseEntity<ErrorResponse> respond(String message, WebRequest request) {
+        return respond(message, message, request);
+    }
+
+    /**
+     * Logs the rejection with its own detail, if sampled, and renders its response.
+     *
+     * @param message the message returned to the client
+     * @param detail the message logged
+     * @param request the current request
+     * @return the error response
+     */
+    ResponseEntity<ErrorResponse> respond(String message, String detail, WebRequest request) {
+        return ResponseEntity.status(status).body(render(message, detail, request));
+    }
+
+    /**
+     * Logs the rejection, if sampled, and renders its body.
+     *
+     * @param message the message returned to the client
+     * @param detail the message logged
+     * @param request the current request
+     * @return the error body
+     */
+    ErrorResponse render(String message, String detail, WebRequest request) {
+        long suppressed = sampler.sample();
+        if (suppressed >= 0) {
+            log.warn("{}: {} ({} similar suppressed)", label, detail, suppressed);
+        }
+        return new ErrorResponse(LocalDateTime.now(), status.value(), error, message, path(request));
+    }
+
+    private static String path(WebRequest request) {
+        if (request instanceof ServletWebRequest servletRequest) {
+            return servletRequest.getRequest().getRequestURI();
+        }
+        String description = request.getDescription(false);
+        return description.startsWith(URI_PREFIX) ? description.substring(URI_PREFIX.length()) : description;
+    }
+}
@@ -2,6 +2,8 @@ package com.rakit.electionsystem.exception;
 
 import com.rakit.electionsystem.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,11 +22,43 @@ import java.util.List;
 /**
  * Global exception handler for the application.
  * Handles all exceptions and returns standardized error responses.
+ * <p>
+ * Expected rejections are rendered from pre-built {@link ErrorTemplate}s and logged as
+ * sampled warnings, at most one line per kind every {@code errors.log-sample-interval};
+ * only unexpected errors are logged in full, with their stack trace.
  */
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final ErrorTemplate notFound;
+    private final ErrorTemplate duplicate;
+    private final ErrorTemplate invalidCredentials;
+    private final ErrorTemplate invalidToken;
+    private final ErrorTemplate votingError;
+    private final ErrorTemplate notActive;
+    private final ErrorTemplate alreadyVoted;
+    private final ErrorTemplate overloaded;
+    private final ErrorTemplate invalidRequest;
+    private final ErrorTemplate validationFailed;
+    private final ErrorTemplate authentication;
+    private final ErrorTemplate accessDenied;
+
+    public GlobalExceptionHandler(@Value("${errors.log-sample-interval:1s}") Duration logSampleInterval) {
+        this.notFound = new ErrorTemplate(HttpStatus.NOT_FOUND, "Resource not found", logSampleInterval);
+        this.duplicate = new ErrorTemplate(HttpStatus.CONFLICT, "Duplicate resource", logSampleInterval);
+        this.invalidCredentials = new ErrorTemplate(HttpStatus.UNAUTHORIZED, "Invalid credentials", logSampleInterval);
+        this.invalidToken = new ErrorTemplate(HttpStatus.UNAUTHORIZED, "Invalid token", logSampleInterval);
+        this.votingError = new ErrorTemplate(HttpStatus.BAD_REQUEST, "Voting error", logSampleInterval);
+        this.notActive = new ErrorTemplate(HttpStatus.BAD_REQUEST, "Election not active", logSampleInterval);
+        this.alreadyVoted = new ErrorTemplate(HttpStatus.CONFLICT, "Already voted", logSampleInterval);
+        this.overloaded = new ErrorTemplate(HttpStatus.SERVICE_UNAVAILABLE, "Service overloaded", logSampleInterval);
+        this.invalidRequest = new ErrorTemplate(HttpStatus.BAD_REQUEST, "Invalid request", logSampleInterval);
+        this.validationFailed = new ErrorTemplate(HttpStatus.BAD_REQUEST, "Validation error", logSampleInterval);
+        this.authentication = new ErrorTemplate(HttpStatus.UNAUTHORIZED, "Authentication error", logSampleInterval);
+        this.accessDenied = new ErrorTemplate(HttpStatus.FORBIDDEN, "Access denied", logSampleInterval);
+    }
+
     /**
      * Handles ResourceNotFoundException.
      */
@@ -32,17 +67,7 @@ public class GlobalExceptionHandler {
             ResourceNotFoundException ex,
             WebRequest request
     ) {
-        log.error("Resource not found: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.NOT_FOUND.value(),
-                HttpStatus.NOT_FOUND.getReasonPhrase(),
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+        return notFound.respond(ex.getMessage(), request);
     }
 
     /**
@@ -53,17 +78,7 @@ public class GlobalExceptionHandler {
             DuplicateResourceException ex,
             WebRequest request
     ) {
-        log.error("Duplicate resource: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.CONFLICT.value(),
-                HttpStatus.CONFLICT.getReasonPhrase(),
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+        return duplicate.respond(ex.getMessage(), request);
     }
 
     /**
@@ -74,17 +89,7 @@ public class GlobalExceptionHandler {
             InvalidCredentialsException ex,
             WebRequest request
     ) {
-        log.error("Invalid credentials: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.UNAUTHORIZED.value(),
-                HttpStatus.UNAUTHORIZED.getReasonPhrase(),
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+        return invalidCredentials.respond(ex.getMessage(), request);
     }
 
     /**
@@ -95,17 +100,7 @@ public class GlobalExceptionHandler {
             InvalidTokenException ex,
             WebRequest request
     ) {
-        log.error("Invalid token: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.UNAUTHORIZED.value(),
-                HttpStatus.UNAUTHORIZED.getReasonPhrase(),
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+        return invalidToken.respond(ex.getMessage(), request);
     }
 
     /**
@@ -116,17 +111,7 @@ public class GlobalExceptionHandler {
             VotingException ex,
             WebRequest request
     ) {
-        log.error("Voting error: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                HttpStatus.BAD_REQUEST.getReasonPhrase(),
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return votingError.respond(ex.getMessage(), request);
     }
 
     /**
@@ -137,17 +122,7 @@ public class GlobalExceptionHandler {
             ElectionNotActiveException ex,
             WebRequest request
     ) {
-        log.error("Election not active: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.BAD_REQUEST.value(),
-                HttpStatus.BAD_REQUEST.getReasonPhrase(),
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+        return notActive.respond(ex.getMessage(), request);
     }
 
     /**
@@ -158,17 +133,34 @@ public class GlobalExceptionHandler {
             AlreadyVotedException ex,
             WebRequest request
     ) {
-        log.error("Already voted: {}", ex.getMessage());
+        return alreadyVoted.respond(ex.getMessage(), request);
+    }
 
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.CONFLICT.value(),
-                HttpStatus.CONFLICT.getReasonPhrase(),
-                ex.getMessage(),
-                request.getDescription(false).replace("uri=", "")
-        );
+    /**
+     * Handles ServiceOverloadedException.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloadedException(
+            ServiceOverloadedException ex,
+            WebRequest request
+    ) {
+        ErrorResponse errorResponse = overloaded.render(ex.getMessage(), ex.getMessage(), request);
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    /**
+     * Handles InvalidRequestException raised for invalid request values.
+     * Other IllegalArgumentExceptions are not client errors and reach the generic handler.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(
+            InvalidRequestException ex,
+            WebRequest request
+    ) {
+        return invalidRequest.respond(ex.getMessage(), request);
     }
 
     /**
@@ -179,8 +171,6 @@ public class GlobalExceptionHandler {
             MethodArgumentNotValidException ex,
             WebRequest request
     ) {
-        log.error("Validation error: {}", ex.getMessage());
-
         List<String> errors = new ArrayList<>();
         ex.getBindingResult().getAllErrors().forEach(error -> {
             String fieldName = ((FieldError) error).getField();
@@ -188,14 +178,8 @@ public class GlobalExceptionHandler {
             errors.add(fieldName + ": " + errorMessage);
         });
 
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .status(HttpStatus.BAD_REQUEST.value())
-                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
-                .message("Validation failed")
-                .path(request.getDescription(false).replace("uri=", ""))
-                .errors(errors)
-                .build();
+        ErrorResponse errorResponse = validationFailed.render("Validation failed", String.join(", ", errors), request);
+        errorResponse.setErrors(errors);
 
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
@@ -208,17 +192,7 @@ public class GlobalExceptionHandler {
             AuthenticationException ex,
             WebRequest request
     ) {
-        log.error("Authentication error: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.UNAUTHORIZED.value(),
-                HttpStatus.UNAUTHORIZED.getReasonPhrase(),
-                "Authentication failed",
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
+        return authentication.respond("Authentication failed", ex.getMessage(), request);
     }
 
     /**
@@ -229,17 +203,7 @@ public class GlobalExceptionHandler {
             AccessDeniedException ex,
             WebRequest request
     ) {
-        log.error("Access denied: {}", ex.getMessage());
-
-        ErrorResponse errorResponse = new ErrorResponse(
-                LocalDateTime.now(),
-                HttpStatus.FORBIDDEN.value(),
-                HttpStatus.FORBIDDEN.getReasonPhrase(),
-                "Access denied",
-                request.getDescription(false).replace("uri=", "")
-        );
-
-        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+        return accessDenied.respond("Access denied", ex.getMessage(), request);
     }
 
     /**
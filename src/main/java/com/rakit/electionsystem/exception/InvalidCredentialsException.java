@@ -3,7 +3,7 @@ package com.rakit.electionsystem.exception;
 /**
  * Exception thrown when authentication credentials are invalid.
  */
-public class InvalidCredentialsException extends RuntimeException {
+public class InvalidCredentialsException extends BusinessException {
 
     public InvalidCredentialsException(String message) {
         super(message);
@@ -0,0 +1,15 @@
+package com.rakit.electionsystem.exception;
+
+/**
+ * Exception thrown when a request is rejected because its input is invalid, such as a ballot
+ * selecting an option twice or a page size out of range. Answered with 400 Bad Request.
+ * <p>
+ * Input checks throw this rather than {@link IllegalArgumentException}, so an
+ * IllegalArgumentException escaping from a library or a bug still surfaces as a server error.
+ */
+public class InvalidRequestException extends BusinessException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -3,7 +3,7 @@ package com.rakit.electionsystem.exception;
 /**
  * Exception thrown when a JWT token is invalid or expired.
  */
-public class InvalidTokenException extends RuntimeException {
+public class InvalidTokenException extends BusinessException {
 
     public InvalidTokenException(String message) {
         super(message);
@@ -0,0 +1,37 @@
+package com.rakit.electionsystem.exception;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate limiter for a log line that may repeat very often, such as a rejected duplicate vote.
+ * At most one event per interval is let through; the rest are only counted, and the count is
+ * handed to the next event let through so the log still shows how many were skipped.
+ */
+public final class LogSampler {
+
+    private final long intervalNanos;
+    private final AtomicLong nextNanos;
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogSampler(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+        this.nextNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Decides whether to log the current event.
+     *
+     * @return the number of events suppressed since the last one logged, or -1 to skip this one
+     */
+    public long sample() {
+        long now = System.nanoTime();
+        long next = nextNanos.get();
+        if (now - next < 0 || !nextNanos.compareAndSet(next, now + intervalNanos)) {
+            suppressed.increment();
+            return -1;
+        }
+        return suppressed.sumThenReset();
+    }
+}
@@ -0,0 +1,20 @@
+package com.rakit.electionsystem.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a request is rejected to protect the database from overload.
+ */
+@Getter
+public class ServiceOverloadedException extends BusinessException {
+
+    /**
+     * Suggested wait before retrying, in seconds.
+     */
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -3,7 +3,7 @@ package com.rakit.electionsystem.exception;
 /**
  * Exception thrown when there's an issue with the voting process.
  */
-public class VotingException extends RuntimeException {
+public class VotingException extends BusinessException {
 
     public VotingException(String message) {
         super(message);
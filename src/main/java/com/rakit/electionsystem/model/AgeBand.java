@@ -0,0 +1,35 @@
+package com.rakit.electionsystem.model;
+
+/**
+ * Age bands used to break down turnout. Ages are taken at the election's start date.
+ */
+public enum AgeBand {
+    UNDER_18,
+    AGE_18_24,
+    AGE_25_34,
+    AGE_35_44,
+    AGE_45_54,
+    AGE_55_64,
+    AGE_65_PLUS,
+    /**
+     * The voter has no valid PESEL.
+     */
+    UNKNOWN;
+
+    /**
+     * @param age age in full years
+     * @return the band containing the age
+     */
+    public static AgeBand of(int age) {
+        if (age < 18) {
+            return UNDER_18;
+        }
+        if (age < 25) {
+            return AGE_18_24;
+        }
+        if (age >= 65) {
+            return AGE_65_PLUS;
+        }
+        return values()[(age - 25) / 10 + AGE_25_34.ordinal()];
+    }
+}
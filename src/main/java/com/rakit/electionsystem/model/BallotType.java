@@ -0,0 +1,19 @@
+package com.rakit.electionsystem.model;
+
+/**
+ * How voters fill in the ballot of an election.
+ */
+public enum BallotType {
+    /**
+     * One option per voter; the option with most votes wins.
+     */
+    SINGLE_CHOICE,
+    /**
+     * Options ranked in order of preference; counted by instant runoff.
+     */
+    RANKED,
+    /**
+     * Any number of options up to the election's max selections; every selected option gets a vote.
+     */
+    APPROVAL
+}
@@ -0,0 +1,42 @@
+package com.rakit.electionsystem.model;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Birth date and sex of a voter, as decoded from their PESEL.
+ *
+ * @param birthDate the birth date; null if unknown
+ * @param sex the sex
+ */
+public record Demographic(LocalDate birthDate, Sex sex) {
+
+    /**
+     * Demographic of voters without a valid PESEL.
+     */
+    public static final Demographic UNKNOWN = new Demographic(null, Sex.UNKNOWN);
+
+    /**
+     * Decodes a PESEL.
+     *
+     * @param pesel the PESEL; may be null
+     * @return the decoded demographic, or {@link #UNKNOWN} if the PESEL is missing or invalid
+     */
+    public static Demographic ofPesel(String pesel) {
+        if (!Pesel.isValid(pesel)) {
+            return UNKNOWN;
+        }
+        return new Demographic(Pesel.birthDate(pesel), Pesel.isFemale(pesel) ? Sex.FEMALE : Sex.MALE);
+    }
+
+    /**
+     * @param date the reference date
+     * @return the age band on that date; {@link AgeBand#UNKNOWN} if the birth date is unknown
+     */
+    public AgeBand ageBandOn(LocalDate date) {
+        if (birthDate == null) {
+            return AgeBand.UNKNOWN;
+        }
+        return AgeBand.of(Period.between(birthDate, date).getYears());
+    }
+}
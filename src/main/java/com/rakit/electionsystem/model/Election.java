@@ -21,6 +21,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -30,8 +32,10 @@ import java.util.Objects;
 /**
  * Entity representing an election in the system.
  * Contains election details, options, and tracks voting records.
+ * Elections and their option lists are held in the second-level cache.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "election")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,14 +69,37 @@ public class Election {
     @Builder.Default
     private ElectionStatus status = ElectionStatus.DRAFT;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ballot_type", nullable = false, length = 20)
+    @Builder.Default
+    private BallotType ballotType = BallotType.SINGLE_CHOICE;
+
+    /**
+     * Most options a voter may select on an approval ballot; no limit when null.
+     */
+    @Column(name = "max_selections")
+    private Integer maxSelections;
+
+    /**
+     * Whether each vote carries the voter's weight from the election's eligibility list
+     * (e.g. a share count) instead of counting once.
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean weighted = false;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
     @OneToMany(mappedBy = "election", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("displayOrder ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "election-options")
     @Builder.Default
     private List<ElectionOption> options = new ArrayList<>();
 
@@ -173,7 +200,16 @@ public class Election {
      * @return true if the election status is ACTIVE and current time is between start and end dates
      */
     public boolean isActive() {
-        LocalDateTime now = LocalDateTime.now();
+        return isActive(LocalDateTime.now());
+    }
+
+    /**
+     * Checks if the election is active at the given time.
+     *
+     * @param now the reference time
+     * @return true if the election status is ACTIVE and the given time is between start and end dates
+     */
+    public boolean isActive(LocalDateTime now) {
         return status == ElectionStatus.ACTIVE &&
                !now.isBefore(startDate) &&
                !now.isAfter(endDate);
@@ -188,6 +224,15 @@ public class Election {
         return status == ElectionStatus.CLOSED;
     }
 
+    /**
+     * Checks if the votes of this election have been moved to an archive file.
+     *
+     * @return true if the election has been archived
+     */
+    public boolean isArchived() {
+        return archivedAt != null;
+    }
+
     /**
      * Checks if the election is in draft status.
      *
@@ -20,6 +20,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -29,8 +31,10 @@ import java.util.Objects;
 /**
  * Entity representing an option in an election.
  * Voters can choose from these options when casting their votes.
+ * Options are held in the second-level cache.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "election-option")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,87 @@
+package com.rakit.electionsystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Entity holding the eligibility roll of an election: the IDs of every voter allowed to vote,
+ * serialized as a compressed bitmap (see {@code VoterRoll}). Elections without a roll are open
+ * to every voter. The row is rewritten in place when the roll changes.
+ */
+@Entity
+@Table(name = "election_roll")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ElectionRoll {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "election_id", nullable = false, unique = true)
+    @NotNull(message = "Election is required")
+    private Election election;
+
+    @Lob
+    @Column(name = "voters", nullable = false)
+    private byte[] voters;
+
+    @Column(name = "voter_count", nullable = false)
+    private long voterCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Lifecycle callback to set updatedAt before persisting or updating.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ElectionRoll that = (ElectionRoll) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ElectionRoll{" +
+                "id=" + id +
+                ", voterCount=" + voterCount +
+                '}';
+    }
+}
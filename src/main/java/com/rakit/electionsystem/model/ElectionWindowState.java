@@ -0,0 +1,19 @@
+package com.rakit.electionsystem.model;
+
+/**
+ * Position of an election's voting window relative to the current time.
+ */
+public enum ElectionWindowState {
+    /**
+     * Status is ACTIVE and the current time is between start and end dates.
+     */
+    ACTIVE,
+    /**
+     * Not closed and starting within the requested horizon.
+     */
+    UPCOMING,
+    /**
+     * End date has passed but the election has not been closed yet.
+     */
+    ENDED
+}
@@ -0,0 +1,75 @@
+package com.rakit.electionsystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Objects;
+
+/**
+ * Entity representing a voter's entry on the eligibility list of an election, with the weight
+ * their vote carries in a weighted election (for shareholder meetings, the share count).
+ * Like {@link VotingRecord}, it links a voter to an election but never to a vote.
+ */
+@Entity
+@Table(name = "eligible_voter",
+       uniqueConstraints = @UniqueConstraint(name = "uc_eligible_voter_election_voter",
+                                             columnNames = {"election_id", "voter_id"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EligibleVoter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "election_id", nullable = false)
+    @NotNull(message = "Election is required")
+    private Election election;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "voter_id", nullable = false)
+    @NotNull(message = "Voter is required")
+    private Voter voter;
+
+    @Column(nullable = false)
+    private long weight;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EligibleVoter that = (EligibleVoter) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "EligibleVoter{" +
+                "id=" + id +
+                ", weight=" + weight +
+                '}';
+    }
+}
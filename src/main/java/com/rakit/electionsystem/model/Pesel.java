@@ -0,0 +1,127 @@
+package com.rakit.electionsystem.model;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+/**
+ * Encoding and decoding of Polish PESEL numbers.
+ * Layout: YYMMDD birth date (the month carries a century offset), a four-digit serial whose
+ * last digit encodes sex (even for women, odd for men), and a check digit.
+ */
+public final class Pesel {
+
+    private static final int[] WEIGHTS = {1, 3, 7, 9, 1, 3, 7, 9, 1, 3};
+
+    private Pesel() {
+    }
+
+    /**
+     * Builds a valid PESEL.
+     *
+     * @param birthDate birth date between 1800 and 2299
+     * @param serial four-digit serial (0-9999); its last digit encodes sex
+     * @return the 11-digit PESEL
+     */
+    public static String encode(LocalDate birthDate, int serial) {
+        if (serial < 0 || serial > 9999) {
+            throw new IllegalArgumentException("Serial must have at most four digits");
+        }
+        int year = birthDate.getYear();
+        if (year < 1800 || year > 2299) {
+            throw new IllegalArgumentException("Birth year out of PESEL range: " + year);
+        }
+
+        int month = birthDate.getMonthValue() + centuryOffset(year);
+        char[] digits = new char[11];
+        putTwoDigits(digits, 0, year % 100);
+        putTwoDigits(digits, 2, month);
+        putTwoDigits(digits, 4, birthDate.getDayOfMonth());
+        putTwoDigits(digits, 6, serial / 100);
+        putTwoDigits(digits, 8, serial % 100);
+        digits[10] = (char) ('0' + checkDigit(digits));
+        return new String(digits);
+    }
+
+    /**
+     * Checks the format, check digit and encoded birth date of a PESEL.
+     *
+     * @param pesel the value to check
+     * @return true if the PESEL is valid
+     */
+    public static boolean isValid(String pesel) {
+        if (pesel == null || pesel.length() != 11) {
+            return false;
+        }
+        char[] digits = pesel.toCharArray();
+        for (char digit : digits) {
+            if (digit < '0' || digit > '9') {
+                return false;
+            }
+        }
+        if (digits[10] - '0' != checkDigit(digits)) {
+            return false;
+        }
+        try {
+            birthDate(pesel);
+            return true;
+        } catch (DateTimeException | IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Decodes the birth date.
+     *
+     * @param pesel a PESEL with a well-formed date part
+     * @return the birth date
+     */
+    public static LocalDate birthDate(String pesel) {
+        int year = twoDigits(pesel, 0);
+        int month = twoDigits(pesel, 2);
+        int day = twoDigits(pesel, 4);
+
+        int century = switch (month / 20) {
+            case 0 -> 1900;
+            case 1 -> 2000;
+            case 2 -> 2100;
+            case 3 -> 2200;
+            case 4 -> 1800;
+            default -> throw new IllegalArgumentException("Invalid PESEL month: " + month);
+        };
+        return LocalDate.of(century + year, month % 20, day);
+    }
+
+    /**
+     * Decodes sex from the tenth digit.
+     *
+     * @param pesel a PESEL
+     * @return true for women, false for men
+     */
+    public static boolean isFemale(String pesel) {
+        return (pesel.charAt(9) - '0') % 2 == 0;
+    }
+
+    private static int centuryOffset(int year) {
+        if (year < 1900) {
+            return 80;
+        }
+        return ((year - 1900) / 100) * 20;
+    }
+
+    private static int checkDigit(char[] digits) {
+        int sum = 0;
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            sum += (digits[i] - '0') * WEIGHTS[i];
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static void putTwoDigits(char[] digits, int offset, int value) {
+        digits[offset] = (char) ('0' + value / 10);
+        digits[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    private static int twoDigits(String pesel, int offset) {
+        return (pesel.charAt(offset) - '0') * 10 + (pesel.charAt(offset + 1) - '0');
+    }
+}
@@ -0,0 +1,16 @@
+package com.rakit.electionsystem.model;
+
+/**
+ * Rule that selects the voters on an election's eligibility roll.
+ */
+public enum RollRule {
+    /**
+     * Every active voter.
+     */
+    ACTIVE_VOTERS,
+    /**
+     * Active voters whose PESEL shows they reach the minimum age by the election's start date;
+     * voters without a valid PESEL are left out.
+     */
+    ADULTS
+}
@@ -0,0 +1,13 @@
+package com.rakit.electionsystem.model;
+
+/**
+ * Sex as encoded in a PESEL.
+ */
+public enum Sex {
+    FEMALE,
+    MALE,
+    /**
+     * The voter has no valid PESEL.
+     */
+    UNKNOWN
+}
@@ -0,0 +1,48 @@
+package com.rakit.electionsystem.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity recording which vote shard holds the votes of an election.
+ * Only used when vote storage is sharded.
+ */
+@Entity
+@Table(name = "shard_assignment")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ShardAssignment {
+
+    @Id
+    @Column(name = "election_id")
+    private Long electionId;
+
+    @Column(nullable = false)
+    private int shard;
+
+    @Column(name = "assigned_at", nullable = false)
+    private LocalDateTime assignedAt;
+
+    /**
+     * Lifecycle callback to set the assignment timestamp.
+     */
+    @PrePersist
+    @PreUpdate
+    protected void onAssign() {
+        assignedAt = LocalDateTime.now();
+    }
+}
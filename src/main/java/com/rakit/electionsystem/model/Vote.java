@@ -1,5 +1,6 @@
 package com.rakit.electionsystem.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -57,6 +58,22 @@ public class Vote {
     @NotNull(message = "Election option is required")
     private ElectionOption electionOption;
 
+    /**
+     * The full ranking of a ranked ballot, packed by {@code RankedBallot}, or the selection bitset of an
+     * approval ballot, packed by {@code ApprovalBallot}; null for single-choice ballots.
+     * The election option above is the first preference or the lowest selected option.
+     */
+    @Column(name = "ballot", length = 255)
+    private byte[] ballot;
+
+    /**
+     * How much this vote counts: the voter's weight in a weighted election, otherwise 1.
+     * Copied at cast time; the vote keeps no reference to the voter or the eligibility entry.
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private long weight = 1;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -11,14 +11,18 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -32,8 +36,12 @@ import java.util.Objects;
 /**
  * Entity representing a voter in the election system.
  * Implements Spring Security's UserDetails interface for authentication and authorization.
+ * Voters are resolved by email as a natural id, and the email to id resolution is cached. The
+ * voter rows themselves are deliberately kept out of the second-level cache, so password hashes
+ * never sit in a shared cache region.
  */
 @Entity
+@NaturalIdCache(region = "voter-by-email")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,6 +53,7 @@ public class Voter implements UserDetails {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false)
     @Email(message = "Email must be valid")
     @NotBlank(message = "Email is required")
@@ -89,6 +98,14 @@ public class Voter implements UserDetails {
     @Builder.Default
     private List<VotingRecord> votingRecords = new ArrayList<>();
 
+    /**
+     * Birth date and sex decoded from the PESEL on first use.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Demographic demographic;
+
     /**
      * Lifecycle callback to set createdAt and updatedAt timestamps before persisting.
      */
@@ -128,6 +145,31 @@ public class Voter implements UserDetails {
         votingRecord.setVoter(null);
     }
 
+    /**
+     * Sets the PESEL and drops the demographic decoded from the previous one.
+     *
+     * @param pesel the new PESEL
+     */
+    public void setPesel(String pesel) {
+        this.pesel = pesel;
+        this.demographic = null;
+    }
+
+    /**
+     * Returns the birth date and sex encoded in the voter's PESEL, decoding it only once per
+     * instance.
+     *
+     * @return the demographic; {@link Demographic#UNKNOWN} without a valid PESEL
+     */
+    public Demographic getDemographic() {
+        Demographic decoded = demographic;
+        if (decoded == null) {
+            decoded = Demographic.ofPesel(pesel);
+            demographic = decoded;
+        }
+        return decoded;
+    }
+
     /**
      * Returns the voter's full name.
      *
@@ -2,11 +2,15 @@ package com.rakit.electionsystem.repository;
 
 import com.rakit.electionsystem.model.Election;
 import com.rakit.electionsystem.model.ElectionStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -40,6 +44,15 @@ public interface ElectionRepository extends JpaRepository<Election, Long> {
      */
     List<Election> findAllByOrderByStartDateDesc();
 
+    /**
+     * Finds the elections shown to voters: past DRAFT and not archived, newest first.
+     *
+     * @param pageable the page to fetch
+     * @return page of elections
+     */
+    @Query("SELECT e FROM Election e WHERE e.status <> 'DRAFT' AND e.archivedAt IS NULL ORDER BY e.startDate DESC, e.id DESC")
+    Page<Election> findVisibleToVoters(Pageable pageable);
+
     /**
      * Finds elections that should be automatically closed (ended and still active).
      *
@@ -48,4 +61,46 @@ public interface ElectionRepository extends JpaRepository<Election, Long> {
      */
     @Query("SELECT e FROM Election e WHERE e.status = 'ACTIVE' AND e.endDate < ?1")
     List<Election> findElectionsToClose(LocalDateTime now);
+
+    /**
+     * Finds elections due to be activated (draft, started and not yet ended).
+     *
+     * @param ids candidate election IDs
+     * @param now current timestamp
+     * @return IDs of elections that should be activated
+     */
+    @Query("SELECT e.id FROM Election e WHERE e.id IN ?1 AND e.status = 'DRAFT' AND e.startDate <= ?2 AND e.endDate > ?2")
+    List<Long> findIdsToActivate(Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * Finds elections due to be closed (active and ended).
+     *
+     * @param ids candidate election IDs
+     * @param now current timestamp
+     * @return IDs of elections that should be closed
+     */
+    @Query("SELECT e.id FROM Election e WHERE e.id IN ?1 AND e.status = 'ACTIVE' AND e.endDate <= ?2")
+    List<Long> findIdsToClose(Collection<Long> ids, LocalDateTime now);
+
+    /**
+     * Changes the status of several elections in a single bulk update.
+     *
+     * @param ids election IDs
+     * @param from expected current status; rows in another status are left untouched
+     * @param to new status
+     * @param now update timestamp
+     * @return number of updated elections
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Election e SET e.status = ?3, e.updatedAt = ?4 WHERE e.id IN ?1 AND e.status = ?2")
+    int updateStatus(Collection<Long> ids, ElectionStatus from, ElectionStatus to, LocalDateTime now);
+
+    /**
+     * Finds closed elections that ended before the given time and still keep their votes in the database.
+     *
+     * @param endedBefore only elections that ended before this time
+     * @return IDs of elections to archive
+     */
+    @Query("SELECT e.id FROM Election e WHERE e.status = 'CLOSED' AND e.archivedAt IS NULL AND e.endDate < ?1")
+    List<Long> findIdsToArchive(LocalDateTime endedBefore);
 }
@@ -0,0 +1,23 @@
+package com.rakit.electionsystem.repository;
+
+import com.rakit.electionsystem.model.ElectionRoll;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for ElectionRoll entity.
+ * Provides database operations for per-election eligibility rolls.
+ */
+@Repository
+public interface ElectionRollRepository extends JpaRepository<ElectionRoll, Long> {
+
+    /**
+     * Finds the roll of an election.
+     *
+     * @param electionId the election ID
+     * @return the roll, or empty if the election is open to every voter
+     */
+    Optional<ElectionRoll> findByElectionId(Long electionId);
+}
@@ -0,0 +1,68 @@
+package com.rakit.electionsystem.repository;
+
+import com.rakit.electionsystem.model.EligibleVoter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for EligibleVoter entity.
+ * Provides database operations for per-election eligibility lists and voter weights.
+ */
+@Repository
+public interface EligibleVoterRepository extends JpaRepository<EligibleVoter, Long> {
+
+    /**
+     * Finds the weight of a voter in an election.
+     *
+     * @param electionId the election ID
+     * @param voterId the voter ID
+     * @return the weight, or empty if the voter is not on the election's eligibility list
+     */
+    @Query("SELECT e.weight FROM EligibleVoter e WHERE e.election.id = ?1 AND e.voter.id = ?2")
+    Optional<Long> findWeight(Long electionId, Long voterId);
+
+    /**
+     * Finds which of the given elections list a voter on their eligibility list.
+     *
+     * @param voterId the voter ID
+     * @param electionIds the election IDs
+     * @return IDs of the elections listing the voter
+     */
+    @Query("SELECT e.election.id FROM EligibleVoter e WHERE e.voter.id = ?1 AND e.election.id IN ?2")
+    List<Long> findElectionIdsListing(Long voterId, Collection<Long> electionIds);
+
+    /**
+     * Streams the IDs of the voters on an election's eligibility list.
+     * Must be consumed inside a transaction.
+     *
+     * @param electionId the election ID
+     * @return stream of voter IDs
+     */
+    @Query("SELECT e.voter.id FROM EligibleVoter e WHERE e.election.id = ?1")
+    Stream<Long> streamVoterIdsByElectionId(Long electionId);
+
+    /**
+     * Counts the voters on an election's eligibility list.
+     *
+     * @param electionId the election ID
+     * @return number of eligible voters
+     */
+    long countByElectionId(Long electionId);
+
+    /**
+     * Deletes the eligibility list of an election in a single statement.
+     *
+     * @param electionId the election ID
+     * @return number of deleted entries
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM EligibleVoter e WHERE e.election.id = ?1")
+    int deleteByElectionId(Long electionId);
+}
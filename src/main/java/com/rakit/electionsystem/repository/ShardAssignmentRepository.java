@@ -0,0 +1,12 @@
+package com.rakit.electionsystem.repository;
+
+import com.rakit.electionsystem.model.ShardAssignment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for ShardAssignment entity.
+ */
+@Repository
+public interface ShardAssignmentRepository extends JpaRepository<ShardAssignment, Long> {
+}
@@ -2,11 +2,13 @@ package com.rakit.electionsystem.repository;
 
 import com.rakit.electionsystem.model.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Vote entity.
@@ -49,4 +51,55 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     @Query("SELECT v.electionOption.id as optionId, COUNT(v) as voteCount " +
            "FROM Vote v WHERE v.election.id = ?1 GROUP BY v.electionOption.id")
     List<Map<String, Object>> countVotesByElectionOption(Long electionId);
+
+    /**
+     * Sums vote weights grouped by election option for a specific election.
+     * The sum is taken as DECIMAL(38, 0) so it cannot overflow, even with 64-bit weights.
+     *
+     * @param electionId the election ID
+     * @return rows of election option ID and total weight
+     */
+    @Query(value = "SELECT election_option_id, CAST(SUM(weight) AS DECIMAL(38, 0)) FROM vote " +
+                   "WHERE election_id = ?1 GROUP BY election_option_id", nativeQuery = true)
+    List<Object[]> sumWeightsByElectionOption(Long electionId);
+
+    /**
+     * Streams the chosen option and weight of every vote in an election, in insertion order.
+     * Must be consumed inside a transaction.
+     *
+     * @param electionId the election ID
+     * @return stream of [election option ID, weight] rows
+     */
+    @Query("SELECT v.electionOption.id, v.weight FROM Vote v WHERE v.election.id = ?1 ORDER BY v.id")
+    Stream<Object[]> streamWeightedVotesByElectionId(Long electionId);
+
+    /**
+     * Streams the chosen option of every vote in an election, in insertion order.
+     * Must be consumed inside a transaction.
+     *
+     * @param electionId the election ID
+     * @return stream of election option IDs
+     */
+    @Query("SELECT v.electionOption.id FROM Vote v WHERE v.election.id = ?1 ORDER BY v.id")
+    Stream<Long> streamOptionIdsByElectionId(Long electionId);
+
+    /**
+     * Streams the packed rankings of the ranked ballots in an election, in insertion order.
+     * Must be consumed inside a transaction.
+     *
+     * @param electionId the election ID
+     * @return stream of packed ballots
+     */
+    @Query("SELECT v.ballot FROM Vote v WHERE v.election.id = ?1 AND v.ballot IS NOT NULL ORDER BY v.id")
+    Stream<byte[]> streamBallotsByElectionId(Long electionId);
+
+    /**
+     * Deletes all votes of an election in a single statement.
+     *
+     * @param electionId the election ID
+     * @return number of deleted votes
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Vote v WHERE v.election.id = ?1")
+    int deleteByElectionId(Long electionId);
 }
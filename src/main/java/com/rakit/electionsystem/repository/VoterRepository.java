@@ -1,25 +1,23 @@
 package com.rakit.electionsystem.repository;
 
 import com.rakit.electionsystem.model.Voter;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Voter entity.
  * Provides database operations for voter management.
+ * Lookups by email are resolved through the natural-id cache, see {@link VoterRepositoryCustom}.
  */
 @Repository
-public interface VoterRepository extends JpaRepository<Voter, Long> {
-
-    /**
-     * Finds a voter by email address.
-     *
-     * @param email the email address to search for
-     * @return Optional containing the voter if found
-     */
-    Optional<Voter> findByEmail(String email);
+public interface VoterRepository extends JpaRepository<Voter, Long>, VoterRepositoryCustom {
 
     /**
      * Finds a voter by PESEL number.
@@ -44,4 +42,63 @@ public interface VoterRepository extends JpaRepository<Voter, Long> {
      * @return true if a voter with this PESEL exists
      */
     boolean existsByPesel(String pesel);
+
+    /**
+     * Streams the ID and PESEL of every active voter, in ID order, for building eligibility rolls.
+     * Must be consumed inside a transaction.
+     *
+     * @return stream of [voter ID, PESEL] rows; the PESEL may be null
+     */
+    @Query("SELECT v.id, v.pesel FROM Voter v WHERE v.active = true ORDER BY v.id")
+    Stream<Object[]> streamActiveVoterPesels();
+
+    /**
+     * Streams the ID and PESEL of every voter in an ID range, in ID order.
+     * Must be consumed inside a transaction.
+     *
+     * @param fromId lowest voter ID, inclusive
+     * @param toId highest voter ID, inclusive
+     * @return stream of [voter ID, PESEL] rows; the PESEL may be null
+     */
+    @Query("SELECT v.id, v.pesel FROM Voter v WHERE v.id BETWEEN ?1 AND ?2 ORDER BY v.id")
+    Stream<Object[]> streamVoterPeselsBetween(Long fromId, Long toId);
+
+    /**
+     * Finds active voters with no voting record in an election, after a voter ID, in ID order.
+     * The NOT EXISTS probe is answered by the unique (election_id, voter_id) index on voting_record.
+     *
+     * @param electionId the election ID
+     * @param afterId exclusive lower bound on the voter ID
+     * @param limit maximum number of voters
+     * @return [voter ID, email, first name, last name] rows
+     */
+    @Query("SELECT v.id, v.email, v.firstName, v.lastName FROM Voter v WHERE v.active = true AND v.id > ?2 "
+            + "AND NOT EXISTS (SELECT 1 FROM VotingRecord r WHERE r.election.id = ?1 AND r.voter.id = v.id) "
+            + "ORDER BY v.id")
+    List<Object[]> findNonVoterContacts(Long electionId, Long afterId, Limit limit);
+
+    /**
+     * Finds active voters on an election's eligibility list with no voting record in it,
+     * after a voter ID, in ID order. Both probes are answered by unique (election_id, voter_id) indexes.
+     *
+     * @param electionId the election ID
+     * @param afterId exclusive lower bound on the voter ID
+     * @param limit maximum number of voters
+     * @return [voter ID, email, first name, last name] rows
+     */
+    @Query("SELECT v.id, v.email, v.firstName, v.lastName FROM Voter v WHERE v.active = true AND v.id > ?2 "
+            + "AND EXISTS (SELECT 1 FROM EligibleVoter e WHERE e.election.id = ?1 AND e.voter.id = v.id) "
+            + "AND NOT EXISTS (SELECT 1 FROM VotingRecord r WHERE r.election.id = ?1 AND r.voter.id = v.id) "
+            + "ORDER BY v.id")
+    List<Object[]> findListedNonVoterContacts(Long electionId, Long afterId, Limit limit);
+
+    /**
+     * Finds the contact details of active voters by ID.
+     *
+     * @param ids voter IDs
+     * @return [voter ID, email, first name, last name] rows, in ID order
+     */
+    @Query("SELECT v.id, v.email, v.firstName, v.lastName FROM Voter v WHERE v.active = true AND v.id IN ?1 "
+            + "ORDER BY v.id")
+    List<Object[]> findActiveContactsByIdIn(Collection<Long> ids);
 }
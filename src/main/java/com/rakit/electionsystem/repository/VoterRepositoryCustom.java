@@ -0,0 +1,21 @@
+package com.rakit.electionsystem.repository;
+
+import com.rakit.electionsystem.model.Voter;
+
+import java.util.Optional;
+
+/**
+ * Custom Voter lookups that are not expressible as derived queries.
+ */
+public interface VoterRepositoryCustom {
+
+    /**
+     * Finds a voter by email address, the voter's natural id.
+     * The email resolves to the voter's id through the natural-id cache; the voter row itself is
+     * then loaded by primary key, as voters are not second-level cached.
+     *
+     * @param email the email address to search for
+     * @return Optional containing the voter if found
+     */
+    Optional<Voter> findByEmail(String email);
+}
@@ -0,0 +1,24 @@
+package com.rakit.electionsystem.repository;
+
+import com.rakit.electionsystem.model.Voter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Implementation of {@link VoterRepositoryCustom}.
+ */
+class VoterRepositoryCustomImpl implements VoterRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Voter> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(Voter.class)
+                .loadOptional(email);
+    }
+}
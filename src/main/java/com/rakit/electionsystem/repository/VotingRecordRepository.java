@@ -2,10 +2,13 @@ package com.rakit.electionsystem.repository;
 
 import com.rakit.electionsystem.model.VotingRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for VotingRecord entity.
@@ -55,4 +58,33 @@ public interface VotingRecordRepository extends JpaRepository<VotingRecord, Long
      * @return number of unique voters
      */
     long countByElectionId(Long electionId);
+
+    /**
+     * Streams the voter ID and voting time of every voting record in an election, ordered by voter.
+     * Must be consumed inside a transaction.
+     *
+     * @param electionId the election ID
+     * @return stream of [voterId, votedAt] pairs
+     */
+    @Query("SELECT r.voter.id, r.votedAt FROM VotingRecord r WHERE r.election.id = ?1 ORDER BY r.voter.id")
+    Stream<Object[]> streamVoterIdsByElectionId(Long electionId);
+
+    /**
+     * Finds the election ID and voting time of every voting record of a voter.
+     *
+     * @param voterId the voter ID
+     * @return list of [electionId, votedAt] pairs
+     */
+    @Query("SELECT r.election.id, r.votedAt FROM VotingRecord r WHERE r.voter.id = ?1")
+    List<Object[]> findVotedAtByVoterId(Long voterId);
+
+    /**
+     * Deletes all voting records of an election in a single statement.
+     *
+     * @param electionId the election ID
+     * @return number of deleted voting records
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM VotingRecord r WHERE r.election.id = ?1")
+    int deleteByElectionId(Long electionId);
 }
@@ -0,0 +1,55 @@
+package com.rakit.electionsystem.security;
+
+import com.rakit.electionsystem.exception.InvalidTokenException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StringUtils;
+
+/**
+ * The bearer token of a request, verified at most once per request.
+ * The rate limit filter and the authentication filter both need the token's subject; whichever
+ * asks first verifies the signature, and the subject or the rejection is kept as a request attribute.
+ */
+final class BearerToken {
+
+    private static final String ATTRIBUTE = BearerToken.class.getName();
+
+    private BearerToken() {
+    }
+
+    /**
+     * Gets the verified subject of the request's bearer token.
+     *
+     * @param request the HTTP request
+     * @param jwtTokenProvider verifies the token on first use
+     * @return the subject, or null if the request carries no bearer token
+     * @throws InvalidTokenException if the token is invalid
+     */
+    static String subjectOf(HttpServletRequest request, JwtTokenProvider jwtTokenProvider) {
+        Object verified = request.getAttribute(ATTRIBUTE);
+        if (verified == null) {
+            String jwt = getJwtFromRequest(request);
+            if (jwt == null) {
+                return null;
+            }
+            try {
+                verified = jwtTokenProvider.getVerifiedSubject(jwt);
+            } catch (InvalidTokenException ex) {
+                verified = ex;
+            }
+            request.setAttribute(ATTRIBUTE, verified);
+        }
+        if (verified instanceof InvalidTokenException ex) {
+            throw ex;
+        }
+        return (String) verified;
+    }
+
+    private static String getJwtFromRequest(HttpServletRequest request) {
+        String bearerToken = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,139 @@
+package com.rakit.electionsystem.security;
+
+import com.rakit.electionsystem.config.BulkheadProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-class request bulkheads.
+ * Each traffic class has a fixed number of slots and a bounded wait queue, so a burst in one
+ * class cannot take threads or connections from another. Under overload, less important classes
+ * are shed first: a request is rejected outright while any more important class has requests queued.
+ */
+@Component
+public class Bulkhead {
+
+    private final Map<TrafficClass, Compartment> compartments = new EnumMap<>(TrafficClass.class);
+
+    public Bulkhead(BulkheadProperties properties, MeterRegistry meterRegistry) {
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            compartments.put(trafficClass, new Compartment(trafficClass, properties.get(trafficClass), meterRegistry));
+        }
+    }
+
+    /**
+     * Admits a request of the given class, waiting up to the class's queue timeout for a slot.
+     *
+     * @param trafficClass the request's class
+     * @return a permit to close when the request completes, or null if the request was rejected
+     */
+    public Permit tryEnter(TrafficClass trafficClass) {
+        Compartment compartment = compartments.get(trafficClass);
+        if (isShed(compartment)) {
+            compartment.shed.increment();
+            return null;
+        }
+        // An untimed tryAcquire barges even on a fair semaphore, so only take it with nobody queued
+        if (!compartment.slots.hasQueuedThreads() && compartment.slots.tryAcquire()) {
+            return new Permit(compartment);
+        }
+        if (compartment.waiting.incrementAndGet() > compartment.settings.getMaxQueue()) {
+            compartment.waiting.decrementAndGet();
+            compartment.queueFull.increment();
+            return null;
+        }
+        try {
+            if (compartment.slots.tryAcquire(compartment.settings.getQueueTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return new Permit(compartment);
+            }
+            compartment.timedOut.increment();
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            compartment.timedOut.increment();
+            return null;
+        } finally {
+            compartment.waiting.decrementAndGet();
+        }
+    }
+
+    /**
+     * @param trafficClass the traffic class
+     * @return requests of the class currently waiting for a slot
+     */
+    public int getWaiting(TrafficClass trafficClass) {
+        return compartments.get(trafficClass).waiting.get();
+    }
+
+    private boolean isShed(Compartment compartment) {
+        int priority = compartment.settings.getPriority();
+        for (Compartment other : compartments.values()) {
+            if (other.settings.getPriority() < priority && other.waiting.get() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A slot held by an admitted request. Closing it more than once has no effect.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        private final Compartment compartment;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Compartment compartment) {
+            this.compartment = compartment;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                compartment.slots.release();
+            }
+        }
+    }
+
+    private static final class Compartment {
+
+        private final BulkheadProperties.Compartment settings;
+        private final Semaphore slots;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Counter shed;
+        private final Counter queueFull;
+        private final Counter timedOut;
+
+        private Compartment(TrafficClass trafficClass, BulkheadProperties.Compartment settings, MeterRegistry meterRegistry) {
+            this.settings = settings;
+            this.slots = new Semaphore(settings.getMaxConcurrent(), true);
+
+            String tag = trafficClass.name().toLowerCase();
+            this.shed = rejected(meterRegistry, tag, "shed");
+            this.queueFull = rejected(meterRegistry, tag, "queue-full");
+            this.timedOut = rejected(meterRegistry, tag, "timeout");
+            Gauge.builder("election.bulkhead.active", slots, s -> settings.getMaxConcurrent() - s.availablePermits())
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("election.bulkhead.waiting", waiting, AtomicInteger::get)
+                    .tag("class", tag)
+                    .register(meterRegistry);
+        }
+
+        private static Counter rejected(MeterRegistry meterRegistry, String trafficClass, String reason) {
+            return Counter.builder("election.bulkhead.rejected")
+                    .tag("class", trafficClass)
+                    .tag("reason", reason)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.rakit.electionsystem.security;
+
+import com.rakit.electionsystem.config.BulkheadProperties;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filter that admits API requests through the bulkhead of their traffic class.
+ * Runs after rate limiting and before {@link JwtAuthenticationFilter}, so the user lookup of
+ * authentication already counts against the class and uses its connection pool partition.
+ * Rejected requests get 503 with a Retry-After header.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final Bulkhead bulkhead;
+    private final BulkheadProperties properties;
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        TrafficClass trafficClass = properties.isEnabled() ? TrafficClass.classify(request.getMethod(), path) : null;
+        if (trafficClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Bulkhead.Permit permit = bulkhead.tryEnter(trafficClass);
+        if (permit == null) {
+            long retryAfterSeconds = Math.max(1, properties.get(trafficClass).getRetryAfter().toSeconds());
+            log.debug("Bulkhead rejected {} request to {}", trafficClass, path);
+            ErrorResponseWriter.write(request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Service is overloaded, retry in " + retryAfterSeconds + " s", retryAfterSeconds);
+            return;
+        }
+
+        try (permit) {
+            TrafficClassHolder.set(trafficClass);
+            filterChain.doFilter(request, response);
+        } finally {
+            TrafficClassHolder.clear();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.rakit.electionsystem.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Writes ErrorResponse-shaped JSON from servlet filters, which run before Spring MVC
+ * and its exception handlers.
+ */
+final class ErrorResponseWriter {
+
+    private ErrorResponseWriter() {
+    }
+
+    /**
+     * Writes an error response with a Retry-After header.
+     *
+     * @param request the HTTP request
+     * @param response the HTTP response
+     * @param status the response status
+     * @param message the error message
+     * @param retryAfterSeconds value of the Retry-After header
+     * @throws IOException if the body cannot be written
+     */
+    static void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                      String message, long retryAfterSeconds) throws IOException {
+        String body = "{\"timestamp\":\"" + LocalDateTime.now() + "\"" +
+                ",\"status\":" + status.value() +
+                ",\"error\":\"" + status.getReasonPhrase() + "\"" +
+                ",\"message\":\"" + escapeJson(message) + "\"" +
+                ",\"path\":\"" + escapeJson(request.getRequestURI()) + "\"}";
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(body);
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -1,35 +1,46 @@
 package com.rakit.electionsystem.security;
 
 import com.rakit.electionsystem.exception.InvalidTokenException;
+import com.rakit.electionsystem.exception.LogSampler;
 import jakarta.annotation.Nonnull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Duration;
 
 /**
  * Filter that intercepts requests to extract and validate JWT tokens.
  * If valid, sets the authentication in the security context.
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final LogSampler rejectedTokenLog;
+
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            UserDetailsService userDetailsService,
+            @Value("${errors.log-sample-interval:1s}") Duration logSampleInterval
+    ) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.rejectedTokenLog = new LogSampler(logSampleInterval);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -38,12 +49,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @Nonnull FilterChain filterChain
     ) throws ServletException, IOException {
         try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt)) {
-                jwtTokenProvider.validateToken(jwt);
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+            // Usually verified already by the rate limit filter
+            String username = BearerToken.subjectOf(request, jwtTokenProvider);
 
+            if (username != null) {
                 UserDetails userDetails = userDetailsService.loadUserByUsername(username);
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
@@ -57,23 +66,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 log.debug("Set authentication for user: {}", username);
             }
         } catch (InvalidTokenException ex) {
-            log.error("Could not set user authentication: {}", ex.getMessage());
+            long suppressed = rejectedTokenLog.sample();
+            if (suppressed >= 0) {
+                log.warn("Could not set user authentication: {} ({} similar suppressed)", ex.getMessage(), suppressed);
+            }
         }
 
         filterChain.doFilter(request, response);
     }
-
-    /**
-     * Extracts JWT token from the Authorization header.
-     *
-     * @param request the HTTP request
-     * @return JWT token string or null if not found
-     */
-    private String getJwtFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
 }
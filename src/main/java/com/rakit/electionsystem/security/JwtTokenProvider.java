@@ -8,6 +8,9 @@ import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -20,11 +23,15 @@ import java.util.Date;
 
 /**
  * Service for generating and validating JWT tokens.
+ * Signing and verification are timed under {@code election.jwt}.
  */
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -52,12 +59,13 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
-        return Jwts.builder()
-                .subject(username)
-                .issuedAt(now)
-                .expiration(expiryDate)
-                .signWith(getSigningKey())
-                .compact();
+        return meterRegistry.timer("election.jwt", "operation", "generate", "outcome", "success").record(() ->
+                Jwts.builder()
+                        .subject(username)
+                        .issuedAt(now)
+                        .expiration(expiryDate)
+                        .signWith(getSigningKey())
+                        .compact());
     }
 
     /**
@@ -67,13 +75,19 @@ public class JwtTokenProvider {
      * @return username (email)
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getSubject();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            outcome = "valid";
+            return claims.getSubject();
+        } finally {
+            sample.stop(meterRegistry.timer("election.jwt", "operation", "parse", "outcome", outcome));
+        }
     }
 
     /**
@@ -84,27 +98,49 @@ public class JwtTokenProvider {
      * @throws InvalidTokenException if the token is invalid
      */
     public boolean validateToken(String token) {
+        verify(token);
+        return true;
+    }
+
+    /**
+     * Validates a JWT token and extracts its subject, verifying the signature once.
+     *
+     * @param token the JWT token
+     * @return username (email)
+     * @throws InvalidTokenException if the token is invalid
+     */
+    public String getVerifiedSubject(String token) {
+        return verify(token).getSubject();
+    }
+
+    private Claims verify(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
         try {
-            Jwts.parser()
+            Claims claims = Jwts.parser()
                     .verifyWith(getSigningKey())
                     .build()
-                    .parseSignedClaims(token);
-            return true;
+                    .parseSignedClaims(token)
+                    .getPayload();
+            outcome = "valid";
+            return claims;
         } catch (SignatureException ex) {
-            log.error("Invalid JWT signature: {}", ex.getMessage());
+            log.debug("Invalid JWT signature: {}", ex.getMessage());
             throw new InvalidTokenException("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
-            log.error("Invalid JWT token: {}", ex.getMessage());
+            log.debug("Invalid JWT token: {}", ex.getMessage());
             throw new InvalidTokenException("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
-            log.error("Expired JWT token: {}", ex.getMessage());
+            log.debug("Expired JWT token: {}", ex.getMessage());
             throw new InvalidTokenException("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
-            log.error("Unsupported JWT token: {}", ex.getMessage());
+            log.debug("Unsupported JWT token: {}", ex.getMessage());
             throw new InvalidTokenException("Unsupported JWT token");
         } catch (IllegalArgumentException ex) {
-            log.error("JWT claims string is empty: {}", ex.getMessage());
+            log.debug("JWT claims string is empty: {}", ex.getMessage());
             throw new InvalidTokenException("JWT claims string is empty");
+        } finally {
+            sample.stop(meterRegistry.timer("election.jwt", "operation", "verify", "outcome", outcome));
         }
     }
 
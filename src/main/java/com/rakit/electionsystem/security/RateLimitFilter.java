@@ -0,0 +1,124 @@
+package com.rakit.electionsystem.security;
+
+import com.rakit.electionsystem.config.RateLimitProperties;
+import com.rakit.electionsystem.exception.InvalidTokenException;
+import jakarta.annotation.Nonnull;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter that applies token bucket rate limits before authentication.
+ * Runs ahead of {@link JwtAuthenticationFilter}, so rejected requests never reach
+ * the database or the password encoder.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Override
+    protected void doFilterInternal(
+            @Nonnull HttpServletRequest request,
+            @Nonnull HttpServletResponse response,
+            @Nonnull FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (properties.isEnabled()) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            String subject = null;
+            List<RateLimitProperties.Policy> matched = new ArrayList<>(2);
+            List<String> clientKeys = new ArrayList<>(2);
+
+            for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+                if (!matches(policy, request.getMethod(), path)) {
+                    continue;
+                }
+
+                String clientKey;
+                if (policy.getKey() == RateLimitProperties.KeyType.SUBJECT) {
+                    if (subject == null) {
+                        subject = getSubject(request);
+                    }
+                    clientKey = subject;
+                } else {
+                    clientKey = getClientIp(request);
+                }
+                matched.add(policy);
+                clientKeys.add(clientKey);
+            }
+
+            if (!matched.isEmpty()) {
+                long waitNanos = rateLimiter.tryAcquire(matched, clientKeys);
+                if (waitNanos > 0) {
+                    log.debug("Rate limit exceeded on {} for {}", path, clientKeys);
+                    reject(request, response, waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Policy policy, String method, String path) {
+        if (policy.getMethod() != null && !policy.getMethod().equalsIgnoreCase(method)) {
+            return false;
+        }
+        return pathMatcher.match(policy.getPath(), path);
+    }
+
+    /**
+     * Resolves the bucket key for subject-keyed policies.
+     * Only the token signature is checked here; no user lookup is performed. The verified
+     * subject is kept on the request, so the authentication filter does not verify it again.
+     *
+     * @param request the HTTP request
+     * @return "sub:" followed by the JWT subject, or "ip:" followed by the client IP
+     */
+    private String getSubject(HttpServletRequest request) {
+        try {
+            String subject = BearerToken.subjectOf(request, jwtTokenProvider);
+            if (subject != null) {
+                return "sub:" + subject;
+            }
+        } catch (InvalidTokenException ex) {
+            log.debug("Rate limiting by IP, token rejected: {}", ex.getMessage());
+        }
+        return "ip:" + getClientIp(request);
+    }
+
+    private String getClientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (StringUtils.hasText(forwardedFor)) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        ErrorResponseWriter.write(request, response, HttpStatus.TOO_MANY_REQUESTS,
+                "Too many requests, retry in " + retryAfterSeconds + " s", retryAfterSeconds);
+    }
+}
@@ -0,0 +1,117 @@
+package com.rakit.electionsystem.security;
+
+import com.rakit.electionsystem.config.RateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps one token bucket per policy and client key.
+ * Buckets live in a bounded concurrent map; idle buckets are evicted by a scheduled task, never
+ * on the request thread. While the map is full, clients without a bucket are spread by key
+ * hash over a fixed set of overflow buckets per policy, so one noisy client cannot exhaust
+ * a bucket shared by every other newcomer.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimiter {
+
+    private static final int OVERFLOW_STRIPES = 1024;
+
+    private final RateLimitProperties properties;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TokenBucket[]> overflow = new ConcurrentHashMap<>();
+
+    /**
+     * Tries to take a token for the given client under the given policy.
+     *
+     * @param policy the matching policy
+     * @param clientKey the client IP or JWT subject
+     * @return 0 if the request is allowed, otherwise nanoseconds until it would be
+     */
+    public long tryAcquire(RateLimitProperties.Policy policy, String clientKey) {
+        return tryAcquire(List.of(policy), List.of(clientKey));
+    }
+
+    /**
+     * Tries to take a token under every matching policy. All buckets are checked before any
+     * is consumed, so a request rejected by one policy does not use up the others.
+     *
+     * @param policies the matching policies
+     * @param clientKeys the client key of each policy
+     * @return 0 if the request is allowed, otherwise nanoseconds until it would be
+     */
+    public long tryAcquire(List<RateLimitProperties.Policy> policies, List<String> clientKeys) {
+        long now = System.nanoTime();
+        TokenBucket[] matched = new TokenBucket[policies.size()];
+        long waitNanos = 0;
+        for (int i = 0; i < matched.length; i++) {
+            matched[i] = bucketFor(policies.get(i), clientKeys.get(i));
+            waitNanos = Math.max(waitNanos, matched[i].waitNanos(now));
+        }
+        if (waitNanos > 0) {
+            return waitNanos;
+        }
+        for (TokenBucket bucket : matched) {
+            // Only fails when a concurrent request took the last token since the check
+            waitNanos = bucket.tryConsume(now);
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+        }
+        return 0;
+    }
+
+    private TokenBucket bucketFor(RateLimitProperties.Policy policy, String clientKey) {
+        String key = policy.getName() + ':' + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() < properties.getMaxBuckets()) {
+            return buckets.computeIfAbsent(key, k -> newBucket(policy));
+        }
+        TokenBucket[] stripes = overflow.computeIfAbsent(policy.getName(), name -> {
+            TokenBucket[] created = new TokenBucket[OVERFLOW_STRIPES];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = newBucket(policy);
+            }
+            return created;
+        });
+        return stripes[Math.floorMod(clientKey.hashCode(), OVERFLOW_STRIPES)];
+    }
+
+    private static TokenBucket newBucket(RateLimitProperties.Policy policy) {
+        return new TokenBucket(policy.getCapacity(), policy.getPeriod().toNanos());
+    }
+
+    /**
+     * Removes buckets that have been full for longer than the configured idle timeout.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+    }
+
+    /**
+     * Gets the number of buckets currently held, not counting overflow buckets.
+     *
+     * @return bucket count
+     */
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,73 @@
+package com.rakit.electionsystem.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket.
+ * Implemented as a generic cell rate algorithm: the whole bucket state is a single
+ * "theoretical arrival time" updated with compare-and-set, so no locks are taken.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Creates a bucket that holds up to {@code capacity} tokens and refills completely
+     * within {@code periodNanos}.
+     *
+     * @param capacity maximum burst size
+     * @param periodNanos time to refill an empty bucket
+     */
+    public TokenBucket(long capacity, long periodNanos) {
+        if (capacity <= 0 || periodNanos <= 0) {
+            throw new IllegalArgumentException("Capacity and period must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1, periodNanos / capacity);
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @param nowNanos current time from {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise nanoseconds until the next token is available
+     */
+    public long tryConsume(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long newTat = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long allowAt = newTat - burstToleranceNanos;
+            if (allowAt > nowNanos) {
+                return allowAt - nowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gets how long until a token would be available, without taking it.
+     *
+     * @param nowNanos current time from {@link System#nanoTime()}
+     * @return 0 if a token is available now, otherwise nanoseconds until the next one is
+     */
+    public long waitNanos(long nowNanos) {
+        long allowAt = Math.max(theoreticalArrival.get(), nowNanos) + emissionIntervalNanos - burstToleranceNanos;
+        return Math.max(0, allowAt - nowNanos);
+    }
+
+    /**
+     * Checks whether the bucket has been full for at least the given time.
+     * An idle bucket behaves exactly like a new one, so it can be dropped safely.
+     *
+     * @param nowNanos current time from {@link System#nanoTime()}
+     * @param idleNanos idle threshold
+     * @return true if the bucket can be evicted
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return theoreticalArrival.get() < nowNanos - idleNanos;
+    }
+}
@@ -0,0 +1,38 @@
+package com.rakit.electionsystem.security;
+
+/**
+ * Endpoint classes that get their own bulkhead and connection pool partition.
+ */
+public enum TrafficClass {
+    VOTING,
+    AUTH,
+    PUBLIC_READ,
+    ADMIN;
+
+    /**
+     * Classifies a request.
+     *
+     * @param method HTTP method
+     * @param path request path without the context path
+     * @return the traffic class, or null for requests outside the API (actuator, docs, console)
+     */
+    public static TrafficClass classify(String method, String path) {
+        if (path.startsWith("/api/votes")) {
+            // A voter's own history is a read and must not take slots or connections from casting
+            return "GET".equalsIgnoreCase(method) && path.startsWith("/api/votes/me/") ? PUBLIC_READ : VOTING;
+        }
+        if (path.startsWith("/api/auth")) {
+            return AUTH;
+        }
+        if (path.startsWith("/api/admin")) {
+            return ADMIN;
+        }
+        if (path.startsWith("/api/elections")) {
+            return "GET".equalsIgnoreCase(method) ? PUBLIC_READ : ADMIN;
+        }
+        if (path.startsWith("/api/results")) {
+            return PUBLIC_READ;
+        }
+        return null;
+    }
+}
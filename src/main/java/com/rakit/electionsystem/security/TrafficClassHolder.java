@@ -0,0 +1,28 @@
+package com.rakit.electionsystem.security;
+
+/**
+ * Holds the traffic class of the request being handled on the current thread,
+ * so the data source can route it to its connection pool partition.
+ */
+public final class TrafficClassHolder {
+
+    private static final ThreadLocal<TrafficClass> CURRENT = new ThreadLocal<>();
+
+    private TrafficClassHolder() {
+    }
+
+    /**
+     * @return the current traffic class, or null outside classified requests
+     */
+    public static TrafficClass get() {
+        return CURRENT.get();
+    }
+
+    public static void set(TrafficClass trafficClass) {
+        CURRENT.set(trafficClass);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,76 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.InvalidRequestException;
+
+import java.util.List;
+
+/**
+ * Packed form of an approval ballot: a bitset over the election's options in
+ * {@link RankedBallot#optionIds index order}, bit {@code i} set when option {@code i} is
+ * selected. Bits are stored little-endian, eight options per byte, so the ballot column holds
+ * up to 2040 options.
+ */
+public final class ApprovalBallot {
+
+    /**
+     * Largest number of options an approval election may have.
+     */
+    public static final int MAX_OPTIONS = 255 * Byte.SIZE;
+
+    private ApprovalBallot() {
+    }
+
+    /**
+     * Packs a selection.
+     *
+     * @param selectedOptionIds the selected option IDs, in any order
+     * @param optionIds the election's option IDs in index order
+     * @param maxSelections most options that may be selected, or null for no limit
+     * @return the packed ballot
+     */
+    public static byte[] encode(List<Long> selectedOptionIds, List<Long> optionIds, Integer maxSelections) {
+        if (selectedOptionIds == null || selectedOptionIds.isEmpty()) {
+            throw new InvalidRequestException("An approval ballot must select at least one option.");
+        }
+        if (optionIds.size() > MAX_OPTIONS) {
+            throw new InvalidRequestException("Approval elections support at most " + MAX_OPTIONS + " options.");
+        }
+        if (maxSelections != null && selectedOptionIds.size() > maxSelections) {
+            throw new InvalidRequestException("At most " + maxSelections + " options can be selected.");
+        }
+        byte[] ballot = new byte[(optionIds.size() + Byte.SIZE - 1) / Byte.SIZE];
+        for (Long optionId : selectedOptionIds) {
+            int index = optionIds.indexOf(optionId);
+            if (index < 0) {
+                throw new InvalidRequestException("Selected option does not belong to the specified election.");
+            }
+            if (isSelected(ballot, index)) {
+                throw new InvalidRequestException("An option can be selected only once.");
+            }
+            ballot[index >>> 3] |= (byte) (1 << (index & 7));
+        }
+        return ballot;
+    }
+
+    /**
+     * @param ballot a packed ballot
+     * @param index option index
+     * @return true if the option is selected
+     */
+    public static boolean isSelected(byte[] ballot, int index) {
+        return (index >>> 3) < ballot.length && (ballot[index >>> 3] & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * @param ballot a packed ballot
+     * @return the lowest selected option index, or -1 if none is selected
+     */
+    public static int firstSelected(byte[] ballot) {
+        for (int i = 0; i < ballot.length; i++) {
+            if (ballot[i] != 0) {
+                return i * Byte.SIZE + Integer.numberOfTrailingZeros(ballot[i] & 0xFF);
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,103 @@
+package com.rakit.electionsystem.service;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Counts approval ballots 64 options at a time. Each ballot is read as 64-bit words and added
+ * into bit-sliced counters: plane {@code k} of a word holds bit {@code k} of the running count
+ * of every option in that word, so adding a ballot is a ripple of XOR/AND carries through the
+ * planes instead of a loop over options. The planes are folded into the per-option totals every
+ * 65535 ballots, before any counter can overflow.
+ * Not thread-safe.
+ */
+public final class ApprovalTally {
+
+    private static final int PLANES = 16;
+    private static final int FLUSH_EVERY = (1 << PLANES) - 1;
+    private static final VarHandle LONGS =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final int options;
+    private final int words;
+    private final long[] planes;
+    private final long[] counts;
+    private long ballots;
+    private int pending;
+
+    /**
+     * @param options number of options; ballot bits at or above this are ignored
+     */
+    public ApprovalTally(int options) {
+        this.options = options;
+        this.words = (options + Long.SIZE - 1) / Long.SIZE;
+        this.planes = new long[words * PLANES];
+        this.counts = new long[options];
+    }
+
+    /**
+     * Adds a ballot.
+     *
+     * @param ballot packed approval bitset
+     */
+    public void add(byte[] ballot) {
+        for (int word = 0; word < words; word++) {
+            long carry = word(ballot, word);
+            for (int plane = word * PLANES; carry != 0; plane++) {
+                long bits = planes[plane];
+                planes[plane] = bits ^ carry;
+                carry &= bits;
+            }
+        }
+        ballots++;
+        if (++pending == FLUSH_EVERY) {
+            flush();
+        }
+    }
+
+    /**
+     * @return number of ballots added
+     */
+    public long getBallots() {
+        return ballots;
+    }
+
+    /**
+     * @return approvals per option index
+     */
+    public long[] counts() {
+        flush();
+        return counts.clone();
+    }
+
+    private void flush() {
+        for (int word = 0; word < words; word++) {
+            int base = word * Long.SIZE;
+            for (int k = 0; k < PLANES; k++) {
+                long bits = planes[word * PLANES + k];
+                planes[word * PLANES + k] = 0;
+                while (bits != 0) {
+                    int option = base + Long.numberOfTrailingZeros(bits);
+                    if (option < options) {
+                        counts[option] += 1L << k;
+                    }
+                    bits &= bits - 1;
+                }
+            }
+        }
+        pending = 0;
+    }
+
+    private static long word(byte[] ballot, int word) {
+        int offset = word * Long.BYTES;
+        if (offset + Long.BYTES <= ballot.length) {
+            return (long) LONGS.get(ballot, offset);
+        }
+        long value = 0;
+        for (int i = offset; i < ballot.length; i++) {
+            value |= (ballot[i] & 0xFFL) << ((i - offset) * Byte.SIZE);
+        }
+        return value;
+    }
+}
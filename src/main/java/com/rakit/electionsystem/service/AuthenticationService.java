@@ -9,6 +9,8 @@ import com.rakit.electionsystem.model.Role;
 import com.rakit.electionsystem.model.Voter;
 import com.rakit.electionsystem.repository.VoterRepository;
 import com.rakit.electionsystem.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -22,6 +24,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service for handling authentication operations (login, register).
+ * Outcomes are recorded as metrics ({@code election.auth.login}, {@code election.auth.register})
+ * rather than logged per call.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,6 +36,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Registers a new voter.
@@ -42,17 +47,19 @@ public class AuthenticationService {
      */
     @Transactional
     public AuthResponse register(RegisterRequest request) {
-        log.info("Attempting to register user with email: {}", request.getEmail());
+        log.debug("Attempting to register user with email: {}", request.getEmail());
 
         // Check if email already exists
         if (voterRepository.existsByEmail(request.getEmail())) {
-            log.warn("Registration failed: email already exists: {}", request.getEmail());
+            log.debug("Registration failed: email already exists: {}", request.getEmail());
+            countRegistration("duplicate");
             throw new DuplicateResourceException("Voter", "email", request.getEmail());
         }
 
         // Check if PESEL already exists (if provided)
         if (request.getPesel() != null && voterRepository.existsByPesel(request.getPesel())) {
-            log.warn("Registration failed: PESEL already exists: {}", request.getPesel());
+            log.debug("Registration failed: PESEL already exists: {}", request.getPesel());
+            countRegistration("duplicate");
             throw new DuplicateResourceException("Voter", "PESEL", request.getPesel());
         }
 
@@ -68,7 +75,8 @@ public class AuthenticationService {
                 .build();
 
         Voter savedVoter = voterRepository.save(voter);
-        log.info("User registered successfully: {}", savedVoter.getEmail());
+        log.debug("User registered successfully: {}", savedVoter.getEmail());
+        countRegistration("success");
 
         // Generate JWT token
         String token = jwtTokenProvider.generateTokenFromUsername(savedVoter.getEmail());
@@ -85,6 +93,7 @@ public class AuthenticationService {
 
     /**
      * Authenticates a voter and generates a JWT token.
+     * The call is timed with its outcome; password hashing is timed separately by the encoder.
      *
      * @param request the login request
      * @return authentication response with JWT token
@@ -92,8 +101,10 @@ public class AuthenticationService {
      */
     @Transactional(readOnly = true)
     public AuthResponse login(LoginRequest request) {
-        log.info("Attempting to authenticate user: {}", request.getEmail());
+        log.debug("Attempting to authenticate user: {}", request.getEmail());
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
@@ -107,7 +118,8 @@ public class AuthenticationService {
             Voter voter = (Voter) authentication.getPrincipal();
             String token = jwtTokenProvider.generateToken(authentication);
 
-            log.info("User authenticated successfully: {}", voter.getEmail());
+            log.debug("User authenticated successfully: {}", voter.getEmail());
+            outcome = "success";
 
             return new AuthResponse(
                     token,
@@ -118,8 +130,11 @@ public class AuthenticationService {
                     voter.getRole().name()
             );
         } catch (BadCredentialsException ex) {
-            log.warn("Authentication failed for user: {}", request.getEmail());
+            log.debug("Authentication failed for user: {}", request.getEmail());
+            outcome = "invalid-credentials";
             throw new InvalidCredentialsException();
+        } finally {
+            sample.stop(meterRegistry.timer("election.auth.login", "outcome", outcome));
         }
     }
 
@@ -139,4 +154,8 @@ public class AuthenticationService {
 
         return (Voter) authentication.getPrincipal();
     }
+
+    private void countRegistration(String outcome) {
+        meterRegistry.counter("election.auth.register", "outcome", outcome).increment();
+    }
 }
@@ -0,0 +1,61 @@
+package com.rakit.electionsystem.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether a vote is counted by a backfill from stored voting records or live as it
+ * commits, when live counting starts before the backfill reads storage.
+ * <p>
+ * The backfill counts every record it reads. A vote cast within the overlap before the backfill
+ * started, or before it finished reading, may reach both sides: it is counted by whichever sees
+ * its voter first. Earlier votes are left to the backfill and later ones to live counting. A
+ * vote is only missed if it committed more than the overlap after it was cast.
+ */
+final class BackfillOverlap {
+
+    private final LocalDateTime overlapFrom;
+    private final Set<Long> counted = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime backfilledAt;
+
+    /**
+     * Starts an overlap window ending now, before the backfill reads storage.
+     *
+     * @param overlap how long before now a vote may have been cast and still be in flight
+     */
+    BackfillOverlap(Duration overlap) {
+        this.overlapFrom = LocalDateTime.now().minus(overlap);
+    }
+
+    /**
+     * @param voterId the voter ID of a stored voting record
+     * @param votedAt when the vote was stored as cast
+     * @return true if the backfill should count the record
+     */
+    boolean countStored(Long voterId, LocalDateTime votedAt) {
+        return votedAt.isBefore(overlapFrom) || counted.add(voterId);
+    }
+
+    /**
+     * @param voterId the voter ID of a committed vote
+     * @param votedAt when the vote was cast
+     * @return true if the vote should be counted live
+     */
+    boolean countLive(Long voterId, LocalDateTime votedAt) {
+        if (votedAt.isBefore(overlapFrom)) {
+            return false;
+        }
+        // Votes cast after the backfill finished reading cannot have been read by it
+        LocalDateTime finished = backfilledAt;
+        return (finished != null && votedAt.isAfter(finished)) || counted.add(voterId);
+    }
+
+    /**
+     * Marks that the backfill has finished reading storage.
+     */
+    void backfilled() {
+        backfilledAt = LocalDateTime.now();
+    }
+}
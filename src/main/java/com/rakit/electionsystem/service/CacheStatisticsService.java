@@ -0,0 +1,73 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.CacheRegionStatisticsResponse;
+import com.rakit.electionsystem.dto.CacheStatisticsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Service exposing Hibernate second-level cache statistics.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Gets cumulative second-level cache statistics since startup.
+     *
+     * @return overall and per-region statistics
+     */
+    public CacheStatisticsResponse getCacheStatistics() {
+        Statistics statistics = getStatistics();
+
+        List<CacheRegionStatisticsResponse> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(statistics::getDomainDataRegionStatistics)
+                .filter(Objects::nonNull)
+                .map(this::mapToRegionResponse)
+                .toList();
+
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long misses = statistics.getSecondLevelCacheMissCount();
+        double hitRatio = hits + misses == 0 ? 0.0 : (double) hits / (hits + misses);
+
+        return new CacheStatisticsResponse(
+                hits,
+                misses,
+                statistics.getSecondLevelCachePutCount(),
+                hitRatio,
+                statistics.getNaturalIdCacheHitCount(),
+                statistics.getNaturalIdCacheMissCount(),
+                regions
+        );
+    }
+
+    /**
+     * Gets the underlying Hibernate statistics.
+     *
+     * @return Hibernate statistics
+     */
+    public Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private CacheRegionStatisticsResponse mapToRegionResponse(CacheRegionStatistics region) {
+        return new CacheRegionStatisticsResponse(
+                region.getRegionName(),
+                region.getHitCount(),
+                region.getMissCount(),
+                region.getPutCount(),
+                region.getElementCountInMemory()
+        );
+    }
+}
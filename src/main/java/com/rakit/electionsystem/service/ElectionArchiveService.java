@@ -0,0 +1,380 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.BallotType;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.repository.ElectionOptionRepository;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+
+import static com.rakit.electionsystem.service.TransactionHooks.afterCommit;
+
+/**
+ * Moves the votes of closed elections out of the hot tables into per-election archive files.
+ * An election is archived some time after it ended: its votes and voting records are streamed
+ * into a {@link VoteArchive}, the file is verified against the live counts, the election is
+ * marked archived and the rows are bulk-deleted. Rows on a vote shard are only deleted once the
+ * election is marked archived, and an existing archive is never overwritten with different counts,
+ * so a failed run cannot replace an archive with one read from already purged storage. Results,
+ * statistics and ballot exports of archived elections are served from the memory-mapped archive.
+ */
+@Service
+@Slf4j
+public class ElectionArchiveService {
+
+    private final ElectionRepository electionRepository;
+    private final ElectionOptionRepository electionOptionRepository;
+    private final VoteStorage voteStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Path directory;
+    private final Duration archiveAfter;
+    private final Counter archivedVotes;
+    private final Map<Long, VoteArchive> archives = new ConcurrentHashMap<>();
+
+    public ElectionArchiveService(
+            ElectionRepository electionRepository,
+            ElectionOptionRepository electionOptionRepository,
+            VoteStorage voteStorage,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${elections.archive.enabled:true}") boolean enabled,
+            @Value("${elections.archive.directory:./data/archive}") String directory,
+            @Value("${elections.archive.after:7d}") Duration archiveAfter
+    ) {
+        this.electionRepository = electionRepository;
+        this.electionOptionRepository = electionOptionRepository;
+        this.voteStorage = voteStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.archiveAfter = archiveAfter;
+        this.archivedVotes = Counter.builder("election.archive.votes")
+                .description("Votes moved from the database into archive files")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives every closed election that ended more than {@code elections.archive.after} ago.
+     * A failure is logged and the election is retried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${elections.archive.interval:3600000}",
+               initialDelayString = "${elections.archive.interval:3600000}")
+    public void archiveClosedElections() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> electionIds = electionRepository.findIdsToArchive(LocalDateTime.now().minus(archiveAfter));
+        for (Long electionId : electionIds) {
+            try {
+                archiveElection(electionId);
+            } catch (RuntimeException ex) {
+                log.error("Failed to archive election {}", electionId, ex);
+            }
+        }
+    }
+
+    /**
+     * Writes the votes of a closed election to its archive file and purges them from the database.
+     *
+     * @param electionId the election ID
+     * @return the archive
+     */
+    public VoteArchive archiveElection(Long electionId) {
+        Election election = transactionTemplate.execute(status -> {
+            Election found = electionRepository.findById(electionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+            Hibernate.initialize(found.getOptions());
+            return found;
+        });
+        if (election.isArchived()) {
+            return getArchive(electionId);
+        }
+        if (!election.isClosed()) {
+            throw new InvalidRequestException("Only closed elections can be archived.");
+        }
+
+        requireOverwritable(electionId);
+        LocalDateTime archivedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        VoteArchive archive = writeArchive(electionId, RankedBallot.optionIds(election), election.getBallotType(),
+                election.isWeighted(), archivedAt);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            long votes = voteStorage.countByElectionId(electionId);
+            long participants = voteStorage.countParticipantsByElectionId(electionId);
+            if (votes != archive.getTotalVotes() || participants != archive.getParticipants()) {
+                throw new IllegalStateException("Archive of election " + electionId + " does not match the database ("
+                        + archive.getTotalVotes() + "/" + votes + " votes, "
+                        + archive.getParticipants() + "/" + participants + " voting records)");
+            }
+            Election managed = electionRepository.findById(electionId).orElseThrow();
+            managed.setArchivedAt(archivedAt);
+            electionRepository.saveAndFlush(managed);
+            if (voteStorage.isInMainDatabase()) {
+                voteStorage.deleteByElectionId(electionId);
+            } else {
+                // A shard commits on its own, so its rows must outlive a failed commit of the archive mark
+                afterCommit(() -> purgeShardVotes(electionId));
+            }
+        });
+
+        archives.put(electionId, archive);
+        archivedVotes.increment(archive.getTotalVotes());
+        log.info("Archived election {}: {} votes, {} voting records", electionId,
+                archive.getTotalVotes(), archive.getParticipants());
+        return archive;
+    }
+
+    /**
+     * Refuses to replace an archive file left by an earlier run unless the storage still holds
+     * exactly the votes it contains; otherwise its votes may already have been purged.
+     */
+    private void requireOverwritable(Long electionId) {
+        Path path = archivePath(electionId);
+        if (!Files.exists(path)) {
+            return;
+        }
+        VoteArchive existing;
+        try {
+            existing = VoteArchive.open(path);
+        } catch (IOException ex) {
+            log.warn("Replacing unreadable vote archive of election {}", electionId, ex);
+            return;
+        }
+        if (existing.getTotalVotes() == 0 && existing.getParticipants() == 0) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            long votes = voteStorage.countByElectionId(electionId);
+            long participants = voteStorage.countParticipantsByElectionId(electionId);
+            if (votes != existing.getTotalVotes() || participants != existing.getParticipants()) {
+                throw new IllegalStateException("Refusing to overwrite the archive of election " + electionId
+                        + " (" + existing.getTotalVotes() + " votes, " + existing.getParticipants()
+                        + " voting records) with " + votes + " votes and " + participants + " voting records");
+            }
+        });
+    }
+
+    private void purgeShardVotes(Long electionId) {
+        try {
+            voteStorage.deleteByElectionId(electionId);
+        } catch (RuntimeException ex) {
+            log.error("Archived election {} but could not purge its votes from the shard", electionId, ex);
+        }
+    }
+
+    /**
+     * Gets the archive of an archived election.
+     *
+     * @param electionId the election ID
+     * @return the memory-mapped archive
+     */
+    public VoteArchive getArchive(Long electionId) {
+        return archives.computeIfAbsent(electionId, id -> {
+            try {
+                return VoteArchive.open(archivePath(id));
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Cannot open vote archive of election " + id, ex);
+            }
+        });
+    }
+
+    /**
+     * Gets the archived vote count of an option, if its election is archived.
+     *
+     * @param optionId the option ID
+     * @return the vote count, or empty if the option's votes are still in the database
+     */
+    public Optional<Long> findArchivedOptionVotes(Long optionId) {
+        return electionOptionRepository.findById(optionId)
+                .filter(option -> option.getElection().isArchived())
+                .map(option -> getArchive(option.getElection().getId()).getVotes(optionId));
+    }
+
+    /**
+     * Checks that an election exists and is closed, so its ballots may be exported.
+     *
+     * @param electionId the election ID
+     * @return the election
+     */
+    @Transactional(readOnly = true)
+    public Election requireExportable(Long electionId) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+        if (!election.isClosed()) {
+            throw new InvalidRequestException("Ballots can only be exported for closed elections.");
+        }
+        return election;
+    }
+
+    /**
+     * Writes every anonymous ballot of a closed election as CSV, from the archive if the
+     * election is archived and from the database otherwise. An approval ballot is written as one
+     * row per selected option, all with the same ballot number. Weighted elections get an extra
+     * weight column.
+     *
+     * @param electionId the election ID
+     * @param out the response stream
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public void exportBallots(Long electionId, OutputStream out) throws IOException {
+        Election election = requireExportable(electionId);
+        Map<Long, String> titles = election.getOptions().stream()
+                .collect(Collectors.toMap(ElectionOption::getId, ElectionOption::getOptionTitle));
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write(election.isWeighted() ? "ballot,option_id,option_title,weight\n"
+                : "ballot,option_id,option_title\n");
+        long[] ballot = {0};
+        try {
+            if (election.isWeighted()) {
+                BiConsumer<Long, Long> row = (optionId, weight) -> {
+                    try {
+                        writer.write(++ballot[0] + "," + optionId + "," + csv(titles.get(optionId))
+                                + "," + weight + "\n");
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                };
+                if (election.isArchived()) {
+                    getArchive(electionId).forEachWeightedVote(row);
+                } else {
+                    voteStorage.forEachWeightedVote(electionId, row);
+                }
+            } else if (election.getBallotType() == BallotType.APPROVAL) {
+                List<Long> optionIds = RankedBallot.optionIds(election);
+                Consumer<byte[]> selections = selection -> {
+                    ballot[0]++;
+                    for (int index = 0; index < optionIds.size(); index++) {
+                        if (ApprovalBallot.isSelected(selection, index)) {
+                            writeRow(writer, ballot[0], optionIds.get(index), titles);
+                        }
+                    }
+                };
+                if (election.isArchived()) {
+                    getArchive(electionId).forEachBallot(selections);
+                } else {
+                    voteStorage.forEachBallot(electionId, selections);
+                }
+            } else {
+                LongConsumer row = optionId -> writeRow(writer, ++ballot[0], optionId, titles);
+                if (election.isArchived()) {
+                    getArchive(electionId).forEachVote(row);
+                } else {
+                    voteStorage.forEachVote(electionId, row);
+                }
+            }
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+    }
+
+    private VoteArchive writeArchive(Long electionId, List<Long> optionIds, BallotType ballotType,
+                                     boolean weighted, LocalDateTime archivedAt) {
+        Path path = archivePath(electionId);
+        try (VoteArchive.Writer writer = switch (ballotType) {
+            case RANKED -> VoteArchive.rankedWriter(path, electionId, optionIds);
+            case APPROVAL -> VoteArchive.approvalWriter(path, electionId, optionIds);
+            case SINGLE_CHOICE -> weighted
+                    ? VoteArchive.weightedWriter(path, electionId, optionIds)
+                    : VoteArchive.writer(path, electionId, optionIds);
+        }) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (weighted) {
+                    voteStorage.forEachWeightedVote(electionId, (optionId, weight) -> {
+                        try {
+                            writer.writeWeightedVote(optionId, weight);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+                } else if (ballotType != BallotType.SINGLE_CHOICE) {
+                    voteStorage.forEachBallot(electionId, ballot -> {
+                        try {
+                            writer.writeBallot(ballot);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+                } else {
+                    voteStorage.forEachVote(electionId, optionId -> {
+                        try {
+                            writer.writeVote(optionId);
+                        } catch (IOException ex) {
+                            throw new UncheckedIOException(ex);
+                        }
+                    });
+                }
+                voteStorage.forEachVotingRecord(electionId, (voterId, votedAt) -> {
+                    try {
+                        writer.writeVotingRecord(voterId, votedAt);
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            });
+            writer.finish(archivedAt);
+            return VoteArchive.open(path);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write vote archive of election " + electionId, ex);
+        }
+    }
+
+    private static void writeRow(Writer writer, long ballot, long optionId, Map<Long, String> titles) {
+        try {
+            writer.write(ballot + "," + optionId + "," + csv(titles.get(optionId)) + "\n");
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private Path archivePath(Long electionId) {
+        return directory.resolve("election-" + electionId + ".votes");
+    }
+
+    /**
+     * Quotes a CSV field, doubling embedded quotes.
+     *
+     * @param value the field; null is written as an empty field
+     * @return the quoted field
+     */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
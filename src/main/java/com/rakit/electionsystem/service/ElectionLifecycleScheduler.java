@@ -0,0 +1,216 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.ElectionResponse;
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * Activates and closes elections automatically at their start and end dates.
+ * Each election's boundaries are armed on a hashed timer wheel; all transitions that fall on
+ * the same tick are applied with one bulk UPDATE per target status, so no polling queries run.
+ * Timers are re-armed at startup and whenever an admin creates an election or changes its status.
+ */
+@Component
+@Slf4j
+public class ElectionLifecycleScheduler {
+
+    private final ElectionRepository electionRepository;
+    private final ElectionWindowIndex electionWindowIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final HashedTimerWheel<Transition> timerWheel;
+    private final ExecutorService executor;
+    private final ConcurrentMap<Long, List<HashedTimerWheel.Timeout<Transition>>> armed = new ConcurrentHashMap<>();
+
+    public ElectionLifecycleScheduler(
+            ElectionRepository electionRepository,
+            ElectionWindowIndex electionWindowIndex,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            @Value("${elections.scheduler.enabled:true}") boolean enabled,
+            @Value("${elections.scheduler.tick:100ms}") Duration tick,
+            @Value("${elections.scheduler.wheel-size:512}") int wheelSize
+    ) {
+        this.electionRepository = electionRepository;
+        this.electionWindowIndex = electionWindowIndex;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "election-lifecycle");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timerWheel = new HashedTimerWheel<>("election-timer-wheel", tick, wheelSize,
+                transitions -> executor.execute(() -> apply(transitions)));
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            timerWheel.start();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        timerWheel.stop();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Arms timers for every open election once the application has started.
+     * Elections that ended while the application was down are closed right away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void armAll() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Election> overdue = electionRepository.findElectionsToClose(now);
+        if (!overdue.isEmpty()) {
+            log.info("Closing {} elections that ended while the application was down", overdue.size());
+            List<Transition> transitions = overdue.stream()
+                    .map(election -> new Transition(election.getId(), ElectionStatus.CLOSED, election.getEndDate()))
+                    .collect(Collectors.toList());
+            executor.execute(() -> apply(transitions));
+        }
+
+        List<Election> open = new ArrayList<>(electionRepository.findByStatus(ElectionStatus.DRAFT));
+        open.addAll(electionRepository.findByStatus(ElectionStatus.ACTIVE));
+        open.forEach(election -> arm(election.getId(), election.getStartDate(), election.getEndDate(), election.getStatus()));
+        log.info("Armed lifecycle timers for {} elections", armed.size());
+    }
+
+    /**
+     * Re-arms the timers of an election after it was created or changed.
+     *
+     * @param election the current state of the election
+     */
+    public void arm(ElectionResponse election) {
+        arm(election.getId(), election.getStartDate(), election.getEndDate(), election.getStatus());
+    }
+
+    private void arm(Long electionId, LocalDateTime startDate, LocalDateTime endDate, ElectionStatus status) {
+        if (!enabled || startDate == null || endDate == null) {
+            return;
+        }
+
+        List<HashedTimerWheel.Timeout<Transition>> timeouts = new ArrayList<>(2);
+        // A draft whose start has passed was put back by an admin; only the admin activates it again
+        if (status == ElectionStatus.DRAFT && startDate.isAfter(LocalDateTime.now())) {
+            timeouts.add(schedule(new Transition(electionId, ElectionStatus.ACTIVE, startDate)));
+        }
+        if (status != ElectionStatus.CLOSED) {
+            timeouts.add(schedule(new Transition(electionId, ElectionStatus.CLOSED, endDate)));
+        }
+
+        List<HashedTimerWheel.Timeout<Transition>> previous = timeouts.isEmpty()
+                ? armed.remove(electionId)
+                : armed.put(electionId, timeouts);
+        if (previous != null) {
+            previous.forEach(HashedTimerWheel.Timeout::cancel);
+        }
+    }
+
+    private HashedTimerWheel.Timeout<Transition> schedule(Transition transition) {
+        return timerWheel.schedule(transition, delayUntil(transition.at()));
+    }
+
+    private static Duration delayUntil(LocalDateTime time) {
+        ZoneId zone = ZoneId.systemDefault();
+        return Duration.between(LocalDateTime.now().atZone(zone), time.atZone(zone));
+    }
+
+    /**
+     * Applies the transitions that expired on one tick.
+     * A timer that fired slightly before its wall-clock boundary is simply re-armed.
+     *
+     * @param transitions expired transitions
+     */
+    private void apply(List<Transition> transitions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> toActivate = new ArrayList<>();
+        List<Long> toClose = new ArrayList<>();
+        for (Transition transition : transitions) {
+            if (transition.at().isAfter(now)) {
+                armed.computeIfPresent(transition.electionId(), (id, timeouts) -> {
+                    List<HashedTimerWheel.Timeout<Transition>> rearmed = new ArrayList<>(timeouts);
+                    rearmed.add(schedule(transition));
+                    return rearmed;
+                });
+            } else if (transition.target() == ElectionStatus.ACTIVE) {
+                toActivate.add(transition.electionId());
+            } else {
+                toClose.add(transition.electionId());
+            }
+        }
+
+        try {
+            List<List<Long>> changed = transactionTemplate.execute(status -> List.of(
+                    transition(toActivate, ElectionStatus.DRAFT, ElectionStatus.ACTIVE, now),
+                    transition(toClose, ElectionStatus.ACTIVE, ElectionStatus.CLOSED, now)
+            ));
+            publish(changed.get(0), ElectionStatus.ACTIVE);
+            publish(changed.get(1), ElectionStatus.CLOSED);
+        } catch (RuntimeException ex) {
+            log.error("Failed to apply election lifecycle transitions {}", transitions, ex);
+        }
+    }
+
+    private List<Long> transition(List<Long> candidates, ElectionStatus from, ElectionStatus to, LocalDateTime now) {
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        List<Long> due = to == ElectionStatus.ACTIVE
+                ? electionRepository.findIdsToActivate(candidates, now)
+                : electionRepository.findIdsToClose(candidates, now);
+        if (!due.isEmpty()) {
+            electionRepository.updateStatus(due, from, to, now);
+        }
+        return due;
+    }
+
+    private void publish(List<Long> electionIds, ElectionStatus status) {
+        if (electionIds.isEmpty()) {
+            return;
+        }
+        if (status == ElectionStatus.CLOSED) {
+            electionIds.forEach(armed::remove);
+        }
+        electionWindowIndex.updateStatus(electionIds, status);
+        log.info("Elections {} are now {}", electionIds, status);
+        eventPublisher.publishEvent(new ElectionStatusChangedEvent(electionIds, status));
+    }
+
+    /**
+     * A status change due at a given time.
+     */
+    private record Transition(Long electionId, ElectionStatus target, LocalDateTime at) {
+    }
+}
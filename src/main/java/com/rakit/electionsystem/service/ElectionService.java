@@ -4,40 +4,85 @@ import com.rakit.electionsystem.dto.ElectionOptionRequest;
 import com.rakit.electionsystem.dto.ElectionOptionResponse;
 import com.rakit.electionsystem.dto.ElectionRequest;
 import com.rakit.electionsystem.dto.ElectionResponse;
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.exception.InvalidRequestException;
 import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.BallotType;
 import com.rakit.electionsystem.model.Election;
 import com.rakit.electionsystem.model.ElectionOption;
 import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.ElectionWindowState;
 import com.rakit.electionsystem.repository.ElectionOptionRepository;
 import com.rakit.electionsystem.repository.ElectionRepository;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.rakit.electionsystem.service.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 public class ElectionService {
 
     private final ElectionRepository electionRepository;
     private final ElectionOptionRepository electionOptionRepository;
+    private final ElectionWindowIndex electionWindowIndex;
+    private final ElectionLifecycleScheduler electionLifecycleScheduler;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Longest horizon for upcoming elections; keeps {@code now + horizon} within LocalDateTime range.
+     */
+    public static final Duration MAX_HORIZON = Duration.ofDays(365L * 100);
 
     @Transactional
     public ElectionResponse createElection(ElectionRequest electionRequest) {
         Election election = new Election();
         election.setName(electionRequest.getName());
         election.setDescription(electionRequest.getDescription());
+        if (electionRequest.getStartDate() != null && electionRequest.getEndDate() != null
+                && electionRequest.getStartDate().isAfter(electionRequest.getEndDate())) {
+            throw new InvalidRequestException("Start date must not be after end date.");
+        }
         election.setStartDate(electionRequest.getStartDate());
         election.setEndDate(electionRequest.getEndDate());
+        if (electionRequest.getBallotType() != null) {
+            election.setBallotType(electionRequest.getBallotType());
+        }
+        if (electionRequest.getMaxSelections() != null) {
+            if (election.getBallotType() != BallotType.APPROVAL) {
+                throw new InvalidRequestException("Max selections only apply to approval elections.");
+            }
+            if (electionRequest.getMaxSelections() < 1) {
+                throw new InvalidRequestException("Max selections must be at least 1.");
+            }
+            election.setMaxSelections(electionRequest.getMaxSelections());
+        }
+        if (Boolean.TRUE.equals(electionRequest.getWeighted())) {
+            if (election.getBallotType() != BallotType.SINGLE_CHOICE) {
+                throw new InvalidRequestException("Weighted voting is only supported for single-choice elections.");
+            }
+            election.setWeighted(true);
+        }
         election.setCreatedAt(LocalDateTime.now());
         election.setStatus(ElectionStatus.DRAFT);
 
         Election savedElection = electionRepository.save(election);
-        return mapToElectionResponse(savedElection);
+        ElectionResponse response = mapToElectionResponse(savedElection);
+        afterCommit(() -> {
+            electionWindowIndex.put(response);
+            electionLifecycleScheduler.arm(response);
+        });
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -49,6 +94,36 @@ public class ElectionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Gets elections by the position of their voting window relative to the current time.
+     * Served entirely from the in-memory window index.
+     *
+     * @param state the window state to filter by
+     * @param horizon how far ahead to look for upcoming elections
+     * @return matching elections
+     */
+    public List<ElectionResponse> getElectionsByWindowState(ElectionWindowState state, Duration horizon) {
+        LocalDateTime now = LocalDateTime.now();
+        return switch (state) {
+            case ACTIVE -> electionWindowIndex.findActive(now);
+            case UPCOMING -> electionWindowIndex.findStartingBetween(now,
+                    now.plus(horizon.compareTo(MAX_HORIZON) > 0 ? MAX_HORIZON : horizon));
+            case ENDED -> electionWindowIndex.findEndedNotClosed(now);
+        };
+    }
+
+    /**
+     * Rebuilds the election window index from the database once the application has started.
+     * Elections written to the index while loading are kept rather than overwritten.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildWindowIndex() {
+        long mark = electionWindowIndex.mark();
+        List<ElectionResponse> elections = getAllElections();
+        electionWindowIndex.rebuild(elections, mark);
+    }
+
     @Transactional(readOnly = true)
     public ElectionResponse getElectionById(Long id) {
         Election election = electionRepository.findById(id)
@@ -61,16 +136,29 @@ public class ElectionService {
     public ElectionResponse updateElectionStatus(Long id, ElectionStatus status) {
         Election election = electionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + id));
+        if (election.isArchived() && status != ElectionStatus.CLOSED) {
+            throw new InvalidRequestException("Archived elections cannot be reopened.");
+        }
         election.setStatus(status);
         Election updatedElection = electionRepository.save(election);
         Hibernate.initialize(updatedElection.getOptions());
-        return mapToElectionResponse(updatedElection);
+        ElectionResponse response = mapToElectionResponse(updatedElection);
+        afterCommit(() -> {
+            electionWindowIndex.put(response);
+            electionLifecycleScheduler.arm(response);
+            eventPublisher.publishEvent(new ElectionStatusChangedEvent(List.of(id), status));
+        });
+        return response;
     }
 
     @Transactional
     public ElectionResponse addOptionToElection(Long electionId, ElectionOptionRequest optionRequest) {
         Election election = electionRepository.findById(electionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+        // Stored ballots index into the election's options, so they are fixed once voting can start
+        if (!election.canBeModified()) {
+            throw new InvalidRequestException("Options can only be added while the election is a draft.");
+        }
 
         ElectionOption option = new ElectionOption();
         option.setOptionTitle(optionRequest.getOptionTitle());
@@ -83,10 +171,15 @@ public class ElectionService {
                 .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
         Hibernate.initialize(updatedElection.getOptions());
 
-        return mapToElectionResponse(updatedElection);
+        ElectionResponse response = mapToElectionResponse(updatedElection);
+        afterCommit(() -> {
+            electionWindowIndex.put(response);
+            electionLifecycleScheduler.arm(response);
+        });
+        return response;
     }
 
-    private ElectionResponse mapToElectionResponse(Election election) {
+    ElectionResponse mapToElectionResponse(Election election) {
         List<ElectionOptionResponse> optionResponses = election.getOptions().stream()
                 .map(option -> new ElectionOptionResponse(option.getId(), option.getOptionTitle(), option.getDescription()))
                 .collect(Collectors.toList());
@@ -98,7 +191,10 @@ public class ElectionService {
                 election.getStartDate(),
                 election.getEndDate(),
                 election.getStatus(),
-                optionResponses
+                optionResponses,
+                election.getBallotType(),
+                election.getMaxSelections(),
+                election.isWeighted()
         );
     }
 }
@@ -0,0 +1,387 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.ElectionResponse;
+import com.rakit.electionsystem.model.ElectionStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory index of election voting windows.
+ * Answers "active now", "starting soon" and "ended but not closed" without touching the database.
+ *
+ * Readers work on an immutable snapshot published through a volatile field, so lookups take
+ * no locks. Writers are rare (admin operations) and rebuild the snapshot:
+ * - active elections are kept in a centered interval tree, so a stabbing query costs O(log n + k)
+ * - open elections are kept sorted by start and by end date, so range queries are binary searches
+ */
+@Component
+public class ElectionWindowIndex {
+
+    private static final Comparator<ElectionResponse> BY_START = Comparator.comparing(ElectionResponse::getStartDate);
+    private static final Comparator<ElectionResponse> BY_END = Comparator.comparing(ElectionResponse::getEndDate);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot = Snapshot.build(Collections.emptyMap());
+
+    // Sequence of the last write to each election, guarded by writeLock; lets a rebuild keep newer writes
+    private final Map<Long, Long> lastWriteSeq = new HashMap<>();
+    private long writeSeq;
+
+    /**
+     * Replaces the whole index, e.g. after loading all elections at startup.
+     *
+     * @param elections all elections
+     */
+    public void replaceAll(Collection<ElectionResponse> elections) {
+        Map<Long, ElectionResponse> byId = new HashMap<>();
+        elections.forEach(election -> byId.put(election.getId(), election));
+        writeLock.lock();
+        try {
+            snapshot = Snapshot.build(byId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Marks the current write position, to be taken before loading elections for {@link #rebuild}.
+     *
+     * @return the write mark
+     */
+    public long mark() {
+        writeLock.lock();
+        try {
+            return writeSeq;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Rebuilds the index from elections loaded after taking {@code mark}.
+     * Elections written or removed since the mark keep their current state, as the loaded copy may be older.
+     *
+     * @param elections all elections, as loaded from the database
+     * @param mark write mark taken before loading
+     */
+    public void rebuild(Collection<ElectionResponse> elections, long mark) {
+        writeLock.lock();
+        try {
+            Map<Long, ElectionResponse> byId = new HashMap<>();
+            for (ElectionResponse election : elections) {
+                if (lastWriteSeq.getOrDefault(election.getId(), 0L) <= mark) {
+                    byId.put(election.getId(), election);
+                }
+            }
+            for (Map.Entry<Long, Long> write : lastWriteSeq.entrySet()) {
+                ElectionResponse current = snapshot.byId.get(write.getKey());
+                if (write.getValue() > mark && current != null) {
+                    byId.put(write.getKey(), current);
+                }
+            }
+            lastWriteSeq.values().removeIf(seq -> seq <= mark);
+            snapshot = Snapshot.build(byId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds or replaces a single election.
+     *
+     * @param election the election
+     */
+    public void put(ElectionResponse election) {
+        writeLock.lock();
+        try {
+            Map<Long, ElectionResponse> byId = new HashMap<>(snapshot.byId);
+            byId.put(election.getId(), election);
+            lastWriteSeq.put(election.getId(), ++writeSeq);
+            snapshot = Snapshot.build(byId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Updates the status of indexed elections.
+     *
+     * @param electionIds the election IDs
+     * @param status the new status
+     */
+    public void updateStatus(Collection<Long> electionIds, ElectionStatus status) {
+        writeLock.lock();
+        try {
+            Map<Long, ElectionResponse> byId = new HashMap<>(snapshot.byId);
+            for (Long electionId : electionIds) {
+                ElectionResponse current = byId.get(electionId);
+                if (current != null) {
+                    byId.put(electionId, new ElectionResponse(
+                            current.getId(),
+                            current.getName(),
+                            current.getDescription(),
+                            current.getStartDate(),
+                            current.getEndDate(),
+                            status,
+                            current.getOptions(),
+                            current.getBallotType(),
+                            current.getMaxSelections(),
+                            current.isWeighted()
+                    ));
+                    lastWriteSeq.put(electionId, ++writeSeq);
+                }
+            }
+            snapshot = Snapshot.build(byId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes an election from the index.
+     *
+     * @param electionId the election ID
+     */
+    public void remove(Long electionId) {
+        writeLock.lock();
+        try {
+            Map<Long, ElectionResponse> byId = new HashMap<>(snapshot.byId);
+            lastWriteSeq.put(electionId, ++writeSeq);
+            if (byId.remove(electionId) != null) {
+                snapshot = Snapshot.build(byId);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets an indexed election.
+     *
+     * @param electionId the election ID
+     * @return the election, or null if not indexed
+     */
+    public ElectionResponse get(Long electionId) {
+        return snapshot.byId.get(electionId);
+    }
+
+    /**
+     * Finds elections with status ACTIVE whose window contains the given time.
+     *
+     * @param now the reference time
+     * @return active elections ordered by start date
+     */
+    public List<ElectionResponse> findActive(LocalDateTime now) {
+        List<ElectionResponse> result = new ArrayList<>();
+        IntervalNode.stab(snapshot.activeTree, now, result);
+        result.sort(BY_START);
+        return result;
+    }
+
+    /**
+     * Finds elections that are not closed and start after {@code now} but no later than {@code until}.
+     *
+     * @param now the reference time
+     * @param until end of the horizon (inclusive)
+     * @return upcoming elections ordered by start date
+     */
+    public List<ElectionResponse> findStartingBetween(LocalDateTime now, LocalDateTime until) {
+        ElectionResponse[] byStart = snapshot.openByStart;
+        int from = upperBound(byStart, now, ElectionResponse::getStartDate);
+        int to = upperBound(byStart, until, ElectionResponse::getStartDate);
+        return from < to ? List.of(Arrays.copyOfRange(byStart, from, to)) : List.of();
+    }
+
+    /**
+     * Finds elections whose end date has passed but which are not closed yet.
+     *
+     * @param now the reference time
+     * @return ended elections ordered by end date
+     */
+    public List<ElectionResponse> findEndedNotClosed(LocalDateTime now) {
+        ElectionResponse[] byEnd = snapshot.openByEnd;
+        int to = lowerBound(byEnd, now, ElectionResponse::getEndDate);
+        return to > 0 ? List.of(Arrays.copyOfRange(byEnd, 0, to)) : List.of();
+    }
+
+    /**
+     * Gets the number of indexed elections.
+     *
+     * @return election count
+     */
+    public int size() {
+        return snapshot.byId.size();
+    }
+
+    /**
+     * Index of the first element whose key is strictly after the given time.
+     */
+    private static int upperBound(ElectionResponse[] sorted, LocalDateTime time,
+                                  Function<ElectionResponse, LocalDateTime> key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.apply(sorted[mid]).isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Index of the first element whose key is not before the given time.
+     */
+    private static int lowerBound(ElectionResponse[] sorted, LocalDateTime time,
+                                  Function<ElectionResponse, LocalDateTime> key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (key.apply(sorted[mid]).isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class Snapshot {
+
+        private final Map<Long, ElectionResponse> byId;
+        private final IntervalNode activeTree;
+        private final ElectionResponse[] openByStart;
+        private final ElectionResponse[] openByEnd;
+
+        private Snapshot(Map<Long, ElectionResponse> byId, IntervalNode activeTree,
+                         ElectionResponse[] openByStart, ElectionResponse[] openByEnd) {
+            this.byId = byId;
+            this.activeTree = activeTree;
+            this.openByStart = openByStart;
+            this.openByEnd = openByEnd;
+        }
+
+        static Snapshot build(Map<Long, ElectionResponse> byId) {
+            List<ElectionResponse> active = new ArrayList<>();
+            List<ElectionResponse> open = new ArrayList<>();
+            for (ElectionResponse election : byId.values()) {
+                if (election.getStartDate() == null || election.getEndDate() == null) {
+                    continue;
+                }
+                if (election.getStatus() != ElectionStatus.CLOSED) {
+                    open.add(election);
+                }
+                if (election.getStatus() == ElectionStatus.ACTIVE) {
+                    active.add(election);
+                }
+            }
+
+            ElectionResponse[] openByStart = open.toArray(new ElectionResponse[0]);
+            Arrays.sort(openByStart, BY_START);
+            ElectionResponse[] openByEnd = open.toArray(new ElectionResponse[0]);
+            Arrays.sort(openByEnd, BY_END);
+
+            return new Snapshot(Map.copyOf(byId), IntervalNode.build(active), openByStart, openByEnd);
+        }
+    }
+
+    /**
+     * Node of a centered interval tree over closed [startDate, endDate] windows.
+     */
+    private static final class IntervalNode {
+
+        private final LocalDateTime center;
+        private final ElectionResponse[] overlapByStart;
+        private final ElectionResponse[] overlapByEndDesc;
+        private final IntervalNode left;
+        private final IntervalNode right;
+
+        private IntervalNode(LocalDateTime center, ElectionResponse[] overlapByStart,
+                             ElectionResponse[] overlapByEndDesc, IntervalNode left, IntervalNode right) {
+            this.center = center;
+            this.overlapByStart = overlapByStart;
+            this.overlapByEndDesc = overlapByEndDesc;
+            this.left = left;
+            this.right = right;
+        }
+
+        static IntervalNode build(List<ElectionResponse> intervals) {
+            if (intervals.isEmpty()) {
+                return null;
+            }
+
+            List<LocalDateTime> endpoints = new ArrayList<>(intervals.size() * 2);
+            for (ElectionResponse interval : intervals) {
+                endpoints.add(interval.getStartDate());
+                endpoints.add(interval.getEndDate());
+            }
+            Collections.sort(endpoints);
+            LocalDateTime center = endpoints.get(endpoints.size() / 2);
+
+            List<ElectionResponse> leftIntervals = new ArrayList<>();
+            List<ElectionResponse> rightIntervals = new ArrayList<>();
+            List<ElectionResponse> overlapping = new ArrayList<>();
+            // Only windows strictly on one side move down; anything else, including a reversed
+            // window, stays here so every level gets smaller
+            for (ElectionResponse interval : intervals) {
+                if (interval.getStartDate().isBefore(center) && interval.getEndDate().isBefore(center)) {
+                    leftIntervals.add(interval);
+                } else if (interval.getStartDate().isAfter(center) && interval.getEndDate().isAfter(center)) {
+                    rightIntervals.add(interval);
+                } else {
+                    overlapping.add(interval);
+                }
+            }
+
+            ElectionResponse[] byStart = overlapping.toArray(new ElectionResponse[0]);
+            Arrays.sort(byStart, BY_START);
+            ElectionResponse[] byEndDesc = overlapping.toArray(new ElectionResponse[0]);
+            Arrays.sort(byEndDesc, BY_END.reversed());
+
+            return new IntervalNode(center, byStart, byEndDesc, build(leftIntervals), build(rightIntervals));
+        }
+
+        static void stab(IntervalNode node, LocalDateTime time, List<ElectionResponse> result) {
+            while (node != null) {
+                if (time.isBefore(node.center)) {
+                    for (ElectionResponse interval : node.overlapByStart) {
+                        if (interval.getStartDate().isAfter(time)) {
+                            break;
+                        }
+                        result.add(interval);
+                    }
+                    node = node.left;
+                } else if (time.isAfter(node.center)) {
+                    for (ElectionResponse interval : node.overlapByEndDesc) {
+                        if (interval.getEndDate().isBefore(time)) {
+                            break;
+                        }
+                        result.add(interval);
+                    }
+                    node = node.right;
+                } else {
+                    for (ElectionResponse interval : node.overlapByStart) {
+                        if (!interval.getStartDate().isAfter(time) && !interval.getEndDate().isBefore(time)) {
+                            result.add(interval);
+                        }
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.EligibilityResponse;
+import com.rakit.electionsystem.dto.EligibleVoterRequest;
+import com.rakit.electionsystem.dto.RollRequest;
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.exception.VotingException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionRoll;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.EligibleVoter;
+import com.rakit.electionsystem.model.Pesel;
+import com.rakit.electionsystem.model.RollRule;
+import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.ElectionRollRepository;
+import com.rakit.electionsystem.repository.EligibleVoterRepository;
+import com.rakit.electionsystem.repository.VoterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Service for per-election eligibility.
+ * An election with a roll only accepts votes from voters on it. Rolls are compressed bitmaps of
+ * voter IDs ({@link VoterRoll}), assigned explicitly, by rule or from other elections' rolls, and
+ * kept in memory once the election has left DRAFT, when they can no longer change; membership
+ * checks then never touch the database. Elections without a roll are open to every voter.
+ * <p>
+ * Weighted elections instead take an eligibility list with a weight per voter, which also
+ * becomes their roll. Each voter's weight is copied onto their anonymous vote when it is cast,
+ * so tallies never need to join back to the list.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EligibilityService {
+
+    private final EligibleVoterRepository eligibleVoterRepository;
+    private final ElectionRepository electionRepository;
+    private final VoterRepository voterRepository;
+    private final ElectionRollRepository electionRollRepository;
+    private final ConcurrentMap<Long, Optional<VoterRoll>> rolls = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces the eligibility list of a draft election.
+     *
+     * @param electionId the election ID
+     * @param entries the voters and their weights
+     * @return summary of the new list
+     */
+    @Transactional
+    public EligibilityResponse replaceEligibility(Long electionId, List<EligibleVoterRequest> entries) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+        if (election.getStatus() != ElectionStatus.DRAFT) {
+            throw new InvalidRequestException("Eligibility can only be changed while the election is a draft.");
+        }
+
+        Set<Long> voterIds = new HashSet<>();
+        BigInteger totalWeight = BigInteger.ZERO;
+        for (EligibleVoterRequest entry : entries) {
+            if (entry.getVoterId() == null) {
+                throw new InvalidRequestException("Voter ID is required.");
+            }
+            if (!voterIds.add(entry.getVoterId())) {
+                throw new InvalidRequestException("Voter " + entry.getVoterId() + " is listed more than once.");
+            }
+            long weight = entry.getWeight() == null ? 1 : entry.getWeight();
+            if (weight < 1) {
+                throw new InvalidRequestException("Weights must be at least 1.");
+            }
+            totalWeight = totalWeight.add(BigInteger.valueOf(weight));
+        }
+
+        Map<Long, Voter> voters = voterRepository.findAllById(voterIds).stream()
+                .collect(Collectors.toMap(Voter::getId, Function.identity()));
+        List<EligibleVoter> eligibleVoters = new ArrayList<>(entries.size());
+        for (EligibleVoterRequest entry : entries) {
+            Voter voter = voters.get(entry.getVoterId());
+            if (voter == null) {
+                throw new ResourceNotFoundException("Voter", "id", entry.getVoterId());
+            }
+            eligibleVoters.add(EligibleVoter.builder()
+                    .election(election)
+                    .voter(voter)
+                    .weight(entry.getWeight() == null ? 1 : entry.getWeight())
+                    .build());
+        }
+
+        eligibleVoterRepository.deleteByElectionId(electionId);
+        eligibleVoterRepository.saveAll(eligibleVoters);
+        saveRoll(election, VoterRoll.of(voterIds.stream().mapToLong(Long::longValue).toArray()));
+        log.debug("Replaced eligibility of election {} with {} voters", electionId, eligibleVoters.size());
+        return new EligibilityResponse(electionId, (long) eligibleVoters.size(), totalWeight);
+    }
+
+    /**
+     * Replaces the roll of a draft, unweighted election.
+     *
+     * @param electionId the election ID
+     * @param request the sources of the roll
+     * @return summary of the new roll
+     */
+    @Transactional
+    public EligibilityResponse replaceRoll(Long electionId, RollRequest request) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+        if (election.getStatus() != ElectionStatus.DRAFT) {
+            throw new InvalidRequestException("Eligibility can only be changed while the election is a draft.");
+        }
+        if (election.isWeighted()) {
+            throw new InvalidRequestException("The roll of a weighted election follows its eligibility list.");
+        }
+
+        VoterRoll roll = null;
+        if (request.getVoterIds() != null) {
+            for (Long voterId : request.getVoterIds()) {
+                if (voterId == null || voterId < 0 || voterId > VoterRoll.MAX_VOTER_ID) {
+                    throw new InvalidRequestException("Voter IDs must be between 0 and " + VoterRoll.MAX_VOTER_ID);
+                }
+            }
+            roll = VoterRoll.of(request.getVoterIds().stream().mapToLong(Long::longValue).toArray());
+        }
+        if (request.getCopyFromElectionIds() != null && !request.getCopyFromElectionIds().isEmpty()) {
+            VoterRoll copied = VoterRoll.empty();
+            for (Long sourceId : request.getCopyFromElectionIds()) {
+                copied = copied.or(electionRollRepository.findByElectionId(sourceId)
+                        .map(source -> VoterRoll.fromBytes(source.getVoters()))
+                        .orElseThrow(() -> new InvalidRequestException("Election " + sourceId + " has no roll.")));
+            }
+            roll = roll == null ? copied : roll.and(copied);
+        }
+        if (request.getRule() != null) {
+            VoterRoll selected = selectByRule(election, request.getRule(), request.getMinimumAge());
+            roll = roll == null ? selected : roll.and(selected);
+        }
+        if (roll == null) {
+            throw new InvalidRequestException("A roll needs voter IDs, a rule or elections to copy from.");
+        }
+
+        saveRoll(election, roll);
+        log.debug("Replaced roll of election {} with {} voters", electionId, roll.size());
+        return new EligibilityResponse(electionId, roll.size(), null);
+    }
+
+    /**
+     * Gets the roll of an election. Rolls of elections past DRAFT are served from memory.
+     *
+     * @param election the election
+     * @return the roll, or empty if the election is open to every voter
+     */
+    @Transactional(readOnly = true)
+    public Optional<VoterRoll> findRoll(Election election) {
+        Optional<VoterRoll> cached = rolls.get(election.getId());
+        if (cached != null) {
+            return cached;
+        }
+        Optional<VoterRoll> roll = electionRollRepository.findByElectionId(election.getId())
+                .map(found -> VoterRoll.fromBytes(found.getVoters()));
+        if (election.getStatus() != ElectionStatus.DRAFT) {
+            rolls.put(election.getId(), roll);
+        }
+        return roll;
+    }
+
+    /**
+     * Gets the voters on an election's eligibility list, whether or not they are on its roll.
+     *
+     * @param election the election
+     * @return the listed voters
+     */
+    @Transactional(readOnly = true)
+    public VoterRoll findListedVoters(Election election) {
+        try (Stream<Long> voterIds = eligibleVoterRepository.streamVoterIdsByElectionId(election.getId())) {
+            return VoterRoll.of(voterIds.mapToLong(Long::longValue).toArray());
+        }
+    }
+
+    /**
+     * Drops cached rolls of elections that changed status, so a roll edited after an election
+     * went back to DRAFT is reloaded.
+     *
+     * @param event the status change
+     */
+    @EventListener
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        event.getElectionIds().forEach(rolls::remove);
+    }
+
+    /**
+     * Checks that a voter may vote in an election and looks up the weight their ballot carries.
+     *
+     * @param election the election
+     * @param voterId the voter ID
+     * @return the voter's weight; 1 in unweighted elections
+     * @throws VotingException if the voter is not on the election's roll or eligibility list
+     */
+    @Transactional(readOnly = true)
+    public long weightOf(Election election, Long voterId) {
+        if (!isOnRoll(election, voterId)) {
+            throw new VotingException("Voter is not eligible to vote in this election.");
+        }
+        if (!election.isWeighted()) {
+            return 1;
+        }
+        return eligibleVoterRepository.findWeight(election.getId(), voterId)
+                .orElseThrow(() -> new VotingException("Voter is not on the eligibility list of this election."));
+    }
+
+    /**
+     * Finds the elections a voter may vote in, by the same rules {@link #weightOf} enforces:
+     * the voter must be on the election's roll, if it has one, and on the eligibility list of
+     * a weighted election.
+     *
+     * @param elections the elections to check
+     * @param voterId the voter ID
+     * @return IDs of the elections the voter is eligible for
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findEligibleElectionIds(Collection<Election> elections, Long voterId) {
+        Set<Long> eligible = new HashSet<>();
+        List<Long> weighted = new ArrayList<>();
+        for (Election election : elections) {
+            if (!isOnRoll(election, voterId)) {
+                continue;
+            }
+            if (election.isWeighted()) {
+                weighted.add(election.getId());
+            } else {
+                eligible.add(election.getId());
+            }
+        }
+        if (!weighted.isEmpty()) {
+            eligible.addAll(eligibleVoterRepository.findElectionIdsListing(voterId, weighted));
+        }
+        return eligible;
+    }
+
+    private boolean isOnRoll(Election election, Long voterId) {
+        return findRoll(election).map(roll -> roll.contains(voterId)).orElse(true);
+    }
+
+    private VoterRoll selectByRule(Election election, RollRule rule, Integer minimumAge) {
+        LocalDate bornBy = election.getStartDate().toLocalDate().minusYears(minimumAge == null ? 18 : minimumAge);
+        try (Stream<Object[]> voters = voterRepository.streamActiveVoterPesels()) {
+            LongStream ids = voters
+                    .filter(row -> rule == RollRule.ACTIVE_VOTERS || isBornBy((String) row[1], bornBy))
+                    .mapToLong(row -> (Long) row[0]);
+            return VoterRoll.of(ids.toArray());
+        }
+    }
+
+    private static boolean isBornBy(String pesel, LocalDate date) {
+        return pesel != null && Pesel.isValid(pesel) && !Pesel.birthDate(pesel).isAfter(date);
+    }
+
+    private void saveRoll(Election election, VoterRoll roll) {
+        ElectionRoll entity = electionRollRepository.findByElectionId(election.getId())
+                .orElseGet(() -> ElectionRoll.builder().election(election).build());
+        entity.setVoters(roll.toBytes());
+        entity.setVoterCount(roll.size());
+        electionRollRepository.save(entity);
+        rolls.remove(election.getId());
+    }
+}
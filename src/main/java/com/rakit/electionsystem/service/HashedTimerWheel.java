@@ -0,0 +1,208 @@
+package com.rakit.electionsystem.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel.
+ * Timeouts are hashed into a fixed number of buckets by deadline tick; a single worker thread
+ * advances one bucket per tick and hands every timeout that expired on that tick to the handler
+ * as one batch. Scheduling and cancelling are O(1) and never block the worker.
+ *
+ * @param <T> payload type
+ */
+@Slf4j
+public final class HashedTimerWheel<T> {
+
+    /**
+     * Longest delay a timeout is scheduled with, about 73 years; far enough that deadlines never
+     * overflow, yet longer than any election window.
+     */
+    public static final Duration MAX_DELAY = Duration.ofNanos(Long.MAX_VALUE / 4);
+
+    private final long tickNanos;
+    private final int mask;
+    private final List<Timeout<T>>[] wheel;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final Consumer<List<T>> handler;
+    private final Thread worker;
+
+    private final long startNanos = System.nanoTime();
+    private volatile boolean running;
+    private long tick;
+
+    /**
+     * Creates a timer wheel.
+     *
+     * @param name worker thread name
+     * @param tickDuration tick resolution
+     * @param wheelSize number of buckets, rounded up to a power of two
+     * @param handler receives the payloads that expired on the same tick
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(String name, Duration tickDuration, int wheelSize, Consumer<List<T>> handler) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = size - 1;
+        this.wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new LinkedList<>();
+        }
+        this.handler = handler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    /**
+     * Starts the worker thread.
+     */
+    public void start() {
+        running = true;
+        worker.start();
+    }
+
+    /**
+     * Stops the worker thread. Pending timeouts are discarded.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * Schedules a payload to expire after the given delay.
+     * Delays that are zero or negative expire on the next tick; delays beyond {@link #MAX_DELAY}
+     * are clamped to it, so callers re-arm anything that fires before its real due time.
+     *
+     * @param payload the payload
+     * @param delay time until expiry
+     * @return handle that can cancel the timeout
+     */
+    public Timeout<T> schedule(T payload, Duration delay) {
+        long delayNanos = delay.isNegative() ? 0 : delay.compareTo(MAX_DELAY) > 0 ? MAX_DELAY.toNanos() : delay.toNanos();
+        long elapsed = System.nanoTime() - startNanos;
+        long deadline = delayNanos > Long.MAX_VALUE - elapsed ? Long.MAX_VALUE : elapsed + delayNanos;
+        Timeout<T> timeout = new Timeout<>(payload, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = waitForNextTick();
+            if (deadline < 0) {
+                continue;
+            }
+
+            transferPending();
+            List<T> expired = expireBucket(wheel[(int) (tick & mask)], deadline);
+            tick++;
+
+            if (!expired.isEmpty()) {
+                try {
+                    handler.accept(expired);
+                } catch (RuntimeException ex) {
+                    log.error("Timer wheel handler failed for {} timeouts", expired.size(), ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sleeps until the end of the current tick.
+     *
+     * @return the tick deadline relative to start, or -1 if interrupted
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startNanos;
+            long sleepNanos = deadline - current;
+            if (sleepNanos <= 0) {
+                return current;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException ex) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private List<T> expireBucket(List<Timeout<T>> bucket, long deadline) {
+        List<T> expired = new ArrayList<>();
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.cancelled) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                if (timeout.deadline <= deadline) {
+                    expired.add(timeout.payload);
+                } else {
+                    pending.add(timeout);
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Handle for a scheduled payload.
+     *
+     * @param <T> payload type
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadline;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(T payload, long deadline) {
+            this.payload = payload;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timeout. It is dropped lazily when its bucket is next visited.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+    }
+}
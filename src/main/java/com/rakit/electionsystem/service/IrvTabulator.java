@@ -0,0 +1,309 @@
+package com.rakit.electionsystem.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Instant-runoff tabulation over {@link PackedBallots}.
+ * Every ballot sits on the pile of the continuing option it currently counts for; piles are
+ * singly linked lists threaded through one int per ballot. The first round deals all ballots
+ * onto piles in parallel fork-join partitions. Each later round walks only the pile of the
+ * eliminated option and moves those ballots to their next continuing preference, again in
+ * parallel partitions. Partitions build private piles and tallies that are spliced together
+ * afterwards, so no locks are taken and untouched ballots are never rescanned.
+ * <p>
+ * Ties for elimination go to the option that had fewer votes in the latest earlier round where
+ * the tied options differed, and failing that to the option with the highest index.
+ */
+@Component
+public class IrvTabulator {
+
+    private static final int NONE = -1;
+
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+    private final int partitionSize;
+    private final int offHeapThreshold;
+
+    public IrvTabulator(
+            @Value("${results.irv.partition-size:65536}") int partitionSize,
+            @Value("${results.irv.off-heap-threshold:1000000}") int offHeapThreshold
+    ) {
+        this.partitionSize = Math.max(1, partitionSize);
+        this.offHeapThreshold = offHeapThreshold;
+    }
+
+    /**
+     * Creates a ballot buffer sized for an election, off-heap for large elections.
+     *
+     * @param expectedBallots number of ballots about to be added
+     * @return an empty ballot buffer
+     */
+    public PackedBallots allocate(long expectedBallots) {
+        if (expectedBallots > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many ballots to tabulate: " + expectedBallots);
+        }
+        return new PackedBallots((int) expectedBallots, expectedBallots >= offHeapThreshold);
+    }
+
+    /**
+     * Runs the instant-runoff count.
+     *
+     * @param ballots the ballots
+     * @param optionCount number of options; ballot preferences are indexes below this
+     * @return every round and the winner
+     */
+    public Result tabulate(PackedBallots ballots, int optionCount) {
+        return new Count(ballots, optionCount).run();
+    }
+
+    /**
+     * The state of the count after one round.
+     *
+     * @param number round number, starting at 1
+     * @param tallies ballots per option index; 0 for eliminated options
+     * @param continuing which options were still in the count in this round
+     * @param exhausted ballots with no continuing preference left
+     * @param eliminated option index eliminated at the end of the round, or -1 in the final round
+     */
+    public record Round(int number, long[] tallies, boolean[] continuing, long exhausted, int eliminated) {
+    }
+
+    /**
+     * Outcome of a count.
+     *
+     * @param ballots number of ballots counted
+     * @param rounds every round in order
+     * @param winner winning option index, or -1 if no ballot counted for any option
+     */
+    public record Result(long ballots, List<Round> rounds, int winner) {
+    }
+
+    /**
+     * One count; holds the per-ballot state.
+     */
+    private final class Count {
+
+        private final PackedBallots ballots;
+        private final int options;
+        private final ByteBuffer cursors;
+        private final IntBuffer next;
+        private final int[] heads;
+        private final long[] tallies;
+        private final boolean[] eliminated;
+        private long exhausted;
+
+        Count(PackedBallots ballots, int options) {
+            this.ballots = ballots;
+            this.options = options;
+            int size = ballots.size();
+            this.cursors = ballots.isOffHeap() ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+            this.next = (ballots.isOffHeap()
+                    ? ByteBuffer.allocateDirect(size * Integer.BYTES)
+                    : ByteBuffer.allocate(size * Integer.BYTES)).asIntBuffer();
+            this.heads = new int[options];
+            this.tallies = new long[options];
+            this.eliminated = new boolean[options];
+            Arrays.fill(heads, NONE);
+        }
+
+        Result run() {
+            splice(pool.invoke(new Deal(null, 0, ballots.size())));
+
+            List<Round> rounds = new ArrayList<>();
+            int remaining = options;
+            while (true) {
+                long continuingBallots = ballots.size() - exhausted;
+                int leader = leader();
+                boolean done = remaining <= 1 || continuingBallots == 0 || tallies[leader] * 2 > continuingBallots;
+                int loser = done ? NONE : loser(rounds);
+                boolean[] continuing = new boolean[options];
+                for (int option = 0; option < options; option++) {
+                    continuing[option] = !eliminated[option];
+                }
+                rounds.add(new Round(rounds.size() + 1, tallies.clone(), continuing, exhausted, loser));
+                if (done) {
+                    return new Result(ballots.size(), rounds, continuingBallots == 0 ? NONE : leader);
+                }
+                eliminate(loser);
+                remaining--;
+            }
+        }
+
+        private int leader() {
+            int leader = NONE;
+            for (int option = 0; option < options; option++) {
+                if (!eliminated[option] && (leader == NONE || tallies[option] > tallies[leader])) {
+                    leader = option;
+                }
+            }
+            return leader;
+        }
+
+        private int loser(List<Round> previous) {
+            List<Integer> candidates = new ArrayList<>();
+            for (int option = 0; option < options; option++) {
+                if (!eliminated[option]) {
+                    candidates.add(option);
+                }
+            }
+            candidates = lowest(tallies, candidates);
+            for (int round = previous.size() - 1; round >= 0 && candidates.size() > 1; round--) {
+                candidates = lowest(previous.get(round).tallies(), candidates);
+            }
+            return candidates.get(candidates.size() - 1);
+        }
+
+        private List<Integer> lowest(long[] counts, List<Integer> candidates) {
+            long min = Long.MAX_VALUE;
+            List<Integer> lowest = new ArrayList<>();
+            for (int option : candidates) {
+                if (counts[option] < min) {
+                    min = counts[option];
+                    lowest.clear();
+                }
+                if (counts[option] == min) {
+                    lowest.add(option);
+                }
+            }
+            return lowest;
+        }
+
+        private void eliminate(int option) {
+            eliminated[option] = true;
+            int[] pile = new int[(int) tallies[option]];
+            int i = 0;
+            for (int ballot = heads[option]; ballot != NONE; ballot = next.get(ballot)) {
+                pile[i++] = ballot;
+            }
+            heads[option] = NONE;
+            tallies[option] = 0;
+            splice(pool.invoke(new Deal(pile, 0, pile.length)));
+        }
+
+        private void splice(Piles piles) {
+            for (int option = 0; option < options; option++) {
+                if (piles.heads[option] != NONE) {
+                    next.put(piles.tails[option], heads[option]);
+                    heads[option] = piles.heads[option];
+                    tallies[option] += piles.tallies[option];
+                }
+            }
+            exhausted += piles.exhausted;
+        }
+
+        /**
+         * Moves ballots to their next continuing preference.
+         *
+         * @param ballot the ballot
+         * @param rank first rank to consider
+         * @return the option index, or -1 if the ballot is exhausted
+         */
+        private int advance(int ballot, int rank) {
+            int length = ballots.length(ballot);
+            for (; rank < length; rank++) {
+                int option = ballots.preference(ballot, rank);
+                if (option < options && !eliminated[option]) {
+                    cursors.put(ballot, (byte) rank);
+                    return option;
+                }
+            }
+            return NONE;
+        }
+
+        /**
+         * Deals a range of ballots onto private piles. Ballots are numbered {@code from..to}
+         * directly for the first round, or taken from an eliminated pile afterwards.
+         */
+        private final class Deal extends RecursiveTask<Piles> {
+
+            private final int[] pile;
+            private final int from;
+            private final int to;
+
+            Deal(int[] pile, int from, int to) {
+                this.pile = pile;
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected Piles compute() {
+                if (to - from <= partitionSize) {
+                    return deal();
+                }
+                int middle = (from + to) >>> 1;
+                Deal left = new Deal(pile, from, middle);
+                left.fork();
+                Piles right = new Deal(pile, middle, to).compute();
+                return left.join().append(right);
+            }
+
+            private Piles deal() {
+                Piles piles = new Piles(options);
+                for (int i = from; i < to; i++) {
+                    int ballot = pile == null ? i : pile[i];
+                    int rank = pile == null ? 0 : (cursors.get(ballot) & 0xFF) + 1;
+                    int option = advance(ballot, rank);
+                    if (option == NONE) {
+                        piles.exhausted++;
+                    } else {
+                        piles.push(option, ballot);
+                    }
+                }
+                return piles;
+            }
+        }
+
+        /**
+         * Piles and tallies built by one partition.
+         */
+        private final class Piles {
+
+            private final int[] heads;
+            private final int[] tails;
+            private final long[] tallies;
+            private long exhausted;
+
+            Piles(int options) {
+                this.heads = new int[options];
+                this.tails = new int[options];
+                this.tallies = new long[options];
+                Arrays.fill(heads, NONE);
+            }
+
+            void push(int option, int ballot) {
+                next.put(ballot, heads[option]);
+                if (heads[option] == NONE) {
+                    tails[option] = ballot;
+                }
+                heads[option] = ballot;
+                tallies[option]++;
+            }
+
+            Piles append(Piles other) {
+                for (int option = 0; option < heads.length; option++) {
+                    if (other.heads[option] == NONE) {
+                        continue;
+                    }
+                    if (heads[option] == NONE) {
+                        heads[option] = other.heads[option];
+                    } else {
+                        next.put(tails[option], other.heads[option]);
+                    }
+                    tails[option] = other.tails[option];
+                    tallies[option] += other.tallies[option];
+                }
+                exhausted += other.exhausted;
+                return this;
+            }
+        }
+    }
+}
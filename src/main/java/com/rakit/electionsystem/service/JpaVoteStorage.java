@@ -0,0 +1,156 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.AlreadyVotedException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.model.Vote;
+import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.model.VotingRecord;
+import com.rakit.electionsystem.repository.VoteRepository;
+import com.rakit.electionsystem.repository.VotingRecordRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+/**
+ * Vote storage in the main database through JPA. Runs in the caller's transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "votes.sharding.enabled", havingValue = "false", matchIfMissing = true)
+public class JpaVoteStorage implements VoteStorage {
+
+    private final VoteRepository voteRepository;
+    private final VotingRecordRepository votingRecordRepository;
+
+    @Override
+    public boolean isInMainDatabase() {
+        return true;
+    }
+
+    @Override
+    public boolean hasVoted(Long voterId, Long electionId) {
+        return votingRecordRepository.existsByVoterIdAndElectionId(voterId, electionId);
+    }
+
+    @Override
+    public void recordVote(Voter voter, Election election, ElectionOption option, byte[] ballot, long weight) {
+        // Create the anonymous vote
+        Vote vote = new Vote();
+        vote.setElection(election);
+        vote.setElectionOption(option);
+        vote.setBallot(ballot);
+        vote.setWeight(weight);
+        voteRepository.save(vote);
+
+        // Create the voting record to prevent double voting. The identity insert runs right away,
+        // so the unique (election_id, voter_id) index rejects a concurrent duplicate here
+        VotingRecord votingRecord = new VotingRecord();
+        votingRecord.setVoter(voter);
+        votingRecord.setElection(election);
+        try {
+            votingRecordRepository.save(votingRecord);
+        } catch (DataIntegrityViolationException ex) {
+            throw new AlreadyVotedException("Voter has already voted in this election.");
+        }
+    }
+
+    @Override
+    public long countByElectionId(Long electionId) {
+        return voteRepository.countByElectionId(electionId);
+    }
+
+    @Override
+    public long countByElectionIdAndElectionOptionId(Long electionId, Long optionId) {
+        return voteRepository.countByElectionIdAndElectionOptionId(electionId, optionId);
+    }
+
+    @Override
+    public long countByElectionOptionId(Long optionId) {
+        return voteRepository.countByElectionOptionId(optionId);
+    }
+
+    @Override
+    public Map<Long, BigInteger> sumWeightsByElectionOption(Long electionId) {
+        Map<Long, BigInteger> weights = new HashMap<>();
+        for (Object[] row : voteRepository.sumWeightsByElectionOption(electionId)) {
+            weights.put(((Number) row[0]).longValue(), toBigInteger((Number) row[1]));
+        }
+        return weights;
+    }
+
+    @Override
+    public long countParticipantsByElectionId(Long electionId) {
+        return votingRecordRepository.countByElectionId(electionId);
+    }
+
+    @Override
+    public void forEachVote(Long electionId, LongConsumer optionIds) {
+        try (Stream<Long> votes = voteRepository.streamOptionIdsByElectionId(electionId)) {
+            votes.forEach(optionIds::accept);
+        }
+    }
+
+    @Override
+    public void forEachWeightedVote(Long electionId, BiConsumer<Long, Long> votes) {
+        try (Stream<Object[]> rows = voteRepository.streamWeightedVotesByElectionId(electionId)) {
+            rows.forEach(row -> votes.accept((Long) row[0], (Long) row[1]));
+        }
+    }
+
+    @Override
+    public void forEachBallot(Long electionId, Consumer<byte[]> ballots) {
+        try (Stream<byte[]> rows = voteRepository.streamBallotsByElectionId(electionId)) {
+            rows.forEach(ballots);
+        }
+    }
+
+    @Override
+    public void forEachVotingRecord(Long electionId, BiConsumer<Long, LocalDateTime> records) {
+        try (Stream<Object[]> rows = votingRecordRepository.streamVoterIdsByElectionId(electionId)) {
+            rows.forEach(row -> records.accept((Long) row[0], (LocalDateTime) row[1]));
+        }
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> findVotedAtByVoterId(Long voterId) {
+        Map<Long, LocalDateTime> votedAt = new HashMap<>();
+        for (Object[] row : votingRecordRepository.findVotedAtByVoterId(voterId)) {
+            votedAt.put((Long) row[0], (LocalDateTime) row[1]);
+        }
+        return votedAt;
+    }
+
+    @Override
+    public void deleteByElectionId(Long electionId) {
+        voteRepository.deleteByElectionId(electionId);
+        votingRecordRepository.deleteByElectionId(electionId);
+    }
+
+    /**
+     * Converts a SQL sum, which drivers return as BigDecimal, BigInteger or Long.
+     */
+    static BigInteger toBigInteger(Number value) {
+        if (value == null) {
+            return BigInteger.ZERO;
+        }
+        if (value instanceof BigInteger bigInteger) {
+            return bigInteger;
+        }
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.toBigIntegerExact();
+        }
+        return BigInteger.valueOf(value.longValue());
+    }
+}
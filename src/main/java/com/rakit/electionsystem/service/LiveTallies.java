@@ -0,0 +1,136 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory running tallies of weighted elections, so results do not re-sum every vote while
+ * voting is open. A tally is only started when a weighted election is activated with no votes
+ * yet, and every vote committed afterwards is added to it; elections that already had votes,
+ * or were opened before a restart, are left to the database aggregate.
+ * Votes are only seen by the instance that accepted them, so this is opt-in through
+ * {@code results.live-tallies.enabled} and must stay off when several instances share a database.
+ */
+@Component
+@Slf4j
+public class LiveTallies {
+
+    private final ElectionRepository electionRepository;
+    private final VoteStorage voteStorage;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final ConcurrentMap<Long, Tally> tallies = new ConcurrentHashMap<>();
+
+    public LiveTallies(
+            ElectionRepository electionRepository,
+            VoteStorage voteStorage,
+            TransactionTemplate transactionTemplate,
+            @Value("${results.live-tallies.enabled:false}") boolean enabled
+    ) {
+        this.electionRepository = electionRepository;
+        this.voteStorage = voteStorage;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts tallies for weighted elections that were just activated.
+     * The tally is registered before the election's votes are counted: a vote committed in
+     * between either shows up in the count, which discards the tally, or lands in the tally.
+     *
+     * @param event the status change
+     */
+    @EventListener
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        if (!enabled || event.getStatus() != ElectionStatus.ACTIVE) {
+            return;
+        }
+        for (Long electionId : event.getElectionIds()) {
+            if (tallies.containsKey(electionId)) {
+                continue;
+            }
+            Tally tally = new Tally();
+            tallies.put(electionId, tally);
+            // Not read-only, so the count is answered by the primary rather than a lagging replica
+            Boolean fresh = transactionTemplate.execute(status -> electionRepository.findById(electionId)
+                    .filter(Election::isWeighted)
+                    .map(election -> voteStorage.countByElectionId(electionId) == 0)
+                    .orElse(false));
+            if (!Boolean.TRUE.equals(fresh)) {
+                tallies.remove(electionId, tally);
+            } else {
+                log.debug("Started live tally for election {}", electionId);
+            }
+        }
+    }
+
+    /**
+     * Adds a committed vote to its election's tally, if the election has one.
+     *
+     * @param electionId the election ID
+     * @param optionId the option voted for
+     * @param weight the vote's weight
+     */
+    public void record(Long electionId, Long optionId, long weight) {
+        Tally tally = tallies.get(electionId);
+        if (tally != null) {
+            OptionTally option = tally.options.computeIfAbsent(optionId, id -> new OptionTally());
+            option.weight.add(weight);
+            option.votes.increment();
+        }
+    }
+
+    /**
+     * @param electionId the election ID
+     * @return the election's tally, or empty if it has none
+     */
+    public Optional<Snapshot> snapshot(Long electionId) {
+        Tally tally = tallies.get(electionId);
+        if (tally == null) {
+            return Optional.empty();
+        }
+        Map<Long, Long> votes = new HashMap<>();
+        Map<Long, BigInteger> weights = new HashMap<>();
+        tally.options.forEach((optionId, option) -> {
+            votes.put(optionId, option.votes.sum());
+            weights.put(optionId, option.weight.sum());
+        });
+        return Optional.of(new Snapshot(votes, weights));
+    }
+
+    /**
+     * A point-in-time view of a tally.
+     *
+     * @param votes number of votes per option ID; options without votes are absent
+     * @param weights summed weight per option ID; options without votes are absent
+     */
+    public record Snapshot(Map<Long, Long> votes, Map<Long, BigInteger> weights) {
+    }
+
+    /**
+     * Running tallies of one election, by option ID.
+     */
+    private static final class Tally {
+        private final ConcurrentMap<Long, OptionTally> options = new ConcurrentHashMap<>();
+    }
+
+    private static final class OptionTally {
+        private final WeightCounter weight = new WeightCounter();
+        private final LongAdder votes = new LongAdder();
+    }
+}
@@ -0,0 +1,196 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.NonVoterResponse;
+import com.rakit.electionsystem.dto.NonVotersResponse;
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.VoterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Service for listing the eligible voters of an active election who have not voted yet, so
+ * they can be reminded. Voters are listed in ID order with keyset pagination, so every page
+ * costs the same however deep it is.
+ * <p>
+ * Eligible voters are the same ones vote casting admits: those on the election's roll, if any,
+ * and for weighted elections only those on its eligibility list.
+ * <p>
+ * Elections without a roll are answered by an anti-join in the database, probing the unique
+ * (election_id, voter_id) index of voting_record (and of eligible_voter, when weighted) for
+ * each voter. Elections with a
+ * roll, vote storage outside the main database (sharding) or
+ * {@code admin.non-voters.use-bitmaps=true} use set difference instead: the eligible voters
+ * minus a bitmap of the voting records. That difference is reused for
+ * {@code admin.non-voters.snapshot-freshness}, so paging does not rescan the voting records.
+ */
+@Service
+@Slf4j
+public class NonVoterService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final ElectionRepository electionRepository;
+    private final VoterRepository voterRepository;
+    private final VoteStorage voteStorage;
+    private final EligibilityService eligibilityService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean useBitmaps;
+    private final SingleFlight<Long, VoterRoll> snapshots;
+
+    public NonVoterService(
+            ElectionRepository electionRepository,
+            VoterRepository voterRepository,
+            VoteStorage voteStorage,
+            EligibilityService eligibilityService,
+            TransactionTemplate transactionTemplate,
+            @Value("${admin.non-voters.use-bitmaps:false}") boolean useBitmaps,
+            @Value("${admin.non-voters.snapshot-freshness:30s}") Duration snapshotFreshness
+    ) {
+        this.electionRepository = electionRepository;
+        this.voterRepository = voterRepository;
+        this.voteStorage = voteStorage;
+        this.eligibilityService = eligibilityService;
+        this.transactionTemplate = transactionTemplate;
+        this.useBitmaps = useBitmaps;
+        this.snapshots = new SingleFlight<>(snapshotFreshness);
+    }
+
+    /**
+     * Checks that an election exists and is active, so its non-voters may be listed.
+     *
+     * @param electionId the election ID
+     * @return the election
+     */
+    @Transactional(readOnly = true)
+    public Election requireActive(Long electionId) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+        if (!election.isActive()) {
+            throw new InvalidRequestException("Non-voters can only be listed for active elections.");
+        }
+        return election;
+    }
+
+    /**
+     * Gets one page of an election's non-voters.
+     *
+     * @param electionId the election ID
+     * @param afterId only voters with a higher ID are listed; null to start at the beginning
+     * @param limit page size, at most 1000
+     * @return the non-voters and the key of the next page
+     */
+    public NonVotersResponse findNonVoters(Long electionId, Long afterId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        Election election = requireActive(electionId);
+        List<NonVoterResponse> voters = transactionTemplate.execute(status ->
+                nextPage(election, afterId == null ? 0 : afterId, limit));
+        Long nextAfter = voters.size() == limit ? voters.get(voters.size() - 1).getId() : null;
+        return new NonVotersResponse(electionId, voters, nextAfter);
+    }
+
+    /**
+     * Writes every non-voter of an election as CSV, one keyset page per transaction.
+     *
+     * @param electionId the election ID
+     * @param out the response stream
+     * @throws IOException if writing fails
+     */
+    public void exportNonVoters(Long electionId, OutputStream out) throws IOException {
+        Election election = requireActive(electionId);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write("voter_id,email,first_name,last_name\n");
+        long afterId = 0;
+        long written = 0;
+        while (true) {
+            long from = afterId;
+            List<NonVoterResponse> page = transactionTemplate.execute(status -> nextPage(election, from, MAX_LIMIT));
+            for (NonVoterResponse voter : page) {
+                writer.write(voter.getId() + "," + ElectionArchiveService.csv(voter.getEmail()) + ","
+                        + ElectionArchiveService.csv(voter.getFirstName()) + ","
+                        + ElectionArchiveService.csv(voter.getLastName()) + "\n");
+            }
+            written += page.size();
+            if (page.size() < MAX_LIMIT) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+        writer.flush();
+        log.debug("Exported {} non-voters of election {}", written, electionId);
+    }
+
+    private List<NonVoterResponse> nextPage(Election election, long afterId, int limit) {
+        Optional<VoterRoll> roll = eligibilityService.findRoll(election);
+        if (roll.isEmpty() && !useBitmaps && voteStorage.isInMainDatabase()) {
+            return toResponses(election.isWeighted()
+                    ? voterRepository.findListedNonVoterContacts(election.getId(), afterId, Limit.of(limit))
+                    : voterRepository.findNonVoterContacts(election.getId(), afterId, Limit.of(limit)));
+        }
+
+        VoterRoll candidates = snapshots.get(election.getId(), () -> candidates(election, roll));
+        List<NonVoterResponse> page = new ArrayList<>(limit);
+        long after = afterId;
+        // Inactive voters on the roll are skipped, so a batch may yield fewer voters than asked for
+        while (page.size() < limit) {
+            int wanted = limit - page.size();
+            List<Long> ids = new ArrayList<>(wanted);
+            candidates.forEachAfter(after, voterId -> {
+                ids.add(voterId);
+                return ids.size() < wanted;
+            });
+            if (ids.isEmpty()) {
+                break;
+            }
+            page.addAll(toResponses(voterRepository.findActiveContactsByIdIn(ids)));
+            after = ids.get(ids.size() - 1);
+        }
+        return page;
+    }
+
+    private VoterRoll candidates(Election election, Optional<VoterRoll> roll) {
+        VoterRoll eligible;
+        if (election.isWeighted()) {
+            VoterRoll listed = eligibilityService.findListedVoters(election);
+            eligible = roll.map(listed::and).orElse(listed);
+        } else {
+            eligible = roll.orElseGet(() -> {
+                try (Stream<Object[]> voters = voterRepository.streamActiveVoterPesels()) {
+                    return VoterRoll.of(voters.mapToLong(row -> (Long) row[0]).toArray());
+                }
+            });
+        }
+        LongStream.Builder voted = LongStream.builder();
+        voteStorage.forEachVotingRecord(election.getId(), (voterId, votedAt) -> voted.add(voterId));
+        return eligible.andNot(VoterRoll.of(voted.build().toArray()));
+    }
+
+    private static List<NonVoterResponse> toResponses(List<Object[]> rows) {
+        List<NonVoterResponse> voters = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            voters.add(new NonVoterResponse((Long) row[0], (String) row[1], (String) row[2], (String) row[3]));
+        }
+        return voters;
+    }
+}
@@ -0,0 +1,103 @@
+package com.rakit.electionsystem.service;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Ranked ballots packed into two flat buffers: every preference as one byte, back to back, and
+ * the start offset of every ballot as an int. Off-heap instances keep both buffers in direct
+ * memory, so ten million ballots cost only a few megabytes of heap.
+ * Filled by a single thread; afterwards safe to read from many threads.
+ */
+public final class PackedBallots {
+
+    private final boolean offHeap;
+    private ByteBuffer preferences;
+    private IntBuffer offsets;
+    private int size;
+    private int length;
+
+    /**
+     * @param expectedBallots initial capacity in ballots
+     * @param offHeap whether to allocate the buffers in direct memory
+     */
+    public PackedBallots(int expectedBallots, boolean offHeap) {
+        this.offHeap = offHeap;
+        long ballots = Math.max(16, expectedBallots);
+        this.preferences = allocate((int) Math.min(Integer.MAX_VALUE, ballots * 4));
+        this.offsets = allocate((int) Math.min(Integer.MAX_VALUE - 3, (ballots + 1) * Integer.BYTES)).asIntBuffer();
+        this.offsets.put(0, 0);
+    }
+
+    /**
+     * Appends a ballot.
+     *
+     * @param ballot packed option indexes in order of preference
+     */
+    public void add(byte[] ballot) {
+        if (ballot == null || ballot.length == 0) {
+            throw new IllegalArgumentException("A ranked ballot must rank at least one option");
+        }
+        if ((long) length + ballot.length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many preferences to pack");
+        }
+        if (length + ballot.length > preferences.capacity()) {
+            preferences = grow(preferences, length + ballot.length);
+        }
+        if (size + 2 > offsets.capacity()) {
+            offsets = grow(offsets);
+        }
+        preferences.put(length, ballot);
+        length += ballot.length;
+        offsets.put(++size, length);
+    }
+
+    /**
+     * @return number of ballots
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return whether the buffers live in direct memory
+     */
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    /**
+     * @param ballot ballot number
+     * @return number of preferences on the ballot
+     */
+    public int length(int ballot) {
+        return offsets.get(ballot + 1) - offsets.get(ballot);
+    }
+
+    /**
+     * @param ballot ballot number
+     * @param rank zero-based preference rank
+     * @return the option index at that rank
+     */
+    public int preference(int ballot, int rank) {
+        return preferences.get(offsets.get(ballot) + rank) & 0xFF;
+    }
+
+    private ByteBuffer allocate(int bytes) {
+        return offHeap ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes);
+    }
+
+    private ByteBuffer grow(ByteBuffer buffer, int needed) {
+        int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max((long) needed, buffer.capacity() * 2L));
+        ByteBuffer grown = allocate(capacity);
+        grown.put(0, buffer, 0, length);
+        return grown;
+    }
+
+    private IntBuffer grow(IntBuffer buffer) {
+        int capacity = (int) Math.min(Integer.MAX_VALUE / Integer.BYTES, buffer.capacity() * 2L);
+        IntBuffer grown = allocate(capacity * Integer.BYTES).asIntBuffer();
+        grown.put(0, buffer, 0, size + 1);
+        return grown;
+    }
+}
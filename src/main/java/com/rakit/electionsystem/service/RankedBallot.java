@@ -0,0 +1,78 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Packed form of a ranked ballot: one byte per preference holding the option's index among the
+ * election's options sorted by ID. Options cannot change once an election leaves DRAFT, so the
+ * indexes stay valid for every ballot; ranked elections are limited to 255 options.
+ */
+public final class RankedBallot {
+
+    /**
+     * Largest number of options a ranked election may have.
+     */
+    public static final int MAX_OPTIONS = 255;
+
+    private RankedBallot() {
+    }
+
+    /**
+     * Gets the option IDs of an election in index order.
+     *
+     * @param election the election
+     * @return option IDs sorted ascending
+     */
+    public static List<Long> optionIds(Election election) {
+        return election.getOptions().stream()
+                .map(ElectionOption::getId)
+                .sorted(Comparator.naturalOrder())
+                .toList();
+    }
+
+    /**
+     * Packs a ranking.
+     *
+     * @param rankedOptionIds option IDs in order of preference
+     * @param optionIds the election's option IDs in index order
+     * @return the packed ballot
+     */
+    public static byte[] encode(List<Long> rankedOptionIds, List<Long> optionIds) {
+        if (rankedOptionIds == null || rankedOptionIds.isEmpty()) {
+            throw new InvalidRequestException("A ranked ballot must rank at least one option.");
+        }
+        if (optionIds.size() > MAX_OPTIONS) {
+            throw new InvalidRequestException("Ranked elections support at most " + MAX_OPTIONS + " options.");
+        }
+        Set<Long> seen = new HashSet<>();
+        byte[] ballot = new byte[rankedOptionIds.size()];
+        for (int rank = 0; rank < ballot.length; rank++) {
+            Long optionId = rankedOptionIds.get(rank);
+            int index = optionIds.indexOf(optionId);
+            if (index < 0) {
+                throw new InvalidRequestException("Selected option does not belong to the specified election.");
+            }
+            if (!seen.add(optionId)) {
+                throw new InvalidRequestException("An option can be ranked only once.");
+            }
+            ballot[rank] = (byte) index;
+        }
+        return ballot;
+    }
+
+    /**
+     * @param ballot a packed ballot
+     * @param rank zero-based preference rank
+     * @return the option index at that rank
+     */
+    public static int indexAt(byte[] ballot, int rank) {
+        return ballot[rank] & 0xFF;
+    }
+}
@@ -0,0 +1,128 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.ElectionResultsResponse;
+import com.rakit.electionsystem.dto.ElectionStatisticsResponse;
+import com.rakit.electionsystem.dto.RankedResultsResponse;
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.model.ElectionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Request-coalescing layer in front of {@link ResultsService}.
+ * Concurrent requests for the same election share one in-flight computation, and the
+ * computed value is served to followers for a short freshness window. Waiting callers
+ * do not open a transaction or hold a connection; only the leader does.
+ *
+ * Once an election is closed its results can no longer change, so a final snapshot is
+ * computed shortly after the close and served from memory from then on.
+ */
+@Service
+@Slf4j
+public class ResultsQueryCoalescer {
+
+    private final ResultsService resultsService;
+    private final TaskScheduler taskScheduler;
+    private final Duration snapshotDelay;
+    private final SingleFlight<Long, ElectionResultsResponse> resultsFlights;
+    private final SingleFlight<Long, ElectionStatisticsResponse> statisticsFlights;
+    private final SingleFlight<Long, RankedResultsResponse> rankedFlights;
+    private final ConcurrentMap<Long, ElectionResultsResponse> closedSnapshots = new ConcurrentHashMap<>();
+
+    public ResultsQueryCoalescer(
+            ResultsService resultsService,
+            TaskScheduler taskScheduler,
+            @Value("${results.coalescing.freshness:1s}") Duration freshness,
+            @Value("${results.closed-snapshot.delay:5s}") Duration snapshotDelay
+    ) {
+        this.resultsService = resultsService;
+        this.taskScheduler = taskScheduler;
+        this.snapshotDelay = snapshotDelay;
+        this.resultsFlights = new SingleFlight<>(freshness);
+        this.statisticsFlights = new SingleFlight<>(freshness);
+        this.rankedFlights = new SingleFlight<>(freshness);
+    }
+
+    /**
+     * Gets complete results for an election, sharing the computation with concurrent callers.
+     *
+     * @param electionId the election ID
+     * @return election results with vote counts
+     */
+    public ElectionResultsResponse getElectionResults(Long electionId) {
+        ElectionResultsResponse snapshot = closedSnapshots.get(electionId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        return resultsFlights.get(electionId, () -> resultsService.getElectionResults(electionId));
+    }
+
+    /**
+     * Gets statistics for an election, sharing the computation with concurrent callers.
+     *
+     * @param electionId the election ID
+     * @return election statistics
+     */
+    public ElectionStatisticsResponse getElectionStatistics(Long electionId) {
+        return statisticsFlights.get(electionId, () -> resultsService.getElectionStatistics(electionId));
+    }
+
+    /**
+     * Gets instant-runoff results for a ranked election, sharing the count with concurrent callers.
+     *
+     * @param electionId the election ID
+     * @return round-by-round results
+     */
+    public RankedResultsResponse getRankedResults(Long electionId) {
+        return rankedFlights.get(electionId, () -> resultsService.getRankedResults(electionId));
+    }
+
+    /**
+     * Drops cached values for an election so the next request recomputes them.
+     *
+     * @param electionId the election ID
+     */
+    public void invalidate(Long electionId) {
+        resultsFlights.invalidate(electionId);
+        statisticsFlights.invalidate(electionId);
+        rankedFlights.invalidate(electionId);
+    }
+
+    /**
+     * Reacts to election status changes. Any snapshot of a reopened election is dropped; a closed
+     * election gets a final snapshot after a short delay that lets in-flight votes commit.
+     *
+     * @param event the status change
+     */
+    @EventListener
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        for (Long electionId : event.getElectionIds()) {
+            closedSnapshots.remove(electionId);
+            invalidate(electionId);
+            if (event.getStatus() == ElectionStatus.CLOSED) {
+                taskScheduler.schedule(() -> snapshotClosedResults(electionId), Instant.now().plus(snapshotDelay));
+            }
+        }
+    }
+
+    private void snapshotClosedResults(Long electionId) {
+        try {
+            ElectionResultsResponse results = resultsService.getElectionResults(electionId);
+            if (results.getStatus() == ElectionStatus.CLOSED) {
+                closedSnapshots.put(electionId, results);
+                invalidate(electionId);
+                log.info("Stored final results snapshot for election {}", electionId);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not snapshot results of closed election {}", electionId, ex);
+        }
+    }
+}
@@ -3,46 +3,103 @@ package com.rakit.electionsystem.service;
 import com.rakit.electionsystem.dto.ElectionResultsResponse;
 import com.rakit.electionsystem.dto.ElectionStatisticsResponse;
 import com.rakit.electionsystem.dto.OptionResultResponse;
+import com.rakit.electionsystem.dto.RankedResultsResponse;
+import com.rakit.electionsystem.dto.RankedRoundResponse;
+import com.rakit.electionsystem.exception.InvalidRequestException;
 import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.BallotType;
 import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.repository.ElectionOptionRepository;
 import com.rakit.electionsystem.repository.ElectionRepository;
-import com.rakit.electionsystem.repository.VoteRepository;
-import com.rakit.electionsystem.repository.VotingRecordRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Service for retrieving election results and statistics.
  * Aggregates anonymous votes while maintaining voter privacy.
+ * Every query is timed under {@code election.results.query}, tagged by query type.
  */
 @Service
-@RequiredArgsConstructor
 public class ResultsService {
 
     private final ElectionRepository electionRepository;
-    private final VoteRepository voteRepository;
-    private final VotingRecordRepository votingRecordRepository;
+    private final ElectionOptionRepository electionOptionRepository;
+    private final VoteStorage voteStorage;
+    private final ElectionArchiveService electionArchiveService;
+    private final IrvTabulator irvTabulator;
+    private final LiveTallies liveTallies;
+    private final EligibilityService eligibilityService;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight<Long, Map<Long, Long>> approvalTallies;
+
+    public ResultsService(
+            ElectionRepository electionRepository,
+            ElectionOptionRepository electionOptionRepository,
+            VoteStorage voteStorage,
+            ElectionArchiveService electionArchiveService,
+            IrvTabulator irvTabulator,
+            LiveTallies liveTallies,
+            EligibilityService eligibilityService,
+            MeterRegistry meterRegistry,
+            @Value("${results.coalescing.freshness:1s}") Duration tallyFreshness
+    ) {
+        this.electionRepository = electionRepository;
+        this.electionOptionRepository = electionOptionRepository;
+        this.voteStorage = voteStorage;
+        this.electionArchiveService = electionArchiveService;
+        this.irvTabulator = irvTabulator;
+        this.liveTallies = liveTallies;
+        this.eligibilityService = eligibilityService;
+        this.meterRegistry = meterRegistry;
+        this.approvalTallies = new SingleFlight<>(tallyFreshness);
+    }
 
     /**
      * Gets complete results for an election including vote counts per option.
+     * Approval elections count every selected option; their total is the number of ballots.
+     * Weighted elections report both the headcount and the summed weight of every option.
      *
      * @param electionId the election ID
      * @return election results with vote counts
      */
     @Transactional(readOnly = true)
     public ElectionResultsResponse getElectionResults(Long electionId) {
+        return queryTimer("results").record(() -> computeElectionResults(electionId));
+    }
+
+    private ElectionResultsResponse computeElectionResults(Long electionId) {
         Election election = electionRepository.findById(electionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
 
+        if (election.isWeighted()) {
+            return computeWeightedResults(election);
+        }
+
+        VoteArchive archive = election.isArchived() ? electionArchiveService.getArchive(electionId) : null;
+        Map<Long, Long> approvals = archive == null && election.getBallotType() == BallotType.APPROVAL
+                ? countApprovals(election)
+                : null;
         List<OptionResultResponse> optionResults = election.getOptions().stream()
                 .map(option -> {
-                    Long voteCount = voteRepository.countByElectionIdAndElectionOptionId(
-                            electionId, option.getId()
-                    );
+                    Long voteCount = archive != null
+                            ? archive.getVotes(option.getId())
+                            : approvals != null
+                            ? approvals.get(option.getId())
+                            : voteStorage.countByElectionIdAndElectionOptionId(electionId, option.getId());
                     return new OptionResultResponse(
                             option.getId(),
                             option.getOptionTitle(),
@@ -52,7 +109,7 @@ public class ResultsService {
                 })
                 .collect(Collectors.toList());
 
-        Long totalVotes = voteRepository.countByElectionId(electionId);
+        Long totalVotes = archive != null ? archive.getTotalVotes() : voteStorage.countByElectionId(electionId);
 
         return new ElectionResultsResponse(
                 election.getId(),
@@ -64,6 +121,57 @@ public class ResultsService {
         );
     }
 
+    /**
+     * Weighted results, from the archive, the live tally or the database aggregate, in that order.
+     * Weights are summed as BigIntegers; the database sums them as DECIMAL(38, 0).
+     */
+    private ElectionResultsResponse computeWeightedResults(Election election) {
+        Long electionId = election.getId();
+        Map<Long, Long> votes = new HashMap<>();
+        Map<Long, BigInteger> weights = new HashMap<>();
+        if (election.isArchived()) {
+            VoteArchive archive = electionArchiveService.getArchive(electionId);
+            for (ElectionOption option : election.getOptions()) {
+                votes.put(option.getId(), archive.getVotes(option.getId()));
+                weights.put(option.getId(), archive.getWeightedVotes(option.getId()));
+            }
+        } else {
+            Optional<LiveTallies.Snapshot> live = liveTallies.snapshot(electionId);
+            if (live.isPresent()) {
+                votes = live.get().votes();
+                weights = live.get().weights();
+            } else {
+                weights = voteStorage.sumWeightsByElectionOption(electionId);
+                for (ElectionOption option : election.getOptions()) {
+                    votes.put(option.getId(),
+                            voteStorage.countByElectionIdAndElectionOptionId(electionId, option.getId()));
+                }
+            }
+        }
+
+        long totalVotes = 0;
+        BigInteger totalWeight = BigInteger.ZERO;
+        List<OptionResultResponse> optionResults = new ArrayList<>();
+        for (ElectionOption option : election.getOptions()) {
+            long voteCount = votes.getOrDefault(option.getId(), 0L);
+            BigInteger weight = weights.getOrDefault(option.getId(), BigInteger.ZERO);
+            totalVotes += voteCount;
+            totalWeight = totalWeight.add(weight);
+            optionResults.add(new OptionResultResponse(option.getId(), option.getOptionTitle(),
+                    option.getDescription(), voteCount, weight));
+        }
+
+        return new ElectionResultsResponse(
+                election.getId(),
+                election.getName(),
+                election.getDescription(),
+                election.getStatus(),
+                totalVotes,
+                optionResults,
+                totalWeight
+        );
+    }
+
     /**
      * Gets vote count for a specific election option.
      *
@@ -72,7 +180,39 @@ public class ResultsService {
      */
     @Transactional(readOnly = true)
     public Long getOptionVoteCount(Long optionId) {
-        return voteRepository.countByElectionOptionId(optionId);
+        return queryTimer("option-count").record(() -> electionArchiveService.findArchivedOptionVotes(optionId)
+                .or(() -> findApprovalVotes(optionId))
+                .orElseGet(() -> voteStorage.countByElectionOptionId(optionId)));
+    }
+
+    private Optional<Long> findApprovalVotes(Long optionId) {
+        return electionOptionRepository.findById(optionId)
+                .map(ElectionOption::getElection)
+                .filter(election -> election.getBallotType() == BallotType.APPROVAL)
+                .map(election -> countApprovals(election).get(optionId));
+    }
+
+    /**
+     * Tallies the live approval ballots of an election in one pass. The tally is shared for
+     * {@code results.coalescing.freshness}, so per-option lookups do not each rescan the ballots.
+     *
+     * @param election the election
+     * @return approvals per option ID
+     */
+    private Map<Long, Long> countApprovals(Election election) {
+        return approvalTallies.get(election.getId(), () -> tallyApprovals(election));
+    }
+
+    private Map<Long, Long> tallyApprovals(Election election) {
+        List<Long> optionIds = RankedBallot.optionIds(election);
+        ApprovalTally tally = new ApprovalTally(optionIds.size());
+        voteStorage.forEachBallot(election.getId(), tally::add);
+        long[] counts = tally.counts();
+        Map<Long, Long> approvals = new HashMap<>();
+        for (int index = 0; index < counts.length; index++) {
+            approvals.put(optionIds.get(index), counts[index]);
+        }
+        return approvals;
     }
 
     /**
@@ -83,28 +223,105 @@ public class ResultsService {
      */
     @Transactional(readOnly = true)
     public ElectionStatisticsResponse getElectionStatistics(Long electionId) {
+        return queryTimer("statistics").record(() -> computeElectionStatistics(electionId));
+    }
+
+    private ElectionStatisticsResponse computeElectionStatistics(Long electionId) {
         Election election = electionRepository.findById(electionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
 
-        Long totalVotes = voteRepository.countByElectionId(electionId);
-        Long totalEligibleVoters = votingRecordRepository.countByElectionId(electionId);
+        VoteArchive archive = election.isArchived() ? electionArchiveService.getArchive(electionId) : null;
+        Long totalVotes = archive != null ? archive.getTotalVotes() : voteStorage.countByElectionId(electionId);
+        Long participants = archive != null
+                ? archive.getParticipants()
+                : voteStorage.countParticipantsByElectionId(electionId);
         Long totalOptions = (long) election.getOptions().size();
+        Long eligibleVoters = eligibilityService.findRoll(election).map(VoterRoll::size).orElse(null);
 
-        // Calculate participation rate (votes cast / eligible voters who participated)
-        double participationRate = totalEligibleVoters > 0
-                ? (totalVotes * 100.0) / totalEligibleVoters
-                : 0.0;
+        double participationRate = 0.0;
+        if (eligibleVoters != null) {
+            // Turnout: voters who participated / voters on the roll
+            if (eligibleVoters > 0) {
+                participationRate = (participants * 100.0) / eligibleVoters;
+            }
+        } else if (participants > 0) {
+            // No roll: votes cast / voters who participated
+            participationRate = (totalVotes * 100.0) / participants;
+        }
 
         return new ElectionStatisticsResponse(
                 election.getId(),
                 election.getName(),
                 election.getStatus(),
                 totalVotes,
-                totalEligibleVoters,
+                participants,
                 totalOptions,
                 participationRate,
                 election.getStartDate(),
-                election.getEndDate()
+                election.getEndDate(),
+                eligibleVoters
         );
     }
+
+    /**
+     * Counts a ranked election by instant runoff and reports every round.
+     * Ballots are loaded into packed arrays, from the archive if the election is archived.
+     *
+     * @param electionId the election ID
+     * @return round-by-round tallies and the winner
+     */
+    @Transactional(readOnly = true)
+    public RankedResultsResponse getRankedResults(Long electionId) {
+        return queryTimer("ranked").record(() -> computeRankedResults(electionId));
+    }
+
+    private RankedResultsResponse computeRankedResults(Long electionId) {
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+        if (election.getBallotType() != BallotType.RANKED) {
+            throw new InvalidRequestException("Election does not use ranked ballots.");
+        }
+
+        List<ElectionOption> options = election.getOptions().stream()
+                .sorted(Comparator.comparing(ElectionOption::getId))
+                .collect(Collectors.toList());
+        VoteArchive archive = election.isArchived() ? electionArchiveService.getArchive(electionId) : null;
+        PackedBallots ballots = irvTabulator.allocate(
+                archive != null ? archive.getTotalVotes() : voteStorage.countByElectionId(electionId));
+        if (archive != null) {
+            archive.forEachBallot(ballots::add);
+        } else {
+            voteStorage.forEachBallot(electionId, ballots::add);
+        }
+        IrvTabulator.Result result = irvTabulator.tabulate(ballots, options.size());
+
+        List<RankedRoundResponse> rounds = new ArrayList<>();
+        for (IrvTabulator.Round round : result.rounds()) {
+            List<OptionResultResponse> tallies = new ArrayList<>();
+            for (int index = 0; index < options.size(); index++) {
+                if (round.continuing()[index]) {
+                    ElectionOption option = options.get(index);
+                    tallies.add(new OptionResultResponse(option.getId(), option.getOptionTitle(),
+                            option.getDescription(), round.tallies()[index]));
+                }
+            }
+            Long eliminated = round.eliminated() >= 0 ? options.get(round.eliminated()).getId() : null;
+            rounds.add(new RankedRoundResponse(round.number(), tallies, round.exhausted(), eliminated));
+        }
+
+        ElectionOption winner = result.winner() >= 0 ? options.get(result.winner()) : null;
+        return new RankedResultsResponse(
+                election.getId(),
+                election.getName(),
+                election.getStatus(),
+                result.ballots(),
+                winner != null ? winner.getId() : null,
+                winner != null ? winner.getOptionTitle() : null,
+                rounds
+        );
+    }
+
+    private Timer queryTimer(String query) {
+        return meterRegistry.timer("election.results.query", "query", query);
+    }
 }
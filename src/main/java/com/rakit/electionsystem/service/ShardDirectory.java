@@ -0,0 +1,106 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.config.ShardedDataSource;
+import com.rakit.electionsystem.model.ShardAssignment;
+import com.rakit.electionsystem.repository.ShardAssignmentRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Knows which shard holds the votes of each election.
+ * An election is assigned to shard {@code electionId % shardCount} the first time it is
+ * needed, and the assignment is persisted so it survives a change in the number of shards.
+ * Assignments are cached; moving an election updates both the table and the cache.
+ * The table is always read in a read-write transaction of its own, so lookups go to the primary
+ * even when the caller's transaction is read-only and routed to a replica, which may not have the
+ * assignment yet.
+ */
+@Component
+@ConditionalOnProperty(name = "votes.sharding.enabled", havingValue = "true")
+public class ShardDirectory {
+
+    private final ShardAssignmentRepository shardAssignmentRepository;
+    private final int shardCount;
+    private final TransactionTemplate newTransaction;
+    private final Map<Long, Integer> assignments = new ConcurrentHashMap<>();
+
+    public ShardDirectory(ShardAssignmentRepository shardAssignmentRepository, ShardedDataSource shards,
+                          PlatformTransactionManager transactionManager) {
+        this.shardAssignmentRepository = shardAssignmentRepository;
+        this.shardCount = shards.size();
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Gets the shard of an election, assigning one if the election has none yet.
+     * The assignment is committed on its own, independent of the caller's transaction.
+     *
+     * @param electionId the election ID
+     * @return the shard number
+     */
+    public int shardOf(Long electionId) {
+        Integer shard = assignments.get(electionId);
+        if (shard != null) {
+            return shard;
+        }
+        shard = findAssigned(electionId);
+        if (shard == null) {
+            shard = assign(electionId);
+        }
+        Integer existing = assignments.putIfAbsent(electionId, shard);
+        return existing != null ? existing : shard;
+    }
+
+    /**
+     * Records that an election now lives on another shard.
+     *
+     * @param electionId the election ID
+     * @param shard the new shard
+     */
+    public void reassign(Long electionId, int shard) {
+        newTransaction.executeWithoutResult(status -> {
+            ShardAssignment assignment = shardAssignmentRepository.findById(electionId)
+                    .orElseGet(() -> ShardAssignment.builder().electionId(electionId).build());
+            assignment.setShard(shard);
+            shardAssignmentRepository.save(assignment);
+        });
+        assignments.put(electionId, shard);
+    }
+
+    /**
+     * @return number of shards
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    private int assign(Long electionId) {
+        int shard = (int) Math.floorMod(electionId, (long) shardCount);
+        try {
+            newTransaction.executeWithoutResult(status -> shardAssignmentRepository.save(
+                    ShardAssignment.builder().electionId(electionId).shard(shard).build()));
+            return shard;
+        } catch (DataIntegrityViolationException ex) {
+            // Assigned concurrently by another request
+            Integer assigned = findAssigned(electionId);
+            if (assigned == null) {
+                throw ex;
+            }
+            return assigned;
+        }
+    }
+
+    private Integer findAssigned(Long electionId) {
+        return newTransaction.execute(status -> shardAssignmentRepository.findById(electionId)
+                .map(ShardAssignment::getShard)
+                .orElse(null));
+    }
+}
@@ -0,0 +1,337 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.config.ShardedDataSource;
+import com.rakit.electionsystem.dto.ShardMoveResponse;
+import com.rakit.electionsystem.dto.ShardOverviewResponse;
+import com.rakit.electionsystem.dto.ShardStatusResponse;
+import com.rakit.electionsystem.exception.AlreadyVotedException;
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.repository.ElectionOptionRepository;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Vote storage spread over several shard databases by election id.
+ * All votes and voting records of an election live on one shard, so casting a vote, the
+ * duplicate check and every per-election count touch a single shard. System-wide totals
+ * fan out to all shards in parallel. The shard write commits on its own, before the caller's
+ * transaction on the main database commits, so a vote stays cast even if that transaction rolls back.
+ */
+@Service
+@ConditionalOnProperty(name = "votes.sharding.enabled", havingValue = "true")
+@Slf4j
+public class ShardedVoteStorage implements VoteStorage {
+
+    private static final int MOVE_BATCH_SIZE = 1_000;
+
+    private final ShardedDataSource shards;
+    private final ShardDirectory shardDirectory;
+    private final ElectionRepository electionRepository;
+    private final ElectionOptionRepository electionOptionRepository;
+    private final ExecutorService fanOutExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, ReadWriteLock> moveLocks = new ConcurrentHashMap<>();
+
+    public ShardedVoteStorage(ShardedDataSource shards, ShardDirectory shardDirectory,
+                              ElectionRepository electionRepository,
+                              ElectionOptionRepository electionOptionRepository) {
+        this.shards = shards;
+        this.shardDirectory = shardDirectory;
+        this.electionRepository = electionRepository;
+        this.electionOptionRepository = electionOptionRepository;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isInMainDatabase() {
+        return false;
+    }
+
+    @Override
+    public boolean hasVoted(Long voterId, Long electionId) {
+        return !jdbc(electionId).queryForList(
+                "SELECT 1 FROM voting_record WHERE election_id = ? AND voter_id = ? LIMIT 1",
+                Integer.class, electionId, voterId).isEmpty();
+    }
+
+    /**
+     * Inserts the vote and the voting record in one shard transaction.
+     * The unique (election_id, voter_id) constraint on the shard rejects concurrent duplicates.
+     */
+    @Override
+    public void recordVote(Voter voter, Election election, ElectionOption option, byte[] ballot, long weight) {
+        Long electionId = election.getId();
+        ReadWriteLock lock = moveLock(electionId);
+        lock.readLock().lock();
+        try {
+            int shard = shardDirectory.shardOf(electionId);
+            JdbcTemplate jdbc = shards.jdbcTemplate(shard);
+            shards.transactionTemplate(shard).executeWithoutResult(status -> {
+                jdbc.update("INSERT INTO vote (election_id, election_option_id, ballot, weight) VALUES (?, ?, ?, ?)",
+                        electionId, option.getId(), ballot, weight);
+                jdbc.update("INSERT INTO voting_record (voter_id, election_id, voted_at) VALUES (?, ?, ?)",
+                        voter.getId(), electionId, Timestamp.valueOf(LocalDateTime.now()));
+            });
+        } catch (DuplicateKeyException ex) {
+            throw new AlreadyVotedException("Voter has already voted in this election.");
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long countByElectionId(Long electionId) {
+        return count(electionId, "SELECT COUNT(*) FROM vote WHERE election_id = ?", electionId);
+    }
+
+    @Override
+    public long countByElectionIdAndElectionOptionId(Long electionId, Long optionId) {
+        return count(electionId, "SELECT COUNT(*) FROM vote WHERE election_id = ? AND election_option_id = ?",
+                electionId, optionId);
+    }
+
+    @Override
+    public long countByElectionOptionId(Long optionId) {
+        return electionOptionRepository.findById(optionId)
+                .map(option -> countByElectionIdAndElectionOptionId(option.getElection().getId(), optionId))
+                .orElse(0L);
+    }
+
+    @Override
+    public Map<Long, BigInteger> sumWeightsByElectionOption(Long electionId) {
+        Map<Long, BigInteger> weights = new HashMap<>();
+        jdbc(electionId).query("SELECT election_option_id, CAST(SUM(weight) AS DECIMAL(38, 0)) FROM vote "
+                        + "WHERE election_id = ? GROUP BY election_option_id",
+                rs -> {
+                    weights.put(rs.getLong(1), rs.getBigDecimal(2).toBigIntegerExact());
+                }, electionId);
+        return weights;
+    }
+
+    @Override
+    public long countParticipantsByElectionId(Long electionId) {
+        return count(electionId, "SELECT COUNT(*) FROM voting_record WHERE election_id = ?", electionId);
+    }
+
+    @Override
+    public void forEachVote(Long electionId, LongConsumer optionIds) {
+        jdbc(electionId).query("SELECT election_option_id FROM vote WHERE election_id = ? ORDER BY id",
+                rs -> {
+                    optionIds.accept(rs.getLong(1));
+                }, electionId);
+    }
+
+    @Override
+    public void forEachWeightedVote(Long electionId, BiConsumer<Long, Long> votes) {
+        jdbc(electionId).query("SELECT election_option_id, weight FROM vote WHERE election_id = ? ORDER BY id",
+                rs -> {
+                    votes.accept(rs.getLong(1), rs.getLong(2));
+                }, electionId);
+    }
+
+    @Override
+    public void forEachBallot(Long electionId, Consumer<byte[]> ballots) {
+        jdbc(electionId).query("SELECT ballot FROM vote WHERE election_id = ? AND ballot IS NOT NULL ORDER BY id",
+                rs -> {
+                    ballots.accept(rs.getBytes(1));
+                }, electionId);
+    }
+
+    @Override
+    public void forEachVotingRecord(Long electionId, BiConsumer<Long, LocalDateTime> records) {
+        jdbc(electionId).query("SELECT voter_id, voted_at FROM voting_record WHERE election_id = ? ORDER BY voter_id",
+                rs -> {
+                    records.accept(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime());
+                }, electionId);
+    }
+
+    /**
+     * Queries every shard in parallel, as the voter's records are spread by election.
+     */
+    @Override
+    public Map<Long, LocalDateTime> findVotedAtByVoterId(Long voterId) {
+        List<CompletableFuture<Map<Long, LocalDateTime>>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            JdbcTemplate jdbc = shards.jdbcTemplate(shard);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                Map<Long, LocalDateTime> found = new HashMap<>();
+                jdbc.query("SELECT election_id, voted_at FROM voting_record WHERE voter_id = ?", rs -> {
+                    found.put(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime());
+                }, voterId);
+                return found;
+            }, fanOutExecutor));
+        }
+        Map<Long, LocalDateTime> votedAt = new HashMap<>();
+        futures.forEach(future -> votedAt.putAll(future.join()));
+        return votedAt;
+    }
+
+    @Override
+    public void deleteByElectionId(Long electionId) {
+        int shard = shardDirectory.shardOf(electionId);
+        JdbcTemplate jdbc = shards.jdbcTemplate(shard);
+        shards.transactionTemplate(shard).executeWithoutResult(status -> {
+            jdbc.update("DELETE FROM vote WHERE election_id = ?", electionId);
+            jdbc.update("DELETE FROM voting_record WHERE election_id = ?", electionId);
+        });
+    }
+
+    /**
+     * Gathers system-wide totals by querying every shard in parallel.
+     *
+     * @return totals overall, per election and per shard
+     */
+    public ShardOverviewResponse getOverview() {
+        List<CompletableFuture<ShardSnapshot>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            int current = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> snapshot(current), fanOutExecutor));
+        }
+
+        long totalVotes = 0;
+        long totalVotingRecords = 0;
+        Map<Long, Long> votesByElection = new TreeMap<>();
+        List<ShardStatusResponse> statuses = new ArrayList<>();
+        for (CompletableFuture<ShardSnapshot> future : futures) {
+            ShardSnapshot snapshot = future.join();
+            totalVotes += snapshot.status().getVotes();
+            totalVotingRecords += snapshot.status().getVotingRecords();
+            snapshot.votesByElection().forEach((electionId, votes) -> votesByElection.merge(electionId, votes, Long::sum));
+            statuses.add(snapshot.status());
+        }
+        return new ShardOverviewResponse(totalVotes, totalVotingRecords, votesByElection, statuses);
+    }
+
+    /**
+     * Moves all votes and voting records of an election to another shard.
+     * Only elections that are not active can be moved; vote writes for the election are
+     * blocked while the move runs. Rows are copied, the assignment is switched, and only
+     * then are the rows removed from the old shard.
+     *
+     * @param electionId the election ID
+     * @param targetShard the destination shard
+     * @return the number of rows moved
+     */
+    public ShardMoveResponse moveElection(Long electionId, int targetShard) {
+        if (targetShard < 0 || targetShard >= shards.size()) {
+            throw new InvalidRequestException("Shard must be between 0 and " + (shards.size() - 1));
+        }
+        Election election = electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId));
+        if (election.getStatus() == ElectionStatus.ACTIVE) {
+            throw new InvalidRequestException("Active elections cannot be moved to another shard");
+        }
+
+        ReadWriteLock lock = moveLock(electionId);
+        lock.writeLock().lock();
+        try {
+            int sourceShard = shardDirectory.shardOf(electionId);
+            if (sourceShard == targetShard) {
+                return new ShardMoveResponse(electionId, sourceShard, targetShard, 0L, 0L);
+            }
+            JdbcTemplate source = shards.jdbcTemplate(sourceShard);
+            JdbcTemplate target = shards.jdbcTemplate(targetShard);
+
+            long[] moved = shards.transactionTemplate(targetShard).execute(status -> new long[]{
+                    copy(source, target, electionId, "vote", "election_id, election_option_id, ballot, weight"),
+                    copy(source, target, electionId, "voting_record", "voter_id, election_id, voted_at")
+            });
+            shardDirectory.reassign(electionId, targetShard);
+            shards.transactionTemplate(sourceShard).executeWithoutResult(status -> {
+                source.update("DELETE FROM vote WHERE election_id = ?", electionId);
+                source.update("DELETE FROM voting_record WHERE election_id = ?", electionId);
+            });
+
+            log.info("Moved election {} from shard {} to shard {} ({} votes, {} voting records)",
+                    electionId, sourceShard, targetShard, moved[0], moved[1]);
+            return new ShardMoveResponse(electionId, sourceShard, targetShard, moved[0], moved[1]);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long copy(JdbcTemplate source, JdbcTemplate target, Long electionId, String table, String columns) {
+        String insert = "INSERT INTO " + table + " (" + columns + ") VALUES ("
+                + "?, ".repeat(columns.split(",").length - 1) + "?)";
+        List<Object[]> batch = new ArrayList<>(MOVE_BATCH_SIZE);
+        long[] copied = new long[1];
+        source.query("SELECT " + columns + " FROM " + table + " WHERE election_id = ? ORDER BY id", rs -> {
+            int columnCount = rs.getMetaData().getColumnCount();
+            Object[] row = new Object[columnCount];
+            for (int c = 0; c < columnCount; c++) {
+                row[c] = rs.getObject(c + 1);
+            }
+            batch.add(row);
+            if (batch.size() == MOVE_BATCH_SIZE) {
+                target.batchUpdate(insert, batch);
+                copied[0] += batch.size();
+                batch.clear();
+            }
+        }, electionId);
+        if (!batch.isEmpty()) {
+            target.batchUpdate(insert, batch);
+            copied[0] += batch.size();
+        }
+        return copied[0];
+    }
+
+    private ShardSnapshot snapshot(int shard) {
+        JdbcTemplate jdbc = shards.jdbcTemplate(shard);
+        Map<Long, Long> votesByElection = new TreeMap<>();
+        jdbc.query("SELECT election_id, COUNT(*) FROM vote GROUP BY election_id",
+                rs -> {
+                    votesByElection.put(rs.getLong(1), rs.getLong(2));
+                });
+        long votes = votesByElection.values().stream().mapToLong(Long::longValue).sum();
+        Long votingRecords = jdbc.queryForObject("SELECT COUNT(*) FROM voting_record", Long.class);
+        return new ShardSnapshot(new ShardStatusResponse(shard, (long) votesByElection.size(), votes, votingRecords),
+                votesByElection);
+    }
+
+    private long count(Long electionId, String sql, Object... args) {
+        Long count = jdbc(electionId).queryForObject(sql, Long.class, args);
+        return count != null ? count : 0L;
+    }
+
+    private JdbcTemplate jdbc(Long electionId) {
+        return shards.jdbcTemplate(shardDirectory.shardOf(electionId));
+    }
+
+    private ReadWriteLock moveLock(Long electionId) {
+        return moveLocks.computeIfAbsent(electionId, id -> new ReentrantReadWriteLock());
+    }
+
+    private record ShardSnapshot(ShardStatusResponse status, Map<Long, Long> votesByElection) {
+    }
+}
@@ -0,0 +1,117 @@
+package com.rakit.electionsystem.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent computations of the same key.
+ * The first caller for a key computes the value; callers arriving while it runs wait for
+ * and share its result. A completed value keeps being served until the freshness window
+ * expires, so a key is computed at most once per window however many callers there are.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+    private final long freshnessNanos;
+
+    /**
+     * Creates a new single-flight group.
+     *
+     * @param freshness how long a computed value is served to later callers; zero disables reuse
+     */
+    public SingleFlight(Duration freshness) {
+        this.freshnessNanos = freshness.toNanos();
+    }
+
+    /**
+     * Gets the value for a key, computing it with the loader unless a computation is
+     * already in flight or a fresh value is available.
+     *
+     * @param key the key
+     * @param loader computes the value; only invoked by the leading caller
+     * @return the shared value
+     */
+    public V get(K key, Supplier<V> loader) {
+        while (true) {
+            Flight<V> flight = flights.get(key);
+            if (flight != null && flight.isStale(System.nanoTime(), freshnessNanos)) {
+                flights.remove(key, flight);
+                continue;
+            }
+            if (flight == null) {
+                Flight<V> created = new Flight<>();
+                flight = flights.putIfAbsent(key, created);
+                if (flight == null) {
+                    return lead(key, created, loader);
+                }
+            }
+            return flight.await();
+        }
+    }
+
+    /**
+     * Drops any completed value for the key, so the next caller recomputes it.
+     * A computation already in flight is not affected.
+     *
+     * @param key the key
+     */
+    public void invalidate(K key) {
+        Flight<V> flight = flights.get(key);
+        if (flight != null && flight.isDone()) {
+            flights.remove(key, flight);
+        }
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error ex) {
+            flights.remove(key, flight);
+            flight.future.completeExceptionally(ex);
+            throw ex;
+        }
+        flight.completedAt = System.nanoTime();
+        if (freshnessNanos <= 0) {
+            flights.remove(key, flight);
+        }
+        flight.future.complete(value);
+        return value;
+    }
+
+    private static final class Flight<V> {
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        boolean isDone() {
+            return future.isDone();
+        }
+
+        boolean isStale(long now, long freshnessNanos) {
+            return future.isDone() && now - completedAt > freshnessNanos;
+        }
+
+        V await() {
+            try {
+                return future.join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.rakit.electionsystem.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hooks for work that must only happen once the surrounding transaction has committed.
+ */
+final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * Runs an action once the surrounding transaction commits, so rolled back changes never
+     * become visible to in-memory state, timers or listeners. Without a transaction the action
+     * runs right away.
+     *
+     * @param action the action to run
+     */
+    static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
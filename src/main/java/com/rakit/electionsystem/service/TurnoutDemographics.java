@@ -0,0 +1,282 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.DemographicCellResponse;
+import com.rakit.electionsystem.dto.TurnoutDemographicsResponse;
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.AgeBand;
+import com.rakit.electionsystem.model.Demographic;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.Sex;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.VoterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Anonymous turnout counters per election, age band and sex.
+ * Votes are counted as they commit from the voter's PESEL, decoded once per {@link
+ * com.rakit.electionsystem.model.Voter} instance; the counters hold aggregates only and are never
+ * linked to a vote. Ages are taken at the election's start date.
+ * <p>
+ * Counters are rebuilt from voting records at startup and periodically for active elections,
+ * which also folds in votes accepted by other instances, and on first request for any other
+ * election. A rebuild counts the stored voting records while votes committing meanwhile are added
+ * live, then replaces the previous counters; a {@link BackfillOverlap} of {@code
+ * results.turnout.backfill-overlap} counts votes seen by both once.
+ * <p>
+ * Cells below {@code results.demographics.min-cell-size} voters are suppressed. When that
+ * leaves a single suppressed cell, the next smallest is suppressed too, so the total does not
+ * give it away.
+ */
+@Component
+@Slf4j
+public class TurnoutDemographics {
+
+    private static final AgeBand[] BANDS = Arrays.stream(AgeBand.values())
+            .filter(band -> band != AgeBand.UNKNOWN)
+            .toArray(AgeBand[]::new);
+    private static final int UNKNOWN_CELL = BANDS.length * 2;
+    private static final int CELLS = UNKNOWN_CELL + 1;
+
+    private final ElectionRepository electionRepository;
+    private final VoterRepository voterRepository;
+    private final VoteStorage voteStorage;
+    private final ElectionArchiveService electionArchiveService;
+    private final TransactionTemplate transactionTemplate;
+    private final int minimumCellSize;
+    private final Duration backfillOverlap;
+    private final ConcurrentMap<Long, Counters> counters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Counters> rebuilding = new ConcurrentHashMap<>();
+    private final SingleFlight<Long, Counters> rebuilds = new SingleFlight<>(Duration.ZERO);
+
+    public TurnoutDemographics(
+            ElectionRepository electionRepository,
+            VoterRepository voterRepository,
+            VoteStorage voteStorage,
+            ElectionArchiveService electionArchiveService,
+            TransactionTemplate transactionTemplate,
+            @Value("${results.demographics.min-cell-size:10}") int minimumCellSize,
+            @Value("${results.turnout.backfill-overlap:1m}") Duration backfillOverlap
+    ) {
+        this.electionRepository = electionRepository;
+        this.voterRepository = voterRepository;
+        this.voteStorage = voteStorage;
+        this.electionArchiveService = electionArchiveService;
+        this.transactionTemplate = transactionTemplate;
+        this.minimumCellSize = minimumCellSize;
+        this.backfillOverlap = backfillOverlap;
+    }
+
+    /**
+     * Rebuilds the counters of every active election, at startup and then periodically.
+     * A failure is logged and the election is retried on the next run.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${results.demographics.rebuild-interval:900000}",
+               initialDelayString = "${results.demographics.rebuild-interval:900000}")
+    public void rebuildActiveElections() {
+        List<Election> active = transactionTemplate.execute(status ->
+                electionRepository.findByStatus(ElectionStatus.ACTIVE));
+        for (Election election : active) {
+            try {
+                rebuild(election);
+            } catch (RuntimeException ex) {
+                log.warn("Could not rebuild turnout demographics of election {}", election.getId(), ex);
+            }
+        }
+    }
+
+    /**
+     * Starts counting elections as they are activated.
+     *
+     * @param event the status change
+     */
+    @EventListener
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        if (event.getStatus() != ElectionStatus.ACTIVE) {
+            return;
+        }
+        for (Long electionId : event.getElectionIds()) {
+            if (!counters.containsKey(electionId)) {
+                transactionTemplate.executeWithoutResult(status ->
+                        electionRepository.findById(electionId).ifPresent(this::rebuild));
+            }
+        }
+    }
+
+    /**
+     * Counts a committed vote, if its election is counted.
+     *
+     * @param election the election
+     * @param voterId the voter ID
+     * @param demographic the voter's demographic
+     * @param votedAt when the vote was cast
+     */
+    public void record(Election election, Long voterId, Demographic demographic, LocalDateTime votedAt) {
+        int cell = cellOf(demographic, election.getStartDate().toLocalDate());
+        Counters current = counters.get(election.getId());
+        if (current != null && current.overlap().countLive(voterId, votedAt)) {
+            current.cells().incrementAndGet(cell);
+        }
+        Counters pending = rebuilding.get(election.getId());
+        if (pending != null && pending.overlap().countLive(voterId, votedAt)) {
+            pending.cells().incrementAndGet(cell);
+        }
+    }
+
+    /**
+     * Gets the turnout of an election by age band and sex.
+     *
+     * @param electionId the election ID
+     * @return voters per cell, with small cells suppressed
+     */
+    public TurnoutDemographicsResponse getDemographics(Long electionId) {
+        Election election = transactionTemplate.execute(status -> electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId)));
+        Counters current = counters.get(electionId);
+        if (current == null) {
+            current = rebuild(election);
+        }
+
+        long[] voters = new long[CELLS];
+        long total = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            voters[cell] = current.cells().get(cell);
+            total += voters[cell];
+        }
+        boolean[] suppressed = suppress(voters, minimumCellSize);
+
+        List<DemographicCellResponse> cells = new ArrayList<>(CELLS);
+        for (int cell = 0; cell < CELLS; cell++) {
+            AgeBand band = cell == UNKNOWN_CELL ? AgeBand.UNKNOWN : BANDS[cell / 2];
+            Sex sex = cell == UNKNOWN_CELL ? Sex.UNKNOWN : cell % 2 == 0 ? Sex.FEMALE : Sex.MALE;
+            cells.add(new DemographicCellResponse(band, sex, suppressed[cell] ? null : voters[cell], suppressed[cell]));
+        }
+        return new TurnoutDemographicsResponse(electionId, total, minimumCellSize, cells);
+    }
+
+    /**
+     * Picks the cells to suppress: every non-empty cell below the minimum size, plus the
+     * smallest other non-empty cell if only one would be suppressed.
+     *
+     * @param voters voters per cell
+     * @param minimumCellSize smallest count shown
+     * @return which cells to suppress
+     */
+    static boolean[] suppress(long[] voters, int minimumCellSize) {
+        boolean[] suppressed = new boolean[voters.length];
+        int count = 0;
+        for (int cell = 0; cell < voters.length; cell++) {
+            if (voters[cell] > 0 && voters[cell] < minimumCellSize) {
+                suppressed[cell] = true;
+                count++;
+            }
+        }
+        if (count == 1) {
+            int smallest = -1;
+            for (int cell = 0; cell < voters.length; cell++) {
+                if (!suppressed[cell] && voters[cell] > 0 && (smallest < 0 || voters[cell] < voters[smallest])) {
+                    smallest = cell;
+                }
+            }
+            if (smallest >= 0) {
+                suppressed[smallest] = true;
+            }
+        }
+        return suppressed;
+    }
+
+    private Counters rebuild(Election election) {
+        return rebuilds.get(election.getId(), () -> {
+            Counters fresh = new Counters(new AtomicLongArray(CELLS), new BackfillOverlap(backfillOverlap));
+            rebuilding.put(election.getId(), fresh);
+            try {
+                count(election, fresh);
+                counters.put(election.getId(), fresh);
+                return fresh;
+            } finally {
+                rebuilding.remove(election.getId(), fresh);
+            }
+        });
+    }
+
+    /**
+     * Counts the stored voting records. Voter IDs are collected and sorted, then
+     * merged with voters streamed in ID order, so neither side is joined in the database.
+     */
+    private void count(Election election, Counters target) {
+        LongStream.Builder collected = LongStream.builder();
+        BiConsumer<Long, LocalDateTime> collect = (voterId, votedAt) -> {
+            if (target.overlap().countStored(voterId, votedAt)) {
+                collected.add(voterId);
+            }
+        };
+        if (election.isArchived()) {
+            electionArchiveService.getArchive(election.getId()).forEachVotingRecord(collect);
+        } else {
+            // Not read-only, so the records come from the primary rather than a lagging replica
+            transactionTemplate.executeWithoutResult(status ->
+                    voteStorage.forEachVotingRecord(election.getId(), collect));
+        }
+        target.overlap().backfilled();
+        long[] voterIds = collected.build().sorted().toArray();
+        if (voterIds.length == 0) {
+            return;
+        }
+
+        LocalDate ageOn = election.getStartDate().toLocalDate();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> voters = voterRepository.streamVoterPeselsBetween(
+                    voterIds[0], voterIds[voterIds.length - 1])) {
+                int[] next = {0};
+                voters.forEach(row -> {
+                    long id = (Long) row[0];
+                    while (next[0] < voterIds.length && voterIds[next[0]] < id) {
+                        next[0]++;
+                    }
+                    if (next[0] < voterIds.length && voterIds[next[0]] == id) {
+                        target.cells().incrementAndGet(cellOf(Demographic.ofPesel((String) row[1]), ageOn));
+                    }
+                });
+            }
+        });
+        log.debug("Rebuilt turnout demographics of election {} from {} voting records",
+                election.getId(), voterIds.length);
+    }
+
+    private static int cellOf(Demographic demographic, LocalDate ageOn) {
+        if (demographic.sex() == Sex.UNKNOWN) {
+            return UNKNOWN_CELL;
+        }
+        return demographic.ageBandOn(ageOn).ordinal() * 2 + (demographic.sex() == Sex.FEMALE ? 0 : 1);
+    }
+
+    /**
+     * Counters of one election.
+     *
+     * @param cells voters per cell: two per age band, female first, then voters of unknown age and sex
+     * @param overlap splits votes between the rebuild and live counting
+     */
+    private record Counters(AtomicLongArray cells, BackfillOverlap overlap) {
+    }
+}
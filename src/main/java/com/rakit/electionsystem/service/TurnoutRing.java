@@ -0,0 +1,91 @@
+package com.rakit.electionsystem.service;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-minute turnout counters of one election in a fixed ring of minute slots. Each slot is
+ * tagged with the epoch minute it currently counts; a minute further ahead than the ring is long
+ * reuses the slot of the minute one ring length earlier, whose count moves into
+ * {@link Snapshot#earlier()} so cumulative turnout stays exact. Thread-safe; a
+ * {@link ReentrantLock} rather than a monitor guards the slots so virtual threads are not pinned.
+ */
+public final class TurnoutRing {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long[] minutes;
+    private final long[] counts;
+    private long first = Long.MAX_VALUE;
+    private long newest = Long.MIN_VALUE;
+    private long earlier;
+
+    /**
+     * @param capacity number of minutes held
+     */
+    public TurnoutRing(int capacity) {
+        this.minutes = new long[capacity];
+        this.counts = new long[capacity];
+        Arrays.fill(minutes, Long.MIN_VALUE);
+    }
+
+    /**
+     * Adds voters to a minute.
+     *
+     * @param minute epoch minute
+     * @param voters number of voters
+     */
+    public void add(long minute, long voters) {
+        int slot = (int) Math.floorMod(minute, (long) minutes.length);
+        lock.lock();
+        try {
+            first = Math.min(first, minute);
+            if (minutes[slot] > minute) {
+                // The slot already moved on to a later minute
+                earlier += voters;
+                return;
+            }
+            if (minutes[slot] != minute) {
+                earlier += counts[slot];
+                minutes[slot] = minute;
+                counts[slot] = 0;
+            }
+            counts[slot] += voters;
+            newest = Math.max(newest, minute);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the minutes still held, oldest first
+     */
+    public Snapshot snapshot() {
+        lock.lock();
+        try {
+            if (newest == Long.MIN_VALUE) {
+                return new Snapshot(0, new long[0], earlier);
+            }
+            long from = Math.max(first, newest - minutes.length + 1);
+            long[] voters = new long[(int) (newest - from + 1)];
+            for (int i = 0; i < voters.length; i++) {
+                int slot = (int) Math.floorMod(from + i, (long) minutes.length);
+                if (minutes[slot] == from + i) {
+                    voters[i] = counts[slot];
+                }
+            }
+            return new Snapshot(from, voters, earlier);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Turnout counters at one point in time.
+     *
+     * @param firstMinute epoch minute of {@code voters[0]}
+     * @param voters voters per minute
+     * @param earlier voters in minutes that no longer fit in the ring
+     */
+    public record Snapshot(long firstMinute, long[] voters, long earlier) {
+    }
+}
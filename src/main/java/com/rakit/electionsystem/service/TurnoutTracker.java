@@ -0,0 +1,235 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.TurnoutPointResponse;
+import com.rakit.electionsystem.dto.TurnoutResponse;
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Live turnout curves: voters per minute of every tracked election, held in a {@link TurnoutRing}
+ * and incremented as votes commit, so refreshing a curve never groups voting records.
+ * <p>
+ * Active elections are tracked from startup, when they are activated, or on the first curve
+ * request, and evicted once they close; curves of other elections are counted from storage (or
+ * the archive) on request. Tracking starts with a backfill of the committed voting records while
+ * votes committing meanwhile are counted live; a {@link BackfillOverlap} of {@code
+ * results.turnout.backfill-overlap} counts votes seen by both once. Curves are downsampled to at most {@code
+ * results.turnout.max-points} buckets. Each instance only counts the votes it accepted after the
+ * backfill, so curves are exact with a single instance.
+ */
+@Component
+@Slf4j
+public class TurnoutTracker {
+
+    private final ElectionRepository electionRepository;
+    private final VoteStorage voteStorage;
+    private final ElectionArchiveService electionArchiveService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long maxMinutes;
+    private final int maxPoints;
+    private final Duration backfillOverlap;
+    private final ConcurrentMap<Long, Series> series = new ConcurrentHashMap<>();
+
+    public TurnoutTracker(
+            ElectionRepository electionRepository,
+            VoteStorage voteStorage,
+            ElectionArchiveService electionArchiveService,
+            TransactionTemplate transactionTemplate,
+            @Value("${results.turnout.enabled:true}") boolean enabled,
+            @Value("${results.turnout.capacity:14d}") Duration capacity,
+            @Value("${results.turnout.max-points:720}") int maxPoints,
+            @Value("${results.turnout.backfill-overlap:1m}") Duration backfillOverlap
+    ) {
+        this.electionRepository = electionRepository;
+        this.voteStorage = voteStorage;
+        this.electionArchiveService = electionArchiveService;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.maxMinutes = Math.max(1, capacity.toMinutes());
+        this.maxPoints = Math.max(1, maxPoints);
+        this.backfillOverlap = backfillOverlap;
+    }
+
+    /**
+     * Starts tracking every active election once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void trackActiveElections() {
+        if (!enabled) {
+            return;
+        }
+        List<Election> active = transactionTemplate.execute(status ->
+                electionRepository.findByStatus(ElectionStatus.ACTIVE));
+        for (Election election : active) {
+            try {
+                series(election);
+            } catch (RuntimeException ex) {
+                log.warn("Could not backfill turnout of election {}", election.getId(), ex);
+            }
+        }
+        log.info("Tracking turnout of {} active elections", active.size());
+    }
+
+    /**
+     * Starts tracking elections as they are activated and stops once they close.
+     *
+     * @param event the status change
+     */
+    @EventListener
+    public void onElectionStatusChanged(ElectionStatusChangedEvent event) {
+        if (event.getStatus() != ElectionStatus.ACTIVE) {
+            event.getElectionIds().forEach(series::remove);
+            return;
+        }
+        if (!enabled) {
+            return;
+        }
+        for (Long electionId : event.getElectionIds()) {
+            if (!series.containsKey(electionId)) {
+                transactionTemplate.executeWithoutResult(status ->
+                        electionRepository.findById(electionId).ifPresent(this::series));
+            }
+        }
+    }
+
+    /**
+     * Counts a committed vote, if its election is tracked.
+     *
+     * @param electionId the election ID
+     * @param voterId the voter ID
+     * @param votedAt when the vote was cast
+     */
+    public void record(Long electionId, Long voterId, LocalDateTime votedAt) {
+        Series tracked = series.get(electionId);
+        if (tracked != null && tracked.overlap().countLive(voterId, votedAt)) {
+            tracked.ring().add(minuteOf(votedAt), 1);
+        }
+    }
+
+    /**
+     * Gets the turnout curve of an election.
+     *
+     * @param electionId the election ID
+     * @param bucket requested bucket width; widened if the curve would exceed the maximum number
+     *               of points, and chosen automatically when null
+     * @return voters per bucket from the start of the election up to now or its end
+     */
+    public TurnoutResponse getTurnout(Long electionId, Duration bucket) {
+        Election election = transactionTemplate.execute(status -> electionRepository.findById(electionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + electionId)));
+        TurnoutRing.Snapshot snapshot = series(election).ring().snapshot();
+        long[] voters = snapshot.voters();
+
+        long from = minuteOf(election.getStartDate());
+        LocalDateTime now = LocalDateTime.now();
+        long to = minuteOf(now.isBefore(election.getEndDate()) ? now : election.getEndDate());
+        if (voters.length > 0) {
+            from = snapshot.earlier() > 0 ? snapshot.firstMinute() : Math.min(from, snapshot.firstMinute());
+            to = Math.max(to, snapshot.firstMinute() + voters.length - 1);
+        }
+
+        long span = Math.max(0, to - from + 1);
+        long bucketMinutes = Math.max(1, (span + maxPoints - 1) / maxPoints);
+        if (bucket != null) {
+            bucketMinutes = Math.max(bucketMinutes, bucket.toMinutes());
+        }
+
+        List<TurnoutPointResponse> points = new ArrayList<>();
+        long cumulative = snapshot.earlier();
+        for (long start = from; start <= to; start += bucketMinutes) {
+            long count = 0;
+            for (long minute = start; minute < start + bucketMinutes && minute <= to; minute++) {
+                long index = minute - snapshot.firstMinute();
+                if (index >= 0 && index < voters.length) {
+                    count += voters[(int) index];
+                }
+            }
+            cumulative += count;
+            points.add(new TurnoutPointResponse(
+                    LocalDateTime.ofEpochSecond(start * 60, 0, ZoneOffset.UTC), count, cumulative));
+        }
+        return new TurnoutResponse(election.getId(), election.getStatus(), bucketMinutes, cumulative, points);
+    }
+
+    /**
+     * Gets the series of an election, registering and backfilling it on first use if the election
+     * is active. The series is registered before the backfill so votes committing meanwhile are
+     * counted; callers that find it registered wait for the backfill to finish.
+     */
+    private Series series(Election election) {
+        Series tracked = series.get(election.getId());
+        if (tracked != null) {
+            tracked.backfilled().join();
+            return tracked;
+        }
+        long minutes = Duration.between(election.getStartDate(), election.getEndDate()).toMinutes() + 1;
+        Series created = new Series(new TurnoutRing((int) Math.max(1, Math.min(minutes, maxMinutes))),
+                new BackfillOverlap(backfillOverlap), new CompletableFuture<>());
+        if (enabled && election.getStatus() == ElectionStatus.ACTIVE) {
+            tracked = series.putIfAbsent(election.getId(), created);
+            if (tracked != null) {
+                tracked.backfilled().join();
+                return tracked;
+            }
+        }
+        try {
+            backfill(election, created);
+            created.backfilled().complete(null);
+        } catch (RuntimeException ex) {
+            series.remove(election.getId(), created);
+            created.backfilled().completeExceptionally(ex);
+            throw ex;
+        }
+        return created;
+    }
+
+    private void backfill(Election election, Series target) {
+        BiConsumer<Long, LocalDateTime> count = (voterId, votedAt) -> {
+            if (target.overlap().countStored(voterId, votedAt)) {
+                target.ring().add(minuteOf(votedAt), 1);
+            }
+        };
+        if (election.isArchived()) {
+            electionArchiveService.getArchive(election.getId()).forEachVotingRecord(count);
+        } else {
+            // Not read-only, so the records come from the primary rather than a lagging replica
+            transactionTemplate.executeWithoutResult(status ->
+                    voteStorage.forEachVotingRecord(election.getId(), count));
+        }
+        target.overlap().backfilled();
+    }
+
+    private static long minuteOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Turnout counters of one election.
+     *
+     * @param ring voters per minute
+     * @param overlap splits votes between the backfill and live counting
+     * @param backfilled completes once the backfill is done
+     */
+    private record Series(TurnoutRing ring, BackfillOverlap overlap, CompletableFuture<Void> backfilled) {
+    }
+}
@@ -0,0 +1,163 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive admission control for vote writes.
+ * Tracks in-flight vote transactions against a concurrency limit that follows AIMD: every
+ * write that commits within the latency threshold raises the limit by about one per limit's
+ * worth of completions, while a slow commit or a database failure cuts it by the backoff ratio
+ * (at most once per threshold interval). Writes beyond the limit are rejected immediately with
+ * a Retry-After estimate instead of piling up behind a stalled database.
+ */
+@Component
+@Slf4j
+public class VoteAdmissionController {
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile double limit;
+    private volatile double averageLatencyNanos;
+    private long lastDecreaseNanos;
+
+    private final Counter rejected;
+    private final Counter decreases;
+
+    public VoteAdmissionController(
+            MeterRegistry meterRegistry,
+            @Value("${votes.admission.enabled:true}") boolean enabled,
+            @Value("${votes.admission.initial-limit:20}") int initialLimit,
+            @Value("${votes.admission.min-limit:2}") int minLimit,
+            @Value("${votes.admission.max-limit:200}") int maxLimit,
+            @Value("${votes.admission.latency-threshold:250ms}") Duration latencyThreshold,
+            @Value("${votes.admission.backoff-ratio:0.9}") double backoffRatio
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Admission limits must satisfy 1 <= min-limit <= max-limit");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.averageLatencyNanos = latencyThresholdNanos / 2.0;
+        this.lastDecreaseNanos = System.nanoTime() - latencyThresholdNanos;
+
+        this.rejected = Counter.builder("election.vote.admission.rejected")
+                .description("Vote writes rejected by the adaptive concurrency limit")
+                .register(meterRegistry);
+        this.decreases = Counter.builder("election.vote.admission.limit.decreases")
+                .description("Times the limit was cut after a slow commit or database failure")
+                .register(meterRegistry);
+        Gauge.builder("election.vote.admission.limit", this, VoteAdmissionController::getLimit)
+                .description("Current concurrency limit for vote writes")
+                .register(meterRegistry);
+        Gauge.builder("election.vote.admission.in-flight", inFlight, AtomicInteger::get)
+                .description("Vote writes currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a vote write if the current limit allows it.
+     * The call must include the commit, so its latency is what the database actually delivers.
+     *
+     * @param write the transactional vote write
+     * @throws ServiceOverloadedException if the limit is reached
+     */
+    public void execute(Runnable write) {
+        if (!enabled) {
+            write.run();
+            return;
+        }
+
+        if (inFlight.incrementAndGet() > (int) limit) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            long retryAfterSeconds = estimateRetryAfterSeconds();
+            log.debug("Vote write rejected at limit {}, retry after {} s", (int) limit, retryAfterSeconds);
+            throw new ServiceOverloadedException(
+                    "Voting is temporarily overloaded, retry in " + retryAfterSeconds + " s", retryAfterSeconds);
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = false;
+        try {
+            write.run();
+        } catch (RuntimeException ex) {
+            dropped = isDatabaseFailure(ex);
+            throw ex;
+        } finally {
+            int concurrent = inFlight.getAndDecrement();
+            onSample(System.nanoTime() - start, concurrent, dropped);
+        }
+    }
+
+    /**
+     * @return the current concurrency limit
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return vote writes currently in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void onSample(long latencyNanos, int concurrent, boolean dropped) {
+        lock.lock();
+        try {
+            averageLatencyNanos += 0.2 * (latencyNanos - averageLatencyNanos);
+            long now = System.nanoTime();
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                if (now - lastDecreaseNanos >= latencyThresholdNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = now;
+                    decreases.increment();
+                }
+            } else if (concurrent * 2 >= (int) limit) {
+                // Only grow while the limit is actually being used; compare with the admitted (integer) limit
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time for the writes ahead of a rejected caller to drain at the recent commit latency.
+     */
+    private long estimateRetryAfterSeconds() {
+        double drainNanos = averageLatencyNanos * Math.max(1, inFlight.get()) / Math.max(1.0, limit);
+        return Math.max(1, (long) Math.ceil(drainNanos / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Business rule violations are normal outcomes; data access and commit failures signal a struggling database.
+     */
+    private static boolean isDatabaseFailure(RuntimeException ex) {
+        return ex instanceof DataAccessException || ex instanceof TransactionException;
+    }
+}
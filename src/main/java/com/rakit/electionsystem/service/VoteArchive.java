@@ -0,0 +1,663 @@
+package com.rakit.electionsystem.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact, read-only archive of one election's votes and voting records.
+ * <p>
+ * File layout (big-endian):
+ * <pre>
+ * "EVAR" version:u8 flags:u8
+ * payload    Deflate stream of
+ *              every vote: option index as a varint, in insertion order; for ranked ballots
+ *                (flag 1) the number of preferences as a varint followed by one index byte each,
+ *                for approval ballots (flag 2) the bitset length as a varint followed by the bitset,
+ *                for weighted votes (flag 4) the vote's weight as a varint
+ *              every voting record: voter ID delta and zig-zag voting time delta (seconds) as varints, in voter order
+ * footer     electionId:i64 archivedAt:i64 votes:i64 participants:i64 payloadLength:i32
+ *            optionCount:i32 (optionId:i64 votes:i64 [weightHigh:i64 weightLow:i64 if flag 4])*
+ * trailer    footerLength:i32 crc32:i32 "EVAR"
+ * </pre>
+ * The CRC covers every byte before it. Final counts live in the footer, so results never inflate
+ * the payload; only audit exports and instant-runoff counts do. Archives are read through a
+ * memory-mapped buffer. Voting times are kept with second precision.
+ * Weighted archives keep each option's summed weight as a 128-bit integer, so no total can overflow.
+ */
+public final class VoteArchive {
+
+    private static final int MAGIC = 0x45564152;
+    private static final byte VERSION = 2;
+    private static final int FLAG_RANKED = 1;
+    private static final int FLAG_APPROVAL = 2;
+    private static final int FLAG_WEIGHTED = 4;
+    private static final int HEADER_LENGTH = 6;
+    private static final int TRAILER_LENGTH = 12;
+
+    private final ByteBuffer buffer;
+    private final boolean ranked;
+    private final boolean approval;
+    private final boolean weighted;
+    private final long electionId;
+    private final LocalDateTime archivedAt;
+    private final long totalVotes;
+    private final long participants;
+    private final int payloadLength;
+    private final long[] optionIds;
+    private final Map<Long, Long> votesByOption;
+    private final Map<Long, BigInteger> weightsByOption;
+
+    private VoteArchive(ByteBuffer buffer, int flags, long electionId, LocalDateTime archivedAt,
+                        long totalVotes, long participants, int payloadLength, long[] optionIds,
+                        Map<Long, Long> votesByOption, Map<Long, BigInteger> weightsByOption) {
+        this.buffer = buffer;
+        this.ranked = (flags & FLAG_RANKED) != 0;
+        this.approval = (flags & FLAG_APPROVAL) != 0;
+        this.weighted = (flags & FLAG_WEIGHTED) != 0;
+        this.electionId = electionId;
+        this.archivedAt = archivedAt;
+        this.totalVotes = totalVotes;
+        this.participants = participants;
+        this.payloadLength = payloadLength;
+        this.optionIds = optionIds;
+        this.votesByOption = Collections.unmodifiableMap(votesByOption);
+        this.weightsByOption = Collections.unmodifiableMap(weightsByOption);
+    }
+
+    /**
+     * Maps an archive file into memory and verifies its checksum.
+     *
+     * @param path the archive file
+     * @return the opened archive
+     * @throws IOException if the file cannot be read or is corrupt
+     */
+    public static VoteArchive open(Path path) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_LENGTH + TRAILER_LENGTH || channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a vote archive: " + path);
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int length = mapped.capacity();
+        if (mapped.getInt(0) != MAGIC || mapped.get(4) != VERSION || mapped.getInt(length - 4) != MAGIC) {
+            throw new IOException("Not a vote archive: " + path);
+        }
+        int flags = mapped.get(5);
+        CRC32 crc = new CRC32();
+        crc.update(mapped.slice(0, length - 8));
+        if ((int) crc.getValue() != mapped.getInt(length - 8)) {
+            throw new IOException("Checksum mismatch in vote archive: " + path);
+        }
+
+        int footerLength = mapped.getInt(length - TRAILER_LENGTH);
+        ByteBuffer footer = mapped.slice(length - TRAILER_LENGTH - footerLength, footerLength);
+        long electionId = footer.getLong();
+        LocalDateTime archivedAt = LocalDateTime.ofEpochSecond(footer.getLong(), 0, ZoneOffset.UTC);
+        long totalVotes = footer.getLong();
+        long participants = footer.getLong();
+        int payloadLength = footer.getInt();
+        int optionCount = footer.getInt();
+        long[] optionIds = new long[optionCount];
+        Map<Long, Long> votesByOption = new LinkedHashMap<>();
+        Map<Long, BigInteger> weightsByOption = new LinkedHashMap<>();
+        for (int i = 0; i < optionCount; i++) {
+            optionIds[i] = footer.getLong();
+            votesByOption.put(optionIds[i], footer.getLong());
+            if ((flags & FLAG_WEIGHTED) != 0) {
+                long high = footer.getLong();
+                long low = footer.getLong();
+                weightsByOption.put(optionIds[i], toBigInteger(high, low));
+            }
+        }
+        return new VoteArchive(mapped, flags, electionId, archivedAt, totalVotes, participants,
+                payloadLength, optionIds, votesByOption, weightsByOption);
+    }
+
+    /**
+     * Starts writing an archive. The file appears under {@code target} only once the writer is
+     * finished; until then it is written to a temporary file next to it.
+     *
+     * @param target the archive file
+     * @param electionId the election ID
+     * @param optionIds IDs of the election's options
+     * @return a writer that accepts all votes, then all voting records
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static Writer writer(Path target, long electionId, List<Long> optionIds) throws IOException {
+        return new Writer(target, electionId, optionIds, 0);
+    }
+
+    /**
+     * Starts writing an archive of ranked ballots, whose option indexes refer to {@code optionIds}.
+     *
+     * @param target the archive file
+     * @param electionId the election ID
+     * @param optionIds IDs of the election's options in ballot index order
+     * @return a writer that accepts all ballots, then all voting records
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static Writer rankedWriter(Path target, long electionId, List<Long> optionIds) throws IOException {
+        return new Writer(target, electionId, optionIds, FLAG_RANKED);
+    }
+
+    /**
+     * Starts writing an archive of approval ballots, whose bits refer to {@code optionIds}.
+     *
+     * @param target the archive file
+     * @param electionId the election ID
+     * @param optionIds IDs of the election's options in ballot index order
+     * @return a writer that accepts all ballots, then all voting records
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static Writer approvalWriter(Path target, long electionId, List<Long> optionIds) throws IOException {
+        return new Writer(target, electionId, optionIds, FLAG_APPROVAL);
+    }
+
+    /**
+     * Starts writing an archive of weighted single-choice votes.
+     *
+     * @param target the archive file
+     * @param electionId the election ID
+     * @param optionIds IDs of the election's options
+     * @return a writer that accepts all weighted votes, then all voting records
+     * @throws IOException if the temporary file cannot be created
+     */
+    public static Writer weightedWriter(Path target, long electionId, List<Long> optionIds) throws IOException {
+        return new Writer(target, electionId, optionIds, FLAG_WEIGHTED);
+    }
+
+    /**
+     * @return true if the archive holds full rankings
+     */
+    public boolean isRanked() {
+        return ranked;
+    }
+
+    /**
+     * @return true if the archive holds approval bitsets
+     */
+    public boolean isApproval() {
+        return approval;
+    }
+
+    /**
+     * @return true if the archive holds vote weights
+     */
+    public boolean isWeighted() {
+        return weighted;
+    }
+
+    public long getElectionId() {
+        return electionId;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public long getTotalVotes() {
+        return totalVotes;
+    }
+
+    public long getParticipants() {
+        return participants;
+    }
+
+    /**
+     * @return vote counts per option ID, in option order; approvals per option for approval archives
+     */
+    public Map<Long, Long> getVotesByOption() {
+        return votesByOption;
+    }
+
+    /**
+     * @param optionId the option ID
+     * @return votes for the option, or 0 if the option is not part of this archive
+     */
+    public long getVotes(Long optionId) {
+        return votesByOption.getOrDefault(optionId, 0L);
+    }
+
+    /**
+     * @param optionId the option ID
+     * @return summed weight of the option's votes; its vote count if the archive is not weighted
+     */
+    public BigInteger getWeightedVotes(Long optionId) {
+        return weighted
+                ? weightsByOption.getOrDefault(optionId, BigInteger.ZERO)
+                : BigInteger.valueOf(getVotes(optionId));
+    }
+
+    /**
+     * @return summed weight of all votes; the vote count if the archive is not weighted
+     */
+    public BigInteger getTotalWeight() {
+        if (!weighted) {
+            return BigInteger.valueOf(totalVotes);
+        }
+        return weightsByOption.values().stream().reduce(BigInteger.ZERO, BigInteger::add);
+    }
+
+    /**
+     * Decodes every vote, in insertion order. Ranked and approval votes are reported by their
+     * first preference and lowest selected option respectively, as on the vote row.
+     *
+     * @param consumer receives the option ID of each vote
+     */
+    public void forEachVote(LongConsumer consumer) {
+        try (InputStream in = payload()) {
+            for (long i = 0; i < totalVotes; i++) {
+                byte[] ballot = readBallot(in);
+                consumer.accept(optionIds[approval ? ApprovalBallot.firstSelected(ballot) : ballot[0] & 0xFF]);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read vote archive of election " + electionId, ex);
+        }
+    }
+
+    /**
+     * Decodes every vote with its weight, in insertion order. Votes of unweighted archives weigh 1.
+     *
+     * @param consumer receives the option ID and weight of each vote
+     */
+    public void forEachWeightedVote(BiConsumer<Long, Long> consumer) {
+        if (!weighted) {
+            forEachVote(optionId -> consumer.accept(optionId, 1L));
+            return;
+        }
+        try (InputStream in = payload()) {
+            for (long i = 0; i < totalVotes; i++) {
+                int index = (int) readVarint(in);
+                consumer.accept(optionIds[index], readVarint(in));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read vote archive of election " + electionId, ex);
+        }
+    }
+
+    /**
+     * Decodes every voting record, in voter ID order.
+     *
+     * @param consumer receives the voter ID and voting time of each record
+     */
+    public void forEachVotingRecord(BiConsumer<Long, LocalDateTime> consumer) {
+        try (InputStream in = payload()) {
+            for (long i = 0; i < totalVotes; i++) {
+                readBallot(in);
+            }
+            long voterId = 0;
+            long votedAt = 0;
+            for (long i = 0; i < participants; i++) {
+                voterId += readVarint(in);
+                long delta = readVarint(in);
+                votedAt += (delta >>> 1) ^ -(delta & 1);
+                consumer.accept(voterId, LocalDateTime.ofEpochSecond(votedAt, 0, ZoneOffset.UTC));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read vote archive of election " + electionId, ex);
+        }
+    }
+
+    /**
+     * Decodes every ballot as packed option indexes, or as a packed bitset for approval archives,
+     * in insertion order. A single-choice vote is returned as a one-preference ballot.
+     *
+     * @param consumer receives each packed ballot
+     */
+    public void forEachBallot(Consumer<byte[]> consumer) {
+        try (InputStream in = payload()) {
+            for (long i = 0; i < totalVotes; i++) {
+                consumer.accept(readBallot(in));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read vote archive of election " + electionId, ex);
+        }
+    }
+
+    private byte[] readBallot(InputStream in) throws IOException {
+        if (!ranked && !approval) {
+            byte[] ballot = {(byte) readVarint(in)};
+            if (weighted) {
+                readVarint(in);
+            }
+            return ballot;
+        }
+        byte[] ballot = new byte[(int) readVarint(in)];
+        if (in.readNBytes(ballot, 0, ballot.length) != ballot.length) {
+            throw new EOFException("Truncated vote archive payload");
+        }
+        return ballot;
+    }
+
+    private InputStream payload() {
+        return new BufferedInputStream(new InflaterInputStream(
+                new ByteBufferInputStream(buffer.slice(HEADER_LENGTH, payloadLength))), 64 * 1024);
+    }
+
+    private static long readVarint(InputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException("Truncated vote archive payload");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in vote archive payload");
+    }
+
+    private static BigInteger toBigInteger(long high, long low) {
+        return BigInteger.valueOf(high).shiftLeft(Long.SIZE).add(new BigInteger(Long.toUnsignedString(low)));
+    }
+
+    private static void writeVarint(OutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    /**
+     * Streams votes and voting records into a new archive file.
+     * All votes must be written before the first voting record, and voting records in ascending
+     * voter ID order.
+     */
+    public static final class Writer implements Closeable {
+
+        private final Path target;
+        private final Path temp;
+        private final long electionId;
+        private final List<Long> optionIds;
+        private final Map<Long, Integer> optionIndexes = new HashMap<>();
+        private final long[] counts;
+        private final long[] weightsHigh;
+        private final long[] weightsLow;
+        private final FileChannel channel;
+        private final ChecksumOutputStream file;
+        private final DeflaterOutputStream payload;
+        private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        private final int flags;
+        private long totalVotes;
+        private long participants;
+        private long lastVoterId;
+        private long lastVotedAt;
+        private boolean finished;
+
+        private Writer(Path target, long electionId, List<Long> optionIds, int flags) throws IOException {
+            this.target = target;
+            this.flags = flags;
+            this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+            this.electionId = electionId;
+            this.optionIds = List.copyOf(optionIds);
+            this.counts = new long[optionIds.size()];
+            this.weightsHigh = new long[optionIds.size()];
+            this.weightsLow = new long[optionIds.size()];
+            for (int i = 0; i < optionIds.size(); i++) {
+                optionIndexes.put(optionIds.get(i), i);
+            }
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            this.channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            this.file = new ChecksumOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 64 * 1024));
+            new DataOutputStream(file).writeInt(MAGIC);
+            file.write(VERSION);
+            file.write(flags);
+            this.payload = new DeflaterOutputStream(file, deflater, 64 * 1024);
+        }
+
+        /**
+         * Appends a vote.
+         *
+         * @param optionId the chosen option
+         * @throws IOException if the write fails
+         */
+        public void writeVote(long optionId) throws IOException {
+            if (flags != 0) {
+                throw new IllegalStateException("Ranked, approval and weighted archives do not take plain votes");
+            }
+            writeVarint(payload, countVote(optionId));
+        }
+
+        /**
+         * Appends a weighted vote.
+         *
+         * @param optionId the chosen option
+         * @param weight the vote's weight, not negative
+         * @throws IOException if the write fails
+         */
+        public void writeWeightedVote(long optionId, long weight) throws IOException {
+            if (flags != FLAG_WEIGHTED) {
+                throw new IllegalStateException("Only weighted archives take weighted votes");
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights cannot be negative");
+            }
+            int index = countVote(optionId);
+            writeVarint(payload, index);
+            writeVarint(payload, weight);
+            long low = weightsLow[index] + weight;
+            if (Long.compareUnsigned(low, weightsLow[index]) < 0) {
+                weightsHigh[index]++;
+            }
+            weightsLow[index] = low;
+        }
+
+        private int countVote(long optionId) {
+            if (participants > 0) {
+                throw new IllegalStateException("Votes must be written before voting records");
+            }
+            Integer index = optionIndexes.get(optionId);
+            if (index == null) {
+                throw new IllegalArgumentException("Option " + optionId + " does not belong to election " + electionId);
+            }
+            counts[index]++;
+            totalVotes++;
+            return index;
+        }
+
+        /**
+         * Appends a ballot. A ranked ballot counts as a vote for its first preference; an approval
+         * ballot counts as a vote for every selected option.
+         *
+         * @param ballot packed option indexes in order of preference, or a packed approval bitset
+         * @throws IOException if the write fails
+         */
+        public void writeBallot(byte[] ballot) throws IOException {
+            if ((flags & (FLAG_RANKED | FLAG_APPROVAL)) == 0) {
+                throw new IllegalStateException("Single-choice archives take votes, not ballots");
+            }
+            if (participants > 0) {
+                throw new IllegalStateException("Ballots must be written before voting records");
+            }
+            int first = (flags & FLAG_APPROVAL) != 0
+                    ? ApprovalBallot.firstSelected(ballot)
+                    : ballot.length == 0 ? -1 : ballot[0] & 0xFF;
+            if (first < 0 || first >= counts.length) {
+                throw new IllegalArgumentException("Invalid ballot for election " + electionId);
+            }
+            writeVarint(payload, ballot.length);
+            payload.write(ballot);
+            if ((flags & FLAG_APPROVAL) != 0) {
+                for (int index = first; index < counts.length; index++) {
+                    if (ApprovalBallot.isSelected(ballot, index)) {
+                        counts[index]++;
+                    }
+                }
+            } else {
+                counts[first]++;
+            }
+            totalVotes++;
+        }
+
+        /**
+         * Appends a voting record.
+         *
+         * @param voterId the voter ID, not lower than the previous one
+         * @param votedAt when the voter voted
+         * @throws IOException if the write fails
+         */
+        public void writeVotingRecord(long voterId, LocalDateTime votedAt) throws IOException {
+            if (voterId < lastVoterId) {
+                throw new IllegalArgumentException("Voting records must be written in voter ID order");
+            }
+            long seconds = votedAt.toEpochSecond(ZoneOffset.UTC);
+            long delta = seconds - lastVotedAt;
+            writeVarint(payload, voterId - lastVoterId);
+            writeVarint(payload, (delta << 1) ^ (delta >> 63));
+            lastVoterId = voterId;
+            lastVotedAt = seconds;
+            participants++;
+        }
+
+        /**
+         * Writes the footer, syncs the file to disk and moves it into place.
+         *
+         * @param archivedAt the archive timestamp stored in the footer
+         * @throws IOException if the write or move fails
+         */
+        public void finish(LocalDateTime archivedAt) throws IOException {
+            payload.finish();
+            long payloadLength = file.getCount() - HEADER_LENGTH;
+            if (payloadLength > Integer.MAX_VALUE) {
+                throw new IOException("Vote archive payload too large for election " + electionId);
+            }
+
+            long footerStart = file.getCount();
+            DataOutputStream out = new DataOutputStream(file);
+            out.writeLong(electionId);
+            out.writeLong(archivedAt.toEpochSecond(ZoneOffset.UTC));
+            out.writeLong(totalVotes);
+            out.writeLong(participants);
+            out.writeInt((int) payloadLength);
+            out.writeInt(optionIds.size());
+            for (int i = 0; i < optionIds.size(); i++) {
+                out.writeLong(optionIds.get(i));
+                out.writeLong(counts[i]);
+                if ((flags & FLAG_WEIGHTED) != 0) {
+                    out.writeLong(weightsHigh[i]);
+                    out.writeLong(weightsLow[i]);
+                }
+            }
+            out.writeInt((int) (file.getCount() - footerStart));
+            out.writeInt((int) file.getChecksum());
+            out.writeInt(MAGIC);
+            out.flush();
+            channel.force(true);
+            channel.close();
+
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            finished = true;
+        }
+
+        /**
+         * Releases the file; an unfinished archive is deleted.
+         */
+        @Override
+        public void close() throws IOException {
+            deflater.end();
+            channel.close();
+            if (!finished) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * Counts and checksums the bytes written through it.
+     */
+    private static final class ChecksumOutputStream extends FilterOutputStream {
+
+        private final CRC32 crc = new CRC32();
+        private long count;
+
+        ChecksumOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            crc.update(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            crc.update(b, off, len);
+            count += len;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        long getChecksum() {
+            return crc.getValue();
+        }
+    }
+
+    /**
+     * Reads from a (memory-mapped) byte buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
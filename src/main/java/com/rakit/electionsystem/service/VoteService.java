@@ -3,22 +3,33 @@ package com.rakit.electionsystem.service;
 import com.rakit.electionsystem.dto.VoteRequest;
 import com.rakit.electionsystem.exception.AlreadyVotedException;
 import com.rakit.electionsystem.exception.ElectionNotActiveException;
+import com.rakit.electionsystem.exception.InvalidRequestException;
 import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.exception.VotingException;
+import com.rakit.electionsystem.model.BallotType;
+import com.rakit.electionsystem.model.Demographic;
 import com.rakit.electionsystem.model.Election;
 import com.rakit.electionsystem.model.ElectionOption;
-import com.rakit.electionsystem.model.Vote;
 import com.rakit.electionsystem.model.Voter;
-import com.rakit.electionsystem.model.VotingRecord;
 import com.rakit.electionsystem.repository.ElectionOptionRepository;
 import com.rakit.electionsystem.repository.ElectionRepository;
-import com.rakit.electionsystem.repository.VoteRepository;
 import com.rakit.electionsystem.repository.VoterRepository;
-import com.rakit.electionsystem.repository.VotingRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.rakit.electionsystem.service.TransactionHooks.afterCommit;
+
 @Service
 @RequiredArgsConstructor
 public class VoteService {
@@ -26,42 +37,158 @@ public class VoteService {
     private final VoterRepository voterRepository;
     private final ElectionRepository electionRepository;
     private final ElectionOptionRepository electionOptionRepository;
-    private final VoteRepository voteRepository;
-    private final VotingRecordRepository votingRecordRepository;
+    private final VoteStorage voteStorage;
+    private final EligibilityService eligibilityService;
+    private final LiveTallies liveTallies;
+    private final TurnoutTracker turnoutTracker;
+    private final TurnoutDemographics turnoutDemographics;
+    private final VotingHistoryService votingHistoryService;
+    private final MeterRegistry meterRegistry;
 
+    /**
+     * Casts an anonymous vote for the current user.
+     * In a weighted election the voter's weight is copied onto the vote, which stays unlinked
+     * from the voter, and the vote is added to the election's live tally once committed.
+     * Committed votes are also added to the turnout curve and the age/sex turnout counters.
+     * Each phase (lookup, duplicate check, insert) is timed separately and the whole call is
+     * timed with its outcome: accepted, already-voted, inactive, not-found, not-eligible,
+     * invalid-option or error.
+     *
+     * @param voteRequest the election and option to vote for
+     * @param currentUser the authenticated voter
+     */
     @Transactional
     public void castVote(VoteRequest voteRequest, UserDetails currentUser) {
-        Voter voter = voterRepository.findByEmail(currentUser.getUsername())
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            doCastVote(voteRequest, currentUser);
+            outcome = "accepted";
+        } catch (RuntimeException ex) {
+            outcome = outcomeOf(ex);
+            throw ex;
+        } finally {
+            sample.stop(meterRegistry.timer("election.vote.cast", "outcome", outcome));
+        }
+    }
+
+    private void doCastVote(VoteRequest voteRequest, UserDetails currentUser) {
+        Voter voter = timePhase("lookup", () -> voterRepository.findByEmail(currentUser.getUsername()))
                 .orElseThrow(() -> new ResourceNotFoundException("Voter not found."));
 
-        Election election = electionRepository.findById(voteRequest.getElectionId())
+        Election election = timePhase("lookup", () -> electionRepository.findById(voteRequest.getElectionId()))
                 .orElseThrow(() -> new ResourceNotFoundException("Election not found with id: " + voteRequest.getElectionId()));
 
         if (!election.isActive()) {
             throw new ElectionNotActiveException("Election is not active.");
         }
 
-        if (votingRecordRepository.existsByVoterIdAndElectionId(voter.getId(), election.getId())) {
+        BallotType ballotType = election.getBallotType();
+        if (ballotType != BallotType.RANKED && !isEmpty(voteRequest.getRankedOptionIds())) {
+            throw new InvalidRequestException("Ranked option IDs only apply to ranked elections.");
+        }
+        if (ballotType != BallotType.APPROVAL && !isEmpty(voteRequest.getSelectedOptionIds())) {
+            throw new InvalidRequestException("Selected option IDs only apply to approval elections.");
+        }
+
+        if (timePhase("duplicate-check", () -> voteStorage.hasVoted(voter.getId(), election.getId()))) {
             throw new AlreadyVotedException("Voter has already voted in this election.");
         }
 
-        ElectionOption selectedOption = electionOptionRepository.findById(voteRequest.getOptionId())
-                .orElseThrow(() -> new ResourceNotFoundException("Election option not found with id: " + voteRequest.getOptionId()));
+        List<Long> choices = switch (ballotType) {
+            case RANKED -> voteRequest.getRankedOptionIds();
+            case APPROVAL -> voteRequest.getSelectedOptionIds();
+            case SINGLE_CHOICE -> null;
+        };
+        if (choices != null && choices.isEmpty()) {
+            choices = null;
+        }
+        if (choices != null) {
+            requireDistinctOptions(choices, ballotType);
+        }
+        if (choices == null && voteRequest.getOptionId() == null) {
+            throw new InvalidRequestException("An option must be selected.");
+        }
+        // The vote row keeps one option: the first preference, or the lowest selected option ID
+        Long optionId = choices == null ? voteRequest.getOptionId()
+                : ballotType == BallotType.APPROVAL ? Collections.min(choices) : choices.get(0);
+
+        ElectionOption selectedOption = timePhase("lookup", () -> electionOptionRepository.findById(optionId))
+                .orElseThrow(() -> new ResourceNotFoundException("Election option not found with id: " + optionId));
 
         if (!selectedOption.getElection().getId().equals(election.getId())) {
-            throw new IllegalArgumentException("Selected option does not belong to the specified election.");
+            throw new InvalidRequestException("Selected option does not belong to the specified election.");
+        }
+
+        // Ranked and approval votes store the full ranking or selection alongside the vote's option
+        List<Long> ballotChoices = choices != null ? choices : List.of(optionId);
+        byte[] ballot = switch (ballotType) {
+            case RANKED -> RankedBallot.encode(ballotChoices, RankedBallot.optionIds(election));
+            case APPROVAL -> ApprovalBallot.encode(ballotChoices, RankedBallot.optionIds(election),
+                    election.getMaxSelections());
+            case SINGLE_CHOICE -> null;
+        };
+
+        long weight = timePhase("lookup", () -> eligibilityService.weightOf(election, voter.getId()));
+
+        // Decode the PESEL once on the authenticated principal; the vote itself never sees it
+        Demographic demographic = (currentUser instanceof Voter principal ? principal : voter).getDemographic();
+        LocalDateTime votedAt = LocalDateTime.now();
+        timePhase("insert", () -> {
+            voteStorage.recordVote(voter, election, selectedOption, ballot, weight);
+            return null;
+        });
+        afterCommit(() -> {
+            turnoutTracker.record(election.getId(), voter.getId(), votedAt);
+            turnoutDemographics.record(election, voter.getId(), demographic, votedAt);
+            votingHistoryService.evict(voter.getId());
+            if (election.isWeighted()) {
+                liveTallies.record(election.getId(), selectedOption.getId(), weight);
+            }
+        });
+    }
+
+    /**
+     * Rejects null and repeated option IDs before the vote's option is picked from them.
+     */
+    private static void requireDistinctOptions(List<Long> optionIds, BallotType ballotType) {
+        Set<Long> seen = new HashSet<>();
+        for (Long optionId : optionIds) {
+            if (optionId == null) {
+                throw new InvalidRequestException("Option IDs must not be null.");
+            }
+            if (!seen.add(optionId)) {
+                throw new InvalidRequestException(ballotType == BallotType.RANKED
+                        ? "An option can be ranked only once."
+                        : "An option can be selected only once.");
+            }
         }
+    }
+
+    private static boolean isEmpty(List<Long> optionIds) {
+        return optionIds == null || optionIds.isEmpty();
+    }
 
-        // Create the anonymous vote
-        Vote vote = new Vote();
-        vote.setElection(election);
-        vote.setElectionOption(selectedOption);
-        voteRepository.save(vote);
-
-        // Create the voting record to prevent double voting
-        VotingRecord votingRecord = new VotingRecord();
-        votingRecord.setVoter(voter);
-        votingRecord.setElection(election);
-        votingRecordRepository.save(votingRecord);
+    private <T> T timePhase(String phase, Supplier<T> action) {
+        return meterRegistry.timer("election.vote.phase", "phase", phase).record(action);
+    }
+
+    private static String outcomeOf(RuntimeException ex) {
+        if (ex instanceof AlreadyVotedException) {
+            return "already-voted";
+        }
+        if (ex instanceof ElectionNotActiveException) {
+            return "inactive";
+        }
+        if (ex instanceof ResourceNotFoundException) {
+            return "not-found";
+        }
+        if (ex instanceof VotingException) {
+            return "not-eligible";
+        }
+        if (ex instanceof InvalidRequestException) {
+            return "invalid-option";
+        }
+        return "error";
     }
 }
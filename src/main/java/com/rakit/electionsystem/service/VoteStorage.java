@@ -0,0 +1,123 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.model.Voter;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Storage of anonymous votes and the voting records that prevent double voting.
+ * By default both live in the main database ({@link JpaVoteStorage}); in sharded mode they
+ * live in the shard that owns the election ({@link ShardedVoteStorage}).
+ */
+public interface VoteStorage {
+
+    /**
+     * Checks if a voter has already voted in an election.
+     *
+     * @param voterId the voter ID
+     * @param electionId the election ID
+     * @return true if a voting record exists
+     */
+    boolean hasVoted(Long voterId, Long electionId);
+
+    /**
+     * @return true if voting records live in the main database, so queries may join them to voters
+     */
+    boolean isInMainDatabase();
+
+    /**
+     * Stores an anonymous vote and the voter's voting record.
+     *
+     * @param voter the voter
+     * @param election the election
+     * @param option the chosen option (the first preference of a ranked ballot)
+     * @param ballot the packed ranking or selection of a ranked or approval ballot, or null
+     * @param weight how much the vote counts; 1 outside weighted elections
+     */
+    void recordVote(Voter voter, Election election, ElectionOption option, byte[] ballot, long weight);
+
+    /**
+     * @param electionId the election ID
+     * @return total votes in the election
+     */
+    long countByElectionId(Long electionId);
+
+    /**
+     * @param electionId the election ID
+     * @param optionId the option ID
+     * @return votes for the option in the election
+     */
+    long countByElectionIdAndElectionOptionId(Long electionId, Long optionId);
+
+    /**
+     * @param optionId the option ID
+     * @return votes for the option
+     */
+    long countByElectionOptionId(Long optionId);
+
+    /**
+     * @param electionId the election ID
+     * @return total vote weight per election option ID; options without votes are absent
+     */
+    Map<Long, BigInteger> sumWeightsByElectionOption(Long electionId);
+
+    /**
+     * @param electionId the election ID
+     * @return voters who participated in the election
+     */
+    long countParticipantsByElectionId(Long electionId);
+
+    /**
+     * Passes the chosen option of every vote in an election to the consumer, in insertion order.
+     *
+     * @param electionId the election ID
+     * @param optionIds receives the election option ID of each vote
+     */
+    void forEachVote(Long electionId, LongConsumer optionIds);
+
+    /**
+     * Passes the chosen option and weight of every vote in an election to the consumer, in insertion order.
+     *
+     * @param electionId the election ID
+     * @param votes receives the election option ID and weight of each vote
+     */
+    void forEachWeightedVote(Long electionId, BiConsumer<Long, Long> votes);
+
+    /**
+     * Passes the packed ranking of every ranked ballot in an election to the consumer, in insertion order.
+     *
+     * @param electionId the election ID
+     * @param ballots receives each packed ballot
+     */
+    void forEachBallot(Long electionId, Consumer<byte[]> ballots);
+
+    /**
+     * Passes every voting record of an election to the consumer, ordered by voter ID.
+     *
+     * @param electionId the election ID
+     * @param records receives the voter ID and voting time of each record
+     */
+    void forEachVotingRecord(Long electionId, BiConsumer<Long, LocalDateTime> records);
+
+    /**
+     * Finds every election a voter has voted in.
+     *
+     * @param voterId the voter ID
+     * @return voting time by election ID
+     */
+    Map<Long, LocalDateTime> findVotedAtByVoterId(Long voterId);
+
+    /**
+     * Deletes all votes and voting records of an election.
+     *
+     * @param electionId the election ID
+     */
+    void deleteByElectionId(Long electionId);
+}
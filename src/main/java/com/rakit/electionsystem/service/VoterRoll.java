@@ -0,0 +1,427 @@
+package com.rakit.electionsystem.service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * Immutable compressed set of voter IDs, laid out like a Roaring bitmap: IDs are split into
+ * chunks of 65536 by their high 16 bits, and each chunk is stored either as a sorted array of
+ * its low 16 bits (up to 4096 IDs, two bytes each) or as a 65536-bit bitmap (8 KiB), whichever
+ * is smaller. A membership test is a binary search over at most 65536 chunk keys followed by
+ * one array search or bit test. Unions, intersections and differences work chunk by chunk,
+ * word by word for bitmaps, without expanding the set.
+ * <p>
+ * Serialized form (big-endian): chunkCount:i32, then per chunk key:u16 cardinality:i32, then
+ * per chunk either cardinality u16 values or 1024 bitmap words, by the same size rule.
+ * Voter IDs must lie in {@code 0..2^32-1}.
+ */
+public final class VoterRoll {
+
+    /**
+     * Largest voter ID a roll can hold.
+     */
+    public static final long MAX_VOTER_ID = 0xFFFFFFFFL;
+
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 16 >>> 6;
+    private static final VoterRoll EMPTY = new VoterRoll(new char[0], new Chunk[0]);
+
+    private final char[] keys;
+    private final Chunk[] chunks;
+    private final long size;
+
+    private VoterRoll(char[] keys, Chunk[] chunks) {
+        this.keys = keys;
+        this.chunks = chunks;
+        long total = 0;
+        for (Chunk chunk : chunks) {
+            total += chunk.cardinality;
+        }
+        this.size = total;
+    }
+
+    /**
+     * @return a roll with no voters
+     */
+    public static VoterRoll empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a roll.
+     *
+     * @param voterIds voter IDs in any order; duplicates are ignored
+     * @return the roll
+     */
+    public static VoterRoll of(long[] voterIds) {
+        long[] sorted = voterIds.clone();
+        Arrays.sort(sorted);
+        if (sorted.length > 0 && (sorted[0] < 0 || sorted[sorted.length - 1] > MAX_VOTER_ID)) {
+            throw new IllegalArgumentException("Voter IDs must be between 0 and " + MAX_VOTER_ID);
+        }
+        char[] keys = new char[sorted.length];
+        Chunk[] chunks = new Chunk[sorted.length];
+        int count = 0;
+        int from = 0;
+        while (from < sorted.length) {
+            char key = (char) (sorted[from] >>> 16);
+            int to = from;
+            char[] values = new char[Math.min(sorted.length - from, 1 << 16)];
+            int cardinality = 0;
+            while (to < sorted.length && (char) (sorted[to] >>> 16) == key) {
+                char low = (char) sorted[to];
+                if (cardinality == 0 || values[cardinality - 1] != low) {
+                    values[cardinality++] = low;
+                }
+                to++;
+            }
+            keys[count] = key;
+            chunks[count++] = Chunk.ofSorted(values, cardinality);
+            from = to;
+        }
+        return new VoterRoll(Arrays.copyOf(keys, count), Arrays.copyOf(chunks, count));
+    }
+
+    /**
+     * Reads a roll written by {@link #toBytes()}.
+     *
+     * @param bytes the serialized roll
+     * @return the roll
+     */
+    public static VoterRoll fromBytes(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        int count = in.getInt();
+        char[] keys = new char[count];
+        int[] cardinalities = new int[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = in.getChar();
+            cardinalities[i] = in.getInt();
+        }
+        Chunk[] chunks = new Chunk[count];
+        for (int i = 0; i < count; i++) {
+            if (cardinalities[i] > ARRAY_LIMIT) {
+                long[] bits = new long[BITMAP_WORDS];
+                in.asLongBuffer().get(bits);
+                in.position(in.position() + BITMAP_WORDS * Long.BYTES);
+                chunks[i] = new Chunk(null, bits, cardinalities[i]);
+            } else {
+                char[] values = new char[cardinalities[i]];
+                in.asCharBuffer().get(values);
+                in.position(in.position() + values.length * Character.BYTES);
+                chunks[i] = new Chunk(values, null, values.length);
+            }
+        }
+        return new VoterRoll(keys, chunks);
+    }
+
+    /**
+     * @return the serialized roll
+     */
+    public byte[] toBytes() {
+        int length = Integer.BYTES + chunks.length * (Character.BYTES + Integer.BYTES);
+        for (Chunk chunk : chunks) {
+            length += chunk.bits != null ? BITMAP_WORDS * Long.BYTES : chunk.cardinality * Character.BYTES;
+        }
+        ByteBuffer out = ByteBuffer.allocate(length);
+        out.putInt(chunks.length);
+        for (int i = 0; i < chunks.length; i++) {
+            out.putChar(keys[i]);
+            out.putInt(chunks[i].cardinality);
+        }
+        for (Chunk chunk : chunks) {
+            if (chunk.bits != null) {
+                out.asLongBuffer().put(chunk.bits);
+                out.position(out.position() + BITMAP_WORDS * Long.BYTES);
+            } else {
+                out.asCharBuffer().put(chunk.values, 0, chunk.cardinality);
+                out.position(out.position() + chunk.cardinality * Character.BYTES);
+            }
+        }
+        return out.array();
+    }
+
+    /**
+     * @param voterId the voter ID
+     * @return true if the voter is on the roll
+     */
+    public boolean contains(long voterId) {
+        if (voterId < 0 || voterId > MAX_VOTER_ID) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, (char) (voterId >>> 16));
+        return index >= 0 && chunks[index].contains((char) voterId);
+    }
+
+    /**
+     * @return number of voters on the roll
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Passes every voter ID to the consumer, in ascending order.
+     *
+     * @param consumer receives each voter ID
+     */
+    public void forEach(LongConsumer consumer) {
+        forEachAfter(-1, voterId -> {
+            consumer.accept(voterId);
+            return true;
+        });
+    }
+
+    /**
+     * Passes voter IDs above a given ID to the consumer, in ascending order, until it returns
+     * false. Chunks below the ID are skipped without being read.
+     *
+     * @param afterId exclusive lower bound; -1 to start at the first voter
+     * @param consumer receives each voter ID and returns whether to continue
+     */
+    public void forEachAfter(long afterId, LongPredicate consumer) {
+        long from = afterId + 1;
+        if (from > MAX_VOTER_ID) {
+            return;
+        }
+        int first = Arrays.binarySearch(keys, (char) (from >>> 16));
+        for (int i = first >= 0 ? first : -first - 1; i < chunks.length; i++) {
+            long high = (long) keys[i] << 16;
+            boolean more = chunks[i].forEachWhile(low -> (high | low) < from || consumer.test(high | low));
+            if (!more) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param other another roll
+     * @return voters on either roll
+     */
+    public VoterRoll or(VoterRoll other) {
+        char[] keys = new char[this.keys.length + other.keys.length];
+        Chunk[] chunks = new Chunk[keys.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < this.keys.length || j < other.keys.length) {
+            int a = i < this.keys.length ? this.keys[i] : Integer.MAX_VALUE;
+            int b = j < other.keys.length ? other.keys[j] : Integer.MAX_VALUE;
+            if (a == b) {
+                keys[count] = (char) a;
+                chunks[count++] = this.chunks[i++].or(other.chunks[j++]);
+            } else if (a < b) {
+                keys[count] = (char) a;
+                chunks[count++] = this.chunks[i++];
+            } else {
+                keys[count] = (char) b;
+                chunks[count++] = other.chunks[j++];
+            }
+        }
+        return new VoterRoll(Arrays.copyOf(keys, count), Arrays.copyOf(chunks, count));
+    }
+
+    /**
+     * @param other another roll
+     * @return voters on both rolls
+     */
+    public VoterRoll and(VoterRoll other) {
+        char[] keys = new char[Math.min(this.keys.length, other.keys.length)];
+        Chunk[] chunks = new Chunk[keys.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < this.keys.length && j < other.keys.length) {
+            if (this.keys[i] == other.keys[j]) {
+                Chunk chunk = this.chunks[i].and(other.chunks[j]);
+                if (chunk.cardinality > 0) {
+                    keys[count] = this.keys[i];
+                    chunks[count++] = chunk;
+                }
+                i++;
+                j++;
+            } else if (this.keys[i] < other.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return new VoterRoll(Arrays.copyOf(keys, count), Arrays.copyOf(chunks, count));
+    }
+
+    /**
+     * @param other another roll
+     * @return voters on this roll but not on the other
+     */
+    public VoterRoll andNot(VoterRoll other) {
+        char[] keys = new char[this.keys.length];
+        Chunk[] chunks = new Chunk[keys.length];
+        int j = 0;
+        int count = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < this.keys[i]) {
+                j++;
+            }
+            Chunk chunk = j < other.keys.length && other.keys[j] == this.keys[i]
+                    ? this.chunks[i].andNot(other.chunks[j])
+                    : this.chunks[i];
+            if (chunk.cardinality > 0) {
+                keys[count] = this.keys[i];
+                chunks[count++] = chunk;
+            }
+        }
+        return new VoterRoll(Arrays.copyOf(keys, count), Arrays.copyOf(chunks, count));
+    }
+
+    /**
+     * The IDs of one 65536-wide chunk: a sorted array of low halves, or a bitmap.
+     */
+    private static final class Chunk {
+
+        private final char[] values;
+        private final long[] bits;
+        private final int cardinality;
+
+        private Chunk(char[] values, long[] bits, int cardinality) {
+            this.values = values;
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        static Chunk ofSorted(char[] values, int cardinality) {
+            if (cardinality <= ARRAY_LIMIT) {
+                return new Chunk(Arrays.copyOf(values, cardinality), null, cardinality);
+            }
+            long[] bits = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                bits[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new Chunk(null, bits, cardinality);
+        }
+
+        static Chunk ofBits(long[] bits) {
+            int cardinality = 0;
+            for (long word : bits) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_LIMIT) {
+                return new Chunk(null, bits, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int n = 0;
+            for (int word = 0; word < bits.length; word++) {
+                for (long w = bits[word]; w != 0; w &= w - 1) {
+                    values[n++] = (char) ((word << 6) + Long.numberOfTrailingZeros(w));
+                }
+            }
+            return new Chunk(values, null, cardinality);
+        }
+
+        boolean contains(char low) {
+            return bits != null
+                    ? (bits[low >>> 6] & (1L << low)) != 0
+                    : Arrays.binarySearch(values, low) >= 0;
+        }
+
+        boolean forEachWhile(LongPredicate consumer) {
+            if (bits == null) {
+                for (char value : values) {
+                    if (!consumer.test(value)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            for (int word = 0; word < bits.length; word++) {
+                for (long w = bits[word]; w != 0; w &= w - 1) {
+                    if (!consumer.test((word << 6) + Long.numberOfTrailingZeros(w))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        Chunk or(Chunk other) {
+            if (bits == null && other.bits == null) {
+                char[] merged = new char[cardinality + other.cardinality];
+                int i = 0;
+                int j = 0;
+                int n = 0;
+                while (i < cardinality || j < other.cardinality) {
+                    int a = i < cardinality ? values[i] : Integer.MAX_VALUE;
+                    int b = j < other.cardinality ? other.values[j] : Integer.MAX_VALUE;
+                    merged[n++] = (char) Math.min(a, b);
+                    if (a <= b) {
+                        i++;
+                    }
+                    if (b <= a) {
+                        j++;
+                    }
+                }
+                return ofSorted(merged, n);
+            }
+            long[] union = new long[BITMAP_WORDS];
+            addTo(union);
+            other.addTo(union);
+            return ofBits(union);
+        }
+
+        Chunk and(Chunk other) {
+            if (bits != null && other.bits != null) {
+                long[] intersection = new long[BITMAP_WORDS];
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    intersection[word] = bits[word] & other.bits[word];
+                }
+                return ofBits(intersection);
+            }
+            Chunk array = bits == null ? this : other;
+            Chunk probe = array == this ? other : this;
+            char[] common = new char[array.cardinality];
+            int n = 0;
+            for (char value : array.values) {
+                if (probe.contains(value)) {
+                    common[n++] = value;
+                }
+            }
+            return new Chunk(Arrays.copyOf(common, n), null, n);
+        }
+
+        Chunk andNot(Chunk other) {
+            if (bits == null) {
+                char[] remaining = new char[cardinality];
+                int n = 0;
+                for (char value : values) {
+                    if (!other.contains(value)) {
+                        remaining[n++] = value;
+                    }
+                }
+                return new Chunk(Arrays.copyOf(remaining, n), null, n);
+            }
+            long[] difference = bits.clone();
+            if (other.bits != null) {
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    difference[word] &= ~other.bits[word];
+                }
+            } else {
+                for (char value : other.values) {
+                    difference[value >>> 6] &= ~(1L << value);
+                }
+            }
+            return ofBits(difference);
+        }
+
+        private void addTo(long[] target) {
+            if (bits != null) {
+                for (int word = 0; word < BITMAP_WORDS; word++) {
+                    target[word] |= bits[word];
+                }
+            } else {
+                for (char value : values) {
+                    target[value >>> 6] |= 1L << value;
+                }
+            }
+        }
+    }
+}
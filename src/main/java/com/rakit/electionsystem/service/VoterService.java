@@ -4,6 +4,7 @@ import com.rakit.electionsystem.exception.DuplicateResourceException;
 import com.rakit.electionsystem.exception.ResourceNotFoundException;
 import com.rakit.electionsystem.model.Voter;
 import com.rakit.electionsystem.repository.VoterRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,6 +18,7 @@ import java.util.List;
 /**
  * Service for managing voters.
  * Provides CRUD operations and voter-related business logic.
+ * Changes are counted in {@code election.voters.changes} by operation and logged at DEBUG.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,6 +27,7 @@ public class VoterService {
 
     private final VoterRepository voterRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Retrieves all voters.
@@ -86,17 +89,17 @@ public class VoterService {
      */
     @Transactional
     public Voter createVoter(Voter voter) {
-        log.info("Creating new voter: {}", voter.getEmail());
+        log.debug("Creating new voter: {}", voter.getEmail());
 
         // Check if email already exists
         if (voterRepository.existsByEmail(voter.getEmail())) {
-            log.warn("Cannot create voter: email already exists: {}", voter.getEmail());
+            log.debug("Cannot create voter: email already exists: {}", voter.getEmail());
             throw new DuplicateResourceException("Voter", "email", voter.getEmail());
         }
 
         // Check if PESEL already exists (if provided)
         if (voter.getPesel() != null && voterRepository.existsByPesel(voter.getPesel())) {
-            log.warn("Cannot create voter: PESEL already exists: {}", voter.getPesel());
+            log.debug("Cannot create voter: PESEL already exists: {}", voter.getPesel());
             throw new DuplicateResourceException("Voter", "PESEL", voter.getPesel());
         }
 
@@ -106,7 +109,8 @@ public class VoterService {
         }
 
         Voter savedVoter = voterRepository.save(voter);
-        log.info("Voter created successfully: {}", savedVoter.getEmail());
+        log.debug("Voter created successfully: {}", savedVoter.getEmail());
+        countChange("created");
         return savedVoter;
     }
 
@@ -121,14 +125,14 @@ public class VoterService {
      */
     @Transactional
     public Voter updateVoter(Long id, Voter voterDetails) {
-        log.info("Updating voter with ID: {}", id);
+        log.debug("Updating voter with ID: {}", id);
 
         Voter voter = getVoterById(id);
 
         // Check if new email already exists for another voter
         if (!voter.getEmail().equals(voterDetails.getEmail()) &&
             voterRepository.existsByEmail(voterDetails.getEmail())) {
-            log.warn("Cannot update voter: email already exists: {}", voterDetails.getEmail());
+            log.debug("Cannot update voter: email already exists: {}", voterDetails.getEmail());
             throw new DuplicateResourceException("Voter", "email", voterDetails.getEmail());
         }
 
@@ -136,7 +140,7 @@ public class VoterService {
         if (voterDetails.getPesel() != null &&
             !voterDetails.getPesel().equals(voter.getPesel()) &&
             voterRepository.existsByPesel(voterDetails.getPesel())) {
-            log.warn("Cannot update voter: PESEL already exists: {}", voterDetails.getPesel());
+            log.debug("Cannot update voter: PESEL already exists: {}", voterDetails.getPesel());
             throw new DuplicateResourceException("Voter", "PESEL", voterDetails.getPesel());
         }
 
@@ -158,7 +162,8 @@ public class VoterService {
         }
 
         Voter updatedVoter = voterRepository.save(voter);
-        log.info("Voter updated successfully: {}", updatedVoter.getEmail());
+        log.debug("Voter updated successfully: {}", updatedVoter.getEmail());
+        countChange("updated");
         return updatedVoter;
     }
 
@@ -170,12 +175,13 @@ public class VoterService {
      */
     @Transactional
     public void deleteVoter(Long id) {
-        log.info("Deleting voter with ID: {}", id);
+        log.debug("Deleting voter with ID: {}", id);
 
         Voter voter = getVoterById(id);
         voterRepository.delete(voter);
 
-        log.info("Voter deleted successfully: {}", voter.getEmail());
+        log.debug("Voter deleted successfully: {}", voter.getEmail());
+        countChange("deleted");
     }
 
     /**
@@ -187,13 +193,14 @@ public class VoterService {
      */
     @Transactional
     public Voter activateVoter(Long id) {
-        log.info("Activating voter with ID: {}", id);
+        log.debug("Activating voter with ID: {}", id);
 
         Voter voter = getVoterById(id);
         voter.setActive(true);
         Voter activatedVoter = voterRepository.save(voter);
 
-        log.info("Voter activated successfully: {}", activatedVoter.getEmail());
+        log.debug("Voter activated successfully: {}", activatedVoter.getEmail());
+        countChange("activated");
         return activatedVoter;
     }
 
@@ -206,13 +213,14 @@ public class VoterService {
      */
     @Transactional
     public Voter deactivateVoter(Long id) {
-        log.info("Deactivating voter with ID: {}", id);
+        log.debug("Deactivating voter with ID: {}", id);
 
         Voter voter = getVoterById(id);
         voter.setActive(false);
         Voter deactivatedVoter = voterRepository.save(voter);
 
-        log.info("Voter deactivated successfully: {}", deactivatedVoter.getEmail());
+        log.debug("Voter deactivated successfully: {}", deactivatedVoter.getEmail());
+        countChange("deactivated");
         return deactivatedVoter;
     }
 
@@ -237,4 +245,8 @@ public class VoterService {
     public boolean existsByPesel(String pesel) {
         return voterRepository.existsByPesel(pesel);
     }
+
+    private void countChange(String operation) {
+        meterRegistry.counter("election.voters.changes", "operation", operation).increment();
+    }
 }
@@ -0,0 +1,163 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.VoterElectionResponse;
+import com.rakit.electionsystem.dto.VoterElectionsResponse;
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.VoterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Service for the current voter's view of elections: every election past DRAFT and not yet
+ * archived, each with whether the voter is on its roll and whether and when they voted.
+ * <p>
+ * A voter's voting records are read in one query (one per shard in sharded mode) and kept in a
+ * bounded LRU cache until the voter casts their next vote, so paging through elections costs
+ * one election query. Loads that race with a cast are not cached: each cast bumps a
+ * generation for the voter's stripe, and a load only caches if its stripe's generation did
+ * not change meanwhile. Casts on other instances are not seen, so entries also expire after
+ * {@code votes.history-cache.ttl}.
+ */
+@Service
+public class VotingHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int STRIPES = 64;
+
+    private final VoterRepository voterRepository;
+    private final ElectionRepository electionRepository;
+    private final VoteStorage voteStorage;
+    private final EligibilityService eligibilityService;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, CachedRecords> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+
+    public VotingHistoryService(
+            VoterRepository voterRepository,
+            ElectionRepository electionRepository,
+            VoteStorage voteStorage,
+            EligibilityService eligibilityService,
+            @Value("${votes.history-cache.max-entries:10000}") int maxEntries,
+            @Value("${votes.history-cache.ttl:5m}") Duration ttl
+    ) {
+        this.voterRepository = voterRepository;
+        this.electionRepository = electionRepository;
+        this.voteStorage = voteStorage;
+        this.eligibilityService = eligibilityService;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedRecords> eldest) {
+                return size() > VotingHistoryService.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Gets a page of the current voter's elections.
+     * Not read-only, so a vote just cast is seen even while the replica lags.
+     *
+     * @param currentUser the authenticated voter
+     * @param page zero-based page number
+     * @param size page size, at most 100
+     * @return the elections with the voter's eligibility and voting time
+     */
+    @Transactional
+    public VoterElectionsResponse getMyElections(UserDetails currentUser, int page, int size) {
+        if (page < 0) {
+            throw new InvalidRequestException("page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Voter voter = currentUser instanceof Voter principal ? principal
+                : voterRepository.findByEmail(currentUser.getUsername())
+                        .orElseThrow(() -> new ResourceNotFoundException("Voter not found."));
+
+        Map<Long, LocalDateTime> votedAt = votedAt(voter.getId());
+        Page<Election> elections = electionRepository.findVisibleToVoters(PageRequest.of(page, size));
+        Set<Long> eligible = eligibilityService.findEligibleElectionIds(elections.getContent(), voter.getId());
+        List<VoterElectionResponse> items = elections.stream()
+                .map(election -> {
+                    LocalDateTime voted = votedAt.get(election.getId());
+                    return new VoterElectionResponse(election.getId(), election.getName(),
+                            election.getStartDate(), election.getEndDate(), election.getStatus(),
+                            election.getBallotType(), eligible.contains(election.getId()), voted != null, voted);
+                })
+                .toList();
+        return new VoterElectionsResponse(items, page, size, elections.getTotalElements(), elections.getTotalPages());
+    }
+
+    /**
+     * Drops the cached voting records of a voter, once a vote they cast has committed.
+     *
+     * @param voterId the voter ID
+     */
+    public void evict(Long voterId) {
+        generations.incrementAndGet(stripe(voterId));
+        lock.lock();
+        try {
+            cache.remove(voterId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Map<Long, LocalDateTime> votedAt(Long voterId) {
+        lock.lock();
+        try {
+            CachedRecords cached = cache.get(voterId);
+            if (cached != null && System.nanoTime() - cached.loadedAt() < ttlNanos) {
+                return cached.votedAt();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        long generation = generations.get(stripe(voterId));
+        long loadedAt = System.nanoTime();
+        Map<Long, LocalDateTime> loaded = Map.copyOf(voteStorage.findVotedAtByVoterId(voterId));
+        lock.lock();
+        try {
+            if (generations.get(stripe(voterId)) == generation) {
+                cache.put(voterId, new CachedRecords(loaded, loadedAt));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return loaded;
+    }
+
+    private static int stripe(Long voterId) {
+        return (int) Math.floorMod(voterId, (long) STRIPES);
+    }
+
+    /**
+     * Cached voting records of one voter.
+     *
+     * @param votedAt voting time by election ID
+     * @param loadedAt {@link System#nanoTime()} before the records were read
+     */
+    private record CachedRecords(Map<Long, LocalDateTime> votedAt, long loadedAt) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.rakit.electionsystem.service;
+
+import java.math.BigInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A sum of non-negative weights that cannot overflow: every stripe keeps a 128-bit total as a
+ * pair of longs, so even {@code Long.MAX_VALUE} shares on every vote of every voter stay exact.
+ * Writers are spread over stripes by thread, so concurrent votes rarely contend on one lock;
+ * readers add the stripes up. Stripes use {@link ReentrantLock} rather than monitors so virtual
+ * threads are not pinned.
+ */
+public final class WeightCounter {
+
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public WeightCounter() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Adds a weight.
+     *
+     * @param weight the weight, not negative
+     */
+    public void add(long weight) {
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weights cannot be negative");
+        }
+        Stripe stripe = stripes[(int) Thread.currentThread().threadId() & (STRIPES - 1)];
+        stripe.lock.lock();
+        try {
+            long low = stripe.low + weight;
+            if (Long.compareUnsigned(low, stripe.low) < 0) {
+                stripe.high++;
+            }
+            stripe.low = low;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the exact total
+     */
+    public BigInteger sum() {
+        BigInteger sum = BigInteger.ZERO;
+        for (Stripe stripe : stripes) {
+            long low;
+            long high;
+            stripe.lock.lock();
+            try {
+                low = stripe.low;
+                high = stripe.high;
+            } finally {
+                stripe.lock.unlock();
+            }
+            sum = sum.add(BigInteger.valueOf(high).shiftLeft(Long.SIZE)
+                    .add(new BigInteger(Long.toUnsignedString(low))));
+        }
+        return sum;
+    }
+
+    /**
+     * Low and high 64 bits of one stripe's total; the low half is unsigned.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private long low;
+        private long high;
+    }
+}
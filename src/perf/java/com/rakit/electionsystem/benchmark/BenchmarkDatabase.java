@@ -0,0 +1,167 @@
+package com.rakit.electionsystem.benchmark;
+
+import com.rakit.electionsystem.ElectionSystemApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Application context on an embedded in-memory H2 database, with JDBC helpers for seeding
+ * realistic row counts quickly. The schema is created by the regular Liquibase changelog.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+
+    /**
+     * BCrypt hash of "password123", the same one used by the initial data.
+     */
+    public static final String PASSWORD_HASH = "$2a$10$sXm32gMaILQ1Puoz0riJ2OxZteuTUKsOR7qoqGqA.m5Bh4xVqZew2";
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final ConfigurableApplicationContext context;
+    private final JdbcTemplate jdbcTemplate;
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private BenchmarkDatabase(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    /**
+     * Starts the application against a fresh in-memory database.
+     *
+     * @param name database name, unique per benchmark class
+     * @return the running database and context
+     */
+    public static BenchmarkDatabase start(String name) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ElectionSystemApplication.class)
+                .logStartupInfo(false)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.show-sql=false",
+                        "--jwt.secret=benchmark-secret-key-for-benchmarks-only-minimum-256-bits",
+                        "--rate-limit.enabled=false",
+                        "--elections.scheduler.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.rakit.electionsystem=WARN"
+                );
+        return new BenchmarkDatabase(context);
+    }
+
+    /**
+     * Gets a bean from the application context.
+     *
+     * @param type bean type
+     * @param <T> bean type
+     * @return the bean
+     */
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Creates an active election open for the next month.
+     *
+     * @param optionCount number of options
+     * @return the election and its option IDs
+     */
+    public ElectionFixture createActiveElection(int optionCount) {
+        LocalDateTime now = LocalDateTime.now();
+        Number electionId = new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName("election")
+                .usingGeneratedKeyColumns("id")
+                .executeAndReturnKey(Map.of(
+                        "name", "Benchmark election " + now,
+                        "description", "Seeded for benchmarks",
+                        "start_date", Timestamp.valueOf(now.minusDays(1)),
+                        "end_date", Timestamp.valueOf(now.plusMonths(1)),
+                        "status", "ACTIVE",
+                        "created_at", Timestamp.valueOf(now),
+                        "updated_at", Timestamp.valueOf(now)
+                ));
+
+        List<Object[]> options = new ArrayList<>(optionCount);
+        for (int i = 0; i < optionCount; i++) {
+            options.add(new Object[]{electionId, "Option " + i, "Description of option " + i, i, Timestamp.valueOf(now)});
+        }
+        batchInsert("INSERT INTO election_option (election_id, option_title, description, display_order, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)", options);
+
+        List<Long> optionIds = jdbcTemplate.queryForList(
+                "SELECT id FROM election_option WHERE election_id = ? ORDER BY id", Long.class, electionId);
+        return new ElectionFixture(electionId.longValue(), optionIds);
+    }
+
+    /**
+     * Inserts active voters with sequential emails.
+     *
+     * @param prefix email prefix, e.g. "voter"
+     * @param count number of voters
+     * @return emails of the inserted voters, in insertion order
+     */
+    public List<String> seedVoters(String prefix, int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<String> emails = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String email = prefix + i + "@benchmark.pl";
+            emails.add(email);
+            rows.add(new Object[]{email, PASSWORD_HASH, "First" + i, "Last" + i, "ROLE_VOTER", true, now, now});
+        }
+        batchInsert("INSERT INTO voter (email, password, first_name, last_name, role, active, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return emails;
+    }
+
+    /**
+     * Inserts votes spread randomly across the options of an election, with one voting record each.
+     * Voting records reference the given voters in order.
+     *
+     * @param election the election
+     * @param voterEmails voters who already voted
+     */
+    public void seedVotes(ElectionFixture election, List<String> voterEmails) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> votes = new ArrayList<>(voterEmails.size());
+        List<Object[]> records = new ArrayList<>(voterEmails.size());
+        for (String email : voterEmails) {
+            Long optionId = election.optionIds().get(random.nextInt(election.optionIds().size()));
+            votes.add(new Object[]{election.id(), optionId});
+            records.add(new Object[]{election.id(), now, email});
+        }
+        batchInsert("INSERT INTO vote (election_id, election_option_id) VALUES (?, ?)", votes);
+        batchInsert("INSERT INTO voting_record (voter_id, election_id, voted_at) "
+                + "SELECT id, ?, ? FROM voter WHERE email = ?", records);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    /**
+     * A seeded election.
+     *
+     * @param id election ID
+     * @param optionIds option IDs ordered by ID
+     */
+    public record ElectionFixture(long id, List<Long> optionIds) {
+    }
+}
@@ -0,0 +1,95 @@
+package com.rakit.electionsystem.benchmark;
+
+import com.rakit.electionsystem.dto.VoteRequest;
+import com.rakit.electionsystem.exception.AlreadyVotedException;
+import com.rakit.electionsystem.service.VoteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks {@link VoteService#castVote} end to end against an embedded H2 database.
+ * The database is seeded with an election that already holds {@code existingVotes} votes,
+ * and every measurement iteration opens a fresh election so each voter casts exactly one vote.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CastVoteBenchmark {
+
+    @Param({"100000"})
+    private int existingVotes;
+
+    @Param({"200000"})
+    private int voterPool;
+
+    @Param({"10"})
+    private int optionCount;
+
+    private BenchmarkDatabase database;
+    private VoteService voteService;
+    private List<UserDetails> voters;
+    private BenchmarkDatabase.ElectionFixture election;
+    private final AtomicInteger nextVoter = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUpDatabase() {
+        database = BenchmarkDatabase.start("cast-vote");
+        voteService = database.getBean(VoteService.class);
+
+        BenchmarkDatabase.ElectionFixture seeded = database.createActiveElection(optionCount);
+        database.seedVotes(seeded, database.seedVoters("existing", existingVotes));
+
+        voters = database.seedVoters("voter", voterPool).stream()
+                .map(email -> User.withUsername(email)
+                        .password(BenchmarkDatabase.PASSWORD_HASH)
+                        .authorities("ROLE_VOTER")
+                        .build())
+                .toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void openElection() {
+        election = database.createActiveElection(optionCount);
+        nextVoter.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public boolean castVote() {
+        int index = nextVoter.getAndIncrement();
+        VoteRequest request = new VoteRequest();
+        request.setElectionId(election.id());
+        request.setOptionId(election.optionIds().get(index % optionCount));
+        try {
+            voteService.castVote(request, voters.get(index % voterPool));
+            return true;
+        } catch (AlreadyVotedException ex) {
+            // Only reached if an iteration outruns the voter pool
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.rakit.electionsystem.benchmark;
+
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link Election#isActive()}, which reads the wall clock on every call,
+ * against the variant that takes a caller-supplied time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ElectionActivityBenchmark {
+
+    private Election election;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+        election = Election.builder()
+                .name("Benchmark election")
+                .startDate(now.minusDays(1))
+                .endDate(now.plusDays(1))
+                .status(ElectionStatus.ACTIVE)
+                .build();
+    }
+
+    @Benchmark
+    public boolean isActive() {
+        return election.isActive();
+    }
+
+    @Benchmark
+    public boolean isActiveAtGivenTime() {
+        return election.isActive(now);
+    }
+}
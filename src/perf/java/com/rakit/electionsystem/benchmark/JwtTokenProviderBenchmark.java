@@ -0,0 +1,56 @@
+package com.rakit.electionsystem.benchmark;
+
+import com.rakit.electionsystem.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JWT signing and verification, which run on every authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret",
+                "benchmark-secret-key-for-benchmarks-only-minimum-256-bits");
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpirationMs", 3_600_000L);
+        token = jwtTokenProvider.generateTokenFromUsername("voter@benchmark.pl");
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtTokenProvider.generateTokenFromUsername("voter@benchmark.pl");
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public String parseUsername() {
+        return jwtTokenProvider.getUsernameFromToken(token);
+    }
+}
@@ -0,0 +1,62 @@
+package com.rakit.electionsystem.benchmark;
+
+import com.rakit.electionsystem.dto.ElectionResultsResponse;
+import com.rakit.electionsystem.service.ResultsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ResultsService#getElectionResults(Long)} on an embedded H2 database
+ * for elections with 10, 100 and 1,000 options.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultsBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int optionCount;
+
+    @Param({"100000"})
+    private int votes;
+
+    private BenchmarkDatabase database;
+    private ResultsService resultsService;
+    private Long electionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = BenchmarkDatabase.start("results-" + optionCount);
+        resultsService = database.getBean(ResultsService.class);
+
+        BenchmarkDatabase.ElectionFixture election = database.createActiveElection(optionCount);
+        database.seedVotes(election, database.seedVoters("voter", votes));
+        electionId = election.id();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public ElectionResultsResponse getElectionResults() {
+        return resultsService.getElectionResults(electionId);
+    }
+}
@@ -0,0 +1,55 @@
+package com.rakit.electionsystem.controller;
+
+import com.rakit.electionsystem.dto.VoterResponse;
+import com.rakit.electionsystem.model.Role;
+import com.rakit.electionsystem.model.Voter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link AdminController#mapToVoterResponse(Voter)}.
+ * Lives in the controller package because the mapper is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VoterMappingBenchmark {
+
+    private AdminController adminController;
+    private Voter voter;
+
+    @Setup
+    public void setUp() {
+        adminController = new AdminController(null, null);
+        voter = Voter.builder()
+                .id(1L)
+                .email("voter@benchmark.pl")
+                .firstName("Jan")
+                .lastName("Kowalski")
+                .pesel("90010112345")
+                .role(Role.ROLE_VOTER)
+                .active(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public VoterResponse mapToVoterResponse() {
+        return adminController.mapToVoterResponse(voter);
+    }
+}
@@ -0,0 +1,66 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.ElectionResponse;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.model.ElectionStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link ElectionService#mapToElectionResponse(Election)} for growing option lists.
+ * Lives in the service package because the mapper is package-private.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ElectionMappingBenchmark {
+
+    @Param({"2", "10", "100"})
+    private int optionCount;
+
+    private ElectionService electionService;
+    private Election election;
+
+    @Setup
+    public void setUp() {
+        electionService = new ElectionService(null, null, null, null, null);
+
+        LocalDateTime now = LocalDateTime.now();
+        election = Election.builder()
+                .id(1L)
+                .name("Benchmark election")
+                .description("Election used for mapping benchmarks")
+                .startDate(now.minusDays(1))
+                .endDate(now.plusDays(1))
+                .status(ElectionStatus.ACTIVE)
+                .build();
+        for (long i = 0; i < optionCount; i++) {
+            election.addOption(ElectionOption.builder()
+                    .id(i + 1)
+                    .optionTitle("Option " + i)
+                    .description("Description of option " + i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public ElectionResponse mapToElectionResponse() {
+        return electionService.mapToElectionResponse(election);
+    }
+}
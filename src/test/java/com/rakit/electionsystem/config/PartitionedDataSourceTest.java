@@ -0,0 +1,95 @@
+package com.rakit.electionsystem.config;
+
+import com.rakit.electionsystem.security.TrafficClass;
+import com.rakit.electionsystem.security.TrafficClassHolder;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for PartitionedDataSource.
+ */
+class PartitionedDataSourceTest {
+
+    private HikariDataSource defaultPool;
+    private PartitionedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // Configured like the auto-configured pool: minimumIdle left unset
+        defaultPool = new HikariDataSource();
+        defaultPool.setJdbcUrl("jdbc:h2:mem:partitioned;DB_CLOSE_DELAY=-1");
+        defaultPool.setUsername("sa");
+        defaultPool.setPoolName("election");
+        defaultPool.setMaximumPoolSize(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TrafficClassHolder.clear();
+        if (dataSource != null) {
+            dataSource.close();
+        }
+    }
+
+    @Test
+    void constructor_ShouldSizePartitions_WhenMinimumIdleIsUnset() throws Exception {
+        // When
+        dataSource = new PartitionedDataSource(defaultPool, new BulkheadProperties());
+
+        // Then
+        HikariDataSource voting = (HikariDataSource) dataSource.getPartitions().get(TrafficClass.VOTING);
+        assertThat(voting.getMaximumPoolSize()).isEqualTo(10);
+        assertThat(voting.getMinimumIdle()).isEqualTo(10);
+        assertThat(dataSource.getTotalPoolSize()).isEqualTo(3 + 10 + 4 + 4 + 2);
+
+        TrafficClassHolder.set(TrafficClass.VOTING);
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+    }
+
+    @Test
+    void limitConcurrency_ShouldKeepVotingAvailable_WhenAdminPartitionExhausted() throws Exception {
+        // Given
+        dataSource = new PartitionedDataSource(defaultPool, new BulkheadProperties());
+        dataSource.limitConcurrency(Duration.ofMillis(50));
+        TrafficClassHolder.set(TrafficClass.ADMIN);
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+        try {
+            // When & Then: admin waits only on its own permits
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+            TrafficClassHolder.set(TrafficClass.VOTING);
+            try (Connection voting = dataSource.getConnection()) {
+                assertThat(voting.isValid(1)).isTrue();
+            }
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    void constructor_ShouldCapMinimumIdleAtPartitionSize_WhenDefaultPoolKeepsMoreIdle() {
+        // Given
+        defaultPool.setMinimumIdle(3);
+
+        // When
+        dataSource = new PartitionedDataSource(defaultPool, new BulkheadProperties());
+
+        // Then
+        HikariDataSource admin = (HikariDataSource) dataSource.getPartitions().get(TrafficClass.ADMIN);
+        assertThat(admin.getMinimumIdle()).isEqualTo(2);
+    }
+}
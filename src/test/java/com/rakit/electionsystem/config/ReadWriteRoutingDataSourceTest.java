@@ -0,0 +1,134 @@
+package com.rakit.electionsystem.config;
+
+import com.rakit.electionsystem.tools.DatasetGenerator;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource and ReplicaSyncJob.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReplicaProperties properties;
+    private ReadWriteRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = pool("primary");
+        replica = pool("replica");
+        DatasetGenerator.migrate(primary);
+
+        properties = new ReplicaProperties();
+        properties.setMaxStaleness(Duration.ofMinutes(1));
+        routing = new ReadWriteRoutingDataSource(primary, replica, properties);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        routing.close();
+    }
+
+    @Test
+    void readOnlyConnection_ShouldUseReplica_WhenReplicaIsFresh() throws Exception {
+        initializeReplica();
+        insertElection(primary, "Only on primary");
+
+        assertThat(countElections(true)).isEqualTo(countElections(replica));
+        assertThat(countElections(false)).isEqualTo(countElections(replica) + 1);
+    }
+
+    @Test
+    void readOnlyConnection_ShouldUsePrimary_WhenReplicaIsStale() throws Exception {
+        initializeReplica();
+        insertElection(primary, "Only on primary");
+        routing.markSynced(System.nanoTime() - Duration.ofMinutes(2).toNanos());
+
+        assertThat(countElections(true)).isEqualTo(countElections(replica) + 1);
+    }
+
+    @Test
+    void readOnlyConnection_ShouldUsePrimary_AfterWriteInSameRequest() throws Exception {
+        initializeReplica();
+        ReplicaConsistency.begin();
+        try {
+            try (Connection connection = routing.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.executeUpdate("INSERT INTO election (name, start_date, end_date, status, created_at, updated_at) "
+                        + "VALUES ('Written', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'DRAFT', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+            }
+
+            assertThat(countElections(true)).isEqualTo(countElections(primary));
+        } finally {
+            ReplicaConsistency.end();
+        }
+        assertThat(countElections(true)).isEqualTo(countElections(replica));
+    }
+
+    @Test
+    void sync_ShouldCopyNewAndChangedRows_AndRemoveDeletedOnes() throws Exception {
+        ReplicaSyncJob job = initializeReplica();
+        JdbcTemplate primaryJdbc = new JdbcTemplate(primary);
+        insertElection(primary, "New election");
+        primaryJdbc.update("UPDATE election SET status = 'ACTIVE', updated_at = CURRENT_TIMESTAMP WHERE name = 'New election'");
+
+        job.sync(false);
+
+        assertThat(new JdbcTemplate(replica).queryForObject(
+                "SELECT status FROM election WHERE name = 'New election'", String.class)).isEqualTo("ACTIVE");
+
+        primaryJdbc.update("DELETE FROM election WHERE name = 'New election'");
+        job.sync(true);
+
+        assertThat(countElections(replica)).isEqualTo(countElections(primary));
+    }
+
+    private ReplicaSyncJob initializeReplica() throws Exception {
+        ReplicaSyncJob job = new ReplicaSyncJob(routing, properties, new SimpleMeterRegistry());
+        job.initialize();
+        return job;
+    }
+
+    private long countElections(boolean readOnly) throws Exception {
+        try (Connection connection = routing.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM election")) {
+                rs.next();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    private static long countElections(HikariDataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM election", Long.class);
+    }
+
+    private static void insertElection(HikariDataSource dataSource, String name) {
+        new JdbcTemplate(dataSource).update("INSERT INTO election (name, start_date, end_date, status, created_at, updated_at) "
+                + "VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'DRAFT', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", name);
+    }
+
+    private static HikariDataSource pool(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setMaximumPoolSize(2);
+        return new HikariDataSource(config);
+    }
+}
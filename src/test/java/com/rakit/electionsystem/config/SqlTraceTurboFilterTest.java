@@ -0,0 +1,59 @@
+package com.rakit.electionsystem.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SqlTraceTurboFilter.
+ */
+class SqlTraceTurboFilterTest {
+
+    private LoggerContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        SqlTraceTurboFilter filter = new SqlTraceTurboFilter();
+        filter.start();
+        context.addTurboFilter(filter);
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MDC.remove(SqlTraceFilter.MDC_KEY);
+        context.stop();
+    }
+
+    @Test
+    void decide_ShouldEnableSqlLoggers_OnlyForTracedRequests() {
+        // Given
+        Logger sql = context.getLogger("org.hibernate.SQL");
+        Logger bind = context.getLogger("org.hibernate.orm.jdbc.bind");
+
+        // Then
+        assertThat(sql.isDebugEnabled()).isFalse();
+        assertThat(bind.isTraceEnabled()).isFalse();
+
+        MDC.put(SqlTraceFilter.MDC_KEY, "1");
+        assertThat(sql.isDebugEnabled()).isTrue();
+        assertThat(bind.isTraceEnabled()).isTrue();
+    }
+
+    @Test
+    void decide_ShouldLeaveOtherLoggersAtTheirLevel_WhenRequestTraced() {
+        // Given
+        MDC.put(SqlTraceFilter.MDC_KEY, "1");
+
+        // Then
+        assertThat(context.getLogger("com.rakit.electionsystem.service.VoteService").isDebugEnabled()).isFalse();
+        assertThat(context.getLogger("org.hibernate.orm.deprecation").isDebugEnabled()).isFalse();
+    }
+}
@@ -0,0 +1,96 @@
+package com.rakit.electionsystem.exception;
+
+import com.rakit.electionsystem.dto.ErrorResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for GlobalExceptionHandler.
+ */
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(Duration.ofSeconds(1));
+
+    @Test
+    void handleAlreadyVotedException_ShouldRenderConflict_WhenVoteRepeated() {
+        // Given
+        AlreadyVotedException ex = new AlreadyVotedException("Voter has already voted in this election.");
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("POST", "/api/votes"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleAlreadyVotedException(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody().getStatus()).isEqualTo(409);
+        assertThat(response.getBody().getError()).isEqualTo("Conflict");
+        assertThat(response.getBody().getMessage()).isEqualTo("Voter has already voted in this election.");
+        assertThat(response.getBody().getPath()).isEqualTo("/api/votes");
+    }
+
+    @Test
+    void handleInvalidRequestException_ShouldRenderBadRequest_WhenInputRejected() {
+        // Given
+        InvalidRequestException ex = new InvalidRequestException("withinHours must not be negative");
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/elections"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleInvalidRequestException(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getError()).isEqualTo("Bad Request");
+        assertThat(response.getBody().getMessage()).isEqualTo("withinHours must not be negative");
+    }
+
+    @Test
+    void handleGlobalException_ShouldRenderServerError_WhenIllegalArgumentEscapes() {
+        // Given
+        IllegalArgumentException ex = new IllegalArgumentException("Voter IDs must be between 0 and 4294967295");
+        ServletWebRequest request = new ServletWebRequest(new MockHttpServletRequest("GET", "/api/elections"));
+
+        // When
+        ResponseEntity<ErrorResponse> response = handler.handleGlobalException(ex, request);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        assertThat(response.getBody().getMessage()).isEqualTo("An unexpected error occurred");
+    }
+
+    @Test
+    void businessException_ShouldNotCaptureStackTrace() {
+        BusinessException ex = new ResourceNotFoundException("Election not found with id: 1");
+
+        assertThat(ex.getStackTrace()).isEmpty();
+        ex.addSuppressed(new IllegalStateException());
+        assertThat(ex.getSuppressed()).isEmpty();
+    }
+
+    @Test
+    void sample_ShouldLetOneEventThroughPerInterval_AndCountTheRest() {
+        LogSampler sampler = new LogSampler(Duration.ofHours(1));
+
+        assertThat(sampler.sample()).isZero();
+        assertThat(sampler.sample()).isEqualTo(-1);
+        assertThat(sampler.sample()).isEqualTo(-1);
+    }
+
+    @Test
+    void sample_ShouldReportSuppressedCount_WhenIntervalElapsed() throws InterruptedException {
+        LogSampler sampler = new LogSampler(Duration.ofMillis(200));
+        sampler.sample();
+        sampler.sample();
+        sampler.sample();
+
+        Thread.sleep(300);
+
+        assertThat(sampler.sample()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,73 @@
+package com.rakit.electionsystem.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rakit.electionsystem.config.PartitionedDataSource;
+import com.rakit.electionsystem.config.TestConfig;
+import com.rakit.electionsystem.dto.RegisterRequest;
+import com.rakit.electionsystem.repository.VoterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the request bulkheads and their connection pool partitions.
+ * The test profile turns bulkheads off; these tests boot with the production default instead.
+ */
+@SpringBootTest(properties = "bulkhead.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class BulkheadIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private VoterRepository voterRepository;
+
+    @AfterEach
+    void cleanUp() {
+        voterRepository.deleteAll();
+    }
+
+    @Test
+    void context_ShouldPartitionDataSource_WhenBulkheadsEnabled() {
+        assertThat(dataSource).isInstanceOf(PartitionedDataSource.class);
+    }
+
+    @Test
+    void requests_ShouldBeServedThroughPartitions_WhenBulkheadsEnabled() throws Exception {
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setEmail("bulkhead@example.com");
+        registerRequest.setPassword("password123");
+        registerRequest.setFirstName("Bulk");
+        registerRequest.setLastName("Head");
+
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/elections"))
+                .andExpect(status().isOk());
+    }
+}
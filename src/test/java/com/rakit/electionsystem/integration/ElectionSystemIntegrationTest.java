@@ -165,6 +165,27 @@ class ElectionSystemIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void testActuatorHealthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void testActuatorMetricsRequireAdmin() throws Exception {
+        String voterToken = registerAndGetToken("voter@example.com", "password123", Role.ROLE_VOTER);
+        String adminToken = registerAndGetToken("admin@example.com", "password123", Role.ROLE_ADMIN);
+
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + voterToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
     private String registerAndGetToken(String email, String password, Role role) throws Exception {
         Voter voter = new Voter();
         voter.setEmail(email);
@@ -0,0 +1,165 @@
+package com.rakit.electionsystem.integration;
+
+import com.rakit.electionsystem.config.TestConfig;
+import com.rakit.electionsystem.dto.ElectionOptionRequest;
+import com.rakit.electionsystem.dto.ElectionRequest;
+import com.rakit.electionsystem.dto.ElectionResponse;
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.Role;
+import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.repository.ElectionOptionRepository;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.VoterRepository;
+import com.rakit.electionsystem.service.CacheStatisticsService;
+import com.rakit.electionsystem.service.ElectionService;
+import com.rakit.electionsystem.service.VoterService;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Integration tests for the Hibernate second-level cache.
+ * Not transactional on purpose: cache puts and invalidations happen on commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private ElectionService electionService;
+
+    @Autowired
+    private VoterService voterService;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private ElectionOptionRepository electionOptionRepository;
+
+    @Autowired
+    private ElectionRepository electionRepository;
+
+    @Autowired
+    private VoterRepository voterRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        statistics = cacheStatisticsService.getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        electionOptionRepository.deleteAll();
+        electionRepository.deleteAll();
+        voterRepository.deleteAll();
+    }
+
+    @Test
+    void getElectionById_ShouldBeServedFromCache_AfterFirstLoad() {
+        ElectionResponse created = electionService.createElection(electionRequest());
+
+        electionService.getElectionById(created.getId());
+        electionService.getElectionById(created.getId());
+
+        assertThat(statistics.getDomainDataRegionStatistics("election").getHitCount()).isPositive();
+    }
+
+    @Test
+    void updateElectionStatus_ShouldInvalidateCachedElection() {
+        ElectionResponse created = electionService.createElection(electionRequest());
+        electionService.getElectionById(created.getId());
+
+        electionService.updateElectionStatus(created.getId(), ElectionStatus.ACTIVE);
+
+        assertThat(electionService.getElectionById(created.getId()).getStatus()).isEqualTo(ElectionStatus.ACTIVE);
+    }
+
+    @Test
+    void addOptionToElection_ShouldInvalidateCachedOptionList() {
+        ElectionResponse created = electionService.createElection(electionRequest());
+        assertThat(electionService.getElectionById(created.getId()).getOptions()).isEmpty();
+
+        ElectionOptionRequest optionRequest = new ElectionOptionRequest();
+        optionRequest.setOptionTitle("Option A");
+        electionService.addOptionToElection(created.getId(), optionRequest);
+
+        assertThat(electionService.getElectionById(created.getId()).getOptions())
+                .extracting("optionTitle")
+                .containsExactly("Option A");
+    }
+
+    @Test
+    void getVoterByEmail_ShouldHitNaturalIdCache_WithoutCachingVoterRows() {
+        voterService.createVoter(voter("cached@example.com"));
+
+        voterService.getVoterByEmail("cached@example.com");
+        voterService.getVoterByEmail("cached@example.com");
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getSecondLevelCacheRegionNames()).contains("voter-by-email").doesNotContain("voter");
+    }
+
+    @Test
+    void updateVoter_ShouldResolveNewEmail_WhenEmailChanges() {
+        Voter created = voterService.createVoter(voter("old@example.com"));
+        voterService.getVoterByEmail("old@example.com");
+
+        Voter details = voter("new@example.com");
+        details.setPassword(null);
+        voterService.updateVoter(created.getId(), details);
+
+        assertThat(voterService.getVoterByEmail("new@example.com").getId()).isEqualTo(created.getId());
+        assertThatThrownBy(() -> voterService.getVoterByEmail("old@example.com"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void deactivateVoter_ShouldInvalidateCachedVoter() {
+        Voter created = voterService.createVoter(voter("active@example.com"));
+        assertThat(voterService.getVoterById(created.getId()).getActive()).isTrue();
+
+        voterService.deactivateVoter(created.getId());
+
+        assertThat(voterService.getVoterById(created.getId()).getActive()).isFalse();
+        assertThat(voterService.getVoterByEmail("active@example.com").getActive()).isFalse();
+    }
+
+    private static ElectionRequest electionRequest() {
+        ElectionRequest request = new ElectionRequest();
+        request.setName("Cached Election");
+        request.setDescription("Second-level cache test");
+        request.setStartDate(LocalDateTime.now().plusDays(1));
+        request.setEndDate(LocalDateTime.now().plusDays(2));
+        return request;
+    }
+
+    private static Voter voter(String email) {
+        return Voter.builder()
+                .email(email)
+                .password("password123")
+                .firstName("Cache")
+                .lastName("Tester")
+                .role(Role.ROLE_VOTER)
+                .active(true)
+                .build();
+    }
+}
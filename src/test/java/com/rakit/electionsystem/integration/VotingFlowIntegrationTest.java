@@ -3,9 +3,11 @@ package com.rakit.electionsystem.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rakit.electionsystem.config.TestConfig;
 import com.rakit.electionsystem.dto.AuthResponse;
+import com.rakit.electionsystem.dto.ElectionOptionRequest;
 import com.rakit.electionsystem.dto.ElectionResultsResponse;
 import com.rakit.electionsystem.dto.LoginRequest;
 import com.rakit.electionsystem.dto.VoteRequest;
+import com.rakit.electionsystem.exception.InvalidRequestException;
 import com.rakit.electionsystem.model.Election;
 import com.rakit.electionsystem.model.ElectionOption;
 import com.rakit.electionsystem.model.ElectionStatus;
@@ -18,6 +20,7 @@ import com.rakit.electionsystem.repository.ElectionRepository;
 import com.rakit.electionsystem.repository.VoteRepository;
 import com.rakit.electionsystem.repository.VoterRepository;
 import com.rakit.electionsystem.repository.VotingRecordRepository;
+import com.rakit.electionsystem.service.ElectionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +39,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -76,6 +80,9 @@ class VotingFlowIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ElectionService electionService;
+
     private Election activeElection;
     private ElectionOption option1;
     private ElectionOption option2;
@@ -214,6 +221,34 @@ class VotingFlowIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void testCannotSendRankingToSingleChoiceElection() throws Exception {
+        String voterToken = createVoterAndGetToken("voter@example.com", "password123");
+
+        VoteRequest voteRequest = new VoteRequest();
+        voteRequest.setElectionId(activeElection.getId());
+        voteRequest.setOptionId(option1.getId());
+        voteRequest.setRankedOptionIds(List.of(option2.getId(), option1.getId()));
+
+        mockMvc.perform(post("/api/votes/cast")
+                        .header("Authorization", "Bearer " + voterToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(voteRequest)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(voteRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void testCannotAddOptionOnceElectionLeftDraft() {
+        ElectionOptionRequest optionRequest = new ElectionOptionRequest();
+        optionRequest.setOptionTitle("Late option");
+
+        assertThatThrownBy(() -> electionService.addOptionToElection(activeElection.getId(), optionRequest))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThat(electionOptionRepository.findAll()).hasSize(2);
+    }
+
     @Test
     void testAnonymityIsPreserved() throws Exception {
         // Create multiple voters and votes
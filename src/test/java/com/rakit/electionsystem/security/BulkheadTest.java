@@ -0,0 +1,95 @@
+package com.rakit.electionsystem.security;
+
+import com.rakit.electionsystem.config.BulkheadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for Bulkhead and TrafficClass.
+ */
+class BulkheadTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setVoting(new BulkheadProperties.Compartment(1, 1, Duration.ofSeconds(5), 0, 0, Duration.ofSeconds(1)));
+        properties.setAdmin(new BulkheadProperties.Compartment(2, 0, Duration.ofMillis(10), 3, 0, Duration.ofSeconds(5)));
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead(properties, meterRegistry);
+    }
+
+    @Test
+    void tryEnter_ShouldRejectImmediately_WhenQueueIsFull() {
+        assertThat(bulkhead.tryEnter(TrafficClass.ADMIN)).isNotNull();
+        assertThat(bulkhead.tryEnter(TrafficClass.ADMIN)).isNotNull();
+
+        assertThat(bulkhead.tryEnter(TrafficClass.ADMIN)).isNull();
+        assertThat(meterRegistry.get("election.bulkhead.rejected")
+                .tags("class", "admin", "reason", "queue-full").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void close_ShouldFreeSlot_OnlyOnce() {
+        Bulkhead.Permit first = bulkhead.tryEnter(TrafficClass.ADMIN);
+        bulkhead.tryEnter(TrafficClass.ADMIN);
+
+        first.close();
+        first.close();
+
+        assertThat(bulkhead.tryEnter(TrafficClass.ADMIN)).isNotNull();
+        assertThat(bulkhead.tryEnter(TrafficClass.ADMIN)).isNull();
+    }
+
+    @Test
+    void tryEnter_ShouldShedLowerPriorityClass_WhenVotingIsQueued() throws Exception {
+        Bulkhead.Permit voting = bulkhead.tryEnter(TrafficClass.VOTING);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Bulkhead.Permit> queued = executor.submit(() -> bulkhead.tryEnter(TrafficClass.VOTING));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (bulkhead.getWaiting(TrafficClass.VOTING) == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            assertThat(bulkhead.tryEnter(TrafficClass.ADMIN)).isNull();
+            assertThat(meterRegistry.get("election.bulkhead.rejected")
+                    .tags("class", "admin", "reason", "shed").counter().count()).isEqualTo(1.0);
+
+            voting.close();
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isNotNull();
+            assertThat(bulkhead.tryEnter(TrafficClass.ADMIN)).isNotNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void classify_ShouldSeparateReadsFromAdminWrites() {
+        assertThat(TrafficClass.classify("POST", "/api/votes/cast")).isEqualTo(TrafficClass.VOTING);
+        assertThat(TrafficClass.classify("POST", "/api/auth/login")).isEqualTo(TrafficClass.AUTH);
+        assertThat(TrafficClass.classify("GET", "/api/elections/1")).isEqualTo(TrafficClass.PUBLIC_READ);
+        assertThat(TrafficClass.classify("GET", "/api/results/elections/1")).isEqualTo(TrafficClass.PUBLIC_READ);
+        assertThat(TrafficClass.classify("PATCH", "/api/elections/1/status")).isEqualTo(TrafficClass.ADMIN);
+        assertThat(TrafficClass.classify("GET", "/api/admin/voters")).isEqualTo(TrafficClass.ADMIN);
+        assertThat(TrafficClass.classify("GET", "/actuator/health")).isNull();
+    }
+
+    @Test
+    void classify_ShouldTreatVotingHistoryAsPublicRead() {
+        assertThat(TrafficClass.classify("GET", "/api/votes/me/elections")).isEqualTo(TrafficClass.PUBLIC_READ);
+        assertThat(TrafficClass.classify("POST", "/api/votes/me/elections")).isEqualTo(TrafficClass.VOTING);
+        assertThat(TrafficClass.classify("GET", "/api/votes")).isEqualTo(TrafficClass.VOTING);
+    }
+}
@@ -0,0 +1,153 @@
+package com.rakit.electionsystem.security;
+
+import com.rakit.electionsystem.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TokenBucket and RateLimiter.
+ */
+class RateLimiterTest {
+
+    private RateLimitProperties properties;
+    private RateLimitProperties.Policy policy;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setMaxBuckets(2);
+        properties.setIdleTimeout(Duration.ofMinutes(10));
+
+        policy = new RateLimitProperties.Policy();
+        policy.setName("login");
+        policy.setCapacity(3);
+        policy.setPeriod(Duration.ofMinutes(1));
+
+        rateLimiter = new RateLimiter(properties);
+    }
+
+    @Test
+    void tokenBucket_ShouldAllowBurstThenReject() {
+        TokenBucket bucket = new TokenBucket(3, TimeUnit.SECONDS.toNanos(3));
+        long now = 1_000_000_000L;
+
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isZero();
+        assertThat(bucket.tryConsume(now)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void tokenBucket_ShouldRefillOverTime() {
+        TokenBucket bucket = new TokenBucket(2, TimeUnit.SECONDS.toNanos(2));
+        long now = 0L;
+
+        bucket.tryConsume(now);
+        bucket.tryConsume(now);
+        assertThat(bucket.tryConsume(now)).isPositive();
+
+        assertThat(bucket.tryConsume(now + TimeUnit.SECONDS.toNanos(1))).isZero();
+        assertThat(bucket.tryConsume(now + TimeUnit.SECONDS.toNanos(1))).isPositive();
+    }
+
+    @Test
+    void tokenBucket_ShouldBecomeIdleOnlyAfterRefill() {
+        TokenBucket bucket = new TokenBucket(1, TimeUnit.SECONDS.toNanos(1));
+        long now = 0L;
+
+        bucket.tryConsume(now);
+
+        assertThat(bucket.isIdle(now, TimeUnit.SECONDS.toNanos(5))).isFalse();
+        assertThat(bucket.isIdle(now + TimeUnit.SECONDS.toNanos(7), TimeUnit.SECONDS.toNanos(5))).isTrue();
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepSeparateBucketsPerClient() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isZero();
+        }
+
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.2")).isZero();
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepOverflowClientsApart_WhenMapIsFull() {
+        rateLimiter.tryAcquire(policy, "10.0.0.1");
+        rateLimiter.tryAcquire(policy, "10.0.0.2");
+
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(policy, "10.0.1.1");
+        }
+
+        assertThat(rateLimiter.size()).isEqualTo(2);
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.1.1")).isPositive();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.2.1")).isZero();
+    }
+
+    @Test
+    void tryAcquire_ShouldNotEvictOnRequestThread_WhenMapIsFull() {
+        properties.setIdleTimeout(Duration.ZERO);
+        rateLimiter.tryAcquire(policy, "10.0.0.1");
+        rateLimiter.tryAcquire(policy, "10.0.0.2");
+
+        rateLimiter.tryAcquire(policy, "10.0.1.1");
+
+        assertThat(rateLimiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void tryAcquire_ShouldNotConsumeAnyPolicy_WhenOneRejects() {
+        RateLimitProperties.Policy strict = new RateLimitProperties.Policy();
+        strict.setName("strict");
+        strict.setCapacity(1);
+        strict.setPeriod(Duration.ofMinutes(1));
+        List<RateLimitProperties.Policy> both = List.of(policy, strict);
+
+        assertThat(rateLimiter.tryAcquire(both, List.of("10.0.0.1", "10.0.0.1"))).isZero();
+        assertThat(rateLimiter.tryAcquire(both, List.of("10.0.0.1", "10.0.0.1"))).isPositive();
+
+        // The rejected request left the other policy's remaining two tokens untouched
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isZero();
+        assertThat(rateLimiter.tryAcquire(policy, "10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_ShouldNeverExceedCapacity_UnderContention() throws InterruptedException {
+        policy.setCapacity(100);
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 100; i++) {
+                    if (rateLimiter.tryAcquire(policy, "10.0.0.1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // 800 attempts within milliseconds: the burst plus at most a token or two of refill
+        assertThat(allowed.get()).isBetween(100, 102);
+    }
+}
@@ -0,0 +1,76 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ApprovalTally and ApprovalBallot.
+ */
+class ApprovalTallyTest {
+
+    @Test
+    void counts_ShouldCountEverySelectedOption() {
+        List<Long> optionIds = List.of(10L, 20L, 30L);
+        ApprovalTally tally = new ApprovalTally(3);
+
+        tally.add(ApprovalBallot.encode(List.of(30L, 10L), optionIds, null));
+        tally.add(ApprovalBallot.encode(List.of(10L), optionIds, null));
+        tally.add(ApprovalBallot.encode(List.of(20L, 30L, 10L), optionIds, null));
+
+        assertThat(tally.getBallots()).isEqualTo(3);
+        assertThat(tally.counts()).containsExactly(3, 1, 2);
+    }
+
+    @Test
+    void counts_ShouldMatchNaiveCount_WhenManyBallotsAndWideBitsets() {
+        int options = 150;
+        List<Long> optionIds = LongStream.range(0, options).boxed().toList();
+        ApprovalTally tally = new ApprovalTally(options);
+        long[] expected = new long[options];
+        Random random = new Random(42);
+
+        // More ballots than fit in the bit-sliced counters, so the planes are flushed on the way
+        for (int ballot = 0; ballot < 200_000; ballot++) {
+            List<Long> selected = new ArrayList<>();
+            for (int option = 0; option < options; option++) {
+                if (random.nextInt(5) == 0) {
+                    selected.add((long) option);
+                    expected[option]++;
+                }
+            }
+            if (selected.isEmpty()) {
+                selected.add(0L);
+                expected[0]++;
+            }
+            tally.add(ApprovalBallot.encode(selected, optionIds, null));
+        }
+
+        assertThat(tally.counts()).containsExactly(expected);
+    }
+
+    @Test
+    void encode_ShouldReject_WhenSelectionIsInvalid() {
+        List<Long> optionIds = List.of(10L, 20L, 30L);
+
+        assertThatThrownBy(() -> ApprovalBallot.encode(List.of(), optionIds, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("at least one");
+        assertThatThrownBy(() -> ApprovalBallot.encode(List.of(10L, 20L), optionIds, 1))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("At most 1");
+        assertThatThrownBy(() -> ApprovalBallot.encode(List.of(10L, 10L), optionIds, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("only once");
+        assertThatThrownBy(() -> ApprovalBallot.encode(List.of(40L), optionIds, null))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("does not belong");
+    }
+}
@@ -0,0 +1,54 @@
+package com.rakit.electionsystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BackfillOverlap.
+ */
+class BackfillOverlapTest {
+
+    private final BackfillOverlap overlap = new BackfillOverlap(Duration.ofMinutes(1));
+
+    @Test
+    void countLive_ShouldSkipVote_WhenBackfillAlreadyCountedVoter() {
+        LocalDateTime votedAt = LocalDateTime.now().minusSeconds(1);
+
+        assertThat(overlap.countStored(7L, votedAt)).isTrue();
+        overlap.backfilled();
+
+        assertThat(overlap.countLive(7L, votedAt)).isFalse();
+    }
+
+    @Test
+    void countLive_ShouldCountVote_WhenCastBeforeBackfillButNotRead() {
+        LocalDateTime votedAt = LocalDateTime.now().minusSeconds(1);
+        overlap.backfilled();
+
+        assertThat(overlap.countLive(7L, votedAt)).isTrue();
+        assertThat(overlap.countLive(7L, votedAt)).isFalse();
+    }
+
+    @Test
+    void countStored_ShouldSkipRecord_WhenVoteAlreadyCountedLive() {
+        LocalDateTime votedAt = LocalDateTime.now().minusSeconds(1);
+
+        assertThat(overlap.countLive(7L, votedAt)).isTrue();
+
+        assertThat(overlap.countStored(7L, votedAt)).isFalse();
+    }
+
+    @Test
+    void count_ShouldSplitByTime_OutsideOverlap() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(5);
+
+        assertThat(overlap.countLive(7L, old)).isFalse();
+        assertThat(overlap.countStored(7L, old)).isTrue();
+        overlap.backfilled();
+        assertThat(overlap.countLive(8L, LocalDateTime.now().plusSeconds(1))).isTrue();
+    }
+}
@@ -0,0 +1,154 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.ElectionResponse;
+import com.rakit.electionsystem.model.BallotType;
+import com.rakit.electionsystem.model.ElectionStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ElectionWindowIndex.
+ */
+class ElectionWindowIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    private ElectionWindowIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ElectionWindowIndex();
+    }
+
+    @Test
+    void findActive_ShouldReturnOnlyActiveElectionsContainingNow() {
+        index.replaceAll(List.of(
+                election(1L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.ACTIVE),
+                election(2L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.DRAFT),
+                election(3L, NOW.plusHours(1), NOW.plusDays(1), ElectionStatus.ACTIVE),
+                election(4L, NOW.minusDays(2), NOW.minusDays(1), ElectionStatus.ACTIVE),
+                election(5L, NOW, NOW.plusHours(1), ElectionStatus.ACTIVE)
+        ));
+
+        assertThat(index.findActive(NOW)).extracting(ElectionResponse::getId).containsExactly(1L, 5L);
+    }
+
+    @Test
+    void findActive_ShouldMatchLinearScan_ForRandomWindows() {
+        Random random = new Random(42);
+        List<ElectionResponse> elections = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            LocalDateTime start = NOW.plusHours(random.nextInt(400) - 200);
+            LocalDateTime end = start.plusHours(random.nextInt(100));
+            elections.add(election(id, start, end, ElectionStatus.ACTIVE));
+        }
+        index.replaceAll(elections);
+
+        for (int probe = -220; probe <= 320; probe += 7) {
+            LocalDateTime time = NOW.plusHours(probe);
+            List<Long> expected = elections.stream()
+                    .filter(e -> !time.isBefore(e.getStartDate()) && !time.isAfter(e.getEndDate()))
+                    .map(ElectionResponse::getId)
+                    .toList();
+
+            assertThat(index.findActive(time)).extracting(ElectionResponse::getId)
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void findActive_ShouldSkipReversedWindow_WhenStartAfterEnd() {
+        index.replaceAll(List.of(
+                election(1L, NOW.plusHours(1), NOW.minusHours(1), ElectionStatus.ACTIVE),
+                election(2L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.ACTIVE)
+        ));
+
+        assertThat(index.findActive(NOW)).extracting(ElectionResponse::getId).containsExactly(2L);
+        assertThat(index.findActive(NOW.plusHours(1))).extracting(ElectionResponse::getId).containsExactly(2L);
+        assertThat(index.findActive(NOW.minusHours(1))).extracting(ElectionResponse::getId).containsExactly(2L);
+    }
+
+    @Test
+    void findStartingBetween_ShouldReturnOpenElectionsWithinHorizon() {
+        index.replaceAll(List.of(
+                election(1L, NOW.plusHours(2), NOW.plusDays(1), ElectionStatus.DRAFT),
+                election(2L, NOW.plusHours(30), NOW.plusDays(2), ElectionStatus.DRAFT),
+                election(3L, NOW.plusHours(5), NOW.plusDays(1), ElectionStatus.CLOSED),
+                election(4L, NOW.minusHours(1), NOW.plusDays(1), ElectionStatus.ACTIVE)
+        ));
+
+        assertThat(index.findStartingBetween(NOW, NOW.plusHours(24)))
+                .extracting(ElectionResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    void findEndedNotClosed_ShouldIgnoreClosedElections() {
+        index.replaceAll(List.of(
+                election(1L, NOW.minusDays(3), NOW.minusDays(1), ElectionStatus.ACTIVE),
+                election(2L, NOW.minusDays(3), NOW.minusDays(2), ElectionStatus.CLOSED),
+                election(3L, NOW.minusDays(3), NOW.plusDays(1), ElectionStatus.ACTIVE)
+        ));
+
+        assertThat(index.findEndedNotClosed(NOW)).extracting(ElectionResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    void updateStatus_ShouldMoveElectionBetweenQueries() {
+        index.put(election(1L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.DRAFT));
+        assertThat(index.findActive(NOW)).isEmpty();
+
+        index.updateStatus(List.of(1L), ElectionStatus.ACTIVE);
+        assertThat(index.findActive(NOW)).extracting(ElectionResponse::getId).containsExactly(1L);
+
+        index.updateStatus(List.of(1L), ElectionStatus.CLOSED);
+        assertThat(index.findActive(NOW)).isEmpty();
+        assertThat(index.get(1L).getStatus()).isEqualTo(ElectionStatus.CLOSED);
+    }
+
+    @Test
+    void rebuild_ShouldKeepWritesMadeWhileLoading() {
+        // Given
+        long mark = index.mark();
+        index.put(election(1L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.ACTIVE));
+        index.put(election(2L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.ACTIVE));
+        index.remove(2L);
+
+        // When
+        index.rebuild(List.of(
+                election(1L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.DRAFT),
+                election(2L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.DRAFT),
+                election(3L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.ACTIVE)
+        ), mark);
+
+        // Then
+        assertThat(index.get(1L).getStatus()).isEqualTo(ElectionStatus.ACTIVE);
+        assertThat(index.get(2L)).isNull();
+        assertThat(index.findActive(NOW)).extracting(ElectionResponse::getId).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    void rebuild_ShouldReplaceEntriesWrittenBeforeMark() {
+        // Given
+        index.put(election(1L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.DRAFT));
+        index.put(election(2L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.DRAFT));
+        long mark = index.mark();
+
+        // When
+        index.rebuild(List.of(election(1L, NOW.minusDays(1), NOW.plusDays(1), ElectionStatus.ACTIVE)), mark);
+
+        // Then
+        assertThat(index.get(1L).getStatus()).isEqualTo(ElectionStatus.ACTIVE);
+        assertThat(index.get(2L)).isNull();
+    }
+
+    private static ElectionResponse election(Long id, LocalDateTime start, LocalDateTime end, ElectionStatus status) {
+        return new ElectionResponse(id, "Election " + id, null, start, end, status, List.of(), BallotType.SINGLE_CHOICE, null, false);
+    }
+}
@@ -0,0 +1,76 @@
+package com.rakit.electionsystem.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HashedTimerWheel.
+ */
+class HashedTimerWheelTest {
+
+    private final BlockingQueue<List<String>> batches = new LinkedBlockingQueue<>();
+    private final HashedTimerWheel<String> wheel =
+            new HashedTimerWheel<>("test-wheel", Duration.ofMillis(10), 8, batches::add);
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    void schedule_ShouldDeliverTimeoutsDueOnSameTickAsOneBatch() throws Exception {
+        wheel.schedule("a", Duration.ZERO);
+        wheel.schedule("b", Duration.ofMillis(-5));
+        wheel.start();
+
+        List<String> batch = batches.poll(2, TimeUnit.SECONDS);
+
+        assertThat(batch).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    void schedule_ShouldNotExpireEarly_WhenDelaySpansSeveralRounds() throws Exception {
+        wheel.start();
+        long startNanos = System.nanoTime();
+        wheel.schedule("late", Duration.ofMillis(250));
+
+        List<String> batch = batches.poll(2, TimeUnit.SECONDS);
+
+        assertThat(batch).containsExactly("late");
+        assertThat(System.nanoTime() - startNanos).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+    }
+
+    @Test
+    void schedule_ShouldClampDelay_WhenDueCenturiesAhead() throws Exception {
+        wheel.schedule("far", Duration.ofDays(365L * 500));
+        wheel.schedule("farthest", Duration.ofSeconds(Long.MAX_VALUE));
+        wheel.schedule("soon", Duration.ofMillis(30));
+        wheel.start();
+
+        List<String> batch = batches.poll(2, TimeUnit.SECONDS);
+
+        assertThat(batch).containsExactly("soon");
+        assertThat(batches.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void cancel_ShouldPreventExpiry() throws Exception {
+        HashedTimerWheel.Timeout<String> cancelled = wheel.schedule("cancelled", Duration.ofMillis(30));
+        wheel.schedule("kept", Duration.ofMillis(60));
+        cancelled.cancel();
+        wheel.start();
+
+        List<String> batch = batches.poll(2, TimeUnit.SECONDS);
+
+        assertThat(batch).containsExactly("kept");
+        assertThat(batches.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+}
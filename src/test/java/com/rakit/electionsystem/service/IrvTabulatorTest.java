@@ -0,0 +1,115 @@
+package com.rakit.electionsystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for IrvTabulator.
+ */
+class IrvTabulatorTest {
+
+    @Test
+    void tabulate_ShouldFinishInFirstRound_WhenOptionHasMajority() {
+        IrvTabulator tabulator = new IrvTabulator(2, Integer.MAX_VALUE);
+        PackedBallots ballots = ballots(tabulator, new byte[]{0}, new byte[]{0, 1}, new byte[]{1}, new byte[]{0, 2});
+
+        IrvTabulator.Result result = tabulator.tabulate(ballots, 3);
+
+        assertThat(result.rounds()).hasSize(1);
+        assertThat(result.rounds().get(0).tallies()).containsExactly(3, 1, 0);
+        assertThat(result.rounds().get(0).eliminated()).isEqualTo(-1);
+        assertThat(result.winner()).isZero();
+    }
+
+    @Test
+    void tabulate_ShouldTransferOnlyEliminatedBallots_AndCountExhausted() {
+        IrvTabulator tabulator = new IrvTabulator(1, Integer.MAX_VALUE);
+        PackedBallots ballots = ballots(tabulator,
+                new byte[]{0}, new byte[]{0}, new byte[]{0},
+                new byte[]{1}, new byte[]{1}, new byte[]{1, 0},
+                new byte[]{2, 1}, new byte[]{2, 1}, new byte[]{2},
+                new byte[]{3, 2});
+
+        IrvTabulator.Result result = tabulator.tabulate(ballots, 4);
+
+        // 3 goes first; 0 and 1 tie in round 2 and in round 1, so the higher index goes;
+        // 0 and 2 tie in round 3 but 0 had fewer votes in round 2
+        assertThat(result.rounds().get(0).tallies()).containsExactly(3, 3, 3, 1);
+        assertThat(result.rounds().get(0).eliminated()).isEqualTo(3);
+        assertThat(result.rounds().get(1).tallies()).containsExactly(3, 3, 4, 0);
+        assertThat(result.rounds().get(1).continuing()).containsExactly(true, true, true, false);
+        assertThat(result.rounds().get(1).eliminated()).isEqualTo(1);
+        assertThat(result.rounds().get(2).tallies()).containsExactly(4, 0, 4, 0);
+        assertThat(result.rounds().get(2).exhausted()).isEqualTo(2);
+        assertThat(result.rounds().get(2).eliminated()).isZero();
+        assertThat(result.rounds().get(3).tallies()).containsExactly(0, 0, 4, 0);
+        assertThat(result.rounds().get(3).exhausted()).isEqualTo(6);
+        assertThat(result.winner()).isEqualTo(2);
+    }
+
+    @Test
+    void tabulate_ShouldGiveSameRounds_OnHeapAndOffHeap() {
+        Random random = new Random(7);
+        IrvTabulator onHeap = new IrvTabulator(64, Integer.MAX_VALUE);
+        IrvTabulator offHeap = new IrvTabulator(64, 0);
+        PackedBallots heapBallots = onHeap.allocate(0);
+        PackedBallots directBallots = offHeap.allocate(0);
+        for (int i = 0; i < 20_000; i++) {
+            byte[] ballot = randomBallot(random, 6);
+            heapBallots.add(ballot);
+            directBallots.add(ballot);
+        }
+
+        IrvTabulator.Result expected = onHeap.tabulate(heapBallots, 6);
+        IrvTabulator.Result actual = offHeap.tabulate(directBallots, 6);
+
+        assertThat(directBallots.isOffHeap()).isTrue();
+        assertThat(actual.winner()).isEqualTo(expected.winner());
+        assertThat(actual.rounds()).hasSameSizeAs(expected.rounds());
+        for (int i = 0; i < expected.rounds().size(); i++) {
+            assertThat(actual.rounds().get(i).tallies()).containsExactly(expected.rounds().get(i).tallies());
+            long counted = 0;
+            for (long tally : actual.rounds().get(i).tallies()) {
+                counted += tally;
+            }
+            assertThat(counted + actual.rounds().get(i).exhausted()).isEqualTo(20_000);
+        }
+    }
+
+    @Test
+    void tabulate_ShouldReportNoWinner_WhenNoBallots() {
+        IrvTabulator tabulator = new IrvTabulator(16, Integer.MAX_VALUE);
+
+        IrvTabulator.Result result = tabulator.tabulate(tabulator.allocate(0), 3);
+
+        assertThat(result.rounds()).hasSize(1);
+        assertThat(result.winner()).isEqualTo(-1);
+    }
+
+    private static PackedBallots ballots(IrvTabulator tabulator, byte[]... ballots) {
+        PackedBallots packed = tabulator.allocate(ballots.length);
+        for (byte[] ballot : ballots) {
+            packed.add(ballot);
+        }
+        return packed;
+    }
+
+    private static byte[] randomBallot(Random random, int options) {
+        byte[] order = new byte[options];
+        for (int i = 0; i < options; i++) {
+            order[i] = (byte) i;
+        }
+        for (int i = options - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        byte[] ballot = new byte[1 + random.nextInt(options)];
+        System.arraycopy(order, 0, ballot, 0, ballot.length);
+        return ballot;
+    }
+}
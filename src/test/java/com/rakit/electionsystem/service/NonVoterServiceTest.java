@@ -0,0 +1,186 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.NonVoterResponse;
+import com.rakit.electionsystem.dto.NonVotersResponse;
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.VoterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for NonVoterService.
+ */
+@ExtendWith(MockitoExtension.class)
+class NonVoterServiceTest {
+
+    @Mock
+    private ElectionRepository electionRepository;
+
+    @Mock
+    private VoterRepository voterRepository;
+
+    @Mock
+    private VoteStorage voteStorage;
+
+    @Mock
+    private EligibilityService eligibilityService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private NonVoterService nonVoterService;
+
+    private Election election;
+
+    @BeforeEach
+    void setUp() {
+        nonVoterService = new NonVoterService(electionRepository, voterRepository, voteStorage,
+                eligibilityService, transactionTemplate, false, Duration.ofSeconds(30));
+
+        election = new Election();
+        election.setId(1L);
+        election.setStatus(ElectionStatus.ACTIVE);
+        election.setStartDate(LocalDateTime.now().minusHours(1));
+        election.setEndDate(LocalDateTime.now().plusHours(1));
+    }
+
+    @Test
+    void findNonVoters_ShouldPageRollMinusVoters_WhenElectionHasRoll() {
+        // Given
+        givenActiveElectionWithRollOf(1, 2, 3, 4, 5, 6);
+        givenVotersVoted(2L, 4L);
+
+        // When
+        NonVotersResponse first = nonVoterService.findNonVoters(1L, null, 2);
+        NonVotersResponse second = nonVoterService.findNonVoters(1L, first.getNextAfter(), 2);
+
+        // Then
+        assertThat(first.getVoters()).extracting(NonVoterResponse::getId).containsExactly(1L, 3L);
+        assertThat(first.getNextAfter()).isEqualTo(3L);
+        assertThat(second.getVoters()).extracting(NonVoterResponse::getId).containsExactly(5L, 6L);
+        // The difference is computed once and reused by later pages
+        verify(voteStorage, times(1)).forEachVotingRecord(eq(1L), any());
+    }
+
+    @Test
+    void exportNonVoters_ShouldWriteCsvRows_WhenElectionHasRoll() throws Exception {
+        // Given
+        givenActiveElectionWithRollOf(1, 2, 3);
+        givenVotersVoted(2L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        nonVoterService.exportNonVoters(1L, out);
+
+        // Then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                voter_id,email,first_name,last_name
+                1,"voter1@example.com","First","Last"
+                3,"voter3@example.com","First","Last"
+                """);
+    }
+
+    @Test
+    void findNonVoters_ShouldOnlyListVotersOnEligibilityList_WhenElectionWeighted() {
+        // Given
+        election.setWeighted(true);
+        givenActiveElectionWithRollOf(1, 2, 3, 4, 5, 6);
+        when(eligibilityService.findListedVoters(election)).thenReturn(VoterRoll.of(new long[]{2, 3, 5, 9}));
+        givenVotersVoted(3L);
+
+        // When
+        NonVotersResponse response = nonVoterService.findNonVoters(1L, null, 10);
+
+        // Then
+        assertThat(response.getVoters()).extracting(NonVoterResponse::getId).containsExactly(2L, 5L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findNonVoters_ShouldAntiJoinEligibilityList_WhenWeightedElectionHasNoRoll() {
+        // Given
+        election.setWeighted(true);
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(eligibilityService.findRoll(election)).thenReturn(Optional.empty());
+        when(voteStorage.isInMainDatabase()).thenReturn(true);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[]{4L, "voter4@example.com", "First", "Last"});
+        when(voterRepository.findListedNonVoterContacts(eq(1L), eq(0L), any())).thenReturn(rows);
+
+        // When
+        NonVotersResponse response = nonVoterService.findNonVoters(1L, null, 10);
+
+        // Then
+        assertThat(response.getVoters()).extracting(NonVoterResponse::getId).containsExactly(4L);
+        verify(voterRepository, never()).findNonVoterContacts(any(), any(), any());
+    }
+
+    @Test
+    void findNonVoters_ShouldReject_WhenElectionNotActive() {
+        // Given
+        election.setStatus(ElectionStatus.CLOSED);
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+
+        // When & Then
+        assertThatThrownBy(() -> nonVoterService.findNonVoters(1L, null, 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("active");
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenActiveElectionWithRollOf(long... voterIds) {
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(eligibilityService.findRoll(election)).thenReturn(Optional.of(VoterRoll.of(voterIds)));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        when(voterRepository.findActiveContactsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<Object[]> rows = new ArrayList<>();
+            for (Long id : (Collection<Long>) invocation.getArgument(0)) {
+                rows.add(new Object[]{id, "voter" + id + "@example.com", "First", "Last"});
+            }
+            return rows;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenVotersVoted(Long... voterIds) {
+        doAnswer(invocation -> {
+            BiConsumer<Long, LocalDateTime> records = invocation.getArgument(1);
+            for (Long voterId : voterIds) {
+                records.accept(voterId, LocalDateTime.now());
+            }
+            return null;
+        }).when(voteStorage).forEachVotingRecord(eq(1L), any());
+    }
+}
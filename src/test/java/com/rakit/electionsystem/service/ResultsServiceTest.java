@@ -3,28 +3,42 @@ package com.rakit.electionsystem.service;
 import com.rakit.electionsystem.dto.ElectionResultsResponse;
 import com.rakit.electionsystem.dto.ElectionStatisticsResponse;
 import com.rakit.electionsystem.dto.OptionResultResponse;
+import com.rakit.electionsystem.dto.RankedResultsResponse;
+import com.rakit.electionsystem.exception.InvalidRequestException;
 import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.model.BallotType;
 import com.rakit.electionsystem.model.Election;
 import com.rakit.electionsystem.model.ElectionOption;
 import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.repository.ElectionOptionRepository;
 import com.rakit.electionsystem.repository.ElectionRepository;
 import com.rakit.electionsystem.repository.VoteRepository;
 import com.rakit.electionsystem.repository.VotingRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -36,19 +50,38 @@ class ResultsServiceTest {
     @Mock
     private ElectionRepository electionRepository;
 
+    @Mock
+    private ElectionOptionRepository electionOptionRepository;
+
     @Mock
     private VoteRepository voteRepository;
 
     @Mock
     private VotingRecordRepository votingRecordRepository;
 
-    @InjectMocks
+    @Mock
+    private ElectionArchiveService electionArchiveService;
+
+    @Mock
+    private LiveTallies liveTallies;
+
+    @Mock
+    private EligibilityService eligibilityService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private ResultsService resultsService;
 
     private Election election;
     
     @BeforeEach
     void setUp() {
+        resultsService = new ResultsService(electionRepository, electionOptionRepository,
+                new JpaVoteStorage(voteRepository, votingRecordRepository), electionArchiveService,
+                new IrvTabulator(1024, Integer.MAX_VALUE), liveTallies, eligibilityService, meterRegistry,
+                Duration.ofMinutes(1));
+
         // Create test election
         election = new Election();
         election.setId(1L);
@@ -148,6 +181,22 @@ class ResultsServiceTest {
         assertThat(statistics.getParticipationRate()).isEqualTo(75.0); // 15/20 * 100
     }
 
+    @Test
+    void getElectionStatistics_ShouldReportTurnout_WhenElectionHasRoll() {
+        // Given
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(voteRepository.countByElectionId(1L)).thenReturn(3L);
+        when(votingRecordRepository.countByElectionId(1L)).thenReturn(3L);
+        when(eligibilityService.findRoll(election)).thenReturn(Optional.of(VoterRoll.of(new long[]{1, 2, 3, 4})));
+
+        // When
+        ElectionStatisticsResponse statistics = resultsService.getElectionStatistics(1L);
+
+        // Then
+        assertThat(statistics.getEligibleVoters()).isEqualTo(4L);
+        assertThat(statistics.getParticipationRate()).isEqualTo(75.0); // 3/4 * 100
+    }
+
     @Test
     void getElectionStatistics_ShouldHandleZeroParticipants() {
         // Given
@@ -173,4 +222,143 @@ class ResultsServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Election not found");
     }
+
+    @Test
+    void getRankedResults_ShouldEliminateAndTransfer_WhenNoMajority() {
+        // Given
+        ElectionOption option3 = new ElectionOption();
+        option3.setId(3L);
+        option3.setOptionTitle("Option 3");
+        option3.setElection(election);
+        election.getOptions().add(option3);
+        election.setBallotType(BallotType.RANKED);
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(voteRepository.countByElectionId(1L)).thenReturn(5L);
+        when(voteRepository.streamBallotsByElectionId(1L)).thenReturn(Stream.of(
+                new byte[]{0}, new byte[]{0}, new byte[]{1}, new byte[]{1, 2}, new byte[]{2, 0}));
+
+        // When
+        RankedResultsResponse results = resultsService.getRankedResults(1L);
+
+        // Then
+        assertThat(results.getTotalBallots()).isEqualTo(5L);
+        assertThat(results.getRounds()).hasSize(2);
+        assertThat(results.getRounds().get(0).getTallies())
+                .extracting(OptionResultResponse::getVoteCount)
+                .containsExactly(2L, 2L, 1L);
+        assertThat(results.getRounds().get(0).getEliminatedOptionId()).isEqualTo(3L);
+        assertThat(results.getRounds().get(1).getTallies())
+                .extracting(OptionResultResponse::getVoteCount)
+                .containsExactly(3L, 2L);
+        assertThat(results.getWinnerOptionId()).isEqualTo(1L);
+    }
+
+    @Test
+    void getRankedResults_ShouldThrowException_WhenElectionNotRanked() {
+        // Given
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+
+        // When & Then
+        assertThatThrownBy(() -> resultsService.getRankedResults(1L))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("ranked");
+    }
+
+    @Test
+    void getElectionResults_ShouldCountEverySelection_WhenElectionApproval() {
+        // Given
+        election.setBallotType(BallotType.APPROVAL);
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(voteRepository.countByElectionId(1L)).thenReturn(3L);
+        when(voteRepository.streamBallotsByElectionId(1L)).thenReturn(Stream.of(
+                new byte[]{0b11}, new byte[]{0b01}, new byte[]{0b11}));
+
+        // When
+        ElectionResultsResponse results = resultsService.getElectionResults(1L);
+
+        // Then
+        assertThat(results.getTotalVotes()).isEqualTo(3L);
+        assertThat(results.getOptionResults())
+                .extracting(OptionResultResponse::getVoteCount)
+                .containsExactly(3L, 2L);
+    }
+
+    @Test
+    void getOptionVoteCount_ShouldCountSelections_WhenElectionApproval() {
+        // Given
+        election.setBallotType(BallotType.APPROVAL);
+        when(electionArchiveService.findArchivedOptionVotes(2L)).thenReturn(Optional.empty());
+        when(electionOptionRepository.findById(2L)).thenReturn(Optional.of(election.getOptions().get(1)));
+        when(voteRepository.streamBallotsByElectionId(1L)).thenReturn(Stream.of(
+                new byte[]{0b11}, new byte[]{0b01}, new byte[]{0b10}));
+
+        // When
+        Long count = resultsService.getOptionVoteCount(2L);
+
+        // Then
+        assertThat(count).isEqualTo(2L);
+    }
+
+    @Test
+    void getOptionVoteCount_ShouldTallyBallotsOnce_WhenEveryOptionOfApprovalElectionIsQueried() {
+        // Given
+        election.setBallotType(BallotType.APPROVAL);
+        when(electionArchiveService.findArchivedOptionVotes(any())).thenReturn(Optional.empty());
+        when(electionOptionRepository.findById(1L)).thenReturn(Optional.of(election.getOptions().get(0)));
+        when(electionOptionRepository.findById(2L)).thenReturn(Optional.of(election.getOptions().get(1)));
+        when(voteRepository.streamBallotsByElectionId(1L)).thenReturn(Stream.of(
+                new byte[]{0b11}, new byte[]{0b01}, new byte[]{0b10}));
+
+        // When
+        Long first = resultsService.getOptionVoteCount(1L);
+        Long second = resultsService.getOptionVoteCount(2L);
+
+        // Then
+        assertThat(first).isEqualTo(2L);
+        assertThat(second).isEqualTo(2L);
+        verify(voteRepository, times(1)).streamBallotsByElectionId(1L);
+    }
+
+    @Test
+    void getElectionResults_ShouldReportHeadcountAndWeight_WhenElectionWeighted() {
+        // Given
+        election.setWeighted(true);
+        BigDecimal overflowing = new BigDecimal(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(voteRepository.sumWeightsByElectionOption(1L)).thenReturn(List.<Object[]>of(
+                new Object[]{1L, overflowing}, new Object[]{2L, BigDecimal.valueOf(7)}));
+        when(voteRepository.countByElectionIdAndElectionOptionId(1L, 1L)).thenReturn(2L);
+        when(voteRepository.countByElectionIdAndElectionOptionId(1L, 2L)).thenReturn(3L);
+
+        // When
+        ElectionResultsResponse results = resultsService.getElectionResults(1L);
+
+        // Then
+        assertThat(results.getTotalVotes()).isEqualTo(5L);
+        assertThat(results.getTotalWeight())
+                .isEqualTo(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO).add(BigInteger.valueOf(7)));
+        assertThat(results.getOptionResults())
+                .extracting(OptionResultResponse::getVoteCount)
+                .containsExactly(2L, 3L);
+        assertThat(results.getOptionResults().get(1).getWeightedVotes()).isEqualTo(BigInteger.valueOf(7));
+    }
+
+    @Test
+    void getElectionResults_ShouldUseLiveTally_WhenElectionHasOne() {
+        // Given
+        election.setWeighted(true);
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(liveTallies.snapshot(1L)).thenReturn(Optional.of(new LiveTallies.Snapshot(
+                Map.of(1L, 4L), Map.of(1L, BigInteger.valueOf(400)))));
+
+        // When
+        ElectionResultsResponse results = resultsService.getElectionResults(1L);
+
+        // Then
+        assertThat(results.getTotalVotes()).isEqualTo(4L);
+        assertThat(results.getTotalWeight()).isEqualTo(BigInteger.valueOf(400));
+        assertThat(results.getOptionResults())
+                .extracting(OptionResultResponse::getWeightedVotes)
+                .containsExactly(BigInteger.valueOf(400), BigInteger.ZERO);
+    }
 }
@@ -0,0 +1,162 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.config.ShardedDataSource;
+import com.rakit.electionsystem.config.ShardingProperties;
+import com.rakit.electionsystem.dto.ShardMoveResponse;
+import com.rakit.electionsystem.dto.ShardOverviewResponse;
+import com.rakit.electionsystem.exception.AlreadyVotedException;
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.repository.ElectionOptionRepository;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ShardedVoteStorage, running against two in-memory shard databases.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardedVoteStorageTest {
+
+    @Mock
+    private ShardDirectory shardDirectory;
+
+    @Mock
+    private ElectionRepository electionRepository;
+
+    @Mock
+    private ElectionOptionRepository electionOptionRepository;
+
+    private ShardedDataSource shards;
+    private ShardedVoteStorage storage;
+    private final AtomicInteger shardOfElection = new AtomicInteger(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String run = UUID.randomUUID().toString();
+        ShardingProperties properties = new ShardingProperties();
+        properties.setUrls(List.of("jdbc:h2:mem:shard0-" + run + ";DB_CLOSE_DELAY=-1",
+                "jdbc:h2:mem:shard1-" + run + ";DB_CLOSE_DELAY=-1"));
+        properties.setUsername("sa");
+        properties.setPassword("");
+        shards = new ShardedDataSource(properties);
+        shards.migrate();
+
+        lenient().when(shardDirectory.shardOf(1L)).thenAnswer(invocation -> shardOfElection.get());
+        lenient().when(shardDirectory.shardOf(2L)).thenReturn(0);
+        storage = new ShardedVoteStorage(shards, shardDirectory, electionRepository, electionOptionRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.shutdown();
+        shards.close();
+    }
+
+    @Test
+    void recordVote_ShouldStoreRowsOnOwningShard() {
+        storage.recordVote(voter(10L), election(1L), option(100L, 1L), null, 1);
+
+        assertThat(storage.hasVoted(10L, 1L)).isTrue();
+        assertThat(storage.countByElectionIdAndElectionOptionId(1L, 100L)).isEqualTo(1);
+        assertThat(countVotes(1)).isEqualTo(1);
+        assertThat(countVotes(0)).isZero();
+    }
+
+    @Test
+    void recordVote_ShouldThrowAlreadyVoted_WhenVotingRecordExists() {
+        storage.recordVote(voter(10L), election(1L), option(100L, 1L), null, 1);
+
+        assertThatThrownBy(() -> storage.recordVote(voter(10L), election(1L), option(101L, 1L), null, 1))
+                .isInstanceOf(AlreadyVotedException.class);
+        assertThat(storage.countByElectionId(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void getOverview_ShouldSumAllShards() {
+        storage.recordVote(voter(10L), election(1L), option(100L, 1L), null, 1);
+        storage.recordVote(voter(11L), election(1L), option(100L, 1L), null, 1);
+        storage.recordVote(voter(10L), election(2L), option(200L, 2L), null, 1);
+
+        ShardOverviewResponse overview = storage.getOverview();
+
+        assertThat(overview.getTotalVotes()).isEqualTo(3);
+        assertThat(overview.getTotalVotingRecords()).isEqualTo(3);
+        assertThat(overview.getVotesByElection()).containsEntry(1L, 2L).containsEntry(2L, 1L);
+        assertThat(overview.getShards()).hasSize(2);
+    }
+
+    @Test
+    void moveElection_ShouldCopyRowsAndReassign_WhenElectionClosed() {
+        storage.recordVote(voter(10L), election(1L), option(100L, 1L), null, 1);
+        storage.recordVote(voter(11L), election(1L), option(101L, 1L), null, 1);
+        Election closed = election(1L);
+        closed.setStatus(ElectionStatus.CLOSED);
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(closed));
+        doAnswer(invocation -> {
+            shardOfElection.set(invocation.getArgument(1));
+            return null;
+        }).when(shardDirectory).reassign(eq(1L), anyInt());
+
+        ShardMoveResponse response = storage.moveElection(1L, 0);
+
+        assertThat(response.getVotesMoved()).isEqualTo(2);
+        assertThat(response.getVotingRecordsMoved()).isEqualTo(2);
+        assertThat(countVotes(0)).isEqualTo(2);
+        assertThat(countVotes(1)).isZero();
+        assertThat(storage.hasVoted(11L, 1L)).isTrue();
+    }
+
+    @Test
+    void moveElection_ShouldReject_WhenElectionActive() {
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election(1L)));
+
+        assertThatThrownBy(() -> storage.moveElection(1L, 0))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("Active elections");
+    }
+
+    private long countVotes(int shard) {
+        return shards.jdbcTemplate(shard).queryForObject("SELECT COUNT(*) FROM vote", Long.class);
+    }
+
+    private static Voter voter(Long id) {
+        Voter voter = new Voter();
+        voter.setId(id);
+        return voter;
+    }
+
+    private static Election election(Long id) {
+        Election election = new Election();
+        election.setId(id);
+        election.setStatus(ElectionStatus.ACTIVE);
+        return election;
+    }
+
+    private static ElectionOption option(Long id, Long electionId) {
+        ElectionOption option = new ElectionOption();
+        option.setId(id);
+        option.setElection(election(electionId));
+        return option;
+    }
+}
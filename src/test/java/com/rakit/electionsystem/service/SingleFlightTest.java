@@ -0,0 +1,114 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SingleFlight.
+ */
+class SingleFlightTest {
+
+    @Test
+    void get_ShouldShareOneComputation_BetweenConcurrentCallers() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ZERO);
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            Future<String> leader = executor.submit(() -> singleFlight.get(1L, () -> {
+                computations.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "results";
+            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                followers.add(executor.submit(() -> singleFlight.get(1L, () -> {
+                    computations.incrementAndGet();
+                    return "other";
+                })));
+            }
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("results");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("results");
+            }
+            assertThat(computations.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void get_ShouldServeFreshValue_WithinWindow() {
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>(Duration.ofMinutes(1));
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.get(1L, computations::incrementAndGet);
+        Integer second = singleFlight.get(1L, computations::incrementAndGet);
+
+        assertThat(second).isEqualTo(1);
+        assertThat(computations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_ShouldRecompute_WhenWindowIsZero() {
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>(Duration.ZERO);
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.get(1L, computations::incrementAndGet);
+        singleFlight.get(1L, computations::incrementAndGet);
+
+        assertThat(computations.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ShouldRecompute_AfterInvalidate() {
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>(Duration.ofMinutes(1));
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.get(1L, computations::incrementAndGet);
+        singleFlight.invalidate(1L);
+        Integer second = singleFlight.get(1L, computations::incrementAndGet);
+
+        assertThat(second).isEqualTo(2);
+    }
+
+    @Test
+    void get_ShouldNotCacheFailures() {
+        SingleFlight<Long, Integer> singleFlight = new SingleFlight<>(Duration.ofMinutes(1));
+
+        assertThatThrownBy(() -> singleFlight.get(1L, () -> {
+            throw new ResourceNotFoundException("Election not found with id: 1");
+        })).isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(singleFlight.get(1L, () -> 42)).isEqualTo(42);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.model.AgeBand;
+import com.rakit.electionsystem.model.Demographic;
+import com.rakit.electionsystem.model.Pesel;
+import com.rakit.electionsystem.model.Sex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TurnoutDemographics.
+ */
+class TurnoutDemographicsTest {
+
+    @Test
+    void suppress_ShouldHideSmallCells_WhenBelowMinimum() {
+        long[] voters = {0, 3, 12, 4, 50};
+
+        boolean[] suppressed = TurnoutDemographics.suppress(voters, 10);
+
+        assertThat(suppressed).containsExactly(false, true, false, true, false);
+    }
+
+    @Test
+    void suppress_ShouldHideNextSmallestCell_WhenOnlyOneCellIsSmall() {
+        long[] voters = {0, 3, 12, 40, 50};
+
+        boolean[] suppressed = TurnoutDemographics.suppress(voters, 10);
+
+        assertThat(suppressed).containsExactly(false, true, true, false, false);
+    }
+
+    @Test
+    void suppress_ShouldShowEverything_WhenNoCellIsSmall() {
+        long[] voters = {0, 10, 12};
+
+        boolean[] suppressed = TurnoutDemographics.suppress(voters, 10);
+
+        assertThat(suppressed).containsExactly(false, false, false);
+    }
+
+    @Test
+    void ageBandOn_ShouldUseAgeAtDate_WhenPeselIsValid() {
+        // Given
+        Demographic demographic = Demographic.ofPesel(Pesel.encode(LocalDate.of(2000, 6, 15), 1234));
+
+        // Then
+        assertThat(demographic.sex()).isEqualTo(Sex.FEMALE);
+        assertThat(demographic.ageBandOn(LocalDate.of(2025, 6, 14))).isEqualTo(AgeBand.AGE_18_24);
+        assertThat(demographic.ageBandOn(LocalDate.of(2025, 6, 15))).isEqualTo(AgeBand.AGE_25_34);
+        assertThat(Demographic.ofPesel("12345").ageBandOn(LocalDate.of(2025, 6, 15))).isEqualTo(AgeBand.UNKNOWN);
+    }
+}
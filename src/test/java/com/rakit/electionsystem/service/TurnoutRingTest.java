@@ -0,0 +1,51 @@
+package com.rakit.electionsystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TurnoutRing.
+ */
+class TurnoutRingTest {
+
+    @Test
+    void snapshot_ShouldReturnMinutesInOrder_WhenAddedOutOfOrder() {
+        TurnoutRing ring = new TurnoutRing(10);
+
+        ring.add(1003, 2);
+        ring.add(1000, 1);
+        ring.add(1003, 1);
+
+        TurnoutRing.Snapshot snapshot = ring.snapshot();
+
+        assertThat(snapshot.firstMinute()).isEqualTo(1000);
+        assertThat(snapshot.voters()).containsExactly(1, 0, 0, 3);
+        assertThat(snapshot.earlier()).isZero();
+    }
+
+    @Test
+    void snapshot_ShouldKeepTotal_WhenMinutesWrapAround() {
+        TurnoutRing ring = new TurnoutRing(3);
+
+        for (long minute = 0; minute < 5; minute++) {
+            ring.add(minute, minute + 1);
+        }
+        // A late vote for a minute that already left the ring
+        ring.add(0, 10);
+
+        TurnoutRing.Snapshot snapshot = ring.snapshot();
+
+        assertThat(snapshot.firstMinute()).isEqualTo(2);
+        assertThat(snapshot.voters()).containsExactly(3, 4, 5);
+        assertThat(snapshot.earlier()).isEqualTo(1 + 2 + 10);
+    }
+
+    @Test
+    void snapshot_ShouldBeEmpty_WhenNothingAdded() {
+        TurnoutRing.Snapshot snapshot = new TurnoutRing(5).snapshot();
+
+        assertThat(snapshot.voters()).isEmpty();
+        assertThat(snapshot.earlier()).isZero();
+    }
+}
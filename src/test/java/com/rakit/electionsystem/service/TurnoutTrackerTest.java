@@ -0,0 +1,129 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.TurnoutResponse;
+import com.rakit.electionsystem.event.ElectionStatusChangedEvent;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TurnoutTracker.
+ */
+@ExtendWith(MockitoExtension.class)
+class TurnoutTrackerTest {
+
+    @Mock
+    private ElectionRepository electionRepository;
+
+    @Mock
+    private VoteStorage voteStorage;
+
+    @Mock
+    private ElectionArchiveService electionArchiveService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TurnoutTracker turnoutTracker;
+
+    private Election election;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        turnoutTracker = new TurnoutTracker(electionRepository, voteStorage, electionArchiveService,
+                transactionTemplate, true, Duration.ofDays(14), 720, Duration.ofMinutes(1));
+
+        election = new Election();
+        election.setId(1L);
+        election.setStatus(ElectionStatus.ACTIVE);
+        election.setStartDate(LocalDateTime.now().minusHours(1));
+        election.setEndDate(LocalDateTime.now().plusHours(1));
+
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void record_ShouldCountVoteOnce_WhenBackfillAlreadyReadIt() {
+        // Given a vote committed just before tracking started, whose live record arrives after the backfill
+        LocalDateTime votedAt = LocalDateTime.now().minusSeconds(1);
+        givenVotingRecords(Map.of(7L, votedAt));
+        turnoutTracker.getTurnout(1L, null);
+
+        // When
+        turnoutTracker.record(1L, 7L, votedAt);
+
+        // Then
+        assertThat(turnoutTracker.getTurnout(1L, null).getTotalVoters()).isEqualTo(1);
+    }
+
+    @Test
+    void record_ShouldCountVote_WhenCastBeforeTrackingButCommittedAfterBackfill() {
+        // Given a vote in flight while the backfill read the committed records
+        LocalDateTime votedAt = LocalDateTime.now().minusSeconds(1);
+        givenVotingRecords(Map.of());
+        turnoutTracker.getTurnout(1L, null);
+
+        // When
+        turnoutTracker.record(1L, 7L, votedAt);
+
+        // Then
+        assertThat(turnoutTracker.getTurnout(1L, null).getTotalVoters()).isEqualTo(1);
+    }
+
+    @Test
+    void onElectionStatusChanged_ShouldStopTracking_WhenElectionClosed() {
+        // Given
+        givenVotingRecords(Map.of());
+        turnoutTracker.getTurnout(1L, null);
+
+        // When
+        turnoutTracker.onElectionStatusChanged(new ElectionStatusChangedEvent(List.of(1L), ElectionStatus.CLOSED));
+        turnoutTracker.record(1L, 7L, LocalDateTime.now());
+        election.setStatus(ElectionStatus.CLOSED);
+        TurnoutResponse response = turnoutTracker.getTurnout(1L, null);
+
+        // Then the closed election is counted from storage again rather than kept in memory
+        assertThat(response.getTotalVoters()).isZero();
+        turnoutTracker.getTurnout(1L, null);
+        verify(voteStorage, times(3)).forEachVotingRecord(eq(1L), any());
+    }
+
+    private void givenVotingRecords(Map<Long, LocalDateTime> records) {
+        doAnswer(invocation -> {
+            records.forEach(invocation.<BiConsumer<Long, LocalDateTime>>getArgument(1));
+            return null;
+        }).when(voteStorage).forEachVotingRecord(eq(1L), any());
+    }
+}
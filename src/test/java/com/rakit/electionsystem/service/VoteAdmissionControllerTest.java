@@ -0,0 +1,98 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.exception.AlreadyVotedException;
+import com.rakit.electionsystem.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for VoteAdmissionController.
+ */
+class VoteAdmissionControllerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void execute_ShouldRejectWithRetryAfter_WhenLimitIsReached() throws Exception {
+        VoteAdmissionController admission = admission(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<?> running = executor.submit(() -> admission.execute(() -> {
+                started.countDown();
+                await(release);
+            }));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> admission.execute(() -> { }))
+                    .isInstanceOf(ServiceOverloadedException.class)
+                    .satisfies(ex -> assertThat(((ServiceOverloadedException) ex).getRetryAfterSeconds()).isPositive());
+            assertThat(meterRegistry.get("election.vote.admission.rejected").counter().count()).isEqualTo(1.0);
+
+            release.countDown();
+            running.get(5, TimeUnit.SECONDS);
+            assertThat(admission.getInFlight()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldRaiseLimit_WhenWritesAreFast() {
+        VoteAdmissionController admission = admission(2);
+
+        for (int i = 0; i < 10; i++) {
+            admission.execute(() -> { });
+        }
+
+        assertThat(admission.getLimit()).isGreaterThan(2);
+    }
+
+    @Test
+    void execute_ShouldCutLimit_WhenDatabaseFails() {
+        VoteAdmissionController admission = admission(10);
+
+        assertThatThrownBy(() -> admission.execute(() -> {
+            throw new QueryTimeoutException("lock wait");
+        })).isInstanceOf(QueryTimeoutException.class);
+
+        assertThat(admission.getLimit()).isEqualTo(9);
+        assertThat(meterRegistry.get("election.vote.admission.limit").gauge().value()).isEqualTo(9.0);
+    }
+
+    @Test
+    void execute_ShouldKeepLimit_WhenVoteIsRejectedByBusinessRule() {
+        VoteAdmissionController admission = admission(10);
+
+        assertThatThrownBy(() -> admission.execute(() -> {
+            throw new AlreadyVotedException("Voter has already voted in this election.");
+        })).isInstanceOf(AlreadyVotedException.class);
+
+        assertThat(admission.getLimit()).isGreaterThanOrEqualTo(10);
+    }
+
+    private VoteAdmissionController admission(int initialLimit) {
+        return new VoteAdmissionController(meterRegistry, true, initialLimit, 1, 100, Duration.ofMillis(250), 0.9);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
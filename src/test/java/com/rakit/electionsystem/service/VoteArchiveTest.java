@@ -0,0 +1,176 @@
+package com.rakit.electionsystem.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit tests for VoteArchive.
+ */
+class VoteArchiveTest {
+
+    private static final LocalDateTime ARCHIVED_AT = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void open_ShouldReturnCountsFromFooter_WhenArchiveWritten() throws IOException {
+        Path path = write(directory.resolve("election-7.votes"));
+
+        VoteArchive archive = VoteArchive.open(path);
+
+        assertThat(archive.getElectionId()).isEqualTo(7);
+        assertThat(archive.getArchivedAt()).isEqualTo(ARCHIVED_AT);
+        assertThat(archive.getTotalVotes()).isEqualTo(3);
+        assertThat(archive.getParticipants()).isEqualTo(3);
+        assertThat(archive.getVotesByOption()).containsExactly(
+                entry(10L, 2L),
+                entry(20L, 1L),
+                entry(30L, 0L));
+        assertThat(archive.getVotes(99L)).isZero();
+    }
+
+    @Test
+    void forEach_ShouldDecodeVotesAndRecordsInOrder() throws IOException {
+        VoteArchive archive = VoteArchive.open(write(directory.resolve("election-7.votes")));
+
+        List<Long> votes = new ArrayList<>();
+        archive.forEachVote(votes::add);
+        List<String> records = new ArrayList<>();
+        archive.forEachVotingRecord((voterId, votedAt) -> records.add(voterId + "@" + votedAt));
+
+        assertThat(votes).containsExactly(10L, 20L, 10L);
+        assertThat(records).containsExactly(
+                "3@2026-10-18T09:30:15",
+                "1000@2026-10-18T08:00",
+                "1001@2026-10-18T10:45:59");
+    }
+
+    @Test
+    void forEachBallot_ShouldReturnRankings_WhenArchiveRanked() throws IOException {
+        Path path = directory.resolve("election-9.votes");
+        try (VoteArchive.Writer writer = VoteArchive.rankedWriter(path, 9, List.of(10L, 20L, 30L))) {
+            writer.writeBallot(new byte[]{2, 0});
+            writer.writeBallot(new byte[]{0, 1, 2});
+            writer.writeVotingRecord(5L, LocalDateTime.of(2026, 10, 18, 9, 0));
+            writer.writeVotingRecord(6L, LocalDateTime.of(2026, 10, 18, 9, 1));
+            writer.finish(ARCHIVED_AT);
+        }
+
+        VoteArchive archive = VoteArchive.open(path);
+        List<byte[]> ballots = new ArrayList<>();
+        archive.forEachBallot(ballots::add);
+        List<Long> votes = new ArrayList<>();
+        archive.forEachVote(votes::add);
+
+        assertThat(archive.isRanked()).isTrue();
+        assertThat(ballots).containsExactly(new byte[]{2, 0}, new byte[]{0, 1, 2});
+        assertThat(votes).containsExactly(30L, 10L);
+        assertThat(archive.getVotesByOption()).containsEntry(30L, 1L).containsEntry(10L, 1L);
+        assertThat(archive.getParticipants()).isEqualTo(2);
+    }
+
+    @Test
+    void getVotesByOption_ShouldCountEverySelection_WhenArchiveApproval() throws IOException {
+        Path path = directory.resolve("election-11.votes");
+        try (VoteArchive.Writer writer = VoteArchive.approvalWriter(path, 11, List.of(10L, 20L, 30L))) {
+            writer.writeBallot(new byte[]{0b110});
+            writer.writeBallot(new byte[]{0b111});
+            writer.writeVotingRecord(5L, LocalDateTime.of(2026, 10, 18, 9, 0));
+            writer.writeVotingRecord(6L, LocalDateTime.of(2026, 10, 18, 9, 1));
+            writer.finish(ARCHIVED_AT);
+        }
+
+        VoteArchive archive = VoteArchive.open(path);
+        List<byte[]> ballots = new ArrayList<>();
+        archive.forEachBallot(ballots::add);
+        List<Long> votes = new ArrayList<>();
+        archive.forEachVote(votes::add);
+
+        assertThat(archive.isApproval()).isTrue();
+        assertThat(archive.getTotalVotes()).isEqualTo(2);
+        assertThat(archive.getVotesByOption()).containsExactly(entry(10L, 1L), entry(20L, 2L), entry(30L, 2L));
+        assertThat(ballots).containsExactly(new byte[]{0b110}, new byte[]{0b111});
+        assertThat(votes).containsExactly(20L, 10L);
+    }
+
+    @Test
+    void open_ShouldKeepExactWeights_WhenArchiveWeighted() throws IOException {
+        Path path = directory.resolve("election-10.votes");
+        try (VoteArchive.Writer writer = VoteArchive.weightedWriter(path, 10, List.of(10L, 20L))) {
+            writer.writeWeightedVote(10L, Long.MAX_VALUE);
+            writer.writeWeightedVote(10L, Long.MAX_VALUE);
+            writer.writeWeightedVote(20L, 3L);
+            writer.writeVotingRecord(1L, LocalDateTime.of(2026, 10, 18, 8, 0));
+            writer.writeVotingRecord(2L, LocalDateTime.of(2026, 10, 18, 8, 1));
+            writer.writeVotingRecord(3L, LocalDateTime.of(2026, 10, 18, 8, 2));
+            writer.finish(ARCHIVED_AT);
+        }
+
+        VoteArchive archive = VoteArchive.open(path);
+        List<Long> weights = new ArrayList<>();
+        archive.forEachWeightedVote((optionId, weight) -> weights.add(weight));
+        List<Long> votes = new ArrayList<>();
+        archive.forEachVote(votes::add);
+        List<Long> voterIds = new ArrayList<>();
+        archive.forEachVotingRecord((voterId, votedAt) -> voterIds.add(voterId));
+
+        BigInteger twiceMax = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.TWO);
+        assertThat(archive.isWeighted()).isTrue();
+        assertThat(archive.getVotesByOption()).containsExactly(entry(10L, 2L), entry(20L, 1L));
+        assertThat(archive.getWeightedVotes(10L)).isEqualTo(twiceMax);
+        assertThat(archive.getTotalWeight()).isEqualTo(twiceMax.add(BigInteger.valueOf(3)));
+        assertThat(weights).containsExactly(Long.MAX_VALUE, Long.MAX_VALUE, 3L);
+        assertThat(votes).containsExactly(10L, 10L, 20L);
+        assertThat(voterIds).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void open_ShouldFail_WhenArchiveCorrupted() throws IOException {
+        Path path = write(directory.resolve("election-7.votes"));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[8] ^= 0x01;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> VoteArchive.open(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Checksum");
+    }
+
+    @Test
+    void writer_ShouldLeaveNoFile_WhenNotFinished() throws IOException {
+        Path path = directory.resolve("election-8.votes");
+
+        try (VoteArchive.Writer writer = VoteArchive.writer(path, 8, List.of(1L))) {
+            writer.writeVote(1L);
+        }
+
+        assertThat(path).doesNotExist();
+        assertThat(path.resolveSibling("election-8.votes.tmp")).doesNotExist();
+    }
+
+    private static Path write(Path path) throws IOException {
+        try (VoteArchive.Writer writer = VoteArchive.writer(path, 7, List.of(10L, 20L, 30L))) {
+            writer.writeVote(10L);
+            writer.writeVote(20L);
+            writer.writeVote(10L);
+            writer.writeVotingRecord(3L, LocalDateTime.of(2026, 10, 18, 9, 30, 15, 500_000_000));
+            writer.writeVotingRecord(1000L, LocalDateTime.of(2026, 10, 18, 8, 0));
+            writer.writeVotingRecord(1001L, LocalDateTime.of(2026, 10, 18, 10, 45, 59));
+            writer.finish(ARCHIVED_AT);
+        }
+        return path;
+    }
+}
@@ -3,34 +3,46 @@ package com.rakit.electionsystem.service;
 import com.rakit.electionsystem.dto.VoteRequest;
 import com.rakit.electionsystem.exception.AlreadyVotedException;
 import com.rakit.electionsystem.exception.ElectionNotActiveException;
+import com.rakit.electionsystem.exception.InvalidRequestException;
 import com.rakit.electionsystem.exception.ResourceNotFoundException;
+import com.rakit.electionsystem.exception.VotingException;
+import com.rakit.electionsystem.model.BallotType;
 import com.rakit.electionsystem.model.Election;
 import com.rakit.electionsystem.model.ElectionOption;
+import com.rakit.electionsystem.model.ElectionRoll;
 import com.rakit.electionsystem.model.ElectionStatus;
 import com.rakit.electionsystem.model.Vote;
 import com.rakit.electionsystem.model.Voter;
 import com.rakit.electionsystem.model.VotingRecord;
 import com.rakit.electionsystem.repository.ElectionOptionRepository;
 import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.ElectionRollRepository;
+import com.rakit.electionsystem.repository.EligibleVoterRepository;
 import com.rakit.electionsystem.repository.VoteRepository;
 import com.rakit.electionsystem.repository.VoterRepository;
 import com.rakit.electionsystem.repository.VotingRecordRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -54,10 +66,30 @@ class VoteServiceTest {
     @Mock
     private VotingRecordRepository votingRecordRepository;
 
+    @Mock
+    private EligibleVoterRepository eligibleVoterRepository;
+
+    @Mock
+    private ElectionRollRepository electionRollRepository;
+
+    @Mock
+    private LiveTallies liveTallies;
+
+    @Mock
+    private TurnoutTracker turnoutTracker;
+
+    @Mock
+    private TurnoutDemographics turnoutDemographics;
+
+    @Mock
+    private VotingHistoryService votingHistoryService;
+
     @Mock
     private UserDetails userDetails;
 
-    @InjectMocks
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private VoteService voteService;
 
     private Voter voter;
@@ -67,6 +99,13 @@ class VoteServiceTest {
 
     @BeforeEach
     void setUp() {
+        voteService = new VoteService(voterRepository, electionRepository, electionOptionRepository,
+                new JpaVoteStorage(voteRepository, votingRecordRepository),
+                new EligibilityService(eligibleVoterRepository, electionRepository, voterRepository,
+                        electionRollRepository),
+                liveTallies, turnoutTracker, turnoutDemographics,
+                votingHistoryService, meterRegistry);
+
         voter = new Voter();
         voter.setId(1L);
         voter.setEmail("voter@example.com");
@@ -113,6 +152,11 @@ class VoteServiceTest {
         VotingRecord savedRecord = recordCaptor.getValue();
         assertThat(savedRecord.getVoter()).isEqualTo(voter);
         assertThat(savedRecord.getElection()).isEqualTo(election);
+
+        assertThat(meterRegistry.get("election.vote.cast").tag("outcome", "accepted").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("election.vote.phase").tag("phase", "insert").timer().count()).isEqualTo(1);
+        verify(turnoutTracker).record(eq(1L), eq(1L), any(LocalDateTime.class));
+        verify(votingHistoryService).evict(1L);
     }
 
     @Test
@@ -127,6 +171,7 @@ class VoteServiceTest {
 
         verify(voteRepository, never()).save(any());
         verify(votingRecordRepository, never()).save(any());
+        assertThat(meterRegistry.get("election.vote.cast").tag("outcome", "not-found").timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -207,10 +252,233 @@ class VoteServiceTest {
 
         // When & Then
         assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
-                .isInstanceOf(IllegalArgumentException.class)
+                .isInstanceOf(InvalidRequestException.class)
                 .hasMessageContaining("does not belong to the specified election");
 
         verify(voteRepository, never()).save(any());
         verify(votingRecordRepository, never()).save(any());
     }
+
+    @Test
+    void castVote_ShouldStoreRanking_WhenElectionRanked() {
+        // Given
+        ElectionOption second = new ElectionOption();
+        second.setId(2L);
+        second.setOptionTitle("Option 2");
+        second.setElection(election);
+        election.setOptions(new ArrayList<>(List.of(option, second)));
+        election.setBallotType(BallotType.RANKED);
+        voteRequest.setRankedOptionIds(List.of(2L, 1L));
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+        when(electionOptionRepository.findById(2L)).thenReturn(Optional.of(second));
+
+        // When
+        voteService.castVote(voteRequest, userDetails);
+
+        // Then
+        ArgumentCaptor<Vote> voteCaptor = ArgumentCaptor.forClass(Vote.class);
+        verify(voteRepository).save(voteCaptor.capture());
+        assertThat(voteCaptor.getValue().getElectionOption()).isEqualTo(second);
+        assertThat(voteCaptor.getValue().getBallot()).containsExactly(1, 0);
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenRankingRepeatsOption() {
+        // Given
+        election.setOptions(new ArrayList<>(List.of(option)));
+        election.setBallotType(BallotType.RANKED);
+        voteRequest.setRankedOptionIds(List.of(1L, 1L));
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("ranked only once");
+
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenRankingSentForSingleChoiceElection() {
+        // Given
+        voteRequest.setRankedOptionIds(List.of(1L));
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("only apply to ranked elections");
+
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenNoOptionSelected() {
+        // Given
+        voteRequest.setOptionId(null);
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("must be selected");
+
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void castVote_ShouldStoreSelectionBitset_WhenElectionApproval() {
+        // Given
+        ElectionOption second = new ElectionOption();
+        second.setId(2L);
+        second.setOptionTitle("Option 2");
+        second.setElection(election);
+        election.setOptions(new ArrayList<>(List.of(option, second)));
+        election.setBallotType(BallotType.APPROVAL);
+        election.setMaxSelections(2);
+        voteRequest.setSelectedOptionIds(List.of(2L, 1L));
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+        when(electionOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+
+        // When
+        voteService.castVote(voteRequest, userDetails);
+
+        // Then
+        ArgumentCaptor<Vote> voteCaptor = ArgumentCaptor.forClass(Vote.class);
+        verify(voteRepository).save(voteCaptor.capture());
+        assertThat(voteCaptor.getValue().getElectionOption()).isEqualTo(option);
+        assertThat(voteCaptor.getValue().getBallot()).containsExactly(0b11);
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenSelectionContainsNull() {
+        // Given
+        election.setBallotType(BallotType.APPROVAL);
+        voteRequest.setSelectedOptionIds(Arrays.asList(1L, null));
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("must not be null");
+
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenSelectionRepeatsOption() {
+        // Given
+        election.setBallotType(BallotType.APPROVAL);
+        voteRequest.setSelectedOptionIds(List.of(1L, 1L));
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("selected only once");
+
+        verify(electionOptionRepository, never()).findById(any());
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenSelectionExceedsMaxSelections() {
+        // Given
+        ElectionOption second = new ElectionOption();
+        second.setId(2L);
+        second.setElection(election);
+        election.setOptions(new ArrayList<>(List.of(option, second)));
+        election.setBallotType(BallotType.APPROVAL);
+        election.setMaxSelections(1);
+        voteRequest.setSelectedOptionIds(List.of(1L, 2L));
+
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+        when(electionOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("At most 1");
+
+        verify(voteRepository, never()).save(any());
+    }
+
+    @Test
+    void castVote_ShouldCopyVoterWeight_WhenElectionWeighted() {
+        // Given
+        election.setWeighted(true);
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+        when(electionOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+        when(eligibleVoterRepository.findWeight(1L, 1L)).thenReturn(Optional.of(Long.MAX_VALUE));
+
+        // When
+        voteService.castVote(voteRequest, userDetails);
+
+        // Then
+        ArgumentCaptor<Vote> voteCaptor = ArgumentCaptor.forClass(Vote.class);
+        verify(voteRepository).save(voteCaptor.capture());
+        assertThat(voteCaptor.getValue().getWeight()).isEqualTo(Long.MAX_VALUE);
+        verify(liveTallies).record(1L, 1L, Long.MAX_VALUE);
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenVoterNotEligible() {
+        // Given
+        election.setWeighted(true);
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+        when(electionOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+        when(eligibleVoterRepository.findWeight(1L, 1L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(VotingException.class)
+                .hasMessageContaining("eligibility list");
+
+        verify(voteRepository, never()).save(any());
+        assertThat(meterRegistry.get("election.vote.cast").tag("outcome", "not-eligible").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void castVote_ShouldThrowException_WhenVoterNotOnRoll() {
+        // Given
+        when(voterRepository.findByEmail("voter@example.com")).thenReturn(Optional.of(voter));
+        when(electionRepository.findById(1L)).thenReturn(Optional.of(election));
+        when(votingRecordRepository.existsByVoterIdAndElectionId(1L, 1L)).thenReturn(false);
+        when(electionOptionRepository.findById(1L)).thenReturn(Optional.of(option));
+        when(electionRollRepository.findByElectionId(1L)).thenReturn(Optional.of(ElectionRoll.builder()
+                .voters(VoterRoll.of(new long[]{2, 3}).toBytes())
+                .build()));
+
+        // When & Then
+        assertThatThrownBy(() -> voteService.castVote(voteRequest, userDetails))
+                .isInstanceOf(VotingException.class)
+                .hasMessageContaining("not eligible");
+
+        verify(voteRepository, never()).save(any());
+    }
 }
@@ -0,0 +1,119 @@
+package com.rakit.electionsystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for VoterRoll.
+ */
+class VoterRollTest {
+
+    @Test
+    void contains_ShouldMatchBuiltIds_WhenChunksAreSparseAndDense() {
+        // 10000 consecutive IDs fill a bitmap chunk; the rest are sparse array chunks
+        long[] ids = LongStream.concat(LongStream.range(0, 10_000), LongStream.of(70_000, 70_001, 5_000_000, 42))
+                .toArray();
+
+        VoterRoll roll = VoterRoll.of(ids);
+
+        assertThat(roll.size()).isEqualTo(10_003);
+        assertThat(roll.contains(9_999)).isTrue();
+        assertThat(roll.contains(10_000)).isFalse();
+        assertThat(roll.contains(70_001)).isTrue();
+        assertThat(roll.contains(5_000_000)).isTrue();
+        assertThat(roll.contains(5_000_001)).isFalse();
+        assertThat(roll.contains(-1)).isFalse();
+    }
+
+    @Test
+    void toBytes_ShouldRoundTrip() {
+        VoterRoll roll = VoterRoll.of(LongStream.concat(LongStream.range(100_000, 110_000), LongStream.of(3, 7))
+                .toArray());
+
+        VoterRoll copy = VoterRoll.fromBytes(roll.toBytes());
+
+        List<Long> original = new ArrayList<>();
+        roll.forEach(original::add);
+        List<Long> copied = new ArrayList<>();
+        copy.forEach(copied::add);
+        assertThat(copied).isEqualTo(original).hasSize(10_002);
+    }
+
+    @Test
+    void orAndAnd_ShouldMatchSetOperations() {
+        Random random = new Random(7);
+        TreeSet<Long> left = new TreeSet<>();
+        TreeSet<Long> right = new TreeSet<>();
+        for (int i = 0; i < 20_000; i++) {
+            left.add((long) random.nextInt(300_000));
+            right.add((long) random.nextInt(300_000));
+        }
+        left.addAll(LongStream.range(0, 6_000).boxed().toList());
+        VoterRoll a = VoterRoll.of(left.stream().mapToLong(Long::longValue).toArray());
+        VoterRoll b = VoterRoll.of(right.stream().mapToLong(Long::longValue).toArray());
+
+        TreeSet<Long> union = new TreeSet<>(left);
+        union.addAll(right);
+        TreeSet<Long> intersection = new TreeSet<>(left);
+        intersection.retainAll(right);
+
+        assertThat(ids(a.or(b))).containsExactlyElementsOf(union);
+        assertThat(ids(a.and(b))).containsExactlyElementsOf(intersection);
+        assertThat(a.and(b).size()).isEqualTo(intersection.size());
+    }
+
+    @Test
+    void andNot_ShouldMatchSetDifference() {
+        Random random = new Random(11);
+        TreeSet<Long> left = new TreeSet<>(LongStream.range(0, 70_000).boxed().toList());
+        TreeSet<Long> right = new TreeSet<>();
+        for (int i = 0; i < 30_000; i++) {
+            left.add((long) random.nextInt(300_000));
+            right.add((long) random.nextInt(300_000));
+        }
+        right.addAll(LongStream.range(60_000, 66_000).boxed().toList());
+        VoterRoll a = VoterRoll.of(left.stream().mapToLong(Long::longValue).toArray());
+        VoterRoll b = VoterRoll.of(right.stream().mapToLong(Long::longValue).toArray());
+
+        TreeSet<Long> difference = new TreeSet<>(left);
+        difference.removeAll(right);
+
+        assertThat(ids(a.andNot(b))).containsExactlyElementsOf(difference);
+        assertThat(a.andNot(b).size()).isEqualTo(difference.size());
+        assertThat(b.andNot(b).size()).isZero();
+    }
+
+    @Test
+    void forEachAfter_ShouldStartAfterIdAndStop_WhenConsumerDeclines() {
+        VoterRoll roll = VoterRoll.of(LongStream.concat(LongStream.range(0, 5_000), LongStream.of(70_000, 70_005, 200_000))
+                .toArray());
+        List<Long> seen = new ArrayList<>();
+
+        roll.forEachAfter(4_998, voterId -> {
+            seen.add(voterId);
+            return seen.size() < 3;
+        });
+
+        assertThat(seen).containsExactly(4_999L, 70_000L, 70_005L);
+    }
+
+    @Test
+    void of_ShouldReject_WhenIdOutOfRange() {
+        assertThatThrownBy(() -> VoterRoll.of(new long[]{VoterRoll.MAX_VOTER_ID + 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Long> ids(VoterRoll roll) {
+        List<Long> ids = new ArrayList<>();
+        roll.forEach(ids::add);
+        return ids;
+    }
+}
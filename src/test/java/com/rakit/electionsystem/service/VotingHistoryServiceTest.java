@@ -0,0 +1,156 @@
+package com.rakit.electionsystem.service;
+
+import com.rakit.electionsystem.dto.VoterElectionResponse;
+import com.rakit.electionsystem.dto.VoterElectionsResponse;
+import com.rakit.electionsystem.exception.InvalidRequestException;
+import com.rakit.electionsystem.model.Election;
+import com.rakit.electionsystem.model.ElectionStatus;
+import com.rakit.electionsystem.model.Voter;
+import com.rakit.electionsystem.repository.ElectionRepository;
+import com.rakit.electionsystem.repository.ElectionRollRepository;
+import com.rakit.electionsystem.repository.EligibleVoterRepository;
+import com.rakit.electionsystem.repository.VoterRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for VotingHistoryService.
+ */
+@ExtendWith(MockitoExtension.class)
+class VotingHistoryServiceTest {
+
+    @Mock
+    private VoterRepository voterRepository;
+
+    @Mock
+    private ElectionRepository electionRepository;
+
+    @Mock
+    private VoteStorage voteStorage;
+
+    @Mock
+    private EligibilityService eligibilityService;
+
+    @Mock
+    private EligibleVoterRepository eligibleVoterRepository;
+
+    @Mock
+    private ElectionRollRepository electionRollRepository;
+
+    private VotingHistoryService votingHistoryService;
+
+    private Voter voter;
+    private Election voted;
+    private Election open;
+
+    @BeforeEach
+    void setUp() {
+        votingHistoryService = new VotingHistoryService(voterRepository, electionRepository, voteStorage,
+                eligibilityService, 100, Duration.ofMinutes(5));
+
+        voter = new Voter();
+        voter.setId(7L);
+        voter.setEmail("voter@example.com");
+
+        voted = new Election();
+        voted.setId(1L);
+        voted.setStatus(ElectionStatus.CLOSED);
+        open = new Election();
+        open.setId(2L);
+        open.setStatus(ElectionStatus.ACTIVE);
+    }
+
+    @Test
+    void getMyElections_ShouldFlagVotedElections_WhenVoterHasRecords() {
+        // Given
+        LocalDateTime votedAt = LocalDateTime.of(2026, 5, 1, 10, 0);
+        when(voteStorage.findVotedAtByVoterId(7L)).thenReturn(Map.of(1L, votedAt));
+        when(electionRepository.findVisibleToVoters(PageRequest.of(0, 20)))
+                .thenReturn(new PageImpl<>(List.of(open, voted), PageRequest.of(0, 20), 2));
+        when(eligibilityService.findEligibleElectionIds(List.of(open, voted), 7L)).thenReturn(Set.of(2L));
+
+        // When
+        VoterElectionsResponse response = votingHistoryService.getMyElections(voter, 0, 20);
+
+        // Then
+        assertThat(response.getTotalElements()).isEqualTo(2);
+        VoterElectionResponse first = response.getElections().get(0);
+        assertThat(first.getId()).isEqualTo(2L);
+        assertThat(first.isHasVoted()).isFalse();
+        assertThat(first.isEligible()).isTrue();
+        VoterElectionResponse second = response.getElections().get(1);
+        assertThat(second.isHasVoted()).isTrue();
+        assertThat(second.getVotedAt()).isEqualTo(votedAt);
+        assertThat(second.isEligible()).isFalse();
+    }
+
+    @Test
+    void getMyElections_ShouldReuseCachedRecords_UntilVoterCasts() {
+        // Given
+        when(voteStorage.findVotedAtByVoterId(7L)).thenReturn(Map.of());
+        when(electionRepository.findVisibleToVoters(any()))
+                .thenReturn(new PageImpl<>(List.of(open), PageRequest.of(0, 20), 1));
+        when(eligibilityService.findEligibleElectionIds(any(), eq(7L))).thenReturn(Set.of(2L));
+
+        // When
+        votingHistoryService.getMyElections(voter, 0, 20);
+        votingHistoryService.getMyElections(voter, 0, 20);
+        votingHistoryService.evict(7L);
+        votingHistoryService.getMyElections(voter, 0, 20);
+
+        // Then
+        verify(voteStorage, times(2)).findVotedAtByVoterId(7L);
+    }
+
+    @Test
+    void getMyElections_ShouldFlagIneligible_WhenWeightedElectionDoesNotListVoter() {
+        // Given
+        votingHistoryService = new VotingHistoryService(voterRepository, electionRepository, voteStorage,
+                new EligibilityService(eligibleVoterRepository, electionRepository, voterRepository,
+                        electionRollRepository),
+                100, Duration.ofMinutes(5));
+        Election listed = new Election();
+        listed.setId(3L);
+        listed.setStatus(ElectionStatus.ACTIVE);
+        listed.setWeighted(true);
+        open.setWeighted(true);
+        when(voteStorage.findVotedAtByVoterId(7L)).thenReturn(Map.of());
+        when(electionRepository.findVisibleToVoters(any()))
+                .thenReturn(new PageImpl<>(List.of(open, listed), PageRequest.of(0, 20), 2));
+        when(electionRollRepository.findByElectionId(any())).thenReturn(Optional.empty());
+        when(eligibleVoterRepository.findElectionIdsListing(7L, List.of(2L, 3L))).thenReturn(List.of(3L));
+
+        // When
+        VoterElectionsResponse response = votingHistoryService.getMyElections(voter, 0, 20);
+
+        // Then
+        assertThat(response.getElections()).extracting(VoterElectionResponse::isEligible).containsExactly(false, true);
+    }
+
+    @Test
+    void getMyElections_ShouldReject_WhenPageSizeTooLarge() {
+        assertThatThrownBy(() -> votingHistoryService.getMyElections(voter, 0, 1000))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("size");
+    }
+}
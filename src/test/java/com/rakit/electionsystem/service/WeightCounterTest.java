@@ -0,0 +1,55 @@
+package com.rakit.electionsystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for WeightCounter.
+ */
+class WeightCounterTest {
+
+    @Test
+    void sum_ShouldStayExact_WhenTotalExceedsLongRange() {
+        WeightCounter counter = new WeightCounter();
+
+        for (int i = 0; i < 5; i++) {
+            counter.add(Long.MAX_VALUE);
+        }
+        counter.add(1);
+
+        assertThat(counter.sum())
+                .isEqualTo(BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(5)).add(BigInteger.ONE));
+    }
+
+    @Test
+    void sum_ShouldCountEveryAdd_WhenThreadsAddConcurrently() throws InterruptedException {
+        WeightCounter counter = new WeightCounter();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    counter.add(Long.MAX_VALUE / 2);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(counter.sum())
+                .isEqualTo(BigInteger.valueOf(Long.MAX_VALUE / 2).multiply(BigInteger.valueOf(80_000)));
+    }
+
+    @Test
+    void add_ShouldReject_WhenWeightNegative() {
+        assertThatThrownBy(() -> new WeightCounter().add(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
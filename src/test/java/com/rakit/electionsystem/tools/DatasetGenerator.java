@@ -0,0 +1,425 @@
+package com.rakit.electionsystem.tools;
+
+import com.rakit.electionsystem.model.Pesel;
+import lombok.Builder;
+import lombok.Getter;
+import liquibase.integration.spring.SpringLiquibase;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Fills the Liquibase schema with a synthetic dataset: voters with valid PESELs and a
+ * pre-hashed password, elections with options, and votes following a configurable distribution.
+ *
+ * Rows are written with plain JDBC as batched multi-row INSERTs in large transactions, which is
+ * what makes millions of votes per minute possible on H2. The same seed always produces the same
+ * dataset on an empty schema.
+ *
+ * From tests: {@code new DatasetGenerator(dataSource, spec).generate()}.
+ * From the command line (key=value arguments, see {@link #main(String[])}):
+ * <pre>
+ * ./mvnw test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.rakit.electionsystem.tools.DatasetGenerator \
+ *     -Dexec.args="url=jdbc:h2:file:./data/electiondb user=sa password= voters=1000000 elections=5"
+ * </pre>
+ */
+public final class DatasetGenerator {
+
+    /**
+     * BCrypt hash of "password123", the same one used by the initial data.
+     */
+    public static final String PASSWORD_HASH = "$2a$10$sXm32gMaILQ1Puoz0riJ2OxZteuTUKsOR7qoqGqA.m5Bh4xVqZew2";
+
+    private static final LocalDate OLDEST_BIRTH_DATE = LocalDate.of(1930, 1, 1);
+    private static final int BIRTH_DAYS = 365 * 75;
+
+    private final DataSource dataSource;
+    private final DatasetSpec spec;
+
+    public DatasetGenerator(DataSource dataSource, DatasetSpec spec) {
+        this.dataSource = dataSource;
+        this.spec = spec;
+    }
+
+    /**
+     * Shape of the generated dataset.
+     */
+    @Getter
+    @Builder
+    public static class DatasetSpec {
+        @Builder.Default
+        private final int voters = 10_000;
+        @Builder.Default
+        private final int elections = 3;
+        @Builder.Default
+        private final int optionsPerElection = 5;
+        /**
+         * Probability that a voter votes in a given election.
+         */
+        @Builder.Default
+        private final double turnout = 0.6;
+        @Builder.Default
+        private final VoteDistribution distribution = VoteDistribution.ZIPF;
+        /**
+         * Exponent of the Zipf distribution; higher values concentrate votes on the first options.
+         */
+        @Builder.Default
+        private final double zipfExponent = 1.0;
+        @Builder.Default
+        private final String electionStatus = "ACTIVE";
+        @Builder.Default
+        private final String emailDomain = "dataset.pl";
+        @Builder.Default
+        private final long seed = 42L;
+        /**
+         * Rows per multi-row INSERT statement.
+         */
+        @Builder.Default
+        private final int rowsPerStatement = 500;
+        /**
+         * Statements per JDBC batch and transaction.
+         */
+        @Builder.Default
+        private final int statementsPerBatch = 20;
+    }
+
+    /**
+     * How votes are spread across the options of an election.
+     */
+    public enum VoteDistribution {
+        UNIFORM,
+        ZIPF
+    }
+
+    /**
+     * Summary of a finished run.
+     *
+     * @param voters voters inserted
+     * @param elections elections inserted
+     * @param votes votes inserted, each with its voting record
+     * @param elapsed wall-clock time
+     */
+    public record Result(int voters, int elections, long votes, Duration elapsed) {
+
+        public double votesPerMinute() {
+            return votes * 60_000.0 / Math.max(1, elapsed.toMillis());
+        }
+    }
+
+    /**
+     * Generates the dataset.
+     *
+     * @return counts of inserted rows
+     * @throws SQLException if an insert fails
+     */
+    public Result generate() throws SQLException {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long[] voterIds = insertVoters(connection, random.split(), now);
+                long votes = 0;
+                for (int e = 0; e < spec.getElections(); e++) {
+                    long electionId = insertElection(connection, e, now);
+                    long[] optionIds = insertOptions(connection, electionId, now);
+                    votes += insertVotes(connection, random.split(), electionId, optionIds, voterIds, now);
+                }
+                connection.commit();
+                return new Result(voterIds.length, spec.getElections(), votes, Duration.ofNanos(System.nanoTime() - start));
+            } catch (SQLException | RuntimeException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private long[] insertVoters(Connection connection, SplittableRandom random, LocalDateTime now) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        int dayOffset = random.nextInt(BIRTH_DAYS);
+        String prefix = "v" + spec.getSeed() + ".";
+
+        try (RowWriter writer = new RowWriter(connection,
+                "INSERT INTO voter (email, password, first_name, last_name, pesel, role, active, created_at, updated_at) VALUES ",
+                9)) {
+            for (int i = 0; i < spec.getVoters(); i++) {
+                // Distinct (day, serial) pairs keep PESELs unique for up to BIRTH_DAYS * 10,000 voters
+                LocalDate birthDate = OLDEST_BIRTH_DATE.plusDays((dayOffset + i) % BIRTH_DAYS);
+                String pesel = Pesel.encode(birthDate, i / BIRTH_DAYS);
+                writer.row(prefix + i + "@" + spec.getEmailDomain(), PASSWORD_HASH, "Voter", "No" + i, pesel,
+                        "ROLE_VOTER", true, createdAt, createdAt);
+            }
+        }
+
+        long[] ids = new long[spec.getVoters()];
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id FROM voter WHERE email LIKE ? ORDER BY id")) {
+            select.setString(1, prefix + "%@" + spec.getEmailDomain());
+            try (ResultSet rs = select.executeQuery()) {
+                int i = 0;
+                while (rs.next() && i < ids.length) {
+                    ids[i++] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long insertElection(Connection connection, int index, LocalDateTime now) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO election (name, description, start_date, end_date, status, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?)", Statement.RETURN_GENERATED_KEYS)) {
+            insert.setString(1, "Generated election " + (index + 1));
+            insert.setString(2, "Synthetic election (seed " + spec.getSeed() + ")");
+            insert.setTimestamp(3, Timestamp.valueOf(now.minusDays(1)));
+            insert.setTimestamp(4, Timestamp.valueOf(now.plusDays(30)));
+            insert.setString(5, spec.getElectionStatus());
+            insert.setTimestamp(6, Timestamp.valueOf(now));
+            insert.setTimestamp(7, Timestamp.valueOf(now));
+            insert.executeUpdate();
+            try (ResultSet keys = insert.getGeneratedKeys()) {
+                keys.next();
+                return keys.getLong(1);
+            }
+        }
+    }
+
+    private long[] insertOptions(Connection connection, long electionId, LocalDateTime now) throws SQLException {
+        Timestamp createdAt = Timestamp.valueOf(now);
+        try (RowWriter writer = new RowWriter(connection,
+                "INSERT INTO election_option (election_id, option_title, description, display_order, created_at) VALUES ",
+                5)) {
+            for (int o = 0; o < spec.getOptionsPerElection(); o++) {
+                writer.row(electionId, "Option " + (o + 1), "Generated option " + (o + 1), o, createdAt);
+            }
+        }
+
+        long[] ids = new long[spec.getOptionsPerElection()];
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT id FROM election_option WHERE election_id = ? ORDER BY display_order")) {
+            select.setLong(1, electionId);
+            try (ResultSet rs = select.executeQuery()) {
+                int i = 0;
+                while (rs.next()) {
+                    ids[i++] = rs.getLong(1);
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long insertVotes(Connection connection, SplittableRandom random, long electionId, long[] optionIds,
+                             long[] voterIds, LocalDateTime now) throws SQLException {
+        double[] cumulative = cumulativeWeights(optionIds.length);
+        Timestamp firstVote = Timestamp.valueOf(now.minusDays(1));
+        long windowMillis = Duration.ofDays(1).toMillis();
+        long votes = 0;
+
+        try (RowWriter voteWriter = new RowWriter(connection,
+                "INSERT INTO vote (election_id, election_option_id) VALUES ", 2);
+             RowWriter recordWriter = new RowWriter(connection,
+                     "INSERT INTO voting_record (voter_id, election_id, voted_at) VALUES ", 3)) {
+            for (long voterId : voterIds) {
+                if (random.nextDouble() >= spec.getTurnout()) {
+                    continue;
+                }
+                int option = Arrays.binarySearch(cumulative, random.nextDouble());
+                option = option >= 0 ? option : Math.min(-option - 1, optionIds.length - 1);
+                voteWriter.row(electionId, optionIds[option]);
+                recordWriter.row(voterId, electionId,
+                        new Timestamp(firstVote.getTime() + random.nextLong(windowMillis)));
+                votes++;
+            }
+        }
+        return votes;
+    }
+
+    /**
+     * Cumulative probabilities of choosing each option, normalized to 1.
+     */
+    private double[] cumulativeWeights(int options) {
+        double[] cumulative = new double[options];
+        double total = 0;
+        for (int i = 0; i < options; i++) {
+            double weight = spec.getDistribution() == VoteDistribution.ZIPF
+                    ? 1.0 / Math.pow(i + 1, spec.getZipfExponent())
+                    : 1.0;
+            total += weight;
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < options; i++) {
+            cumulative[i] /= total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Buffers rows into multi-row INSERT statements and sends them in JDBC batches,
+     * committing after each batch so transactions stay bounded.
+     */
+    private final class RowWriter implements AutoCloseable {
+
+        private final Connection connection;
+        private final String prefix;
+        private final int columns;
+        private final Object[] buffer;
+        private PreparedStatement fullStatement;
+        private int rows;
+        private int batched;
+
+        RowWriter(Connection connection, String prefix, int columns) {
+            this.connection = connection;
+            this.prefix = prefix;
+            this.columns = columns;
+            this.buffer = new Object[spec.getRowsPerStatement() * columns];
+        }
+
+        void row(Object... values) throws SQLException {
+            System.arraycopy(values, 0, buffer, rows * columns, columns);
+            if (++rows == spec.getRowsPerStatement()) {
+                if (fullStatement == null) {
+                    fullStatement = connection.prepareStatement(sql(rows));
+                }
+                bind(fullStatement, rows);
+                fullStatement.addBatch();
+                rows = 0;
+                if (++batched == spec.getStatementsPerBatch()) {
+                    fullStatement.executeBatch();
+                    connection.commit();
+                    batched = 0;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (fullStatement != null && batched > 0) {
+                    fullStatement.executeBatch();
+                }
+                if (rows > 0) {
+                    try (PreparedStatement tail = connection.prepareStatement(sql(rows))) {
+                        bind(tail, rows);
+                        tail.executeUpdate();
+                    }
+                }
+                connection.commit();
+            } finally {
+                if (fullStatement != null) {
+                    fullStatement.close();
+                }
+            }
+        }
+
+        private void bind(PreparedStatement statement, int rowCount) throws SQLException {
+            for (int i = 0; i < rowCount * columns; i++) {
+                statement.setObject(i + 1, buffer[i]);
+            }
+        }
+
+        private String sql(int rowCount) {
+            StringBuilder sql = new StringBuilder(prefix.length() + rowCount * (columns * 3 + 3));
+            sql.append(prefix);
+            String row = "(" + "?, ".repeat(columns - 1) + "?)";
+            for (int i = 0; i < rowCount; i++) {
+                if (i > 0) {
+                    sql.append(", ");
+                }
+                sql.append(row);
+            }
+            return sql.toString();
+        }
+    }
+
+    /**
+     * Applies the Liquibase changelog, so the generator also works on an empty database.
+     *
+     * @param dataSource target database
+     * @throws Exception if the migration fails
+     */
+    public static void migrate(DataSource dataSource) throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog("classpath:db/changelog/changelog-master.xml");
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    /**
+     * Command line entry point. Arguments are {@code key=value} pairs:
+     * url, user, password, migrate (default true), voters, elections, options, turnout,
+     * distribution (uniform|zipf), zipf-exponent, status, seed.
+     *
+     * @param args arguments
+     * @throws Exception if generation fails
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                arguments.getOrDefault("url", "jdbc:h2:file:./data/electiondb"),
+                arguments.getOrDefault("user", "sa"),
+                arguments.getOrDefault("password", ""));
+        if (Boolean.parseBoolean(arguments.getOrDefault("migrate", "true"))) {
+            migrate(dataSource);
+        }
+
+        DatasetSpec.DatasetSpecBuilder spec = DatasetSpec.builder();
+        if (arguments.containsKey("voters")) {
+            spec.voters(Integer.parseInt(arguments.get("voters")));
+        }
+        if (arguments.containsKey("elections")) {
+            spec.elections(Integer.parseInt(arguments.get("elections")));
+        }
+        if (arguments.containsKey("options")) {
+            spec.optionsPerElection(Integer.parseInt(arguments.get("options")));
+        }
+        if (arguments.containsKey("turnout")) {
+            spec.turnout(Double.parseDouble(arguments.get("turnout")));
+        }
+        if (arguments.containsKey("distribution")) {
+            spec.distribution(VoteDistribution.valueOf(arguments.get("distribution").toUpperCase()));
+        }
+        if (arguments.containsKey("zipf-exponent")) {
+            spec.zipfExponent(Double.parseDouble(arguments.get("zipf-exponent")));
+        }
+        if (arguments.containsKey("status")) {
+            spec.electionStatus(arguments.get("status").toUpperCase());
+        }
+        if (arguments.containsKey("seed")) {
+            spec.seed(Long.parseLong(arguments.get("seed")));
+        }
+
+        Result result = new DatasetGenerator(dataSource, spec.build()).generate();
+        System.out.printf("Inserted %d voters, %d elections and %d votes in %d ms (%.0f votes/min)%n",
+                result.voters(), result.elections(), result.votes(), result.elapsed().toMillis(),
+                result.votesPerMinute());
+    }
+}
@@ -0,0 +1,107 @@
+package com.rakit.electionsystem.tools;
+
+import com.rakit.electionsystem.model.Pesel;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for DatasetGenerator.
+ */
+class DatasetGeneratorTest {
+
+    private static final DatasetGenerator.DatasetSpec SPEC = DatasetGenerator.DatasetSpec.builder()
+            .voters(2_000)
+            .elections(2)
+            .optionsPerElection(4)
+            .turnout(0.5)
+            .rowsPerStatement(64)
+            .statementsPerBatch(4)
+            .seed(7L)
+            .build();
+
+    @Test
+    void generate_ShouldInsertRequestedRows_WhenSchemaIsMigrated() throws Exception {
+        DataSource dataSource = migratedDataSource();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        int initialVoters = count(jdbc, "voter");
+
+        DatasetGenerator.Result result = new DatasetGenerator(dataSource, SPEC).generate();
+
+        assertThat(result.voters()).isEqualTo(2_000);
+        assertThat(count(jdbc, "voter") - initialVoters).isEqualTo(2_000);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM election WHERE name LIKE 'Generated%'", Long.class))
+                .isEqualTo(2);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM vote v JOIN election e ON e.id = v.election_id "
+                + "WHERE e.name LIKE 'Generated%'", Long.class)).isEqualTo(result.votes());
+        assertThat(result.votes()).isBetween(1_700L, 2_300L);
+    }
+
+    @Test
+    void generate_ShouldCreateUniqueValidPesels() throws Exception {
+        DataSource dataSource = migratedDataSource();
+        new DatasetGenerator(dataSource, SPEC).generate();
+
+        List<String> pesels = new JdbcTemplate(dataSource)
+                .queryForList("SELECT pesel FROM voter WHERE email LIKE 'v7.%'", String.class);
+
+        assertThat(pesels).hasSize(2_000).doesNotHaveDuplicates().allMatch(Pesel::isValid);
+    }
+
+    @Test
+    void generate_ShouldFavourFirstOption_WhenDistributionIsZipf() throws Exception {
+        DataSource dataSource = migratedDataSource();
+        new DatasetGenerator(dataSource, SPEC).generate();
+
+        List<Long> counts = new JdbcTemplate(dataSource).queryForList(
+                "SELECT COUNT(v.id) FROM election_option o LEFT JOIN vote v ON v.election_option_id = o.id "
+                        + "JOIN election e ON e.id = o.election_id WHERE e.name = 'Generated election 1' "
+                        + "GROUP BY o.display_order ORDER BY o.display_order", Long.class);
+
+        assertThat(counts).hasSize(4);
+        assertThat(counts.get(0)).isGreaterThan(counts.get(3));
+    }
+
+    @Test
+    void generate_ShouldProduceSameDataset_WhenSeedIsSame() throws Exception {
+        DataSource first = migratedDataSource();
+        DataSource second = migratedDataSource();
+
+        new DatasetGenerator(first, SPEC).generate();
+        new DatasetGenerator(second, SPEC).generate();
+
+        assertThat(snapshot(second)).isEqualTo(snapshot(first));
+    }
+
+    private static DataSource migratedDataSource() throws Exception {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        DatasetGenerator.migrate(dataSource);
+        return dataSource;
+    }
+
+    private static int count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private static List<String> snapshot(DataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        List<String> rows = new ArrayList<>(jdbc.queryForList(
+                "SELECT CONCAT(e.name, ':', o.display_order, ':', COUNT(v.id)) FROM election e "
+                        + "JOIN election_option o ON o.election_id = e.id "
+                        + "LEFT JOIN vote v ON v.election_option_id = o.id "
+                        + "GROUP BY e.name, o.display_order ORDER BY 1", String.class));
+        rows.addAll(jdbc.queryForList(
+                "SELECT CONCAT(vt.pesel, ':', e.name) FROM voting_record r "
+                        + "JOIN voter vt ON vt.id = r.voter_id JOIN election e ON e.id = r.election_id "
+                        + "ORDER BY 1", String.class));
+        return rows;
+    }
+}